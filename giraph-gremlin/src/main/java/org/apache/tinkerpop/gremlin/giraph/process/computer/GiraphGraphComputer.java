@@ -112,6 +112,11 @@ public final class GiraphGraphComputer extends AbstractHadoopGraphComputer imple
         return this;
     }
 
+    @Override
+    protected Class<?> getGraphReader() {
+        return this.giraphConfiguration.getClass(Constants.GREMLIN_HADOOP_GRAPH_READER, null);
+    }
+
     @Override
     public GraphComputer program(final VertexProgram vertexProgram) {
         super.program(vertexProgram);
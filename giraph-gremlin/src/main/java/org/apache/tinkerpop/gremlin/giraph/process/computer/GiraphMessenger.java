@@ -57,14 +57,22 @@ public final class GiraphMessenger<M> implements Messenger<M> {
             final MessageScope.Local<M> localMessageScope = (MessageScope.Local) messageScope;
             final Traversal.Admin<Vertex, Edge> incidentTraversal = GiraphMessenger.setVertexStart(localMessageScope.getIncidentTraversal().get().asAdmin(), this.giraphVertex.getValue().get());
             final Direction direction = GiraphMessenger.getOppositeDirection(incidentTraversal);
-            incidentTraversal.forEachRemaining(edge ->
-                    this.giraphComputation.sendMessage(
-                            new ObjectWritable<>(edge.vertices(direction).next().id()),
-                            new ObjectWritable<>(localMessageScope.getEdgeFunction().apply(message, edge))));
+            if (localMessageScope.hasIdentityEdgeFunction()) {
+                // like Giraph's sendMessageToAllEdges(), all adjacent vertices are sent the same message object
+                final ObjectWritable<M> messageWritable = new ObjectWritable<>(message);
+                incidentTraversal.forEachRemaining(edge ->
+                        this.giraphComputation.sendMessage(new ObjectWritable<>(GiraphMessenger.getReceivingVertexId(edge, direction, this.giraphVertex.getValue().get())), messageWritable));
+            } else {
+                incidentTraversal.forEachRemaining(edge ->
+                        this.giraphComputation.sendMessage(
+                                new ObjectWritable<>(GiraphMessenger.getReceivingVertexId(edge, direction, this.giraphVertex.getValue().get())),
+                                new ObjectWritable<>(localMessageScope.getEdgeFunction().apply(message, edge))));
+            }
         } else {
             final MessageScope.Global globalMessageScope = (MessageScope.Global) messageScope;
+            final ObjectWritable<M> messageWritable = new ObjectWritable<>(message);
             globalMessageScope.vertices().forEach(vertex ->
-                    this.giraphComputation.sendMessage(new ObjectWritable<>(vertex.id()), new ObjectWritable<>(message)));
+                    this.giraphComputation.sendMessage(new ObjectWritable<>(vertex.id()), messageWritable));
         }
     }
 
@@ -73,6 +81,14 @@ public final class GiraphMessenger<M> implements Messenger<M> {
         return (T) incidentTraversal;
     }
 
+    private static Object getReceivingVertexId(final Edge edge, final Direction direction, final Vertex sendingVertex) {
+        if (Direction.BOTH != direction)
+            return edge.vertices(direction).next().id();
+        // the message could go to either end of the edge so it must be the end that is not sending it
+        final Vertex outVertex = edge.outVertex();
+        return outVertex.equals(sendingVertex) ? edge.inVertex().id() : outVertex.id();
+    }
+
     private static Direction getOppositeDirection(final Traversal.Admin<Vertex, Edge> incidentTraversal) {
         final VertexStep step = TraversalHelper.getLastStepOfAssignableClass(VertexStep.class, incidentTraversal).get();
         return step.getDirection().opposite();
@@ -25,8 +25,11 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -41,6 +44,7 @@ public final class Computer implements Function<Graph, GraphComputer>, Serializa
     private GraphComputer.ResultGraph resultGraph = null;
     private Traversal<Vertex, Vertex> vertices = null;
     private Traversal<Vertex, Edge> edges = null;
+    private Set<String> vertexProperties = null;
 
     private Computer(final Class<? extends GraphComputer> graphComputerClass) {
         this.graphComputerClass = graphComputerClass;
@@ -107,6 +111,12 @@ public final class Computer implements Function<Graph, GraphComputer>, Serializa
         return clone;
     }
 
+    public Computer vertexProperties(final String... propertyKeys) {
+        final Computer clone = this.clone();
+        clone.vertexProperties = new HashSet<>(Arrays.asList(propertyKeys));
+        return clone;
+    }
+
     public GraphComputer apply(final Graph graph) {
         GraphComputer computer = this.graphComputerClass.equals(GraphComputer.class) ? graph.compute() : graph.compute(this.graphComputerClass);
         for (final Map.Entry<String, Object> entry : this.configuration.entrySet()) {
@@ -122,6 +132,8 @@ public final class Computer implements Function<Graph, GraphComputer>, Serializa
             computer = computer.vertices(this.vertices);
         if (null != this.edges)
             computer.edges(this.edges);
+        if (null != this.vertexProperties)
+            computer = computer.vertexProperties(this.vertexProperties.toArray(new String[this.vertexProperties.size()]));
         return computer;
     }
 
@@ -139,6 +151,8 @@ public final class Computer implements Function<Graph, GraphComputer>, Serializa
                 clone.vertices = this.vertices.asAdmin().clone();
             if (null != this.edges)
                 clone.edges = this.edges.asAdmin().clone();
+            if (null != this.vertexProperties)
+                clone.vertexProperties = new HashSet<>(this.vertexProperties);
             return clone;
         } catch (final CloneNotSupportedException e) {
             throw new IllegalStateException(e.getMessage());
@@ -164,6 +178,10 @@ public final class Computer implements Function<Graph, GraphComputer>, Serializa
         return this.edges;
     }
 
+    public Set<String> getVertexProperties() {
+        return this.vertexProperties;
+    }
+
     public GraphComputer.Persist getPersist() {
         return this.persist;
     }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer;
+
+/**
+ * A {@link MessageCombiner} of {@code double} messages. A {@link GraphComputer} can combine the messages of a
+ * {@link VertexProgram} that provides a {@link DoubleMessageCombiner} without boxing them (see {@link DoubleMessenger}).
+ *
+ * @author agent (agent@local)
+ */
+public interface DoubleMessageCombiner extends MessageCombiner<Double> {
+
+    /**
+     * Combine two messages and return the combination.
+     *
+     * @param messageA the first message
+     * @param messageB the second message
+     * @return the combination of the two messages
+     */
+    public double combine(final double messageA, final double messageB);
+
+    @Override
+    public default Double combine(final Double messageA, final Double messageB) {
+        return this.combine(messageA.doubleValue(), messageB.doubleValue());
+    }
+
+    /**
+     * The common {@link DoubleMessageCombiner} operations.
+     */
+    public enum Operator implements DoubleMessageCombiner {
+        sum {
+            public double combine(final double messageA, final double messageB) {
+                return messageA + messageB;
+            }
+        },
+        min {
+            public double combine(final double messageA, final double messageB) {
+                return Math.min(messageA, messageB);
+            }
+        },
+        max {
+            public double combine(final double messageA, final double messageB) {
+                return Math.max(messageA, messageB);
+            }
+        }
+    }
+}
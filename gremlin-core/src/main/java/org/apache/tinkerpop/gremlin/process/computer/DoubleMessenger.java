@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+/**
+ * A {@link DoubleMessenger} sends and receives {@code double} messages without boxing them. A {@link VertexProgram}
+ * with {@code Double} messages opts into it by providing a {@link DoubleMessageCombiner} and getting it from its
+ * {@link Messenger} with {@link DoubleMessenger#of(Messenger)}. A {@link GraphComputer} that supports it provides a
+ * {@link Messenger} that is also a {@link DoubleMessenger} (e.g. TinkerGraphComputer). Other {@link Messenger}s are wrapped
+ * and box the messages.
+ *
+ * @author agent (agent@local)
+ */
+public interface DoubleMessenger {
+
+    /**
+     * Receive all incoming messages to the currently executing vertex.
+     *
+     * @return the messages for the vertex
+     */
+    public PrimitiveIterator.OfDouble receiveDoubleMessages();
+
+    /**
+     * The currently executing vertex can send a message with provided {@link MessageScope}.
+     *
+     * @param messageScope the message scope of the message being sent
+     * @param message      the message to send
+     */
+    public void sendDoubleMessage(final MessageScope messageScope, final double message);
+
+    /**
+     * Get the {@link DoubleMessenger} of the provided {@link Messenger}. If the messenger is not a
+     * {@link DoubleMessenger}, then the returned messenger boxes and unboxes the messages.
+     *
+     * @param messenger the messenger of the currently executing vertex
+     * @return the messenger as a {@link DoubleMessenger}
+     */
+    public static DoubleMessenger of(final Messenger<Double> messenger) {
+        if (messenger instanceof DoubleMessenger)
+            return (DoubleMessenger) messenger;
+        return new DoubleMessenger() {
+            @Override
+            public PrimitiveIterator.OfDouble receiveDoubleMessages() {
+                return DoubleMessenger.unbox(messenger.receiveMessages());
+            }
+
+            @Override
+            public void sendDoubleMessage(final MessageScope messageScope, final double message) {
+                messenger.sendMessage(messageScope, message);
+            }
+        };
+    }
+
+    /**
+     * Unbox the provided messages.
+     *
+     * @param messages the boxed messages
+     * @return the messages as an iterator of {@code double}
+     */
+    public static PrimitiveIterator.OfDouble unbox(final Iterator<? extends Number> messages) {
+        return new PrimitiveIterator.OfDouble() {
+            @Override
+            public double nextDouble() {
+                return messages.next().doubleValue();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return messages.hasNext();
+            }
+        };
+    }
+}
@@ -130,6 +130,19 @@ public interface GraphComputer {
      */
     public GraphComputer edges(final Traversal<Vertex, Edge> edgeFilter) throws IllegalArgumentException;
 
+    /**
+     * Limit which vertex properties of the vertices are loaded from the graph source.
+     * The vertices of the loaded graph will only have those vertex properties whose keys were provided.
+     * This is only done if {@link Features#supportsVertexPropertyProjection()} is true.
+     * The default implementation simply does nothing and loads all vertex properties.
+     *
+     * @param propertyKeys the keys of the vertex properties to load for each vertex
+     * @return the updated GraphComputer with the newly set vertex property keys
+     */
+    public default GraphComputer vertexProperties(final String... propertyKeys) {
+        return this;
+    }
+
     /**
      * Set an arbitrary configuration key/value for the underlying {@link org.apache.commons.configuration.Configuration} in the {@link GraphComputer}.
      * Typically, the other fluent methods in {@link GraphComputer} should be used to configure the computation.
@@ -211,6 +224,13 @@ public interface GraphComputer {
             return true;
         }
 
+        /**
+         * Supports loading only the vertex properties whose keys were provided to {@link GraphComputer#vertexProperties(String...)}.
+         */
+        public default boolean supportsVertexPropertyProjection() {
+            return false;
+        }
+
         /**
          * Supports {@link VertexProgram} and {@link MapReduce} parameters to be direct referenced Java objects (no serialization required).
          * This is typically true for single machine graph computer engines. For cluster oriented graph computers, this is typically false.
@@ -218,6 +238,15 @@ public interface GraphComputer {
         public default boolean supportsDirectObjects() {
             return true;
         }
+
+        /**
+         * Supports evaluating the prefix of a traversal with the OLTP API of the graph before handing off to the graph
+         * computer (see {@link org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration.HybridExecutionStrategy}).
+         * This is only true if the OLTP API of the graph reads the same graph that the graph computer processes.
+         */
+        public default boolean supportsHybridExecution() {
+            return false;
+        }
     }
 
     public static class Exceptions {
@@ -20,6 +20,7 @@
 package org.apache.tinkerpop.gremlin.process.computer;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.branch.UnionStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
@@ -27,12 +28,16 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -43,6 +48,8 @@ import java.util.stream.Collectors;
  * The vertex filter is a {@link Traversal} that can only check the id, label, and properties of the vertex.
  * The edge filter is a {@link Traversal} that starts at the vertex are emits all legal incident edges.
  * If no vertex filter is provided, then no vertices are filtered. If no edge filter is provided, then no edges are filtered.
+ * Along with the filters, the keys of the vertex properties to load can be provided. The vertex properties with other keys
+ * are dropped from the vertices that pass the vertex filter. If no keys are provided, then no vertex properties are dropped.
  * The use of a GraphFilter can greatly reduce the amount of data processed by the {@link GraphComputer}.
  * For instance, for {@code g.V().count()}, there is no reason to load edges, and thus, the edge filter can be {@code bothE().limit(0)}.
  *
@@ -82,6 +89,8 @@ public final class GraphFilter implements Cloneable, Serializable {
     private Traversal.Admin<Vertex, Edge> edgeFilter = null;
     private Map<Direction, Map<String, Legal>> edgeLegality = new HashMap<>();
     private boolean allowNoEdges = false;
+    private boolean idAndLabelVertexFilter = false;
+    private Set<String> vertexPropertyKeys = null;
 
     public GraphFilter() {
         // no args constructor
@@ -92,6 +101,8 @@ public final class GraphFilter implements Cloneable, Serializable {
             this.setVertexFilter(computer.getVertices());
         if (null != computer.getEdges())
             this.setEdgeFilter(computer.getEdges());
+        if (null != computer.getVertexProperties())
+            this.setVertexPropertyKeys(computer.getVertexProperties());
     }
 
     /**
@@ -105,6 +116,9 @@ public final class GraphFilter implements Cloneable, Serializable {
         if (!TraversalHelper.isLocalProperties(vertexFilter.asAdmin()))
             throw GraphComputer.Exceptions.vertexFilterAccessesIncidentEdges(vertexFilter);
         this.vertexFilter = vertexFilter.asAdmin().clone();
+        this.idAndLabelVertexFilter = this.vertexFilter.getSteps().stream().allMatch(step -> step instanceof HasContainerHolder &&
+                ((HasContainerHolder) step).getHasContainers().stream().allMatch(hasContainer ->
+                        hasContainer.getKey().equals(T.id.getAccessor()) || hasContainer.getKey().equals(T.label.getAccessor())));
     }
 
     /**
@@ -181,6 +195,17 @@ public final class GraphFilter implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Set the keys of the vertex properties to load from the source graph.
+     * The vertex properties are projected after the vertex filter has been applied and thus, the vertex filter
+     * can access vertex properties whose keys are not provided.
+     *
+     * @param vertexPropertyKeys the keys of the vertex properties that will be loaded for each vertex.
+     */
+    public void setVertexPropertyKeys(final Set<String> vertexPropertyKeys) {
+        this.vertexPropertyKeys = new HashSet<>(vertexPropertyKeys);
+    }
+
     /**
      * Returns true if the provided vertex meets the vertex-filter criteria.
      * If no vertex filter is provided, then the vertex is considered legal.
@@ -205,6 +230,17 @@ public final class GraphFilter implements Cloneable, Serializable {
                 TraversalUtil.applyAll(vertex, this.edgeFilter);
     }
 
+    /**
+     * Returns true if vertex properties with the provided key are loaded.
+     * If no vertex property keys are provided, then all vertex properties are legal.
+     *
+     * @param key the key of the vertex property to test for legality
+     * @return whether vertex properties with the key are {@link Legal#YES}.
+     */
+    public boolean legalVertexProperty(final String key) {
+        return null == this.vertexPropertyKeys || this.vertexPropertyKeys.contains(key);
+    }
+
     /**
      * Get the vertex filter associated with this graph filter.
      *
@@ -223,13 +259,22 @@ public final class GraphFilter implements Cloneable, Serializable {
         return this.edgeFilter;
     }
 
+    /**
+     * Get the keys of the vertex properties that are loaded.
+     *
+     * @return the vertex property keys or null if no vertex property keys were provided.
+     */
+    public final Set<String> getVertexPropertyKeys() {
+        return this.vertexPropertyKeys;
+    }
+
     /**
      * Whether filters have been defined.
      *
-     * @return true if either a vertex or edge filter has been provided.
+     * @return true if either a vertex filter, edge filter, or vertex property keys have been provided.
      */
     public boolean hasFilter() {
-        return this.vertexFilter != null || this.edgeFilter != null;
+        return this.vertexFilter != null || this.edgeFilter != null || this.vertexPropertyKeys != null;
     }
 
     /**
@@ -250,6 +295,25 @@ public final class GraphFilter implements Cloneable, Serializable {
         return this.vertexFilter != null;
     }
 
+    /**
+     * Whether vertex property keys have been defined.
+     *
+     * @return true if the vertex property keys to load were provided.
+     */
+    public boolean hasVertexPropertyFilter() {
+        return this.vertexPropertyKeys != null;
+    }
+
+    /**
+     * Whether the vertex filter only tests the id and label of the vertex. Such a vertex filter can be checked
+     * by a reader before the properties and edges of the vertex are deserialized.
+     *
+     * @return true if a vertex filter was provided and it only accesses the id and label of the vertex.
+     */
+    public boolean hasIdAndLabelVertexFilter() {
+        return this.idAndLabelVertexFilter;
+    }
+
     /**
      * For a particular edge directionality, get all the {@link Legal#YES} or {@link Legal#MAYBE} edge labels.
      * If the label set contains {@code null}, then all edge labels for that direction are positively legal.
@@ -311,7 +375,8 @@ public final class GraphFilter implements Cloneable, Serializable {
 
     @Override
     public int hashCode() {
-        return (null == this.edgeFilter ? 111 : this.edgeFilter.hashCode()) ^ (null == this.vertexFilter ? 222 : this.vertexFilter.hashCode());
+        return (null == this.edgeFilter ? 111 : this.edgeFilter.hashCode()) ^ (null == this.vertexFilter ? 222 : this.vertexFilter.hashCode()) ^
+                (null == this.vertexPropertyKeys ? 333 : this.vertexPropertyKeys.hashCode());
     }
 
     @Override
@@ -322,6 +387,8 @@ public final class GraphFilter implements Cloneable, Serializable {
             return false;
         else if (((GraphFilter) object).hasEdgeFilter() && !((GraphFilter) object).getEdgeFilter().equals(this.edgeFilter))
             return false;
+        else if (((GraphFilter) object).hasVertexPropertyFilter() && !((GraphFilter) object).getVertexPropertyKeys().equals(this.vertexPropertyKeys))
+            return false;
         else
             return true;
     }
@@ -334,6 +401,8 @@ public final class GraphFilter implements Cloneable, Serializable {
                 clone.vertexFilter = this.vertexFilter.clone();
             if (null != this.edgeFilter)
                 clone.edgeFilter = this.edgeFilter.clone();
+            if (null != this.vertexPropertyKeys)
+                clone.vertexPropertyKeys = new HashSet<>(this.vertexPropertyKeys);
             return clone;
         } catch (final CloneNotSupportedException e) {
             throw new IllegalStateException(e.getMessage(), e);
@@ -344,11 +413,13 @@ public final class GraphFilter implements Cloneable, Serializable {
     public String toString() {
         if (!this.hasFilter())
             return "graphfilter[none]";
-        else if (this.hasVertexFilter() && this.hasEdgeFilter())
-            return "graphfilter[" + this.vertexFilter + "," + this.edgeFilter + "]";
-        else if (this.hasVertexFilter())
-            return "graphfilter[" + this.vertexFilter + "]";
-        else
-            return "graphfilter[" + this.edgeFilter + "]";
+        final List<Object> filters = new ArrayList<>();
+        if (this.hasVertexFilter())
+            filters.add(this.vertexFilter);
+        if (this.hasEdgeFilter())
+            filters.add(this.edgeFilter);
+        if (this.hasVertexPropertyFilter())
+            filters.add(this.vertexPropertyKeys);
+        return "graphfilter[" + filters.stream().map(Object::toString).collect(Collectors.joining(",")) + "]";
     }
 }
\ No newline at end of file
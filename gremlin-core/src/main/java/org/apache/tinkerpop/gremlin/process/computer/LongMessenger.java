@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+/**
+ * A {@link LongMessenger} sends and receives {@code long} messages without boxing them. A {@link VertexProgram}
+ * with {@code Long} messages opts into it by providing a {@link LongMessageCombiner} and getting it from its
+ * {@link Messenger} with {@link LongMessenger#of(Messenger)}. A {@link GraphComputer} that supports it provides a
+ * {@link Messenger} that is also a {@link LongMessenger} (e.g. TinkerGraphComputer). Other {@link Messenger}s are wrapped
+ * and box the messages.
+ *
+ * @author agent (agent@local)
+ */
+public interface LongMessenger {
+
+    /**
+     * Receive all incoming messages to the currently executing vertex.
+     *
+     * @return the messages for the vertex
+     */
+    public PrimitiveIterator.OfLong receiveLongMessages();
+
+    /**
+     * The currently executing vertex can send a message with provided {@link MessageScope}.
+     *
+     * @param messageScope the message scope of the message being sent
+     * @param message      the message to send
+     */
+    public void sendLongMessage(final MessageScope messageScope, final long message);
+
+    /**
+     * Get the {@link LongMessenger} of the provided {@link Messenger}. If the messenger is not a
+     * {@link LongMessenger}, then the returned messenger boxes and unboxes the messages.
+     *
+     * @param messenger the messenger of the currently executing vertex
+     * @return the messenger as a {@link LongMessenger}
+     */
+    public static LongMessenger of(final Messenger<Long> messenger) {
+        if (messenger instanceof LongMessenger)
+            return (LongMessenger) messenger;
+        return new LongMessenger() {
+            @Override
+            public PrimitiveIterator.OfLong receiveLongMessages() {
+                return LongMessenger.unbox(messenger.receiveMessages());
+            }
+
+            @Override
+            public void sendLongMessage(final MessageScope messageScope, final long message) {
+                messenger.sendMessage(messageScope, message);
+            }
+        };
+    }
+
+    /**
+     * Unbox the provided messages.
+     *
+     * @param messages the boxed messages
+     * @return the messages as an iterator of {@code long}
+     */
+    public static PrimitiveIterator.OfLong unbox(final Iterator<? extends Number> messages) {
+        return new PrimitiveIterator.OfLong() {
+            @Override
+            public long nextLong() {
+                return messages.next().longValue();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return messages.hasNext();
+            }
+        };
+    }
+}
@@ -91,11 +91,13 @@ public abstract class MessageScope {
      * @param <M> The {@link VertexProgram} message class
      */
     public final static class Local<M> extends MessageScope {
+        private static final BiFunction IDENTITY_EDGE_FUNCTION = (m, e) -> m;
+
         public final Supplier<? extends Traversal<Vertex, Edge>> incidentTraversal;
         public final BiFunction<M, Edge, M> edgeFunction;
 
         private Local(final Supplier<? extends Traversal<Vertex, Edge>> incidentTraversal) {
-            this(incidentTraversal, (final M m, final Edge e) -> m); // the default is an identity function
+            this(incidentTraversal, IDENTITY_EDGE_FUNCTION); // the default is an identity function
         }
 
         private Local(final Supplier<? extends Traversal<Vertex, Edge>> incidentTraversal, final BiFunction<M, Edge, M> edgeFunction) {
@@ -115,6 +117,16 @@ public abstract class MessageScope {
             return this.edgeFunction;
         }
 
+        /**
+         * Determine if the message is sent to the adjacent vertices as is, i.e. the edge function is the default
+         * identity function.
+         *
+         * @return whether the edge function is the identity function
+         */
+        public boolean hasIdentityEdgeFunction() {
+            return IDENTITY_EDGE_FUNCTION == this.edgeFunction;
+        }
+
         public Supplier<? extends Traversal<Vertex, Edge>> getIncidentTraversal() {
             return this.incidentTraversal;
         }
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.clustering.connected;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * Keeps the smallest of the component ids sent to a vertex. Ids of the same {@link Comparable} class are compared by
+ * their natural order. Other ids are ordered by their class name and then by their string representation.
+ *
+ * @author agent (agent@local)
+ */
+public class ConnectedComponentMessageCombiner implements MessageCombiner<Serializable> {
+
+    private static final Optional<ConnectedComponentMessageCombiner> INSTANCE = Optional.of(new ConnectedComponentMessageCombiner());
+
+    private ConnectedComponentMessageCombiner() {
+
+    }
+
+    @Override
+    public Serializable combine(final Serializable messageA, final Serializable messageB) {
+        return ConnectedComponentMessageCombiner.compare(messageA, messageB) <= 0 ? messageA : messageB;
+    }
+
+    private static int compare(final Object a, final Object b) {
+        if (a.getClass().equals(b.getClass()) && a instanceof Comparable)
+            return ((Comparable) a).compareTo(b);
+        final int classComparison = a.getClass().getName().compareTo(b.getClass().getName());
+        return 0 != classComparison ? classComparison : a.toString().compareTo(b.toString());
+    }
+
+    public static Optional<ConnectedComponentMessageCombiner> instance() {
+        return INSTANCE;
+    }
+}
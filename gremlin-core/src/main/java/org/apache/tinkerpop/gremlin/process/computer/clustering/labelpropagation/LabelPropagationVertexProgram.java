@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.clustering.labelpropagation;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.Messenger;
+import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import org.apache.tinkerpop.gremlin.process.computer.util.StaticVertexProgram;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.util.PureTraversal;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A lightweight alternative to {@link org.apache.tinkerpop.gremlin.process.computer.clustering.peerpressure.PeerPressureVertexProgram}.
+ * Every vertex starts with its own id as its label and, in each iteration, adopts the most frequent label among its own
+ * label and the labels of its adjacent vertices. Ties are broken by the smallest {@code toString()} of the label. The
+ * messages are the bare labels rather than labels paired with a vote strength and no iteration is spent on counting
+ * edges. The computation halts once an iteration changes no label or the maximum number of iterations is reached.
+ * By default, edges are traversed in both directions.
+ *
+ * @author agent (agent@local)
+ */
+public class LabelPropagationVertexProgram extends StaticVertexProgram<Serializable> {
+
+    public static final String LABEL = "gremlin.labelPropagationVertexProgram.label";
+    private static final String PROPERTY = "gremlin.labelPropagationVertexProgram.property";
+    private static final String MAX_ITERATIONS = "gremlin.labelPropagationVertexProgram.maxIterations";
+    private static final String EDGE_TRAVERSAL = "gremlin.labelPropagationVertexProgram.edgeTraversal";
+    private static final String VOTE_TO_HALT = "gremlin.labelPropagationVertexProgram.voteToHalt";
+
+    private static final Set<MemoryComputeKey> MEMORY_COMPUTE_KEYS = Collections.singleton(MemoryComputeKey.of(VOTE_TO_HALT, Operator.and, false, true));
+
+    private MessageScope.Local<?> scope = MessageScope.Local.of(__::bothE);
+    private PureTraversal<Vertex, Edge> edgeTraversal = null;
+    private int maxIterations = 30;
+    private String property = LABEL;
+
+    private LabelPropagationVertexProgram() {
+
+    }
+
+    @Override
+    public void loadState(final Graph graph, final Configuration configuration) {
+        if (configuration.containsKey(EDGE_TRAVERSAL)) {
+            this.edgeTraversal = PureTraversal.loadState(configuration, EDGE_TRAVERSAL, graph);
+            this.scope = MessageScope.Local.of(() -> this.edgeTraversal.get().clone());
+        }
+        this.property = configuration.getString(PROPERTY, LABEL);
+        this.maxIterations = configuration.getInt(MAX_ITERATIONS, 30);
+    }
+
+    @Override
+    public void storeState(final Configuration configuration) {
+        super.storeState(configuration);
+        configuration.setProperty(PROPERTY, this.property);
+        configuration.setProperty(MAX_ITERATIONS, this.maxIterations);
+        if (null != this.edgeTraversal)
+            this.edgeTraversal.storeState(configuration, EDGE_TRAVERSAL);
+    }
+
+    @Override
+    public Set<VertexComputeKey> getVertexComputeKeys() {
+        return Collections.singleton(VertexComputeKey.of(this.property, false));
+    }
+
+    @Override
+    public Set<MemoryComputeKey> getMemoryComputeKeys() {
+        return MEMORY_COMPUTE_KEYS;
+    }
+
+    @Override
+    public Set<MessageScope> getMessageScopes(final Memory memory) {
+        return new HashSet<>(Collections.singletonList(this.scope));
+    }
+
+    @Override
+    public GraphComputer.ResultGraph getPreferredResultGraph() {
+        return GraphComputer.ResultGraph.NEW;
+    }
+
+    @Override
+    public GraphComputer.Persist getPreferredPersist() {
+        return GraphComputer.Persist.VERTEX_PROPERTIES;
+    }
+
+    @Override
+    public void setup(final Memory memory) {
+        memory.set(VOTE_TO_HALT, false);
+    }
+
+    @Override
+    public void execute(final Vertex vertex, final Messenger<Serializable> messenger, final Memory memory) {
+        if (memory.isInitialIteration()) {
+            vertex.property(VertexProperty.Cardinality.single, this.property, vertex.id());
+            messenger.sendMessage(this.scope, (Serializable) vertex.id());
+            memory.add(VOTE_TO_HALT, false);
+        } else {
+            final Serializable label = vertex.value(this.property);
+            final Serializable newLabel = LabelPropagationVertexProgram.mostFrequentLabel(label, messenger.receiveMessages());
+            if (!label.equals(newLabel)) {
+                vertex.property(VertexProperty.Cardinality.single, this.property, newLabel);
+                memory.add(VOTE_TO_HALT, false);
+            }
+            if (memory.getIteration() < this.maxIterations) // the labels of the last iteration are not received
+                messenger.sendMessage(this.scope, newLabel);
+        }
+    }
+
+    private static Serializable mostFrequentLabel(final Serializable label, final Iterator<Serializable> labels) {
+        if (!labels.hasNext())
+            return label;
+        final Map<Serializable, int[]> counts = new HashMap<>();
+        counts.put(label, new int[]{1});
+        Serializable mostFrequentLabel = label;
+        int mostFrequentCount = 1;
+        while (labels.hasNext()) {
+            final Serializable otherLabel = labels.next();
+            final int count = ++counts.computeIfAbsent(otherLabel, k -> new int[1])[0];
+            if (count > mostFrequentCount ||
+                    (count == mostFrequentCount && otherLabel.toString().compareTo(mostFrequentLabel.toString()) < 0)) {
+                mostFrequentLabel = otherLabel;
+                mostFrequentCount = count;
+            }
+        }
+        return mostFrequentLabel;
+    }
+
+    @Override
+    public boolean terminate(final Memory memory) {
+        final boolean voteToHalt = memory.<Boolean>get(VOTE_TO_HALT) || memory.getIteration() >= this.maxIterations;
+        if (voteToHalt) {
+            return true;
+        } else {
+            memory.set(VOTE_TO_HALT, true);
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.vertexProgramString(this, "maxIterations=" + this.maxIterations);
+    }
+
+    //////////////////////////////
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public static final class Builder extends AbstractVertexProgramBuilder<Builder> {
+
+        private Builder() {
+            super(LabelPropagationVertexProgram.class);
+        }
+
+        public Builder property(final String key) {
+            this.configuration.setProperty(PROPERTY, key);
+            return this;
+        }
+
+        public Builder maxIterations(final int iterations) {
+            this.configuration.setProperty(MAX_ITERATIONS, iterations);
+            return this;
+        }
+
+        public Builder edges(final Traversal.Admin<Vertex, Edge> edgeTraversal) {
+            PureTraversal.storeState(this.configuration, EDGE_TRAVERSAL, edgeTraversal);
+            return this;
+        }
+    }
+
+    ////////////////////////////
+
+    @Override
+    public Features getFeatures() {
+        return new Features() {
+            @Override
+            public boolean requiresLocalMessageScopes() {
+                return true;
+            }
+
+            @Override
+            public boolean requiresVertexPropertyAddition() {
+                return true;
+            }
+        };
+    }
+}
@@ -19,14 +19,17 @@
 package org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank;
 
 import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.DoubleMessenger;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
 import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
 import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
@@ -38,14 +41,20 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
-import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
 import java.util.Set;
 
 /**
+ * By default, PageRank is computed for a fixed number of iterations. Given an epsilon, the computation terminates
+ * early once the sum of the absolute rank changes of all vertices in an iteration is at most epsilon. Given a delta
+ * threshold, vertices send the change of their rank rather than their rank and only once their accumulated change
+ * exceeds the threshold. Thus, vertices whose rank has stabilized stop sending messages.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class PageRankVertexProgram implements VertexProgram<Double> {
@@ -59,6 +68,10 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
     private static final String TOTAL_ITERATIONS = "gremlin.pageRankVertexProgram.totalIterations";
     private static final String EDGE_TRAVERSAL = "gremlin.pageRankVertexProgram.edgeTraversal";
     private static final String INITIAL_RANK_TRAVERSAL = "gremlin.pageRankVertexProgram.initialRankTraversal";
+    private static final String EPSILON = "gremlin.pageRankVertexProgram.epsilon";
+    private static final String DELTA_THRESHOLD = "gremlin.pageRankVertexProgram.deltaThreshold";
+    private static final String DELTA = "gremlin.pageRankVertexProgram.delta";
+    private static final String CONVERGENCE_ERROR = "gremlin.pageRankVertexProgram.convergenceError";
 
     private MessageScope.Local<Double> incidentMessageScope = MessageScope.Local.of(__::outE);
     private MessageScope.Local<Double> countMessageScope = MessageScope.Local.of(new MessageScope.Local.ReverseTraversalSupplier(this.incidentMessageScope));
@@ -67,8 +80,11 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
     private double vertexCountAsDouble = 1.0d;
     private double alpha = 0.85d;
     private int totalIterations = 30;
+    private double epsilon = 0.0d;
+    private double deltaThreshold = -1.0d;
     private String property = PAGE_RANK;
     private Set<VertexComputeKey> vertexComputeKeys;
+    private Set<MemoryComputeKey> memoryComputeKeys;
 
     private PageRankVertexProgram() {
 
@@ -86,8 +102,15 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         this.vertexCountAsDouble = configuration.getDouble(VERTEX_COUNT, 1.0d);
         this.alpha = configuration.getDouble(ALPHA, 0.85d);
         this.totalIterations = configuration.getInt(TOTAL_ITERATIONS, 30);
+        this.epsilon = configuration.getDouble(EPSILON, 0.0d);
+        this.deltaThreshold = configuration.getDouble(DELTA_THRESHOLD, -1.0d);
         this.property = configuration.getString(PROPERTY, PAGE_RANK);
         this.vertexComputeKeys = new HashSet<>(Arrays.asList(VertexComputeKey.of(this.property, false), VertexComputeKey.of(EDGE_COUNT, true)));
+        if (this.isDeltaMode())
+            this.vertexComputeKeys.add(VertexComputeKey.of(DELTA, true));
+        this.memoryComputeKeys = this.isConvergenceMode() ?
+                Collections.singleton(MemoryComputeKey.of(CONVERGENCE_ERROR, Operator.sum, false, true)) :
+                Collections.emptySet();
     }
 
     @Override
@@ -96,6 +119,8 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         configuration.setProperty(VERTEX_COUNT, this.vertexCountAsDouble);
         configuration.setProperty(ALPHA, this.alpha);
         configuration.setProperty(TOTAL_ITERATIONS, this.totalIterations);
+        configuration.setProperty(EPSILON, this.epsilon);
+        configuration.setProperty(DELTA_THRESHOLD, this.deltaThreshold);
         configuration.setProperty(PROPERTY, this.property);
         if (null != this.edgeTraversal)
             this.edgeTraversal.storeState(configuration, EDGE_TRAVERSAL);
@@ -118,6 +143,11 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         return this.vertexComputeKeys;
     }
 
+    @Override
+    public Set<MemoryComputeKey> getMemoryComputeKeys() {
+        return this.memoryComputeKeys;
+    }
+
     @Override
     public Optional<MessageCombiner<Double>> getMessageCombiner() {
         return (Optional) PageRankMessageCombiner.instance();
@@ -144,39 +174,84 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
 
     @Override
     public void setup(final Memory memory) {
-
+        if (this.isConvergenceMode())
+            memory.set(CONVERGENCE_ERROR, 0.0d);
     }
 
     @Override
     public void execute(final Vertex vertex, Messenger<Double> messenger, final Memory memory) {
+        final DoubleMessenger doubleMessenger = DoubleMessenger.of(messenger);
         if (memory.isInitialIteration()) {
-            messenger.sendMessage(this.countMessageScope, 1.0d);
+            doubleMessenger.sendDoubleMessage(this.countMessageScope, 1.0d);
         } else if (1 == memory.getIteration()) {
             double initialPageRank = (null == this.initialRankTraversal ?
                     1.0d :
                     TraversalUtil.apply(vertex, this.initialRankTraversal.get()).doubleValue()) / this.vertexCountAsDouble;
-            double edgeCount = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
+            double edgeCount = PageRankVertexProgram.sum(doubleMessenger.receiveDoubleMessages());
             vertex.property(VertexProperty.Cardinality.single, this.property, initialPageRank);
             vertex.property(VertexProperty.Cardinality.single, EDGE_COUNT, edgeCount);
-            if (!this.terminate(memory)) // don't send messages if this is the last iteration
-                messenger.sendMessage(this.incidentMessageScope, initialPageRank / edgeCount);
+            if (!this.isLastIteration(memory)) // don't send messages if this is the last iteration
+                doubleMessenger.sendDoubleMessage(this.incidentMessageScope, initialPageRank / edgeCount);
         } else {
-            double newPageRank = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
-            newPageRank = (this.alpha * newPageRank) + ((1.0d - this.alpha) / this.vertexCountAsDouble);
+            final double oldPageRank = vertex.<Double>value(this.property);
+            double newPageRank = PageRankVertexProgram.sum(doubleMessenger.receiveDoubleMessages());
+            if (this.isDeltaMode() && memory.getIteration() > 2) // the messages are the changes of the ranks of the previous iteration
+                newPageRank = oldPageRank + (this.alpha * newPageRank);
+            else
+                newPageRank = (this.alpha * newPageRank) + ((1.0d - this.alpha) / this.vertexCountAsDouble);
             vertex.property(VertexProperty.Cardinality.single, this.property, newPageRank);
-            if (!this.terminate(memory)) // don't send messages if this is the last iteration
-                messenger.sendMessage(this.incidentMessageScope, newPageRank / vertex.<Double>value(EDGE_COUNT));
+            if (this.isConvergenceMode())
+                memory.add(CONVERGENCE_ERROR, Math.abs(newPageRank - oldPageRank));
+            if (this.isDeltaMode()) {
+                // the change is accumulated until it is large enough to be worth sending
+                final double delta = vertex.<Double>property(DELTA).orElse(0.0d) + (newPageRank - oldPageRank);
+                if (Math.abs(delta) > this.deltaThreshold && !this.isLastIteration(memory)) {
+                    vertex.property(VertexProperty.Cardinality.single, DELTA, 0.0d);
+                    doubleMessenger.sendDoubleMessage(this.incidentMessageScope, delta / vertex.<Double>value(EDGE_COUNT));
+                } else
+                    vertex.property(VertexProperty.Cardinality.single, DELTA, delta);
+            } else if (!this.isLastIteration(memory)) // don't send messages if this is the last iteration
+                doubleMessenger.sendDoubleMessage(this.incidentMessageScope, newPageRank / vertex.<Double>value(EDGE_COUNT));
         }
     }
 
+    private static double sum(final PrimitiveIterator.OfDouble messages) {
+        double sum = 0.0d;
+        while (messages.hasNext()) {
+            sum = sum + messages.nextDouble();
+        }
+        return sum;
+    }
+
     @Override
     public boolean terminate(final Memory memory) {
+        if (this.isLastIteration(memory))
+            return true;
+        if (this.isConvergenceMode() && memory.getIteration() > 1) {
+            if (memory.<Double>get(CONVERGENCE_ERROR) <= this.epsilon)
+                return true;
+            memory.set(CONVERGENCE_ERROR, 0.0d);
+        }
+        return false;
+    }
+
+    private boolean isLastIteration(final Memory memory) {
         return memory.getIteration() >= this.totalIterations;
     }
 
+    private boolean isConvergenceMode() {
+        return this.epsilon > 0.0d;
+    }
+
+    private boolean isDeltaMode() {
+        return this.deltaThreshold >= 0.0d;
+    }
+
     @Override
     public String toString() {
-        return StringFactory.vertexProgramString(this, "alpha=" + this.alpha + ", iterations=" + this.totalIterations);
+        return StringFactory.vertexProgramString(this, "alpha=" + this.alpha + ", iterations=" + this.totalIterations +
+                (this.isConvergenceMode() ? ", epsilon=" + this.epsilon : "") +
+                (this.isDeltaMode() ? ", deltaThreshold=" + this.deltaThreshold : ""));
     }
 
     //////////////////////////////
@@ -201,6 +276,29 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
             return this;
         }
 
+        /**
+         * Terminate the computation once the sum of the absolute changes of the ranks of all vertices in an iteration
+         * is at most the provided epsilon. The number of iterations remains the maximum number of iterations.
+         */
+        public Builder epsilon(final double epsilon) {
+            if (epsilon <= 0.0d)
+                throw new IllegalArgumentException("The epsilon must be greater than 0: " + epsilon);
+            this.configuration.setProperty(EPSILON, epsilon);
+            return this;
+        }
+
+        /**
+         * Have vertices send the change of their rank rather than their rank and only once their accumulated change
+         * is greater than the provided threshold. A threshold of 0 yields the same ranks as not using deltas (up to
+         * rounding).
+         */
+        public Builder deltaThreshold(final double deltaThreshold) {
+            if (deltaThreshold < 0.0d)
+                throw new IllegalArgumentException("The delta threshold must not be negative: " + deltaThreshold);
+            this.configuration.setProperty(DELTA_THRESHOLD, deltaThreshold);
+            return this;
+        }
+
         public Builder property(final String key) {
             this.configuration.setProperty(PROPERTY, key);
             return this;
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+
+import java.util.Optional;
+
+/**
+ * Sums the rank arrays of {@link PersonalizedPageRankVertexProgram} element-wise. The messages are not merged into
+ * one another as a {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer} may share a message between
+ * its receivers.
+ *
+ * @author agent (agent@local)
+ */
+public class PersonalizedPageRankMessageCombiner implements MessageCombiner<double[]> {
+
+    private static final Optional<PersonalizedPageRankMessageCombiner> INSTANCE = Optional.of(new PersonalizedPageRankMessageCombiner());
+
+    private PersonalizedPageRankMessageCombiner() {
+
+    }
+
+    @Override
+    public double[] combine(final double[] messageA, final double[] messageB) {
+        final double[] sum = new double[messageA.length];
+        for (int i = 0; i < sum.length; i++) {
+            sum[i] = messageA[i] + messageB[i];
+        }
+        return sum;
+    }
+
+    public static Optional<PersonalizedPageRankMessageCombiner> instance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.Messenger;
+import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.util.PureTraversal;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Personalized PageRank computes the PageRank of the vertices with respect to a set of seed vertices. That is, the
+ * random surfer restarts at a seed vertex rather than at an arbitrary vertex. Many seed sets can be ranked by one job.
+ * Each vertex stores a {@code double[]} with one rank per seed set (in the order the seed sets were provided) and
+ * sends one array per iteration. Thus, a batch of queries costs the same number of iterations as a single query.
+ * Vertices that are not reached from any seed do not send messages.
+ *
+ * @author agent (agent@local)
+ */
+public class PersonalizedPageRankVertexProgram implements VertexProgram<double[]> {
+
+    public static final String PERSONALIZED_PAGE_RANK = "gremlin.personalizedPageRankVertexProgram.personalizedPageRank";
+    private static final String EDGE_COUNT = "gremlin.personalizedPageRankVertexProgram.edgeCount";
+    private static final String PROPERTY = "gremlin.personalizedPageRankVertexProgram.property";
+    private static final String ALPHA = "gremlin.personalizedPageRankVertexProgram.alpha";
+    private static final String TOTAL_ITERATIONS = "gremlin.personalizedPageRankVertexProgram.totalIterations";
+    private static final String EDGE_TRAVERSAL = "gremlin.personalizedPageRankVertexProgram.edgeTraversal";
+    private static final String SEEDS = "gremlin.personalizedPageRankVertexProgram.seeds";
+    private static final String EPSILON = "gremlin.personalizedPageRankVertexProgram.epsilon";
+    private static final String CONVERGENCE_ERROR = "gremlin.personalizedPageRankVertexProgram.convergenceError";
+
+    private MessageScope.Local<double[]> incidentMessageScope = MessageScope.Local.of(__::outE);
+    private MessageScope.Local<double[]> countMessageScope = MessageScope.Local.of(new MessageScope.Local.ReverseTraversalSupplier(this.incidentMessageScope));
+    private PureTraversal<Vertex, Edge> edgeTraversal = null;
+    private List<Set<Object>> seeds;
+    private Map<String, double[]> restartRanks; // the restart probability of each seed vertex for each seed set
+    private double alpha = 0.85d;
+    private int totalIterations = 30;
+    private double epsilon = 0.0d;
+    private String property = PERSONALIZED_PAGE_RANK;
+    private Set<VertexComputeKey> vertexComputeKeys;
+    private Set<MemoryComputeKey> memoryComputeKeys;
+
+    private PersonalizedPageRankVertexProgram() {
+
+    }
+
+    @Override
+    public void loadState(final Graph graph, final Configuration configuration) {
+        if (!configuration.containsKey(SEEDS))
+            throw new IllegalArgumentException("The configuration does not have seed vertices: " + SEEDS);
+        if (configuration.containsKey(EDGE_TRAVERSAL)) {
+            this.edgeTraversal = PureTraversal.loadState(configuration, EDGE_TRAVERSAL, graph);
+            this.incidentMessageScope = MessageScope.Local.of(() -> this.edgeTraversal.get().clone());
+            this.countMessageScope = MessageScope.Local.of(new MessageScope.Local.ReverseTraversalSupplier(this.incidentMessageScope));
+        }
+        this.seeds = VertexProgramHelper.deserialize(configuration, SEEDS);
+        this.restartRanks = new HashMap<>();
+        for (int i = 0; i < this.seeds.size(); i++) {
+            for (final Object seed : this.seeds.get(i)) {
+                // ids are matched by their string representation as done by ElementHelper.idExists()
+                this.restartRanks.computeIfAbsent(seed.toString(), k -> new double[this.seeds.size()])[i] = 1.0d / this.seeds.get(i).size();
+            }
+        }
+        this.alpha = configuration.getDouble(ALPHA, 0.85d);
+        this.totalIterations = configuration.getInt(TOTAL_ITERATIONS, 30);
+        this.epsilon = configuration.getDouble(EPSILON, 0.0d);
+        this.property = configuration.getString(PROPERTY, PERSONALIZED_PAGE_RANK);
+        this.vertexComputeKeys = new HashSet<>(Arrays.asList(VertexComputeKey.of(this.property, false), VertexComputeKey.of(EDGE_COUNT, true)));
+        this.memoryComputeKeys = this.isConvergenceMode() ?
+                Collections.singleton(MemoryComputeKey.of(CONVERGENCE_ERROR, Operator.sum, false, true)) :
+                Collections.emptySet();
+    }
+
+    @Override
+    public void storeState(final Configuration configuration) {
+        VertexProgram.super.storeState(configuration);
+        VertexProgramHelper.serialize(this.seeds, configuration, SEEDS);
+        configuration.setProperty(ALPHA, this.alpha);
+        configuration.setProperty(TOTAL_ITERATIONS, this.totalIterations);
+        configuration.setProperty(EPSILON, this.epsilon);
+        configuration.setProperty(PROPERTY, this.property);
+        if (null != this.edgeTraversal)
+            this.edgeTraversal.storeState(configuration, EDGE_TRAVERSAL);
+    }
+
+    @Override
+    public GraphComputer.ResultGraph getPreferredResultGraph() {
+        return GraphComputer.ResultGraph.NEW;
+    }
+
+    @Override
+    public GraphComputer.Persist getPreferredPersist() {
+        return GraphComputer.Persist.VERTEX_PROPERTIES;
+    }
+
+    @Override
+    public Set<VertexComputeKey> getVertexComputeKeys() {
+        return this.vertexComputeKeys;
+    }
+
+    @Override
+    public Set<MemoryComputeKey> getMemoryComputeKeys() {
+        return this.memoryComputeKeys;
+    }
+
+    @Override
+    public Optional<MessageCombiner<double[]>> getMessageCombiner() {
+        return (Optional) PersonalizedPageRankMessageCombiner.instance();
+    }
+
+    @Override
+    public Set<MessageScope> getMessageScopes(final Memory memory) {
+        final Set<MessageScope> set = new HashSet<>();
+        set.add(memory.isInitialIteration() ? this.countMessageScope : this.incidentMessageScope);
+        return set;
+    }
+
+    @Override
+    public PersonalizedPageRankVertexProgram clone() {
+        try {
+            return (PersonalizedPageRankVertexProgram) super.clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void setup(final Memory memory) {
+        if (this.isConvergenceMode())
+            memory.set(CONVERGENCE_ERROR, 0.0d);
+    }
+
+    @Override
+    public void execute(final Vertex vertex, final Messenger<double[]> messenger, final Memory memory) {
+        if (memory.isInitialIteration()) {
+            messenger.sendMessage(this.countMessageScope, new double[]{1.0d});
+        } else if (1 == memory.getIteration()) {
+            final Iterator<double[]> counts = messenger.receiveMessages();
+            double edgeCount = 0.0d;
+            while (counts.hasNext()) {
+                edgeCount = edgeCount + counts.next()[0];
+            }
+            final double[] ranks = this.getRestartRanks(vertex);
+            vertex.property(VertexProperty.Cardinality.single, this.property, ranks);
+            vertex.property(VertexProperty.Cardinality.single, EDGE_COUNT, edgeCount);
+            if (!this.isLastIteration(memory))
+                this.sendRanks(ranks, edgeCount, messenger);
+        } else {
+            final double[] oldRanks = vertex.value(this.property);
+            final double[] restartRanks = this.getRestartRanks(vertex);
+            final Iterator<double[]> messages = messenger.receiveMessages();
+            final double[] ranks = messages.hasNext() ? messages.next().clone() : new double[oldRanks.length];
+            while (messages.hasNext()) {
+                final double[] message = messages.next();
+                for (int i = 0; i < ranks.length; i++) {
+                    ranks[i] = ranks[i] + message[i];
+                }
+            }
+            double error = 0.0d;
+            for (int i = 0; i < ranks.length; i++) {
+                ranks[i] = (this.alpha * ranks[i]) + ((1.0d - this.alpha) * restartRanks[i]);
+                error = error + Math.abs(ranks[i] - oldRanks[i]);
+            }
+            vertex.property(VertexProperty.Cardinality.single, this.property, ranks);
+            if (this.isConvergenceMode())
+                memory.add(CONVERGENCE_ERROR, error);
+            if (!this.isLastIteration(memory))
+                this.sendRanks(ranks, vertex.<Double>value(EDGE_COUNT), messenger);
+        }
+    }
+
+    private double[] getRestartRanks(final Vertex vertex) {
+        final double[] restartRanks = this.restartRanks.get(vertex.id().toString());
+        return null == restartRanks ? new double[this.seeds.size()] : restartRanks.clone();
+    }
+
+    private void sendRanks(final double[] ranks, final double edgeCount, final Messenger<double[]> messenger) {
+        if (0.0d == edgeCount || 0.0d == PersonalizedPageRankVertexProgram.sum(ranks)) // the vertex has not been reached from any seed
+            return;
+        final double[] message = new double[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            message[i] = ranks[i] / edgeCount;
+        }
+        messenger.sendMessage(this.incidentMessageScope, message);
+    }
+
+    private static double sum(final double[] ranks) {
+        double sum = 0.0d;
+        for (final double rank : ranks) {
+            sum = sum + rank;
+        }
+        return sum;
+    }
+
+    @Override
+    public boolean terminate(final Memory memory) {
+        if (this.isLastIteration(memory))
+            return true;
+        if (this.isConvergenceMode() && memory.getIteration() > 1) {
+            if (memory.<Double>get(CONVERGENCE_ERROR) <= this.epsilon)
+                return true;
+            memory.set(CONVERGENCE_ERROR, 0.0d);
+        }
+        return false;
+    }
+
+    private boolean isLastIteration(final Memory memory) {
+        return memory.getIteration() >= this.totalIterations;
+    }
+
+    private boolean isConvergenceMode() {
+        return this.epsilon > 0.0d;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.vertexProgramString(this, "alpha=" + this.alpha + ", iterations=" + this.totalIterations +
+                ", seedSets=" + this.seeds.size() + (this.isConvergenceMode() ? ", epsilon=" + this.epsilon : ""));
+    }
+
+    //////////////////////////////
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder extends AbstractVertexProgramBuilder<Builder> {
+
+        private final List<Set<Object>> seeds = new ArrayList<>();
+
+        private Builder() {
+            super(PersonalizedPageRankVertexProgram.class);
+        }
+
+        /**
+         * Add a seed set to rank the vertices for. Each call adds another seed set and the ranks of a vertex are
+         * stored in the order the seed sets were added.
+         *
+         * @param seedVertexIdsOrVertices the ids of the seed vertices (or the seed vertices themselves)
+         */
+        public Builder seeds(final Object... seedVertexIdsOrVertices) {
+            if (0 == seedVertexIdsOrVertices.length)
+                throw new IllegalArgumentException("A seed set must have at least one vertex");
+            final Set<Object> seedSet = new LinkedHashSet<>();
+            for (final Object seed : seedVertexIdsOrVertices) {
+                seedSet.add(seed instanceof Vertex ? ((Vertex) seed).id() : seed);
+            }
+            this.seeds.add(seedSet);
+            VertexProgramHelper.serialize(this.seeds, this.configuration, SEEDS);
+            return this;
+        }
+
+        /**
+         * Add a seed set for each of the provided collections of seed vertex ids (or seed vertices).
+         */
+        public Builder seedSets(final List<? extends Iterable<?>> seedSets) {
+            for (final Iterable<?> seedSet : seedSets) {
+                final List<Object> seedList = new ArrayList<>();
+                seedSet.forEach(seedList::add);
+                this.seeds(seedList.toArray());
+            }
+            return this;
+        }
+
+        public Builder iterations(final int iterations) {
+            this.configuration.setProperty(TOTAL_ITERATIONS, iterations);
+            return this;
+        }
+
+        public Builder alpha(final double alpha) {
+            this.configuration.setProperty(ALPHA, alpha);
+            return this;
+        }
+
+        /**
+         * Terminate the computation once the sum of the absolute changes of all ranks of all vertices in an iteration
+         * is at most the provided epsilon. The number of iterations remains the maximum number of iterations.
+         */
+        public Builder epsilon(final double epsilon) {
+            if (epsilon <= 0.0d)
+                throw new IllegalArgumentException("The epsilon must be greater than 0: " + epsilon);
+            this.configuration.setProperty(EPSILON, epsilon);
+            return this;
+        }
+
+        public Builder property(final String key) {
+            this.configuration.setProperty(PROPERTY, key);
+            return this;
+        }
+
+        public Builder edges(final Traversal.Admin<Vertex, Edge> edgeTraversal) {
+            PureTraversal.storeState(this.configuration, EDGE_TRAVERSAL, edgeTraversal);
+            return this;
+        }
+    }
+
+    ////////////////////////////
+
+    @Override
+    public Features getFeatures() {
+        return new Features() {
+            @Override
+            public boolean requiresLocalMessageScopes() {
+                return true;
+            }
+
+            @Override
+            public boolean requiresVertexPropertyAddition() {
+                return true;
+            }
+        };
+    }
+}
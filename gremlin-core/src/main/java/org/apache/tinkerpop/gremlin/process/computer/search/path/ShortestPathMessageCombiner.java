@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.search.path;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.javatuples.Pair;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps only the shortest of the paths sent to a vertex.
+ *
+ * @author agent (agent@local)
+ */
+public class ShortestPathMessageCombiner implements MessageCombiner<Pair<List<Object>, Double>> {
+
+    private static final Optional<ShortestPathMessageCombiner> INSTANCE = Optional.of(new ShortestPathMessageCombiner());
+
+    private ShortestPathMessageCombiner() {
+
+    }
+
+    @Override
+    public Pair<List<Object>, Double> combine(final Pair<List<Object>, Double> messageA, final Pair<List<Object>, Double> messageB) {
+        return ShortestPathMessageCombiner.shortest(messageA, messageB);
+    }
+
+    /**
+     * Ties are broken on the path length and then on the path's string representation so the result of a
+     * computation does not depend on the order in which messages arrive.
+     */
+    static Pair<List<Object>, Double> shortest(final Pair<List<Object>, Double> messageA, final Pair<List<Object>, Double> messageB) {
+        if (null == messageA)
+            return messageB;
+        int comparison = Double.compare(messageA.getValue1(), messageB.getValue1());
+        if (0 == comparison)
+            comparison = Integer.compare(messageA.getValue0().size(), messageB.getValue0().size());
+        if (0 == comparison)
+            comparison = messageA.getValue0().toString().compareTo(messageB.getValue0().toString());
+        return comparison <= 0 ? messageA : messageB;
+    }
+
+    public static Optional<ShortestPathMessageCombiner> instance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.search.path;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.Messenger;
+import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import org.apache.tinkerpop.gremlin.process.computer.util.StaticVertexProgram;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.util.PureTraversal;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.javatuples.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Computes the shortest path from a source vertex to every reachable vertex. It is the {@link GraphComputer}
+ * counterpart of {@code shortestPath()} where each vertex stores its distance from the source and the ids of the
+ * vertices along the path. Distances are relaxed by message passing (i.e. a synchronous Bellman-Ford) and the
+ * program halts once an iteration no longer shortens any path. If a weight property key is provided, the distance
+ * of a path is the sum of its edge weights else it is the number of edges.
+ *
+ * @author agent (agent@local)
+ */
+public class ShortestPathVertexProgram extends StaticVertexProgram<Pair<List<Object>, Double>> {
+
+    public static final String DISTANCE = "gremlin.shortestPathVertexProgram.distance";
+    public static final String PATH = "gremlin.shortestPathVertexProgram.path";
+    private static final String SOURCE_VERTEX_ID = "gremlin.shortestPathVertexProgram.sourceVertexId";
+    private static final String WEIGHT_PROPERTY = "gremlin.shortestPathVertexProgram.weightProperty";
+    private static final String MAX_ITERATIONS = "gremlin.shortestPathVertexProgram.maxIterations";
+    private static final String EDGE_TRAVERSAL = "gremlin.shortestPathVertexProgram.edgeTraversal";
+    private static final String VOTE_TO_HALT = "gremlin.shortestPathVertexProgram.voteToHalt";
+
+    private MessageScope.Local<Pair<List<Object>, Double>> pathScope = MessageScope.Local.of(__::bothE);
+    private PureTraversal<Vertex, Edge> edgeTraversal = null;
+    private Object sourceVertexId;
+    private String weightProperty = null;
+    private int maxIterations = Integer.MAX_VALUE;
+
+    private static final Set<VertexComputeKey> VERTEX_COMPUTE_KEYS = new HashSet<>(Arrays.asList(
+            VertexComputeKey.of(DISTANCE, false),
+            VertexComputeKey.of(PATH, false)));
+    private static final Set<MemoryComputeKey> MEMORY_COMPUTE_KEYS = Collections.singleton(MemoryComputeKey.of(VOTE_TO_HALT, Operator.and, false, true));
+
+    private ShortestPathVertexProgram() {
+
+    }
+
+    @Override
+    public void loadState(final Graph graph, final Configuration configuration) {
+        if (!configuration.containsKey(SOURCE_VERTEX_ID))
+            throw new IllegalArgumentException("The configuration does not have a source vertex id: " + SOURCE_VERTEX_ID);
+        this.sourceVertexId = configuration.getProperty(SOURCE_VERTEX_ID);
+        this.weightProperty = configuration.getString(WEIGHT_PROPERTY, null);
+        this.maxIterations = configuration.getInt(MAX_ITERATIONS, Integer.MAX_VALUE);
+        if (configuration.containsKey(EDGE_TRAVERSAL)) {
+            this.edgeTraversal = PureTraversal.loadState(configuration, EDGE_TRAVERSAL, graph);
+            this.pathScope = null == this.weightProperty ?
+                    MessageScope.Local.of(() -> this.edgeTraversal.get().clone()) :
+                    MessageScope.Local.of(() -> this.edgeTraversal.get().clone(), this::traverseEdge);
+        } else if (null != this.weightProperty)
+            this.pathScope = MessageScope.Local.of(__::bothE, this::traverseEdge);
+    }
+
+    @Override
+    public void storeState(final Configuration configuration) {
+        super.storeState(configuration);
+        configuration.setProperty(SOURCE_VERTEX_ID, this.sourceVertexId);
+        if (null != this.weightProperty)
+            configuration.setProperty(WEIGHT_PROPERTY, this.weightProperty);
+        configuration.setProperty(MAX_ITERATIONS, this.maxIterations);
+        if (null != this.edgeTraversal)
+            this.edgeTraversal.storeState(configuration, EDGE_TRAVERSAL);
+    }
+
+    @Override
+    public Set<VertexComputeKey> getVertexComputeKeys() {
+        return VERTEX_COMPUTE_KEYS;
+    }
+
+    @Override
+    public Set<MemoryComputeKey> getMemoryComputeKeys() {
+        return MEMORY_COMPUTE_KEYS;
+    }
+
+    @Override
+    public Set<MessageScope> getMessageScopes(final Memory memory) {
+        return Collections.singleton(this.pathScope);
+    }
+
+    @Override
+    public Optional<MessageCombiner<Pair<List<Object>, Double>>> getMessageCombiner() {
+        return (Optional) ShortestPathMessageCombiner.instance();
+    }
+
+    @Override
+    public GraphComputer.ResultGraph getPreferredResultGraph() {
+        return GraphComputer.ResultGraph.NEW;
+    }
+
+    @Override
+    public GraphComputer.Persist getPreferredPersist() {
+        return GraphComputer.Persist.VERTEX_PROPERTIES;
+    }
+
+    @Override
+    public void setup(final Memory memory) {
+        memory.set(VOTE_TO_HALT, true);
+    }
+
+    @Override
+    public void execute(final Vertex vertex, final Messenger<Pair<List<Object>, Double>> messenger, final Memory memory) {
+        if (memory.isInitialIteration()) {
+            if (ElementHelper.idExists(vertex.id(), this.sourceVertexId)) {
+                final List<Object> path = new ArrayList<>();
+                path.add(vertex.id());
+                vertex.property(VertexProperty.Cardinality.single, DISTANCE, 0.0d);
+                vertex.property(VertexProperty.Cardinality.single, PATH, path);
+                messenger.sendMessage(this.pathScope, this.extend(path, 0.0d));
+                memory.add(VOTE_TO_HALT, false);
+            }
+        } else {
+            final Iterator<Pair<List<Object>, Double>> messages = messenger.receiveMessages();
+            Pair<List<Object>, Double> shortest = null;
+            while (messages.hasNext()) {
+                shortest = ShortestPathMessageCombiner.shortest(shortest, messages.next());
+            }
+            if (null == shortest)
+                return;
+            final Property<Double> distance = vertex.property(DISTANCE);
+            if (distance.isPresent() && distance.value() <= shortest.getValue1())
+                return;
+            final List<Object> path = new ArrayList<>(shortest.getValue0());
+            path.add(vertex.id());
+            vertex.property(VertexProperty.Cardinality.single, DISTANCE, shortest.getValue1());
+            vertex.property(VertexProperty.Cardinality.single, PATH, path);
+            messenger.sendMessage(this.pathScope, this.extend(path, shortest.getValue1()));
+            memory.add(VOTE_TO_HALT, false);
+        }
+    }
+
+    @Override
+    public boolean terminate(final Memory memory) {
+        if (memory.<Boolean>get(VOTE_TO_HALT) || memory.getIteration() >= this.maxIterations) {
+            return true;
+        } else {
+            memory.set(VOTE_TO_HALT, true);
+            return false;
+        }
+    }
+
+    /**
+     * Unweighted paths are one hop longer when they arrive whereas weighted paths are extended per edge via
+     * {@link #traverseEdge(Pair, Edge)}.
+     */
+    private Pair<List<Object>, Double> extend(final List<Object> path, final double distance) {
+        return Pair.with(path, null == this.weightProperty ? distance + 1.0d : distance);
+    }
+
+    private Pair<List<Object>, Double> traverseEdge(final Pair<List<Object>, Double> message, final Edge edge) {
+        final Property<Object> property = edge.property(this.weightProperty);
+        if (!property.isPresent() || !(property.value() instanceof Number))
+            throw new IllegalStateException("The edge does not have a numeric weight property " + this.weightProperty + ": " + edge);
+        final double weight = ((Number) property.value()).doubleValue();
+        if (weight < 0.0d)
+            throw new IllegalStateException("Shortest paths can not be computed over negative edge weights: " + edge);
+        return Pair.with(message.getValue0(), message.getValue1() + weight);
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.vertexProgramString(this, "source=" + this.sourceVertexId + (null == this.weightProperty ? "" : ", weight=" + this.weightProperty));
+    }
+
+    //////////////////////////////
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public static final class Builder extends AbstractVertexProgramBuilder<Builder> {
+
+        private Builder() {
+            super(ShortestPathVertexProgram.class);
+        }
+
+        public Builder source(final Object sourceVertexIdOrVertex) {
+            this.configuration.setProperty(SOURCE_VERTEX_ID, sourceVertexIdOrVertex instanceof Vertex ? ((Vertex) sourceVertexIdOrVertex).id() : sourceVertexIdOrVertex);
+            return this;
+        }
+
+        public Builder weight(final String weightProperty) {
+            this.configuration.setProperty(WEIGHT_PROPERTY, weightProperty);
+            return this;
+        }
+
+        public Builder maxIterations(final int iterations) {
+            this.configuration.setProperty(MAX_ITERATIONS, iterations);
+            return this;
+        }
+
+        public Builder edges(final Traversal.Admin<Vertex, Edge> edgeTraversal) {
+            PureTraversal.storeState(this.configuration, EDGE_TRAVERSAL, edgeTraversal);
+            return this;
+        }
+    }
+
+    ////////////////////////////
+
+    @Override
+    public Features getFeatures() {
+        return new Features() {
+            @Override
+            public boolean requiresLocalMessageScopes() {
+                return true;
+            }
+
+            @Override
+            public boolean requiresVertexPropertyAddition() {
+                return true;
+            }
+        };
+    }
+}
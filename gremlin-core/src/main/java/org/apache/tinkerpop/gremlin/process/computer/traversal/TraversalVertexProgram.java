@@ -47,6 +47,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
 import org.apache.tinkerpop.gremlin.process.traversal.step.LocalBarrier;
 import org.apache.tinkerpop.gremlin.process.traversal.step.MapReducer;
 import org.apache.tinkerpop.gremlin.process.traversal.step.MemoryComputing;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
@@ -282,7 +283,9 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
                         activeTraversers.add((Traverser.Admin) traverser);
                 });
             }
-            memory.add(VOTE_TO_HALT, activeTraversers.isEmpty() || WorkerExecutor.execute(vertex, new SingleMessenger<>(messenger, activeTraversers), this.traversalMatrix, memory, this.returnHaltedTraversers, this.haltedTraverserStrategy));
+            // traversers sent from the master traversal (e.g. from an OLTP evaluated prefix) are also processed in the first iteration
+            memory.add(VOTE_TO_HALT, (activeTraversers.isEmpty() && memory.<TraverserSet<Object>>get(ACTIVE_TRAVERSERS).isEmpty()) ||
+                    WorkerExecutor.execute(vertex, new SingleMessenger<>(messenger, activeTraversers), this.traversalMatrix, memory, this.returnHaltedTraversers, this.haltedTraverserStrategy));
         } else   // ITERATION 1+
             memory.add(VOTE_TO_HALT, WorkerExecutor.execute(vertex, messenger, this.traversalMatrix, memory, this.returnHaltedTraversers, this.haltedTraverserStrategy));
         // save space by not having an empty halted traversers property
@@ -295,9 +298,11 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
         // memory is local
         MemoryTraversalSideEffects.setMemorySideEffects(this.traversal.get(), memory, ProgramPhase.TERMINATE);
         final boolean voteToHalt = memory.<Boolean>get(VOTE_TO_HALT);
+        // if a terminal range step has enough traversers, the traversers still active in the graph can not yield results
+        final boolean rangeSaturated = this.isTerminalRangeSaturated(memory);
         memory.set(VOTE_TO_HALT, true);
         memory.set(ACTIVE_TRAVERSERS, new TraverserSet<>());
-        if (voteToHalt) {
+        if (voteToHalt || rangeSaturated) {
             // local traverser sets to process
             final TraverserSet<Object> toProcessTraversers = new TraverserSet<>();
             // traversers that need to be sent back to the workers (no longer can be processed locally by the master traversal)
@@ -311,8 +316,8 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
             MasterExecutor.processTraversers(this.traversal, this.traversalMatrix, toProcessTraversers, remoteActiveTraversers, haltedTraversers, this.haltedTraverserStrategy);
             // tell parallel barriers that might not have been active in the last round that they are no longer active
             memory.set(COMPLETED_BARRIERS, completedBarriers);
-            if (!remoteActiveTraversers.isEmpty() ||
-                    completedBarriers.stream().map(this.traversalMatrix::getStepById).filter(step -> step instanceof LocalBarrier).findAny().isPresent()) {
+            if (!rangeSaturated && (!remoteActiveTraversers.isEmpty() ||
+                    completedBarriers.stream().map(this.traversalMatrix::getStepById).filter(step -> step instanceof LocalBarrier).findAny().isPresent())) {
                 // send active traversers back to workers
                 memory.set(ACTIVE_TRAVERSERS, remoteActiveTraversers);
                 return false;
@@ -335,6 +340,31 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
         }
     }
 
+    /**
+     * A {@link RangeGlobalStep} at the end of the traversal determines the result once the traversers that reached it
+     * (halted by the master traversal or waiting in its barrier) cover its high range. All halted traversers have
+     * passed through such a step and once they exist, the range step has also counted the low range. Halted traversers
+     * are only counted when they are returned in memory as otherwise they are stored with the vertices.
+     */
+    private boolean isTerminalRangeSaturated(final Memory memory) {
+        if (!this.returnHaltedTraversers || !(this.traversal.get().getEndStep() instanceof RangeGlobalStep))
+            return false;
+        final RangeGlobalStep<?> rangeStep = (RangeGlobalStep<?>) this.traversal.get().getEndStep();
+        if (-1 == rangeStep.getHighRange())
+            return false;
+        final long haltedBulk = TraversalVertexProgram.bulk(memory.get(HALTED_TRAVERSERS));
+        final long barrierBulk = memory.exists(rangeStep.getId()) ? TraversalVertexProgram.bulk(memory.get(rangeStep.getId())) : 0l;
+        return (haltedBulk > 0l ? rangeStep.getLowRange() + haltedBulk : 0l) + barrierBulk >= rangeStep.getHighRange();
+    }
+
+    private static long bulk(final TraverserSet<?> traverserSet) {
+        long bulk = 0l;
+        for (final Traverser.Admin<?> traverser : traverserSet) {
+            bulk = bulk + traverser.bulk();
+        }
+        return bulk;
+    }
+
     @Override
     public Set<VertexComputeKey> getVertexComputeKeys() {
         return VERTEX_COMPUTE_KEYS;
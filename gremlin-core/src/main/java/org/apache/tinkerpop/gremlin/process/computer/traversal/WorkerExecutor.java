@@ -41,8 +41,10 @@ import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -65,6 +67,8 @@ final class WorkerExecutor {
         final TraverserSet<Object> haltedTraversers = vertex.value(TraversalVertexProgram.HALTED_TRAVERSERS);
         final TraverserSet<Object> activeTraversers = new TraverserSet<>();
         final TraverserSet<Object> toProcessTraversers = new TraverserSet<>();
+        // traversers leaving the vertex are bulked per hosting vertex and sent as one message per hosting vertex
+        final Map<Vertex, TraverserSet<Object>> outbox = new HashMap<>();
 
         ////////////////////////////////
         // GENERATE LOCAL TRAVERSERS //
@@ -159,7 +163,7 @@ final class WorkerExecutor {
                         final Vertex hostingVertex = WorkerExecutor.getHostingVertex(traverser.get());
                         if (!vertex.equals(hostingVertex)) { // if its host is not the current vertex, then send the traverser to the hosting vertex
                             voteToHalt.set(false); // if message is passed, then don't vote to halt
-                            messenger.sendMessage(MessageScope.Global.of(hostingVertex), new TraverserSet<>(traverser.detach()));
+                            outbox.computeIfAbsent(hostingVertex, v -> new TraverserSet<>()).add(traverser.detach());
                         } else {
                             traverser.attach(Attachable.Method.get(vertex)); // necessary for select() steps that reference the current object
                             toProcessTraversers.add(traverser);
@@ -170,6 +174,7 @@ final class WorkerExecutor {
                 assert activeTraversers.isEmpty();
             }
         }
+        outbox.forEach((hostingVertex, traversers) -> messenger.sendMessage(MessageScope.Global.of(hostingVertex), traversers));
         return voteToHalt.get();
     }
 
@@ -19,30 +19,62 @@
 
 package org.apache.tinkerpop.gremlin.process.computer.traversal.step.map;
 
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
 import org.apache.tinkerpop.gremlin.process.computer.Memory;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.MemoryTraversalSideEffects;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration.HybridExecutionStrategy;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration.VertexProgramStrategy;
+import org.apache.tinkerpop.gremlin.process.computer.util.DefaultComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.util.MapMemory;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.TraverserGenerator;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.IdentityStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.HaltedTraverserStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.util.PureTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
+ * A {@link VertexProgramStep} that evaluates its traversal with a {@link TraversalVertexProgram}. If a frontier
+ * threshold is set (see {@link org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration.HybridExecutionStrategy})
+ * and the traversal starts with a {@link GraphStep} that has ids, the selective prefix of the traversal is first
+ * evaluated in OLTP with the strategies and side-effects of the parent traversal. The traversers are handed off to the {@link GraphComputer} as soon as the frontier holds more
+ * traversers than the threshold and if the frontier never grows that large, no {@link GraphComputer} is used at all.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class TraversalVertexProgramStep extends VertexProgramStep implements TraversalParent {
 
     public PureTraversal<?, ?> computerTraversal;
+    private long frontierThreshold = -1L;
+    private TraverserSet<Object> frontier = null;
+    private PureTraversal<?, ?> remainingTraversal = null;
 
     public TraversalVertexProgramStep(final Traversal.Admin traversal, final Traversal.Admin<?, ?> computerTraversal) {
         super(traversal);
@@ -64,9 +96,121 @@ public final class TraversalVertexProgramStep extends VertexProgramStep implemen
         return TraversalParent.super.getSelfAndChildRequirements(TraverserRequirement.BULK);
     }
 
+    /**
+     * Set the number of traversers the frontier of the OLTP evaluated prefix may hold before the traversal is handed
+     * off to the {@link GraphComputer}. A negative threshold (the default) evaluates the whole traversal with the
+     * {@link GraphComputer}.
+     */
+    public void setFrontierThreshold(final long frontierThreshold) {
+        this.frontierThreshold = frontierThreshold;
+    }
+
+    public long getFrontierThreshold() {
+        return this.frontierThreshold;
+    }
+
     @Override
-    public TraversalVertexProgram generateProgram(final Graph graph, final Memory memory) {
-        final Traversal.Admin<?, ?> computerSpecificTraversal = this.computerTraversal.getPure();
+    protected Traverser.Admin<ComputerResult> processNextStart() throws NoSuchElementException {
+        if (this.first && this.frontierThreshold >= 0 && this.getPreviousStep() instanceof EmptyStep) {
+            final Graph graph = this.getTraversal().getGraph().get();
+            if (this.processPrefix(graph)) {
+                this.first = false;
+                final Memory.Admin memory = new MapMemory();
+                memory.set(TraversalVertexProgram.HALTED_TRAVERSERS, this.frontier);
+                this.frontier = null;
+                return this.getTraversal().getTraverserGenerator().generate(new DefaultComputerResult(graph, memory), this, 1l);
+            }
+        }
+        return super.processNextStart();
+    }
+
+    /**
+     * Evaluates the selective prefix of the traversal in OLTP until the frontier exceeds the threshold. What remains
+     * of the traversal is left for the {@link GraphComputer} with the frontier as its starting traversers.
+     *
+     * @return true if the whole traversal was evaluated and the frontier holds the halted traversers
+     */
+    private boolean processPrefix(final Graph graph) {
+        if (null != this.computer.getVertices() || null != this.computer.getEdges())
+            return false;
+        // the prefix can only be evaluated in OLTP if the graph reads the same graph that the graph computer processes
+        if (!this.computer.apply(graph).features().supportsHybridExecution())
+            return false;
+        final Traversal.Admin<?, ?> compiledTraversal = this.generateComputerTraversal(graph, this.computerTraversal.getPure());
+        compiledTraversal.applyStrategies();
+        final Set<TraverserRequirement> requirements = compiledTraversal.getTraverserRequirements();
+        if (requirements.contains(TraverserRequirement.PATH) || requirements.contains(TraverserRequirement.LABELED_PATH))
+            return false;
+        final Traversal.Admin<?, ?> remainingTraversal = this.computerTraversal.getPure();
+        // the stages are evaluated with the decorations of the parent traversal (e.g. SubgraphStrategy) but not with those that submit it to a graph computer
+        final TraversalStrategies stageStrategies = this.getTraversal().getStrategies().clone()
+                .removeStrategies(VertexProgramStrategy.class, HybridExecutionStrategy.class);
+        if (!(remainingTraversal.getStartStep() instanceof GraphStep) || !remainingTraversal.getStartStep().getLabels().isEmpty())
+            return false;
+        final GraphStep<?, ?> graphStep = (GraphStep<?, ?>) remainingTraversal.getStartStep();
+        if (graphStep.returnsVertex() && graphStep.getNextStep() instanceof HasStep && graphStep.getNextStep().getLabels().isEmpty()) {
+            final HasStep<?> hasStep = (HasStep<?>) graphStep.getNextStep();
+            for (final HasContainer hasContainer : new ArrayList<>(hasStep.getHasContainers())) {
+                if (GraphStep.processHasContainerIds(graphStep, hasContainer))
+                    hasStep.removeHasContainer(hasContainer);
+            }
+            if (hasStep.getHasContainers().isEmpty())
+                remainingTraversal.removeStep(hasStep);
+        }
+        if (0 == graphStep.getIds().length)
+            return false;
+        // the graph step may have been cloned from a traversal of another graph (e.g. a serialized computer traversal) so read from this graph
+        graphStep.setIteratorSupplier(() -> (Iterator) (graphStep.returnsVertex() ? graph.vertices(graphStep.getIds()) : graph.edges(graphStep.getIds())));
+        // the graph step along with the filters that a provider may fold into it is the first stage
+        Step<?, ?> stageEnd = graphStep.getNextStep();
+        while (stageEnd instanceof HasStep && stageEnd.getLabels().isEmpty()) {
+            stageEnd = stageEnd.getNextStep();
+        }
+        // at least one step must be left for the graph computer if its result is not streamed out
+        final int minimumRemainingSteps = this.isEndStep() ? 0 : 1;
+        TraverserSet<Object> frontier = this.processStage(graph, stageStrategies, graphStep, stageEnd, new TraverserSet<>());
+        while (frontier.size() <= this.frontierThreshold &&
+                remainingTraversal.getSteps().size() > minimumRemainingSteps &&
+                isPrefixStep(remainingTraversal.getStartStep())) {
+            frontier = this.processStage(graph, stageStrategies, remainingTraversal.getStartStep(), remainingTraversal.getStartStep().getNextStep(), frontier);
+        }
+        if (remainingTraversal.getSteps().isEmpty()) {
+            final HaltedTraverserStrategy haltedTraverserStrategy = (HaltedTraverserStrategy) this.getTraversal().getStrategies().toList()
+                    .stream()
+                    .filter(strategy -> strategy instanceof HaltedTraverserStrategy)
+                    .findAny()
+                    .orElse(HaltedTraverserStrategy.reference());
+            this.frontier = new TraverserSet<>();
+            frontier.forEach(traverser -> {
+                traverser.setStepId(Traverser.Admin.HALT);
+                this.frontier.add(haltedTraverserStrategy.halt(traverser));
+            });
+            return true;
+        } else {
+            this.remainingTraversal = new PureTraversal<>(remainingTraversal);
+            this.frontier = frontier;
+            return false;
+        }
+    }
+
+    private TraverserSet<Object> processStage(final Graph graph, final TraversalStrategies strategies, final Step<?, ?> startStep, final Step<?, ?> endStep, final TraverserSet<Object> starts) {
+        final Traversal.Admin<Object, Object> stage = new DefaultTraversal<>(graph);
+        stage.setStrategies(strategies);
+        stage.setSideEffects(this.getTraversal().getSideEffects());
+        TraversalHelper.removeToTraversal((Step) startStep, (Step) endStep, stage);
+        stage.applyStrategies();
+        stage.addStarts(starts.iterator());
+        final TraverserSet<Object> frontier = new TraverserSet<>();
+        stage.getEndStep().forEachRemaining(frontier::add);
+        return frontier;
+    }
+
+    private static boolean isPrefixStep(final Step<?, ?> step) {
+        return step.getLabels().isEmpty() &&
+                (step instanceof VertexStep || step instanceof EdgeVertexStep || step instanceof HasStep || step instanceof IdentityStep);
+    }
+
+    private Traversal.Admin<?, ?> generateComputerTraversal(final Graph graph, final Traversal.Admin<?, ?> computerSpecificTraversal) {
         final TraversalStrategies computerSpecificStrategies = this.getTraversal().getStrategies().clone();
         TraversalStrategies.GlobalCache.getStrategies(graph.getClass())
                 .toList()
@@ -76,9 +220,29 @@ public final class TraversalVertexProgramStep extends VertexProgramStep implemen
         computerSpecificTraversal.setStrategies(computerSpecificStrategies);
         computerSpecificTraversal.setSideEffects(new MemoryTraversalSideEffects(this.getTraversal().getSideEffects()));
         computerSpecificTraversal.setParent(this);
+        return computerSpecificTraversal;
+    }
+
+    @Override
+    public TraversalVertexProgram generateProgram(final Graph graph, final Memory memory) {
+        // if the prefix was evaluated in OLTP, only the remaining traversal is left for this execution
+        final PureTraversal<?, ?> traversal = null == this.remainingTraversal ? this.computerTraversal : this.remainingTraversal;
+        this.remainingTraversal = null;
+        final Traversal.Admin<?, ?> computerSpecificTraversal = this.generateComputerTraversal(graph, traversal.getPure());
         final TraversalVertexProgram.Builder builder = TraversalVertexProgram.build().traversal(computerSpecificTraversal);
         if (memory.exists(TraversalVertexProgram.HALTED_TRAVERSERS))
             builder.haltedTraversers(memory.get(TraversalVertexProgram.HALTED_TRAVERSERS));
+        else if (null != this.frontier) {
+            // the frontier of the OLTP evaluated prefix is regenerated for the traverser requirements of the remaining traversal.
+            // its elements keep their properties as the master traversal evaluates element local steps (e.g. values()) itself
+            final Traversal.Admin<?, ?> compiledTraversal = this.generateComputerTraversal(graph, traversal.getPure());
+            compiledTraversal.applyStrategies();
+            final TraverserGenerator generator = compiledTraversal.getTraverserGenerator();
+            final TraverserSet<Object> haltedTraversers = new TraverserSet<>();
+            this.frontier.forEach(traverser -> haltedTraversers.add(generator.generate(DetachedFactory.detach(traverser.get(), true), (Step) compiledTraversal.getStartStep(), traverser.bulk())));
+            this.frontier = null;
+            builder.haltedTraversers(haltedTraversers);
+        }
         return builder.create(graph);
     }
 
@@ -94,9 +258,18 @@ public final class TraversalVertexProgramStep extends VertexProgramStep implemen
     public TraversalVertexProgramStep clone() {
         final TraversalVertexProgramStep clone = (TraversalVertexProgramStep) super.clone();
         clone.computerTraversal = this.computerTraversal.clone();
+        clone.frontier = null;
+        clone.remainingTraversal = null;
         return clone;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        this.frontier = null;
+        this.remainingTraversal = null;
+    }
+
     @Override
     public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
         super.setTraversal(parentTraversal);
@@ -106,6 +106,19 @@ public abstract class VertexProgramStep extends AbstractStep<ComputerResult, Com
         this.computer = computer;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        this.first = true;
+    }
+
+    @Override
+    public VertexProgramStep clone() {
+        final VertexProgramStep clone = (VertexProgramStep) super.clone();
+        clone.first = true;
+        return clone;
+    }
+
     protected boolean previousTraversalVertexProgram() {
         Step<?, ?> currentStep = this;
         while (!(currentStep instanceof EmptyStep)) {
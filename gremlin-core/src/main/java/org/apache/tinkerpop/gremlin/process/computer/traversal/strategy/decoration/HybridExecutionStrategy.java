@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.TraversalVertexProgramStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code HybridExecutionStrategy} lets a {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer}
+ * traversal that starts from specific ids (e.g. {@code g.V(1).out()} or {@code g.V().hasId(1).out()}) evaluate its
+ * selective prefix in OLTP. The traversal is handed off to the
+ * {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer} once the frontier holds more than
+ * {@code frontierThreshold} traversers, and a traversal whose frontier never grows that large does not use the
+ * {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer} at all. The steps after the last
+ * {@link org.apache.tinkerpop.gremlin.process.computer.VertexProgram} are always evaluated in OLTP. The prefix is only
+ * evaluated in OLTP if the {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer} supports it (see
+ * {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer.Features#supportsHybridExecution()}) as the OLTP
+ * API of the graph must read the same graph that the graph computer processes.
+ * <p/>
+ * <pre>
+ * g.withComputer().withStrategies(HybridExecutionStrategy.build().frontierThreshold(10000).create()).V(1).out().out()
+ * </pre>
+ *
+ * @author agent (agent@local)
+ */
+public final class HybridExecutionStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy> implements TraversalStrategy.DecorationStrategy {
+
+    private static final Set<Class<? extends DecorationStrategy>> PRIORS = Collections.singleton(VertexProgramStrategy.class);
+
+    private final long frontierThreshold;
+
+    private HybridExecutionStrategy(final long frontierThreshold) {
+        if (frontierThreshold < 0)
+            throw new IllegalArgumentException("The frontier threshold must not be negative: " + frontierThreshold);
+        this.frontierThreshold = frontierThreshold;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (!(traversal.getParent() instanceof EmptyStep) || !(traversal.getStartStep() instanceof TraversalVertexProgramStep))
+            return;
+        // profiling requires every step to be evaluated by the graph computer
+        if (TraversalHelper.hasStepOfAssignableClassRecursively(ProfileSideEffectStep.class, traversal))
+            return;
+        ((TraversalVertexProgramStep) traversal.getStartStep()).setFrontierThreshold(this.frontierThreshold);
+    }
+
+    @Override
+    public Set<Class<? extends DecorationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public long getFrontierThreshold() {
+        return this.frontierThreshold;
+    }
+
+    public static final String FRONTIER_THRESHOLD = "frontierThreshold";
+
+    public static HybridExecutionStrategy create(final Configuration configuration) {
+        final Builder builder = HybridExecutionStrategy.build();
+        if (configuration.containsKey(FRONTIER_THRESHOLD))
+            builder.frontierThreshold(configuration.getLong(FRONTIER_THRESHOLD));
+        return builder.create();
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(STRATEGY, HybridExecutionStrategy.class.getCanonicalName());
+        map.put(FRONTIER_THRESHOLD, this.frontierThreshold);
+        return new MapConfiguration(map);
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private long frontierThreshold = 1000L;
+
+        private Builder() {
+        }
+
+        /**
+         * The number of traversers the frontier may hold before the traversal is handed off to the graph computer
+         * (default 1000).
+         */
+        public Builder frontierThreshold(final long frontierThreshold) {
+            this.frontierThreshold = frontierThreshold;
+            return this;
+        }
+
+        public HybridExecutionStrategy create() {
+            return new HybridExecutionStrategy(this.frontierThreshold);
+        }
+    }
+}
@@ -25,17 +25,29 @@ import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.Traversa
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.VertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.computer.util.EmptyMemory;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.AbstractLambdaTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.ElementValueTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.ComparatorHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertyMapStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.HaltedTraverserStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
 import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 
 import java.util.Collections;
@@ -69,7 +81,69 @@ public final class GraphFilterStrategy extends AbstractTraversalStrategy<Travers
                 if (null != edgeFilter)  // if no edges can be filtered, then don't set edges()
                     step.setComputer(computer.edges(edgeFilter));
             }
+            // vertex properties can only be projected if the vertices are not persisted and not returned with their properties
+            if (null == computer.getVertexProperties() &&
+                    graph.features().graph().supportsComputer() &&
+                    computer.apply(graph).features().supportsVertexPropertyProjection() &&
+                    (null == computer.getPersist() || GraphComputer.Persist.NOTHING.equals(computer.getPersist())) &&
+                    !DetachedFactory.class.equals(traversal.getStrategies().getStrategy(HaltedTraverserStrategy.class).map(HaltedTraverserStrategy::getHaltedTraverserFactory).orElse(null))) {
+                final Set<String> vertexPropertyKeys = getVertexPropertyKeys(computerTraversal, traversal);
+                if (null != vertexPropertyKeys)  // if all vertex properties may be accessed, then don't set vertexProperties()
+                    step.setComputer(step.getComputer().vertexProperties(vertexPropertyKeys.toArray(new String[vertexPropertyKeys.size()])));
+            }
+        }
+    }
+
+    /**
+     * Determines the keys of the vertex properties that the traversals access.
+     *
+     * @return the vertex property keys or null if the traversals may access any vertex property
+     */
+    protected static Set<String> getVertexPropertyKeys(final Traversal.Admin<?, ?>... traversals) {
+        final Set<String> keys = new HashSet<>();
+        for (final Traversal.Admin<?, ?> traversal : traversals) {
+            if (TraversalHelper.hasStepOfAssignableClassRecursively(LambdaHolder.class, traversal) || !addPropertyKeys(traversal, keys))
+                return null;
+        }
+        return keys;
+    }
+
+    private static boolean addPropertyKeys(final Traversal.Admin<?, ?> traversal, final Set<String> keys) {
+        if (traversal instanceof ElementValueTraversal) {   // by("key")
+            keys.add(((ElementValueTraversal<?>) traversal).getPropertyKey());
+            return true;
+        } else if (traversal instanceof AbstractLambdaTraversal)   // tokens, columns, constants, etc.
+            return true;
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof ComparatorHolder &&
+                    !((ComparatorHolder<?, ?>) step).getComparators().stream().allMatch(pair -> pair.getValue1() instanceof Order))
+                return false; // a lambda comparator can access any property
+            if (step instanceof HasContainerHolder) {
+                ((HasContainerHolder) step).getHasContainers().stream()
+                        .map(HasContainer::getKey)
+                        .filter(key -> !Graph.Hidden.isHidden(key))   // ids, labels, keys and values are not properties
+                        .forEach(keys::add);
+            }
+            if (step instanceof PropertiesStep || step instanceof PropertyMapStep) {
+                final String[] propertyKeys = step instanceof PropertiesStep ?
+                        ((PropertiesStep) step).getPropertyKeys() :
+                        ((PropertyMapStep) step).getPropertyKeys();
+                if (0 == propertyKeys.length)  // all properties are accessed
+                    return false;
+                Collections.addAll(keys, propertyKeys);
+            }
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                    if (!addPropertyKeys(child, keys))
+                        return false;
+                }
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+                    if (!addPropertyKeys(child, keys))
+                        return false;
+                }
+            }
         }
+        return true;
     }
 
     protected static Traversal.Admin<Vertex, Edge> getEdgeFilter(final Traversal.Admin<?, ?> traversal) {
@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.process.traversal.dsl.graph;
 
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.ConnectedComponentVertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.PageRankVertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.PeerPressureVertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.ProgramVertexProgramStep;
@@ -66,6 +67,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversal
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddEdgeStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddVertexStartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxDistinctCountStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxQuantileStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxTopKStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.CoalesceStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.ConstantStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountGlobalStep;
@@ -105,6 +109,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.map.SackStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SampleLocalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectOneStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ShortestPathStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SumGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SumLocalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.TailLocalStep;
@@ -159,8 +164,6 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-import static javafx.scene.input.KeyCode.M;
-
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
@@ -555,6 +558,19 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         return this.asAdmin().addStep(new PathStep<>(this.asAdmin()));
     }
 
+    /**
+     * Map the {@link Vertex} to the shortest {@link Path} to each of the provided target vertices. If no targets are
+     * provided, the shortest path to every reachable vertex is emitted. The adjacency can be modulated with
+     * {@code by(Traversal)} and an edge weight property with {@code by(String)}.
+     *
+     * @param targetVertexIdsOrElements the ids (or vertices) of the target vertices
+     * @return the traversal with an appended {@link ShortestPathStep}.
+     */
+    public default GraphTraversal<S, Path> shortestPath(final Object... targetVertexIdsOrElements) {
+        this.asAdmin().getBytecode().addStep(Symbols.shortestPath, targetVertexIdsOrElements);
+        return this.asAdmin().addStep(new ShortestPathStep(this.asAdmin(), targetVertexIdsOrElements));
+    }
+
     /**
      * Map the {@link Traverser} to a {@link Map} of bindings as specified by the provided match traversals.
      *
@@ -736,6 +752,43 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         return this.asAdmin().addStep(scope.equals(Scope.global) ? new MeanGlobalStep(this.asAdmin()) : new MeanLocalStep(this.asAdmin()));
     }
 
+    /**
+     * Estimates the number of distinct objects in the traverser stream using a constant amount of memory.
+     *
+     * @return the traversal with an appended {@link ApproxDistinctCountStep}.
+     */
+    public default GraphTraversal<S, Long> approxDistinctCount() {
+        this.asAdmin().getBytecode().addStep(Symbols.approxDistinctCount);
+        return this.asAdmin().addStep(new ApproxDistinctCountStep<>(this.asAdmin()));
+    }
+
+    /**
+     * Estimates the values of the provided quantiles of a stream of numbers using a bounded amount of memory.
+     *
+     * @param quantiles the quantiles to estimate, each between {@code 0.0} and {@code 1.0}
+     * @return the traversal with an appended {@link ApproxQuantileStep}.
+     */
+    public default GraphTraversal<S, Map<Double, Double>> approxQuantile(final Double... quantiles) {
+        this.asAdmin().getBytecode().addStep(Symbols.approxQuantile, quantiles);
+        final double[] values = new double[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++) {
+            values[i] = quantiles[i];
+        }
+        return this.asAdmin().addStep(new ApproxQuantileStep(this.asAdmin(), values));
+    }
+
+    /**
+     * Estimates the {@code k} most frequent objects of the traverser stream and their counts using a bounded amount
+     * of memory.
+     *
+     * @param k the number of most frequent objects to return
+     * @return the traversal with an appended {@link ApproxTopKStep}.
+     */
+    public default GraphTraversal<S, Map<E, Long>> approxTopK(final int k) {
+        this.asAdmin().getBytecode().addStep(Symbols.approxTopK, k);
+        return this.asAdmin().addStep(new ApproxTopKStep<>(this.asAdmin(), k));
+    }
+
     public default <K, V> GraphTraversal<S, Map<K, V>> group() {
         this.asAdmin().getBytecode().addStep(Symbols.group);
         return this.asAdmin().addStep(new GroupStep<>(this.asAdmin()));
@@ -1470,6 +1523,11 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         return this.asAdmin().addStep((Step<E, E>) new PeerPressureVertexProgramStep(this.asAdmin()));
     }
 
+    public default GraphTraversal<S, E> connectedComponent() {
+        this.asAdmin().getBytecode().addStep(Symbols.connectedComponent);
+        return this.asAdmin().addStep((Step<E, E>) new ConnectedComponentVertexProgramStep(this.asAdmin()));
+    }
+
     public default GraphTraversal<S, E> program(final VertexProgram<?> vertexProgram) {
         return this.asAdmin().addStep((Step<E, E>) new ProgramVertexProgramStep(this.asAdmin(), vertexProgram));
     }
@@ -1638,6 +1696,7 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         public static final String key = "key";
         public static final String value = "value";
         public static final String path = "path";
+        public static final String shortestPath = "shortestPath";
         public static final String match = "match";
         public static final String sack = "sack";
         public static final String loops = "loops";
@@ -1649,6 +1708,9 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         public static final String max = "max";
         public static final String min = "min";
         public static final String mean = "mean";
+        public static final String approxDistinctCount = "approxDistinctCount";
+        public static final String approxQuantile = "approxQuantile";
+        public static final String approxTopK = "approxTopK";
         public static final String group = "group";
         @Deprecated
         public static final String groupV3d0 = "groupV3d0";
@@ -1703,6 +1765,7 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
 
         public static final String pageRank = "pageRank";
         public static final String peerPressure = "peerPressure";
+        public static final String connectedComponent = "connectedComponent";
         public static final String program = "program";
 
         public static final String by = "by";
@@ -317,6 +317,13 @@ public class __ {
         return __.<A>start().path();
     }
 
+    /**
+     * @see GraphTraversal#shortestPath(Object...)
+     */
+    public static GraphTraversal<Vertex, Path> shortestPath(final Object... targetVertexIdsOrElements) {
+        return __.<Vertex>start().shortestPath(targetVertexIdsOrElements);
+    }
+
     /**
      * @see GraphTraversal#match(Traversal[])
      */
@@ -473,6 +480,27 @@ public class __ {
         return __.<A>start().mean(scope);
     }
 
+    /**
+     * @see GraphTraversal#approxDistinctCount()
+     */
+    public static <A> GraphTraversal<A, Long> approxDistinctCount() {
+        return __.<A>start().approxDistinctCount();
+    }
+
+    /**
+     * @see GraphTraversal#approxQuantile(Double...)
+     */
+    public static <A> GraphTraversal<A, Map<Double, Double>> approxQuantile(final Double... quantiles) {
+        return __.<A>start().approxQuantile(quantiles);
+    }
+
+    /**
+     * @see GraphTraversal#approxTopK(int)
+     */
+    public static <A> GraphTraversal<A, Map<A, Long>> approxTopK(final int k) {
+        return __.<A>start().approxTopK(k);
+    }
+
     /**
      * @see GraphTraversal#group()
      */
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step;
+
+/**
+ * A Memoizing step caches the results of its child traversals by the object of the incoming traverser so that
+ * traversers at an object seen before do not re-execute the children. This is only correct when the results of the
+ * children are determined by their start object alone (see
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper#isDeterminedByStart}) and the graph does
+ * not change during the traversal. Memoization is typically configured by
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.MemoizationStrategy}.
+ *
+ * @author agent (agent@local)
+ */
+public interface Memoizing {
+
+    /**
+     * Set the maximum number of objects whose results are cached. The least recently used results are evicted
+     * first. A size of {@code 0} (the default) disables memoization.
+     *
+     * @param memoSize the maximum number of cached results
+     */
+    public void setMemoSize(final int memoSize);
+
+    public int getMemoSize();
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step;
+
+import java.io.File;
+
+/**
+ * A Spillable step is a step that normally holds all of its state in memory, but that can bound that state by
+ * writing it to local disk once it grows beyond a threshold (see {@link org.apache.tinkerpop.gremlin.process.traversal.util.SpillFile}).
+ * Spilling is an OLTP concern and is typically configured by {@link org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SpillStrategy}.
+ *
+ * @author agent (agent@local)
+ */
+public interface Spillable {
+
+    /**
+     * Set the number of objects the step may hold in memory before it spills to disk.
+     * {@link Integer#MAX_VALUE} (the default) means that the step never spills.
+     *
+     * @param spillThreshold the maximum number of objects to hold in memory
+     */
+    public void setSpillThreshold(final int spillThreshold);
+
+    public int getSpillThreshold();
+
+    /**
+     * Set the directory in which spill files are created. If {@code null}, the default temporary-file directory is used.
+     *
+     * @param spillDirectory the directory to write spill files to
+     */
+    public void setSpillDirectory(final File spillDirectory);
+
+    public File getSpillDirectory();
+
+    /**
+     * Whether or not the step has been configured to spill.
+     *
+     * @return whether the spill threshold is set
+     */
+    public default boolean isSpillable() {
+        return Integer.MAX_VALUE != this.getSpillThreshold();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step;
+
+/**
+ * A Windowed step is a barrier that, rather than reducing all of its starts into a single result, can emit a partial
+ * result for every window of starts. A window closes once it holds {@code windowSize} traversers or once
+ * {@code windowTime} milliseconds passed since its first traverser, whichever comes first. Each emitted result only
+ * reflects the traversers of its window. Windowing is an OLTP concern and is typically configured by
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.WindowStrategy}.
+ *
+ * @author agent (agent@local)
+ */
+public interface Windowed {
+
+    /**
+     * Set the number of traversers after which a window closes.
+     * {@link Integer#MAX_VALUE} (the default) means that windows never close because of their size.
+     *
+     * @param windowSize the maximum number of traversers in a window
+     */
+    public void setWindowSize(final int windowSize);
+
+    public int getWindowSize();
+
+    /**
+     * Set the number of milliseconds after which a window closes. The age of the window is checked whenever the step
+     * is polled for a traverser and thus, a traverser that arrives after the time has passed opens the next window.
+     * {@link Long#MAX_VALUE} (the default) means that windows never close because of their age.
+     *
+     * @param windowTime the maximum age of a window in milliseconds
+     */
+    public void setWindowTime(final long windowTime);
+
+    public long getWindowTime();
+
+    /**
+     * Whether or not the step has been configured to emit windows.
+     *
+     * @return whether the window size or time is set
+     */
+    public default boolean isWindowed() {
+        return Integer.MAX_VALUE != this.getWindowSize() || Long.MAX_VALUE != this.getWindowTime();
+    }
+}
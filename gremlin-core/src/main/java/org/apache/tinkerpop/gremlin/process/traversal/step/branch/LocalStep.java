@@ -20,13 +20,20 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.branch;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Memoizing;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.MemoCache;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
+import org.javatuples.Pair;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -34,10 +41,15 @@ import java.util.Set;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class LocalStep<S, E> extends AbstractStep<S, E> implements TraversalParent {
+public final class LocalStep<S, E> extends AbstractStep<S, E> implements TraversalParent, Memoizing {
 
     private Traversal.Admin<S, E> localTraversal;
     private boolean first = true;
+    private int memoSize = 0;
+    private transient MemoCache<List<Pair<E, Long>>> memo;
+    private Boolean memoizable = null;
+    private Traverser.Admin<S> memoStart = null;
+    private Iterator<Pair<E, Long>> memoEnds = EmptyIterator.instance();
 
     public LocalStep(final Traversal.Admin traversal, final Traversal.Admin<S, E> localTraversal) {
         super(traversal);
@@ -56,6 +68,8 @@ public final class LocalStep<S, E> extends AbstractStep<S, E> implements Travers
 
     @Override
     protected Traverser.Admin<E> processNextStart() throws NoSuchElementException {
+        if (this.memoSize > 0 && this.isMemoizable())
+            return this.processNextMemoizedStart();
         if (this.first) {
             this.first = false;
             this.localTraversal.addStart(this.starts.next());
@@ -72,11 +86,61 @@ public final class LocalStep<S, E> extends AbstractStep<S, E> implements Travers
         }
     }
 
+    /**
+     * The results of the local traversal are cached as objects and bulks and emitted as splits of the start. This
+     * drops the path the local traversal would have added, so it is only done if the traversal does not track paths.
+     */
+    private boolean isMemoizable() {
+        if (null == this.memoizable) {
+            final Set<TraverserRequirement> requirements = TraversalHelper.getRootTraversal(this.getTraversal()).getTraverserRequirements();
+            this.memoizable = !requirements.contains(TraverserRequirement.PATH) && !requirements.contains(TraverserRequirement.LABELED_PATH);
+        }
+        return this.memoizable;
+    }
+
+    private Traverser.Admin<E> processNextMemoizedStart() {
+        while (!this.memoEnds.hasNext()) {
+            this.memoStart = this.starts.next();
+            if (null == this.memo)
+                this.memo = new MemoCache<>(this.memoSize);
+            final Object key = MemoCache.key(this.memoStart);
+            List<Pair<E, Long>> ends = this.memo.get(key);
+            if (null == ends) {
+                ends = new ArrayList<>();
+                this.localTraversal.reset();
+                this.localTraversal.addStart(this.memoStart.split());
+                while (this.localTraversal.hasNext()) {
+                    final Traverser.Admin<E> end = this.localTraversal.nextTraverser();
+                    ends.add(Pair.with(end.get(), end.bulk()));
+                }
+                this.memo.put(key, ends);
+            }
+            this.memoEnds = ends.iterator();
+        }
+        final Pair<E, Long> end = this.memoEnds.next();
+        final Traverser.Admin<E> traverser = this.memoStart.split(end.getValue0(), this);
+        traverser.setBulk(end.getValue1());
+        return traverser;
+    }
+
     @Override
     public void reset() {
         super.reset();
         this.first = true;
         this.localTraversal.reset();
+        this.memoStart = null;
+        this.memoEnds = EmptyIterator.instance();
+    }
+
+    @Override
+    public void setMemoSize(final int memoSize) {
+        this.memoSize = memoSize;
+        this.memo = null;
+    }
+
+    @Override
+    public int getMemoSize() {
+        return this.memoSize;
     }
 
     @Override
@@ -84,6 +148,10 @@ public final class LocalStep<S, E> extends AbstractStep<S, E> implements Travers
         final LocalStep<S, E> clone = (LocalStep<S, E>) super.clone();
         clone.localTraversal = this.localTraversal.clone();
         clone.first = true;
+        clone.memo = null;
+        clone.memoizable = null;
+        clone.memoStart = null;
+        clone.memoEnds = EmptyIterator.instance();
         return clone;
     }
 
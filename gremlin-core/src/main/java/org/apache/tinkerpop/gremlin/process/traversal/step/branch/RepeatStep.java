@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ComputerAwareStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
@@ -45,6 +46,8 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
     private Traversal.Admin<S, ?> emitTraversal = null;
     public boolean untilFirst = false;
     public boolean emitFirst = false;
+    private boolean breadthFirst = false;
+    private TraverserSet<S> frontier = new TraverserSet<>();
 
     public RepeatStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -103,6 +106,20 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         return list;
     }
 
+    /**
+     * Determines whether the repeat()-section is processed one loop at a time (OLTP only). If so, all the traversers
+     * of a loop are processed before any traverser of the next loop and the traversers of the next loop are merged
+     * in a {@link TraverserSet} so that traversers that reached the same object the same way are bulked. Note that
+     * this makes {@code repeat()} a barrier of its loops.
+     */
+    public void setBreadthFirst(final boolean breadthFirst) {
+        this.breadthFirst = breadthFirst;
+    }
+
+    public boolean isBreadthFirst() {
+        return this.breadthFirst;
+    }
+
     public final boolean doUntil(final Traverser.Admin<S> traverser, boolean utilFirst) {
         return utilFirst == this.untilFirst && null != this.untilTraversal && TraversalUtil.test(traverser, this.untilTraversal);
     }
@@ -113,14 +130,15 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
 
     @Override
     public String toString() {
+        final String breadthFirstString = this.breadthFirst ? "breadthFirst" : null;
         if (this.untilFirst && this.emitFirst)
-            return StringFactory.stepString(this, untilString(), emitString(), this.repeatTraversal);
+            return StringFactory.stepString(this, untilString(), emitString(), this.repeatTraversal, breadthFirstString);
         else if (this.emitFirst)
-            return StringFactory.stepString(this, emitString(), this.repeatTraversal, untilString());
+            return StringFactory.stepString(this, emitString(), this.repeatTraversal, untilString(), breadthFirstString);
         else if (this.untilFirst)
-            return StringFactory.stepString(this, untilString(), this.repeatTraversal, emitString());
+            return StringFactory.stepString(this, untilString(), this.repeatTraversal, emitString(), breadthFirstString);
         else
-            return StringFactory.stepString(this, this.repeatTraversal, untilString(), emitString());
+            return StringFactory.stepString(this, this.repeatTraversal, untilString(), emitString(), breadthFirstString);
     }
 
     private final String untilString() {
@@ -141,6 +159,7 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             clone.untilTraversal = this.untilTraversal.clone();
         if (null != this.emitTraversal)
             clone.emitTraversal = this.emitTraversal.clone();
+        clone.frontier = new TraverserSet<>();
         return clone;
     }
 
@@ -157,6 +176,7 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         int result = super.hashCode() ^ this.repeatTraversal.hashCode();
         result ^= Boolean.hashCode(this.untilFirst);
         result ^= Boolean.hashCode(this.emitFirst) << 1;
+        result ^= Boolean.hashCode(this.breadthFirst) << 2;
         if (this.untilTraversal != null)
             result ^= this.untilTraversal.hashCode();
         if (this.emitTraversal != null)
@@ -164,8 +184,16 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         return result;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        this.frontier.clear();
+    }
+
     @Override
     protected Iterator<Traverser.Admin<S>> standardAlgorithm() throws NoSuchElementException {
+        if (this.breadthFirst)
+            return this.breadthFirstAlgorithm();
         while (true) {
             if (this.repeatTraversal.getEndStep().hasNext()) {
                 return this.repeatTraversal.getEndStep();
@@ -185,6 +213,37 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         }
     }
 
+    private Iterator<Traverser.Admin<S>> breadthFirstAlgorithm() throws NoSuchElementException {
+        while (true) {
+            if (this.repeatTraversal.getEndStep().hasNext())  // the current loop yields its until()/emit() traversers and fills the frontier
+                return this.repeatTraversal.getEndStep();
+            if (this.frontier.isEmpty()) {
+                this.frontier.add(this.starts.next());
+                while (this.starts.hasNext()) {
+                    this.frontier.add(this.starts.next());
+                }
+            }
+            final TraverserSet<S> loop = this.frontier;
+            this.frontier = new TraverserSet<>();
+            final List<Traverser.Admin<S>> ends = new ArrayList<>();
+            for (final Traverser.Admin<S> start : loop) {
+                if (doUntil(start, true)) {
+                    start.resetLoops();
+                    ends.add(start);
+                    continue;
+                }
+                this.repeatTraversal.addStart(start);
+                if (doEmit(start, true)) {
+                    final Traverser.Admin<S> emitSplit = start.split();
+                    emitSplit.resetLoops();
+                    ends.add(emitSplit);
+                }
+            }
+            if (!ends.isEmpty())
+                return ends.iterator();
+        }
+    }
+
     @Override
     protected Iterator<Traverser.Admin<S>> computerAlgorithm() throws NoSuchElementException {
         final Traverser.Admin<S> start = this.starts.next();
@@ -262,7 +321,9 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
                     start.resetLoops();
                     return IteratorUtils.of(start);
                 } else {
-                    if (!repeatStep.untilFirst && !repeatStep.emitFirst)
+                    if (repeatStep.breadthFirst)
+                        repeatStep.frontier.add(start);
+                    else if (!repeatStep.untilFirst && !repeatStep.emitFirst)
                         repeatStep.repeatTraversal.addStart(start);
                     else
                         repeatStep.addStart(start);
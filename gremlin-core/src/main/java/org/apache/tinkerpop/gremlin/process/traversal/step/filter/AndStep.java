@@ -20,7 +20,6 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.filter;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
-import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -33,10 +32,6 @@ public final class AndStep<S> extends ConnectiveStep<S> {
 
     @Override
     protected boolean filter(final Traverser.Admin<S> traverser) {
-        for (final Traversal.Admin<S, ?> traversal : this.traversals) {
-            if (!TraversalUtil.test(traverser, traversal))
-                return false;
-        }
-        return true;
+        return this.test(traverser, Connective.AND);
     }
 }
\ No newline at end of file
@@ -19,9 +19,13 @@
 package org.apache.tinkerpop.gremlin.process.traversal.step.filter;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Memoizing;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
-import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.MemoCache;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 import java.util.ArrayList;
@@ -31,14 +35,32 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
+ * A ConnectiveStep evaluates its child traversals until the result of the connective is known. If the children are
+ * side-effect free, their evaluation order is periodically re-ranked by their measured pass rate and cost so that the
+ * children most likely to decide the connective cheaply are evaluated first.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public abstract class ConnectiveStep<S> extends FilterStep<S> implements TraversalParent {
+public abstract class ConnectiveStep<S> extends FilterStep<S> implements TraversalParent, Memoizing {
 
     public enum Connective {AND, OR}
 
+    private static final int RANK_INTERVAL = 1000;
+    // only every TIMING_INTERVAL-th traverser of a RANK_INTERVAL is timed as System.nanoTime() is not free
+    private static final int TIMING_INTERVAL = 16;
+
     protected List<Traversal.Admin<S, ?>> traversals;
 
+    private int[] order;
+    private boolean rankable;
+    private long[] evaluations;
+    private long[] passes;
+    private long[] nanos;
+    private long[] timings;
+    private int untilRank;
+    private int memoSize = 0;
+    private transient MemoCache<Boolean> memo;
+
     public ConnectiveStep(final Traversal.Admin traversal, final Traversal<S, ?>... traversals) {
         super(traversal);
         this.traversals = Stream.of(traversals).map(Traversal::asAdmin).collect(Collectors.toList());
@@ -57,6 +79,126 @@ public abstract class ConnectiveStep<S> extends FilterStep<S> implements Travers
 
     public void addLocalChild(final Traversal.Admin<?, ?> localChildTraversal) {
         this.traversals.add(this.integrateChild((Traversal.Admin) localChildTraversal));
+        this.order = null;
+    }
+
+    @Override
+    public void setMemoSize(final int memoSize) {
+        this.memoSize = memoSize;
+        this.memo = null;
+    }
+
+    @Override
+    public int getMemoSize() {
+        return this.memoSize;
+    }
+
+    /**
+     * Get the order in which the child traversals are currently evaluated.
+     *
+     * @return the indices of the child traversals in evaluation order
+     */
+    public int[] getEvaluationOrder() {
+        if (null == this.order)
+            this.initializeOrder();
+        return this.order.clone();
+    }
+
+    /**
+     * Test the traverser against the child traversals, which are evaluated until the result of the connective is known.
+     *
+     * @param traverser  the traverser to test
+     * @param connective whether all or any of the children must produce a result
+     * @return whether the traverser passes the connective
+     */
+    protected boolean test(final Traverser.Admin<S> traverser, final Connective connective) {
+        if (this.memoSize > 0) {
+            if (null == this.memo)
+                this.memo = new MemoCache<>(this.memoSize);
+            final Object object = traverser.get();
+            Boolean result = this.memo.get(object);
+            if (null == result) {
+                result = this.testChildren(traverser, connective);
+                this.memo.put(object, result);
+            }
+            return result;
+        }
+        return this.testChildren(traverser, connective);
+    }
+
+    private boolean testChildren(final Traverser.Admin<S> traverser, final Connective connective) {
+        if (null == this.order)
+            this.initializeOrder();
+        final boolean and = Connective.AND == connective;
+        if (!this.rankable) {
+            for (final Traversal.Admin<S, ?> traversal : this.traversals) {
+                if (TraversalUtil.test(traverser, traversal) != and)
+                    return !and;
+            }
+            return and;
+        }
+        if (--this.untilRank <= 0)
+            this.rank(and);
+        final boolean timed = this.untilRank % TIMING_INTERVAL == 0;
+        for (final int i : this.order) {
+            final boolean pass;
+            if (timed) {
+                final long start = System.nanoTime();
+                pass = TraversalUtil.test(traverser, this.traversals.get(i));
+                this.nanos[i] += System.nanoTime() - start;
+                this.timings[i]++;
+            } else
+                pass = TraversalUtil.test(traverser, this.traversals.get(i));
+            this.evaluations[i]++;
+            if (pass)
+                this.passes[i]++;
+            if (pass != and)
+                return !and;
+        }
+        return and;
+    }
+
+    private void initializeOrder() {
+        final int size = this.traversals.size();
+        this.order = new int[size];
+        for (int i = 0; i < size; i++) {
+            this.order[i] = i;
+        }
+        this.rankable = size > 1 && this.traversals.stream().allMatch(TraversalHelper::isSideEffectFree);
+        this.evaluations = new long[size];
+        this.passes = new long[size];
+        this.nanos = new long[size];
+        this.timings = new long[size];
+        this.untilRank = RANK_INTERVAL;
+    }
+
+    /**
+     * Order the children by their expected cost to decide the connective. For {@code and()} that is the average cost
+     * of a child divided by its rate of rejection and for {@code or()} its average cost divided by its pass rate.
+     * The average cost is taken from the sampled evaluations that were timed.
+     * The statistics are halved afterwards so that the order adapts when the traversers change.
+     */
+    private void rank(final boolean and) {
+        final double[] ranks = new double[this.order.length];
+        for (int i = 0; i < ranks.length; i++) {
+            final double passRate = (this.passes[i] + 1.0d) / (this.evaluations[i] + 2.0d);
+            final double cost = (this.nanos[i] + 1.0d) / (this.timings[i] + 1.0d);
+            ranks[i] = cost / (and ? 1.0d - passRate : passRate);
+            this.evaluations[i] = this.evaluations[i] / 2;
+            this.passes[i] = this.passes[i] / 2;
+            this.nanos[i] = this.nanos[i] / 2;
+            this.timings[i] = this.timings[i] / 2;
+        }
+        for (int i = 1; i < this.order.length; i++) {
+            final int index = this.order[i];
+            int j = i - 1;
+            while (j >= 0 && ranks[this.order[j]] > ranks[index]) {
+                this.order[j + 1] = this.order[j];
+                j--;
+            }
+            this.order[j + 1] = index;
+        }
+        this.untilRank = RANK_INTERVAL;
     }
 
     @Override
@@ -66,6 +208,8 @@ public abstract class ConnectiveStep<S> extends FilterStep<S> implements Travers
         for (final Traversal.Admin<S, ?> traversal : this.traversals) {
             clone.traversals.add(traversal.clone());
         }
+        clone.order = null;
+        clone.memo = null;
         return clone;
     }
 
@@ -28,32 +28,58 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.GraphComputing;
 import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Spillable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.BloomFilter;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.DuplicateFilter;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ElementIdSet;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HashDuplicateFilter;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.SpillableDuplicateFilter;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BinaryOperator;
 
 /**
+ * Filters traversers whose dedup object has been seen before. By default, the seen objects are held in a
+ * {@link HashDuplicateFilter}. With {@link #setBloomFilter(long, double)} they are held in a fixed-size
+ * {@link BloomFilter} instead, which may filter a small fraction of distinct objects. When {@link #isSpillable()},
+ * they are held in an {@link ElementIdSet} which stores element ids as primitives, at most
+ * {@link #getSpillThreshold()} objects are held in memory and the remaining
+ * traversers are deduplicated on disk by a {@link SpillableDuplicateFilter}. The traversers deduplicated on disk are
+ * emitted after all the traversers deduplicated in memory, so once the threshold is reached the output is no longer in
+ * the order in which the distinct objects were first seen.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class DedupGlobalStep<S> extends FilterStep<S> implements TraversalParent, Scoping, GraphComputing, Barrier<Map<Object, Traverser.Admin<S>>>, ByModulating, PathProcessor {
+public final class DedupGlobalStep<S> extends FilterStep<S> implements TraversalParent, Scoping, GraphComputing, Barrier<Map<Object, Traverser.Admin<S>>>, ByModulating, PathProcessor, Spillable, AutoCloseable {
 
     private Traversal.Admin<S, Object> dedupTraversal = null;
-    private Set<Object> duplicateSet = new HashSet<>();
+    private DuplicateFilter duplicateFilter = null;
+    private long expectedInsertions = 0l;
+    private double falsePositiveProbability = 0.0d;
+    private int spillThreshold = Integer.MAX_VALUE;
+    private File spillDirectory = null;
+    private SpillableDuplicateFilter<S> spillFilter = null;
+    private Iterator<Traverser.Admin<S>> spilledTraversers = null;
     private boolean onGraphComputer = false;
     private final Set<String> dedupLabels;
     private Set<String> keepLabels;
@@ -68,15 +94,66 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
     protected boolean filter(final Traverser.Admin<S> traverser) {
         if (this.onGraphComputer && !this.executingAtMaster) return true;
         traverser.setBulk(1);
+        return this.getDuplicateFilter().add(this.getDedupObject(traverser));
+    }
+
+    private Object getDedupObject(final Traverser.Admin<S> traverser) {
         if (null == this.dedupLabels) {
-            return this.duplicateSet.add(TraversalUtil.applyNullable(traverser, this.dedupTraversal));
+            return TraversalUtil.applyNullable(traverser, this.dedupTraversal);
         } else {
             final List<Object> objects = new ArrayList<>(this.dedupLabels.size());
             this.dedupLabels.forEach(label -> objects.add(TraversalUtil.applyNullable((S) this.getScopeValue(Pop.last, label, traverser), this.dedupTraversal)));
-            return this.duplicateSet.add(objects);
+            return objects;
         }
     }
 
+    /**
+     * Deduplicate with a {@link BloomFilter} sized for the expected number of distinct objects and false-positive
+     * probability. A false positive filters a distinct object as if it were a duplicate.
+     */
+    public void setBloomFilter(final long expectedInsertions, final double falsePositiveProbability) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.duplicateFilter = null;
+    }
+
+    public boolean usesBloomFilter() {
+        return this.falsePositiveProbability > 0.0d;
+    }
+
+    private DuplicateFilter getDuplicateFilter() {
+        // the filter is created on first use as the strategies configure the step after it is constructed
+        if (null == this.duplicateFilter) {
+            if (this.usesBloomFilter())
+                this.duplicateFilter = new BloomFilter(this.expectedInsertions, this.falsePositiveProbability);
+            else if (this.isSpillable())
+                this.duplicateFilter = new ElementIdSet();
+            else
+                this.duplicateFilter = new HashDuplicateFilter();
+        }
+        return this.duplicateFilter;
+    }
+
+    @Override
+    public void setSpillThreshold(final int spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    @Override
+    public int getSpillThreshold() {
+        return this.spillThreshold;
+    }
+
+    @Override
+    public void setSpillDirectory(final File spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public File getSpillDirectory() {
+        return this.spillDirectory;
+    }
+
     @Override
     public void atMaster(final boolean atMaster) {
         this.executingAtMaster = atMaster;
@@ -89,7 +166,33 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
 
     @Override
     protected Traverser.Admin<S> processNextStart() {
-        return PathProcessor.processTraverserPathLabels(super.processNextStart(), this.keepLabels);
+        // a bloom filter is already bounded in size so there is nothing to spill
+        if (!this.isSpillable() || this.usesBloomFilter() || this.onGraphComputer)
+            return PathProcessor.processTraverserPathLabels(super.processNextStart(), this.keepLabels);
+        return PathProcessor.processTraverserPathLabels(this.processNextSpillableStart(), this.keepLabels);
+    }
+
+    private Traverser.Admin<S> processNextSpillableStart() {
+        if (null == this.spillFilter)
+            this.spillFilter = new SpillableDuplicateFilter<>(this.getDuplicateFilter(), this.spillThreshold, this.spillDirectory);
+        while (true) {
+            if (null != this.spilledTraversers && this.spilledTraversers.hasNext()) {
+                final Traverser.Admin<S> traverser = this.spilledTraversers.next();
+                traverser.setSideEffects(this.getTraversal().getSideEffects());
+                final Optional<Graph> graph = this.getTraversal().getGraph();
+                if (graph.isPresent())
+                    traverser.attach(Attachable.Method.get(graph.get()));
+                return traverser;
+            } else if (this.starts.hasNext()) {
+                final Traverser.Admin<S> traverser = this.starts.next();
+                traverser.setBulk(1l);
+                if (this.spillFilter.filter(this.getDedupObject(traverser), traverser))
+                    return traverser;
+            } else if (this.spillFilter.hasPending()) {
+                this.spilledTraversers = this.spillFilter.drain();
+            } else
+                throw FastNoSuchElementException.instance();
+        }
     }
 
     @Override
@@ -105,7 +208,9 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
     @Override
     public DedupGlobalStep<S> clone() {
         final DedupGlobalStep<S> clone = (DedupGlobalStep<S>) super.clone();
-        clone.duplicateSet = new HashSet<>();
+        clone.duplicateFilter = null;
+        clone.spillFilter = null;
+        clone.spilledTraversers = null;
         if (null != this.dedupTraversal)
             clone.dedupTraversal = this.dedupTraversal.clone();
         return clone;
@@ -130,7 +235,17 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
     @Override
     public void reset() {
         super.reset();
-        this.duplicateSet.clear();
+        this.duplicateFilter = null;
+        this.close();
+    }
+
+    @Override
+    public void close() {
+        if (null != this.spillFilter) {
+            this.spillFilter.close();
+            this.spillFilter = null;
+        }
+        this.spilledTraversers = null;
     }
 
     @Override
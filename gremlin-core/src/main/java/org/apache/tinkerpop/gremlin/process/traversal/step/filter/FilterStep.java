@@ -41,4 +41,11 @@ public abstract class FilterStep<S> extends AbstractStep<S, S> {
     }
 
     protected abstract boolean filter(final Traverser.Admin<S> traverser);
+
+    /**
+     * Apply the filter of this step to a traverser that is not pulled through the step itself (see {@link org.apache.tinkerpop.gremlin.process.traversal.step.util.FusedStep}).
+     */
+    public final boolean applyFilter(final Traverser.Admin<S> traverser) {
+        return this.filter(traverser);
+    }
 }
@@ -20,7 +20,9 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.filter;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Memoizing;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.MemoCache;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -32,9 +34,11 @@ import java.util.Set;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class TraversalFilterStep<S> extends FilterStep<S> implements TraversalParent {
+public final class TraversalFilterStep<S> extends FilterStep<S> implements TraversalParent, Memoizing {
 
     private Traversal.Admin<S, ?> filterTraversal;
+    private int memoSize = 0;
+    private transient MemoCache<Boolean> memo;
 
     public TraversalFilterStep(final Traversal.Admin traversal, final Traversal<S, ?> filterTraversal) {
         super(traversal);
@@ -43,9 +47,31 @@ public final class TraversalFilterStep<S> extends FilterStep<S> implements Trave
 
     @Override
     protected boolean filter(final Traverser.Admin<S> traverser) {
+        if (this.memoSize > 0) {
+            if (null == this.memo)
+                this.memo = new MemoCache<>(this.memoSize);
+            final Object object = traverser.get();
+            Boolean result = this.memo.get(object);
+            if (null == result) {
+                result = TraversalUtil.test(traverser, this.filterTraversal);
+                this.memo.put(object, result);
+            }
+            return result;
+        }
         return TraversalUtil.test(traverser, this.filterTraversal);
     }
 
+    @Override
+    public void setMemoSize(final int memoSize) {
+        this.memoSize = memoSize;
+        this.memo = null;
+    }
+
+    @Override
+    public int getMemoSize() {
+        return this.memoSize;
+    }
+
     @Override
     public List<Traversal.Admin<S, ?>> getLocalChildren() {
         return Collections.singletonList(this.filterTraversal);
@@ -55,6 +81,7 @@ public final class TraversalFilterStep<S> extends FilterStep<S> implements Trave
     public TraversalFilterStep<S> clone() {
         final TraversalFilterStep<S> clone = (TraversalFilterStep<S>) super.clone();
         clone.filterTraversal = this.filterTraversal.clone();
+        clone.memo = null;
         return clone;
     }
 
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HyperLogLog;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+
+import java.io.Serializable;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Estimates the number of distinct objects in the traverser stream with a {@link HyperLogLog}. Unlike
+ * {@code dedup().count()}, the memory used is constant and the partial sketches of different workers can be merged.
+ *
+ * @author agent (agent@local)
+ */
+public final class ApproxDistinctCountStep<S, E> extends ReducingBarrierStep<S, E> {
+
+    private static final Set<TraverserRequirement> REQUIREMENTS = EnumSet.of(TraverserRequirement.OBJECT);
+
+    public ApproxDistinctCountStep(final Traversal.Admin traversal) {
+        super(traversal);
+        this.setSeedSupplier((Supplier) HyperLogLogSupplier.INSTANCE);
+        this.setReducingBiOperator(HyperLogLogBiOperator.INSTANCE);
+    }
+
+    @Override
+    public E projectTraverser(final Traverser.Admin<S> traverser) {
+        return (E) HyperLogLog.of(traverser.get());
+    }
+
+    @Override
+    protected E reduce(final E hyperLogLog, final Traverser.Admin<S> traverser) {
+        ((HyperLogLog) hyperLogLog).add(traverser.get());
+        return hyperLogLog;
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return REQUIREMENTS;
+    }
+
+    @Override
+    public E generateFinalResult(final E hyperLogLog) {
+        return (E) (Long) ((HyperLogLog) hyperLogLog).cardinality();
+    }
+
+    /////
+
+    public static final class HyperLogLogSupplier implements Supplier<HyperLogLog>, Serializable {
+
+        private static final HyperLogLogSupplier INSTANCE = new HyperLogLogSupplier();
+
+        private HyperLogLogSupplier() {
+        }
+
+        @Override
+        public HyperLogLog get() {
+            return new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        }
+
+        public static HyperLogLogSupplier instance() {
+            return INSTANCE;
+        }
+    }
+
+    public static final class HyperLogLogBiOperator<S> implements BinaryOperator<S>, Serializable {
+
+        private static final HyperLogLogBiOperator INSTANCE = new HyperLogLogBiOperator();
+
+        private HyperLogLogBiOperator() {
+        }
+
+        @Override
+        public S apply(final S mutatingSeed, final S hyperLogLog) {
+            return (S) ((HyperLogLog) mutatingSeed).merge((HyperLogLog) hyperLogLog);
+        }
+
+        public static <S> HyperLogLogBiOperator<S> instance() {
+            return INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.QuantileSketch;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Computes approximate quantiles of a stream of numbers with a {@link QuantileSketch}. The result is a map from each
+ * requested quantile to its approximate value. Unlike {@code order()}, the memory used is bounded and the partial
+ * sketches of different workers can be merged.
+ *
+ * @author agent (agent@local)
+ */
+public final class ApproxQuantileStep<S extends Number, E> extends ReducingBarrierStep<S, E> {
+
+    private static final Set<TraverserRequirement> REQUIREMENTS = EnumSet.of(TraverserRequirement.OBJECT, TraverserRequirement.BULK);
+
+    private final double[] quantiles;
+
+    public ApproxQuantileStep(final Traversal.Admin traversal, final double... quantiles) {
+        super(traversal);
+        if (0 == quantiles.length)
+            throw new IllegalArgumentException("At least one quantile must be provided");
+        for (final double quantile : quantiles) {
+            if (quantile < 0.0d || quantile > 1.0d)
+                throw new IllegalArgumentException("A quantile must be between 0.0 and 1.0: " + quantile);
+        }
+        this.quantiles = quantiles;
+        this.setSeedSupplier((Supplier) QuantileSketchSupplier.INSTANCE);
+        this.setReducingBiOperator(QuantileSketchBiOperator.INSTANCE);
+    }
+
+    public double[] getQuantiles() {
+        return this.quantiles;
+    }
+
+    @Override
+    public E projectTraverser(final Traverser.Admin<S> traverser) {
+        return (E) QuantileSketch.of(traverser.get(), traverser.bulk());
+    }
+
+    @Override
+    protected E reduce(final E sketch, final Traverser.Admin<S> traverser) {
+        ((QuantileSketch) sketch).add(traverser.get(), traverser.bulk());
+        return sketch;
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return REQUIREMENTS;
+    }
+
+    @Override
+    public E generateFinalResult(final E sketch) {
+        final Map<Double, Double> result = new LinkedHashMap<>();
+        if (!((QuantileSketch) sketch).isEmpty()) {
+            for (final double quantile : this.quantiles) {
+                result.put(quantile, ((QuantileSketch) sketch).quantile(quantile));
+            }
+        }
+        return (E) result;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, Arrays.toString(this.quantiles));
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ Arrays.hashCode(this.quantiles);
+    }
+
+    /////
+
+    public static final class QuantileSketchSupplier implements Supplier<QuantileSketch>, Serializable {
+
+        private static final QuantileSketchSupplier INSTANCE = new QuantileSketchSupplier();
+
+        private QuantileSketchSupplier() {
+        }
+
+        @Override
+        public QuantileSketch get() {
+            return new QuantileSketch(QuantileSketch.DEFAULT_K);
+        }
+
+        public static QuantileSketchSupplier instance() {
+            return INSTANCE;
+        }
+    }
+
+    public static final class QuantileSketchBiOperator<S> implements BinaryOperator<S>, Serializable {
+
+        private static final QuantileSketchBiOperator INSTANCE = new QuantileSketchBiOperator();
+
+        private QuantileSketchBiOperator() {
+        }
+
+        @Override
+        public S apply(final S mutatingSeed, final S sketch) {
+            return (S) ((QuantileSketch) mutatingSeed).merge((QuantileSketch) sketch);
+        }
+
+        public static <S> QuantileSketchBiOperator<S> instance() {
+            return INSTANCE;
+        }
+    }
+}
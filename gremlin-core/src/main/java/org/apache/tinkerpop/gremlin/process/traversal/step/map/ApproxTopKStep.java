@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TopKSketch;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.io.Serializable;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Finds the approximate {@code k} most frequent objects of the traverser stream with a {@link TopKSketch}. The result
+ * is a map from object to approximate count in descending order of count. Unlike {@code groupCount()}, the number of
+ * counters is bounded and the partial sketches of different workers can be merged.
+ *
+ * @author agent (agent@local)
+ */
+public final class ApproxTopKStep<S, E> extends ReducingBarrierStep<S, E> {
+
+    private static final Set<TraverserRequirement> REQUIREMENTS = EnumSet.of(TraverserRequirement.OBJECT, TraverserRequirement.BULK);
+
+    private static final int MIN_CAPACITY = 100;
+    private static final int CAPACITY_FACTOR = 10;
+
+    private final int k;
+    private final int capacity;
+
+    public ApproxTopKStep(final Traversal.Admin traversal, final int k) {
+        super(traversal);
+        if (k < 1)
+            throw new IllegalArgumentException("The k of approxTopK() must be at least 1: " + k);
+        this.k = k;
+        this.capacity = Math.max(MIN_CAPACITY, CAPACITY_FACTOR * k);
+        this.setSeedSupplier(new TopKSketchSupplier<>(this.capacity));
+        this.setReducingBiOperator(TopKSketchBiOperator.INSTANCE);
+    }
+
+    public int getK() {
+        return this.k;
+    }
+
+    @Override
+    public E projectTraverser(final Traverser.Admin<S> traverser) {
+        return (E) TopKSketch.of(traverser.get(), traverser.bulk(), this.capacity);
+    }
+
+    @Override
+    protected E reduce(final E sketch, final Traverser.Admin<S> traverser) {
+        ((TopKSketch) sketch).add(traverser.get(), traverser.bulk());
+        return sketch;
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return REQUIREMENTS;
+    }
+
+    @Override
+    public E generateFinalResult(final E sketch) {
+        return (E) ((TopKSketch) sketch).topK(this.k);
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.k);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ Integer.hashCode(this.k);
+    }
+
+    /////
+
+    public static final class TopKSketchSupplier<E> implements Supplier<E>, Serializable {
+
+        private final int capacity;
+
+        public TopKSketchSupplier(final int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public E get() {
+            return (E) new TopKSketch(this.capacity);
+        }
+    }
+
+    public static final class TopKSketchBiOperator<S> implements BinaryOperator<S>, Serializable {
+
+        private static final TopKSketchBiOperator INSTANCE = new TopKSketchBiOperator();
+
+        private TopKSketchBiOperator() {
+        }
+
+        @Override
+        public S apply(final S mutatingSeed, final S sketch) {
+            return (S) ((TopKSketch) mutatingSeed).merge((TopKSketch) sketch);
+        }
+
+        public static <S> TopKSketchBiOperator<S> instance() {
+            return INSTANCE;
+        }
+    }
+}
@@ -20,7 +20,9 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Memoizing;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.MemoCache;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
@@ -35,9 +37,11 @@ import java.util.Set;
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
  */
-public final class CoalesceStep<S, E> extends FlatMapStep<S, E> implements TraversalParent {
+public final class CoalesceStep<S, E> extends FlatMapStep<S, E> implements TraversalParent, Memoizing {
 
     private List<Traversal.Admin<S, E>> coalesceTraversals;
+    private int memoSize = 0;
+    private transient MemoCache<List<E>> memo;
 
     @SafeVarargs
     public CoalesceStep(final Traversal.Admin traversal, final Traversal.Admin<S, E>... coalesceTraversals) {
@@ -50,6 +54,22 @@ public final class CoalesceStep<S, E> extends FlatMapStep<S, E> implements Trave
 
     @Override
     protected Iterator<E> flatMap(final Traverser.Admin<S> traverser) {
+        if (this.memoSize > 0) {
+            if (null == this.memo)
+                this.memo = new MemoCache<>(this.memoSize);
+            final Object key = MemoCache.key(traverser);
+            List<E> ends = this.memo.get(key);
+            if (null == ends) {
+                ends = new ArrayList<>();
+                this.coalesce(traverser).forEachRemaining(ends::add);
+                this.memo.put(key, ends);
+            }
+            return ends.iterator();
+        }
+        return this.coalesce(traverser);
+    }
+
+    private Iterator<E> coalesce(final Traverser.Admin<S> traverser) {
         for (final Traversal.Admin<S, E> coalesceTraversal : this.coalesceTraversals) {
             coalesceTraversal.reset();
             coalesceTraversal.addStart(traverser.split());
@@ -69,6 +89,17 @@ public final class CoalesceStep<S, E> extends FlatMapStep<S, E> implements Trave
         return Collections.unmodifiableList(this.coalesceTraversals);
     }
 
+    @Override
+    public void setMemoSize(final int memoSize) {
+        this.memoSize = memoSize;
+        this.memo = null;
+    }
+
+    @Override
+    public int getMemoSize() {
+        return this.memoSize;
+    }
+
     @Override
     public CoalesceStep<S, E> clone() {
         final CoalesceStep<S, E> clone = (CoalesceStep<S, E>) super.clone();
@@ -76,6 +107,7 @@ public final class CoalesceStep<S, E> extends FlatMapStep<S, E> implements Trave
         for (final Traversal.Admin<S, E> conjunctionTraversal : this.coalesceTraversals) {
             clone.coalesceTraversals.add(conjunctionTraversal.clone());
         }
+        clone.memo = null;
         return clone;
     }
 
@@ -51,6 +51,13 @@ public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> {
 
     protected abstract Iterator<E> flatMap(final Traverser.Admin<S> traverser);
 
+    /**
+     * Apply the flatMap of this step to a traverser that is not pulled through the step itself (see {@link org.apache.tinkerpop.gremlin.process.traversal.step.util.FusedStep}).
+     */
+    public final Iterator<E> applyFlatMap(final Traverser.Admin<S> traverser) {
+        return this.flatMap(traverser);
+    }
+
     @Override
     public void reset() {
         super.reset();
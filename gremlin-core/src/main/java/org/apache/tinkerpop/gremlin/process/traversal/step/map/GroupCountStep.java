@@ -19,17 +19,25 @@
 
 package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Memoizing;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Spillable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Windowed;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.MapHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.MemoCache;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.SpillableMap;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.HashMapSupplier;
 
+import java.io.File;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,13 +45,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Long>> implements TraversalParent, ByModulating {
+public final class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Long>> implements TraversalParent, ByModulating, Spillable, Windowed, Memoizing {
 
     private Traversal.Admin<S, E> keyTraversal = null;
+    private int spillThreshold = Integer.MAX_VALUE;
+    private File spillDirectory = null;
+    private SpillableMap<E, Long> spillableMap = null;
+    private boolean hasSpillProcessedOnce = false;
+    private int memoSize = 0;
+    private transient MemoCache<E> memo;
 
     public GroupCountStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -54,10 +69,75 @@ public final class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Lo
     @Override
     public Map<E, Long> projectTraverser(final Traverser.Admin<S> traverser) {
         final Map<E, Long> map = new HashMap<>(1);
-        map.put(TraversalUtil.applyNullable(traverser, this.keyTraversal), traverser.bulk());
+        if (this.memoSize > 0 && null == this.memo)
+            this.memo = new MemoCache<>(this.memoSize);
+        map.put(TraversalUtil.applyNullable(traverser, this.keyTraversal, this.memo), traverser.bulk());
         return map;
     }
 
+    @Override
+    public void setSpillThreshold(final int spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    @Override
+    public int getSpillThreshold() {
+        return this.spillThreshold;
+    }
+
+    @Override
+    public void setSpillDirectory(final File spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public File getSpillDirectory() {
+        return this.spillDirectory;
+    }
+
+    @Override
+    public void processAllStarts() {
+        if (!this.isSpillable()) {
+            super.processAllStarts();
+            return;
+        }
+        if (this.hasSpillProcessedOnce && !this.starts.hasNext())
+            return;
+        this.hasSpillProcessedOnce = true;
+        if (null == this.spillableMap)
+            this.spillableMap = new SpillableMap<>(this.getBiOperator(), this.spillThreshold, this.spillDirectory, UnaryOperator.identity(), SpillableMap.attach(this.getTraversal()), UnaryOperator.identity());
+        while (this.starts.hasNext()) {
+            if (this.windowExpired())
+                break;
+            this.spillableMap.add(this.projectTraverser(this.starts.next()));
+            if (this.closeWindow())
+                break;
+        }
+    }
+
+    @Override
+    public Traverser.Admin<Map<E, Long>> processNextStart() {
+        if (!this.isSpillable())
+            return super.processNextStart();
+        this.processAllStarts();
+        if (null == this.spillableMap)
+            throw FastNoSuchElementException.instance();
+        final Map<E, Long> map = this.spillableMap.reduce(UnaryOperator.identity());
+        this.spillableMap.close();
+        this.spillableMap = null;
+        return this.getTraversal().getTraverserGenerator().generate(map, (Step) this, 1l);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.hasSpillProcessedOnce = false;
+        if (null != this.spillableMap) {
+            this.spillableMap.close();
+            this.spillableMap = null;
+        }
+    }
+
     @Override
     public void addLocalChild(final Traversal.Admin<?, ?> groupTraversal) {
         this.keyTraversal = this.integrateChild(groupTraversal);
@@ -78,11 +158,25 @@ public final class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Lo
         this.keyTraversal = this.integrateChild(keyTraversal);
     }
 
+    @Override
+    public void setMemoSize(final int memoSize) {
+        this.memoSize = memoSize;
+        this.memo = null;
+    }
+
+    @Override
+    public int getMemoSize() {
+        return this.memoSize;
+    }
+
     @Override
     public GroupCountStep<S, E> clone() {
         final GroupCountStep<S, E> clone = (GroupCountStep<S, E>) super.clone();
         if (null != this.keyTraversal)
             clone.keyTraversal = this.keyTraversal.clone();
+        clone.spillableMap = null;
+        clone.hasSpillProcessedOnce = false;
+        clone.memo = null;
         return clone;
     }
 
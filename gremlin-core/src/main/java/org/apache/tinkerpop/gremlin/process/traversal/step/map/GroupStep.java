@@ -30,18 +30,26 @@ import org.apache.tinkerpop.gremlin.process.traversal.lambda.TokenTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Memoizing;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Spillable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Windowed;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.MemoCache;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.SpillableMap;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.HashMapSupplier;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.javatuples.Pair;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
@@ -52,16 +60,23 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>> implements ByModulating, TraversalParent {
+public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>> implements ByModulating, TraversalParent, Spillable, Windowed, Memoizing {
 
     private char state = 'k';
     private Traversal.Admin<S, K> keyTraversal;
     private Traversal.Admin<S, ?> preTraversal;
     private Traversal.Admin<S, V> valueTraversal;
+    private int spillThreshold = Integer.MAX_VALUE;
+    private File spillDirectory = null;
+    private SpillableMap<K, V> spillableMap = null;
+    private boolean hasSpillProcessedOnce = false;
+    private int memoSize = 0;
+    private transient MemoCache<K> memo;
 
     public GroupStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -89,8 +104,10 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
     @Override
     public Map<K, V> projectTraverser(final Traverser.Admin<S> traverser) {
         final Map<K, V> map = new HashMap<>(1);
+        if (this.memoSize > 0 && null == this.memo)
+            this.memo = new MemoCache<>(this.memoSize);
         if (null == this.preTraversal) {
-            map.put(TraversalUtil.applyNullable(traverser, this.keyTraversal), (V) traverser);
+            map.put(TraversalUtil.applyNullable(traverser, this.keyTraversal, this.memo), (V) traverser);
         } else {
             final TraverserSet traverserSet = new TraverserSet<>();
             this.preTraversal.reset();
@@ -98,11 +115,74 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
             while(this.preTraversal.hasNext()) {
                 traverserSet.add(this.preTraversal.nextTraverser());
             }
-            map.put(TraversalUtil.applyNullable(traverser, this.keyTraversal), (V) traverserSet);
+            map.put(TraversalUtil.applyNullable(traverser, this.keyTraversal, this.memo), (V) traverserSet);
         }
         return map;
     }
 
+    @Override
+    public void setSpillThreshold(final int spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    @Override
+    public int getSpillThreshold() {
+        return this.spillThreshold;
+    }
+
+    @Override
+    public void setSpillDirectory(final File spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public File getSpillDirectory() {
+        return this.spillDirectory;
+    }
+
+    @Override
+    public void processAllStarts() {
+        if (!this.isSpillable()) {
+            super.processAllStarts();
+            return;
+        }
+        if (this.hasSpillProcessedOnce && !this.starts.hasNext())
+            return;
+        this.hasSpillProcessedOnce = true;
+        if (null == this.spillableMap)
+            this.spillableMap = GroupStep.createSpillableMap(this.getBiOperator(), this.spillThreshold, this.spillDirectory, this.getTraversal());
+        while (this.starts.hasNext()) {
+            if (this.windowExpired())
+                break;
+            this.spillableMap.add(this.projectTraverser(this.starts.next()));
+            if (this.closeWindow())
+                break;
+        }
+    }
+
+    @Override
+    public Traverser.Admin<Map<K, V>> processNextStart() {
+        if (!this.isSpillable())
+            return super.processNextStart();
+        this.processAllStarts();
+        if (null == this.spillableMap)
+            throw FastNoSuchElementException.instance();
+        final Map<K, V> map = this.spillableMap.reduce(partition -> GroupStep.doFinalReduction((Map<K, Object>) partition, this.valueTraversal));
+        this.spillableMap.close();
+        this.spillableMap = null;
+        return this.getTraversal().getTraverserGenerator().generate(map, (Step) this, 1l);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.hasSpillProcessedOnce = false;
+        if (null != this.spillableMap) {
+            this.spillableMap.close();
+            this.spillableMap = null;
+        }
+    }
+
     @Override
     public String toString() {
         return StringFactory.stepString(this, this.keyTraversal, this.valueTraversal);
@@ -124,6 +204,17 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
         return this.getSelfAndChildRequirements(TraverserRequirement.OBJECT, TraverserRequirement.BULK);
     }
 
+    @Override
+    public void setMemoSize(final int memoSize) {
+        this.memoSize = memoSize;
+        this.memo = null;
+    }
+
+    @Override
+    public int getMemoSize() {
+        return this.memoSize;
+    }
+
     @Override
     public GroupStep<S, K, V> clone() {
         final GroupStep<S, K, V> clone = (GroupStep<S, K, V>) super.clone();
@@ -131,6 +222,9 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
             clone.keyTraversal = this.keyTraversal.clone();
         clone.valueTraversal = this.valueTraversal.clone();
         clone.preTraversal = (Traversal.Admin<S, ?>) GroupStep.generatePreTraversal(clone.valueTraversal);
+        clone.spillableMap = null;
+        clone.hasSpillProcessedOnce = false;
+        clone.memo = null;
         return clone;
     }
 
@@ -347,6 +441,31 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
         return updated ? first : null;
     }
 
+    /**
+     * Create a {@link SpillableMap} for the reduction of group()-step maps whose values are (sets of) traversers or
+     * partial barriers. Spilled traversers are detached and get the traversal's side-effects back when read.
+     */
+    public static <K, V> SpillableMap<K, V> createSpillableMap(final BinaryOperator<Map<K, V>> groupBiOperator, final int spillThreshold,
+                                                               final File spillDirectory, final Traversal.Admin<?, ?> traversal) {
+        return new SpillableMap<>(groupBiOperator, spillThreshold, spillDirectory,
+                value -> GroupStep.forEachTraverser(value, Traverser.Admin::detach),
+                SpillableMap.attach(traversal),
+                value -> GroupStep.forEachTraverser(value, traverser -> {
+                    traverser.setSideEffects(traversal.getSideEffects());
+                    traversal.getGraph().ifPresent(graph -> traverser.attach(Attachable.Method.get(graph)));
+                }));
+    }
+
+    private static <V> V forEachTraverser(final V value, final Consumer<Traverser.Admin<?>> consumer) {
+        if (value instanceof Traverser.Admin)
+            consumer.accept((Traverser.Admin) value);
+        else if (value instanceof TraverserSet)
+            ((TraverserSet<?>) value).forEach(consumer);
+        else if (value instanceof Pair && ((Pair) value).getValue0() instanceof TraverserSet)
+            ((TraverserSet<?>) ((Pair) value).getValue0()).forEach(consumer);
+        return value;
+    }
+
     public static <K, V> Map<K, V> doFinalReduction(final Map<K, Object> map, final Traversal.Admin<?, V> valueTraversal) {
         final Map<K, V> reducedMap = new HashMap<>(map.size());
         final Barrier reducingBarrierStep = TraversalHelper.getFirstStepOfAssignableClass(Barrier.class, valueTraversal).orElse(null);
@@ -39,5 +39,12 @@ public abstract class MapStep<S, E> extends AbstractStep<S, E> {
 
     protected abstract E map(final Traverser.Admin<S> traverser);
 
+    /**
+     * Apply the map of this step to a traverser that is not pulled through the step itself (see {@link org.apache.tinkerpop.gremlin.process.traversal.step.util.FusedStep}).
+     */
+    public final E applyMap(final Traverser.Admin<S> traverser) {
+        return this.map(traverser);
+    }
+
 }
 
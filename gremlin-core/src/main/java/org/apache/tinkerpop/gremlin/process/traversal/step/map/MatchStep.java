@@ -18,23 +18,32 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
 import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.Pop;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.AndStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ConnectiveStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.NotStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WherePredicateStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ComputerAwareStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ConnectiveStrategy;
@@ -42,19 +51,27 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.Path
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.process.traversal.util.PathUtil;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.util.GraphStatistics;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -357,26 +374,28 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
 
     @Override
     protected Iterator<Traverser.Admin<Map<String, E>>> standardAlgorithm() throws NoSuchElementException {
+        if (this.first) {
+            this.first = false;
+            this.initializeMatchAlgorithm(TraversalEngine.Type.STANDARD);
+            if (null != this.keepLabels &&
+                    this.keepLabels.containsAll(this.matchEndLabels) &&
+                    this.keepLabels.containsAll(this.matchStartLabels))
+                this.keepLabels = null;
+        }
+        if (this.connective == ConnectiveStep.Connective.AND && this.matchAlgorithm instanceof HashJoinMatchAlgorithm)
+            return this.hashJoinAlgorithm();
         while (true) {
-            if (this.first) {
-                this.first = false;
-                this.initializeMatchAlgorithm(TraversalEngine.Type.STANDARD);
-                if (null != this.keepLabels &&
-                        this.keepLabels.containsAll(this.matchEndLabels) &&
-                        this.keepLabels.containsAll(this.matchStartLabels))
-                    this.keepLabels = null;
-            } else { // TODO: if(standardAlgorithmBarrier.isEmpty()) -- leads to consistent counts without retracting paths, but orders of magnitude slower (or make Traverser.tags an equality concept)
-                boolean stop = false;
-                for (final Traversal.Admin<?, ?> matchTraversal : this.matchTraversals) {
-                    while (matchTraversal.hasNext()) { // TODO: perhaps make MatchStep a LocalBarrierStep ??
-                        this.standardAlgorithmBarrier.add(matchTraversal.nextTraverser());
-                        if (null == this.keepLabels || this.standardAlgorithmBarrier.size() >= PathRetractionStrategy.MAX_BARRIER_SIZE) {
-                            stop = true;
-                            break;
-                        }
+            // TODO: if(standardAlgorithmBarrier.isEmpty()) -- leads to consistent counts without retracting paths, but orders of magnitude slower (or make Traverser.tags an equality concept)
+            boolean stop = false;
+            for (final Traversal.Admin<?, ?> matchTraversal : this.matchTraversals) {
+                while (matchTraversal.hasNext()) { // TODO: perhaps make MatchStep a LocalBarrierStep ??
+                    this.standardAlgorithmBarrier.add(matchTraversal.nextTraverser());
+                    if (null == this.keepLabels || this.standardAlgorithmBarrier.size() >= PathRetractionStrategy.MAX_BARRIER_SIZE) {
+                        stop = true;
+                        break;
                     }
-                    if (stop) break;
                 }
+                if (stop) break;
             }
             final Traverser.Admin traverser;
             if (this.standardAlgorithmBarrier.isEmpty()) {
@@ -409,6 +428,101 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
         }
     }
 
+    /**
+     * Solves all the currently available starts at once. Rather than pushing every partial solution through the
+     * next pattern, the partial solutions destined for a pattern are grouped by the values of the labels that the
+     * pattern references (i.e. the join key) and the pattern is evaluated once per group. The pattern's solutions
+     * are then joined back onto every partial solution of the group.
+     */
+    private Iterator<Traverser.Admin<Map<String, E>>> hashJoinAlgorithm() throws NoSuchElementException {
+        List<Traverser.Admin<Object>> rows = new ArrayList<>();
+        while (this.starts.hasNext()) {
+            final Traverser.Admin<Object> traverser = (Traverser.Admin) this.starts.next();
+            if (!traverser.getTags().contains(this.getId())) {
+                traverser.getTags().add(this.getId()); // so the traverser never returns to this branch ever again
+                if (!this.hasPathLabel(traverser.path(), this.matchStartLabels))
+                    traverser.addLabels(Collections.singleton(this.computedStartLabel)); // if the traverser doesn't have a legal start, then provide it the pre-computed one
+            }
+            rows.add(traverser);
+        }
+        if (rows.isEmpty())
+            throw FastNoSuchElementException.instance();
+
+        final List<Traverser.Admin<Map<String, E>>> results = new ArrayList<>();
+        while (!rows.isEmpty()) {
+            final Map<Traversal.Admin<Object, Object>, List<Traverser.Admin<Object>>> partitions = new LinkedHashMap<>();
+            for (final Traverser.Admin<Object> row : rows) {
+                if (this.isDuplicate((Traverser) row))
+                    continue;
+                if (this.hasMatched(this.connective, (Traverser.Admin) row))
+                    results.add(row.split((Map) this.getBindings((Traverser) row), (Step) this));
+                else
+                    partitions.computeIfAbsent(this.matchAlgorithm.apply(row), k -> new ArrayList<>()).add(row);
+            }
+            rows = new ArrayList<>();
+            for (final Map.Entry<Traversal.Admin<Object, Object>, List<Traverser.Admin<Object>>> partition : partitions.entrySet()) {
+                rows.addAll(((HashJoinMatchAlgorithm) this.matchAlgorithm).isJoinable(partition.getKey()) ?
+                        this.hashJoin(partition.getKey(), partition.getValue()) :
+                        this.nestedLoopJoin(partition.getKey(), partition.getValue()));
+            }
+        }
+        return results.iterator();
+    }
+
+    private List<Traverser.Admin<Object>> nestedLoopJoin(final Traversal.Admin<Object, Object> matchTraversal, final List<Traverser.Admin<Object>> rows) {
+        final List<Traverser.Admin<Object>> joined = new ArrayList<>();
+        for (final Traverser.Admin<Object> row : rows) {
+            row.getTags().add(matchTraversal.getStartStep().getId());
+            matchTraversal.addStart(row);
+            while (matchTraversal.hasNext()) {
+                joined.add(matchTraversal.nextTraverser());
+            }
+        }
+        return joined;
+    }
+
+    private List<Traverser.Admin<Object>> hashJoin(final Traversal.Admin<Object, Object> matchTraversal, final List<Traverser.Admin<Object>> rows) {
+        final String startStepId = matchTraversal.getStartStep().getId();
+        final boolean keyOnObject = !((MatchStartStep) matchTraversal.getStartStep()).getSelectKey().isPresent();
+        final Set<String> referencedLabels = this.getReferencedLabelsMap().get(startStepId);
+        // build side: group the partial solutions by the objects bound to the labels the pattern references
+        final Map<List<Object>, List<Traverser.Admin<Object>>> groups = new LinkedHashMap<>();
+        for (final Traverser.Admin<Object> row : rows) {
+            final Path path = row.path();
+            final List<Object> key = new ArrayList<>(referencedLabels.size() + 1);
+            for (final String label : referencedLabels) {
+                key.add(path.hasLabel(label) ? path.get(Pop.all, label) : Collections.emptyList());
+            }
+            if (keyOnObject)
+                key.add(row.get());
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+        }
+        // probe side: evaluate the pattern once per group and join its solutions back onto every member of the group
+        final Optional<String> endLabel = Helper.getEndLabel(matchTraversal);
+        final List<Traverser.Admin<Object>> joined = new ArrayList<>();
+        for (final List<Traverser.Admin<Object>> group : groups.values()) {
+            final Traverser.Admin<Object> probe = group.get(0).split();
+            probe.setBulk(1l);
+            probe.getTags().add(startStepId);
+            matchTraversal.addStart(probe);
+            final List<Traverser.Admin<Object>> matches = new ArrayList<>();
+            while (matchTraversal.hasNext()) {
+                matches.add(matchTraversal.nextTraverser());
+            }
+            for (final Traverser.Admin<Object> row : group) {
+                for (final Traverser.Admin<Object> match : matches) {
+                    final Traverser.Admin<Object> solution = row.split(match.get(), EmptyStep.instance());
+                    solution.setBulk(row.bulk() * match.bulk());
+                    solution.getTags().addAll(match.getTags());
+                    endLabel.ifPresent(label -> solution.addLabels(Collections.singleton(label)));
+                    solution.setStepId(this.getId());
+                    joined.add(solution);
+                }
+            }
+        }
+        return joined;
+    }
+
     @Override
     protected Iterator<Traverser.Admin<Map<String, E>>> computerAlgorithm() throws NoSuchElementException {
         while (true) {
@@ -791,4 +905,149 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
             }
         }
     }
+
+    /**
+     * A {@link CountMatchAlgorithm} that plans the pattern order before execution. If the {@link Graph} implements
+     * {@link GraphStatistics}, the number of results a pattern yields per start is estimated from the vertex and edge
+     * label cardinalities and used as the initial multiplicity of the pattern. The estimate is weighted as if it had
+     * been observed for {@link #PRIOR_STARTS} starts and thus, runtime counts gradually revise the plan as they
+     * accumulate. Without statistics, this algorithm behaves exactly as {@link CountMatchAlgorithm}.
+     */
+    public static class CostMatchAlgorithm extends CountMatchAlgorithm {
+
+        /**
+         * The number of observed starts that the statistical estimate of a pattern is worth. The value is not derived
+         * from any measurement. It is chosen so that the estimate outweighs the noisy counts of the first few hundred
+         * starts, during which {@link CountMatchAlgorithm} re-sorts on every result, while the runtime counts take
+         * over after a few thousand starts.
+         */
+        public static final long PRIOR_STARTS = 1000l;
+
+        /**
+         * The fraction of traversers assumed to pass a filter for which there are no statistics (i.e. any filter other
+         * than a label test). {@link GraphStatistics} only provides label cardinalities, so 0.5 is an uninformed prior
+         * that ranks a filtered pattern below the same pattern without the filter and does not assume any value
+         * distribution.
+         */
+        public static final double FILTER_SELECTIVITY = 0.5d;
+
+        @Override
+        public void initialize(final TraversalEngine.Type traversalEngineType, final List<Traversal.Admin<Object, Object>> traversals) {
+            super.initialize(traversalEngineType, traversals);
+            if (traversals.isEmpty())
+                return;
+            final Optional<Graph> graph = TraversalHelper.getRootTraversal(traversals.get(0)).getGraph();
+            if (!graph.isPresent() || !(graph.get() instanceof GraphStatistics))
+                return;
+            final GraphStatistics statistics = (GraphStatistics) graph.get();
+            for (final Bundle bundle : this.bundles) {
+                final double estimate = CostMatchAlgorithm.estimateMultiplicity(statistics, bundle.traversal);
+                bundle.startsCount = PRIOR_STARTS;
+                bundle.endsCount = Math.round(estimate * PRIOR_STARTS);
+                bundle.multiplicity = estimate;
+            }
+            Collections.sort(this.bundles, Comparator.<Bundle>comparingInt(b -> b.traversalType.ordinal()).thenComparingDouble(b -> b.multiplicity));
+        }
+
+        /**
+         * Estimate the number of traversers that a single start traverser yields at the end of the traversal.
+         */
+        public static double estimateMultiplicity(final GraphStatistics statistics, final Traversal.Admin<?, ?> traversal) {
+            final double vertexCount = Math.max(1.0d, statistics.getVertexCount(null));
+            final double edgeCount = statistics.getEdgeCount(null);
+            double multiplicity = 1.0d;
+            boolean onEdges = false;
+            for (final Step<?, ?> step : traversal.getSteps()) {
+                if (step instanceof MatchStartStep || step instanceof MatchEndStep)
+                    continue;
+                if (step instanceof VertexStep) {
+                    final VertexStep<?> vertexStep = (VertexStep<?>) step;
+                    double edges = 0.0d;
+                    if (vertexStep.getEdgeLabels().length == 0)
+                        edges = edgeCount;
+                    else {
+                        for (final String label : vertexStep.getEdgeLabels()) {
+                            edges = edges + statistics.getEdgeCount(label);
+                        }
+                    }
+                    multiplicity = multiplicity * (vertexStep.getDirection() == Direction.BOTH ? 2.0d : 1.0d) * edges / vertexCount;
+                    onEdges = vertexStep.returnsEdge();
+                } else if (step instanceof EdgeVertexStep) {
+                    multiplicity = multiplicity * (((EdgeVertexStep) step).getDirection() == Direction.BOTH ? 2.0d : 1.0d);
+                    onEdges = false;
+                } else if (step instanceof HasContainerHolder) {
+                    for (final HasContainer hasContainer : ((HasContainerHolder) step).getHasContainers()) {
+                        multiplicity = multiplicity * (hasContainer.getKey().equals(T.label.getAccessor()) ?
+                                CostMatchAlgorithm.labelSelectivity(statistics, hasContainer, onEdges ? Math.max(1.0d, edgeCount) : vertexCount, onEdges) :
+                                FILTER_SELECTIVITY);
+                    }
+                } else if (step instanceof FilterStep || step instanceof WhereTraversalStep || step instanceof WherePredicateStep)
+                    multiplicity = multiplicity * FILTER_SELECTIVITY;
+            }
+            return multiplicity;
+        }
+
+        private static double labelSelectivity(final GraphStatistics statistics, final HasContainer hasContainer, final double count, final boolean onEdges) {
+            final Object value = hasContainer.getValue();
+            final Collection<?> labels;
+            if (hasContainer.getBiPredicate() == Compare.eq && value instanceof String)
+                labels = Collections.singleton(value);
+            else if (hasContainer.getBiPredicate() == Contains.within && value instanceof Collection)
+                labels = (Collection<?>) value;
+            else
+                return FILTER_SELECTIVITY;
+            double labelCount = 0.0d;
+            for (final Object label : labels) {
+                labelCount = labelCount + (onEdges ? statistics.getEdgeCount(label.toString()) : statistics.getVertexCount(label.toString()));
+            }
+            return Math.min(1.0d, labelCount / count);
+        }
+    }
+
+    /**
+     * A {@link MatchAlgorithm} that, for {@link TraversalEngine.Type#STANDARD} execution of {@code and}-patterns,
+     * solves {@code match()} as a series of hash joins. All starts are first drained into a table of partial
+     * solutions. Each partial solution is routed to its next pattern as with {@link CountMatchAlgorithm} and the
+     * partial solutions of a pattern are grouped by the objects bound to the labels that the pattern references. The
+     * pattern is then evaluated once per group and its results are joined onto every partial solution of the group.
+     * This is beneficial when many partial solutions share the same bindings (e.g. after fan-out) as the pattern is
+     * not re-evaluated for each of them. Note that this makes {@link MatchStep} a barrier and that the path of a
+     * joined solution only retains the end object of the pattern (intermediate objects of the pattern are not part
+     * of its path). Patterns that require the full path, sacks, side-effects, mutations, barriers or that label
+     * intermediate steps are evaluated one partial solution at a time. On {@link TraversalEngine.Type#COMPUTER} this
+     * algorithm behaves exactly as {@link CountMatchAlgorithm}.
+     */
+    public static class HashJoinMatchAlgorithm extends CountMatchAlgorithm {
+
+        protected List<Traversal.Admin<Object, Object>> joinableTraversals;
+
+        @Override
+        public void initialize(final TraversalEngine.Type traversalEngineType, final List<Traversal.Admin<Object, Object>> traversals) {
+            super.initialize(traversalEngineType, traversals);
+            this.joinableTraversals = traversals.stream().filter(HashJoinMatchAlgorithm::isJoinableTraversal).collect(Collectors.toList());
+        }
+
+        public boolean isJoinable(final Traversal.Admin<Object, Object> traversal) {
+            for (final Traversal.Admin<Object, Object> joinableTraversal : this.joinableTraversals) {
+                if (joinableTraversal == traversal)
+                    return true;
+            }
+            return false;
+        }
+
+        private static boolean isJoinableTraversal(final Traversal.Admin<Object, Object> traversal) {
+            if (!(traversal.getStartStep() instanceof MatchStartStep))
+                return false;
+            final Set<TraverserRequirement> requirements = traversal.getTraverserRequirements();
+            if (requirements.contains(TraverserRequirement.PATH) || requirements.contains(TraverserRequirement.SACK))
+                return false;
+            for (final Step<?, ?> step : traversal.getSteps()) {
+                if (!(step instanceof MatchEndStep) && !step.getLabels().isEmpty())
+                    return false;
+                if (step instanceof Barrier && !(step instanceof NoOpBarrierStep))
+                    return false;
+            }
+            return !TraversalHelper.hasStepOfAssignableClassRecursively(Arrays.<Class>asList(SideEffectCapable.class, Mutating.class), traversal);
+        }
+    }
 }
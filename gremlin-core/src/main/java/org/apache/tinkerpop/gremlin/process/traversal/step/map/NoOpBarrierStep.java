@@ -31,13 +31,37 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import java.util.Collections;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 
 /**
+ * A barrier that bulks traversers so that the steps after it process each distinct traverser only once.
+ * An adaptive barrier (i.e. one inserted by {@code LazyBarrierStrategy}) adapts its size to how well it bulks. When a
+ * full barrier merged few traversers the barrier shrinks (down to passing traversers straight through) and when it
+ * merged many it grows back to its maximum size. Passing traversers straight through is periodically abandoned to
+ * probe whether bulking pays off again. The barrier also shrinks when the heap is nearly exhausted. A barrier added by
+ * the user (i.e. {@code barrier()} or {@code barrier(n)}) always has the requested size.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements LocalBarrier<S> {
 
+    public static final double DEFAULT_SHRINK_MERGE_RATIO = 0.05d;
+    public static final double DEFAULT_GROW_MERGE_RATIO = 0.25d;
+    public static final double DEFAULT_LOW_MEMORY_RATIO = 0.1d;
+    public static final int DEFAULT_PROBE_INTERVAL = 10000;
+    public static final int DEFAULT_PROBE_SIZE = 256;
+
     private int maxBarrierSize;
+    private boolean adaptive;
+    private double shrinkMergeRatio = DEFAULT_SHRINK_MERGE_RATIO;
+    private double growMergeRatio = DEFAULT_GROW_MERGE_RATIO;
+    private double lowMemoryRatio = DEFAULT_LOW_MEMORY_RATIO;
+    private int probeInterval = DEFAULT_PROBE_INTERVAL;
+    private int probeSize = DEFAULT_PROBE_SIZE;
+    private transient BooleanSupplier memoryProbe = null;
+    private int barrierSize;
+    private long barrierStarts = 0l;
+    private int passedStarts = 0;
     private TraverserSet<S> barrier = new TraverserSet<>();
 
     public NoOpBarrierStep(final Traversal.Admin traversal) {
@@ -45,12 +69,73 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
     }
 
     public NoOpBarrierStep(final Traversal.Admin traversal, final int maxBarrierSize) {
+        this(traversal, maxBarrierSize, false);
+    }
+
+    public NoOpBarrierStep(final Traversal.Admin traversal, final int maxBarrierSize, final boolean adaptive) {
         super(traversal);
         this.maxBarrierSize = maxBarrierSize;
+        this.barrierSize = maxBarrierSize;
+        this.adaptive = adaptive && maxBarrierSize != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Create an adaptive barrier.
+     *
+     * @param maxBarrierSize   the size the barrier starts with and never grows beyond
+     * @param shrinkMergeRatio the share of merged traversers below which a full barrier shrinks to a quarter of its size
+     * @param growMergeRatio   the share of merged traversers at or above which a full barrier doubles its size
+     * @param lowMemoryRatio   the share of the maximum heap below which the free heap halves the barrier size
+     * @param probeInterval    the number of traversers passed straight through before bulking is probed again
+     * @param probeSize        the size of the barrier that probes whether bulking pays off again
+     */
+    public NoOpBarrierStep(final Traversal.Admin traversal, final int maxBarrierSize,
+                           final double shrinkMergeRatio, final double growMergeRatio, final double lowMemoryRatio,
+                           final int probeInterval, final int probeSize) {
+        this(traversal, maxBarrierSize, true);
+        this.shrinkMergeRatio = shrinkMergeRatio;
+        this.growMergeRatio = growMergeRatio;
+        this.lowMemoryRatio = lowMemoryRatio;
+        this.probeInterval = probeInterval;
+        this.probeSize = probeSize;
+    }
+
+    /**
+     * Get the number of traversers the barrier currently collects before releasing them.
+     *
+     * @return the current size of the barrier which is at most the maximum barrier size
+     */
+    public int getBarrierSize() {
+        return this.barrierSize;
+    }
+
+    public int getMaxBarrierSize() {
+        return this.maxBarrierSize;
+    }
+
+    public boolean isAdaptive() {
+        return this.adaptive;
+    }
+
+    /**
+     * Set the probe that tells an adaptive barrier that the heap is nearly exhausted. By default, the free memory of
+     * the {@link Runtime} is checked.
+     */
+    void setMemoryProbe(final BooleanSupplier memoryProbe) {
+        this.memoryProbe = memoryProbe;
     }
 
     @Override
     protected Traverser.Admin<S> processNextStart() throws NoSuchElementException {
+        if (1 == this.barrierSize && this.barrier.isEmpty()) {
+            // bulking did not pay off so traversers are passed through until the next probe
+            final Traverser.Admin<S> traverser = this.starts.next();
+            if (++this.passedStarts >= this.probeInterval) {
+                this.passedStarts = 0;
+                this.barrierSize = Math.min(this.maxBarrierSize, this.probeSize);
+            }
+            return traverser;
+        }
         if (this.barrier.isEmpty())
             this.processAllStarts();
         return this.barrier.remove();
@@ -63,11 +148,37 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
 
     @Override
     public void processAllStarts() {
-        while (this.starts.hasNext() && (this.maxBarrierSize == Integer.MAX_VALUE || this.barrier.size() < this.maxBarrierSize)) {
+        if (this.barrier.isEmpty())
+            this.barrierStarts = 0l;
+        boolean added = false;
+        while (this.starts.hasNext() && (this.maxBarrierSize == Integer.MAX_VALUE || this.barrier.size() < this.barrierSize)) {
             final Traverser.Admin<S> traverser = this.starts.next();
             traverser.setStepId(this.getNextStep().getId()); // when barrier is reloaded, the traversers should be at the next step
             this.barrier.add(traverser);
+            this.barrierStarts++;
+            added = true;
         }
+        if (added && this.adaptive && this.barrier.size() >= this.barrierSize)
+            this.adaptBarrierSize();
+    }
+
+    /**
+     * Resize the barrier given how many of the traversers that filled it were merged.
+     */
+    private void adaptBarrierSize() {
+        final double mergeRatio = 1.0d - ((double) this.barrier.size() / (double) this.barrierStarts);
+        if (null == this.memoryProbe ? this.isMemoryLow() : this.memoryProbe.getAsBoolean())
+            this.barrierSize = Math.max(1, this.barrierSize / 2);
+        else if (mergeRatio < this.shrinkMergeRatio)
+            this.barrierSize = Math.max(1, this.barrierSize / 4);
+        else if (mergeRatio >= this.growMergeRatio)
+            this.barrierSize = (int) Math.min(this.maxBarrierSize, this.barrierSize * 2l);
+    }
+
+    private boolean isMemoryLow() {
+        final Runtime runtime = Runtime.getRuntime();
+        final long available = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+        return available < runtime.maxMemory() * this.lowMemoryRatio;
     }
 
     @Override
@@ -97,6 +208,9 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
     public NoOpBarrierStep<S> clone() {
         final NoOpBarrierStep<S> clone = (NoOpBarrierStep<S>) super.clone();
         clone.barrier = new TraverserSet<>();
+        clone.barrierSize = this.maxBarrierSize;
+        clone.barrierStarts = 0l;
+        clone.passedStarts = 0;
         return clone;
     }
 
@@ -114,5 +228,8 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
     public void reset() {
         super.reset();
         this.barrier.clear();
+        this.barrierSize = this.maxBarrierSize;
+        this.barrierStarts = 0l;
+        this.passedStarts = 0;
     }
 }
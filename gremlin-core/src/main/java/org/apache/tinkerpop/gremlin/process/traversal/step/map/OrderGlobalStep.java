@@ -25,20 +25,28 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.IdentityTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ComparatorHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Memoizing;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Spillable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.ExternalTraverserSorter;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.ChainedComparator;
 import org.javatuples.Pair;
 
+import java.io.File;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
@@ -46,11 +54,16 @@ import java.util.stream.Collectors;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBarrierStep<S> implements ComparatorHolder<S, C>, TraversalParent, ByModulating {
+public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBarrierStep<S> implements ComparatorHolder<S, C>, TraversalParent, ByModulating, Spillable, Memoizing {
 
     private List<Pair<Traversal.Admin<S, C>, Comparator<C>>> comparators = new ArrayList<>();
     private ChainedComparator<S, C> chainedComparator = null;
     private long limit = Long.MAX_VALUE;
+    private int spillThreshold = Integer.MAX_VALUE;
+    private File spillDirectory = null;
+    private ExternalTraverserSorter<S> sorter = null;
+    private Iterator<Traverser.Admin<S>> sortedTraversers = null;
+    private int memoSize = 0;
 
     public OrderGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -59,7 +72,7 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
     @Override
     public void barrierConsumer(final TraverserSet<S> traverserSet) {
         if (null == this.chainedComparator)
-            this.chainedComparator = new ChainedComparator<>(true, this.comparators);
+            this.chainedComparator = new ChainedComparator<>(true, this.comparators, this.memoSize);
         if (this.chainedComparator.isShuffle())
             traverserSet.shuffle();
         else
@@ -74,6 +87,78 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
         return this.limit;
     }
 
+    @Override
+    public void setMemoSize(final int memoSize) {
+        this.memoSize = memoSize;
+        this.chainedComparator = null;
+    }
+
+    @Override
+    public int getMemoSize() {
+        return this.memoSize;
+    }
+
+    @Override
+    public void setSpillThreshold(final int spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    @Override
+    public int getSpillThreshold() {
+        return this.spillThreshold;
+    }
+
+    @Override
+    public void setSpillDirectory(final File spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public File getSpillDirectory() {
+        return this.spillDirectory;
+    }
+
+    @Override
+    public Traverser.Admin<S> processNextStart() {
+        if (null == this.chainedComparator)
+            this.chainedComparator = new ChainedComparator<>(true, this.comparators, this.memoSize);
+        if (!this.isSpillable() || this.chainedComparator.isShuffle())
+            return super.processNextStart();
+        // external merge sort: runs of sorted traversers are spilled to disk and lazily merged on iteration
+        if (null == this.sortedTraversers || (!this.sortedTraversers.hasNext() && this.starts.hasNext())) {
+            this.closeSorter();
+            this.sorter = new ExternalTraverserSorter<>(this.chainedComparator, this.spillThreshold, this.spillDirectory);
+            this.starts.forEachRemaining(this.sorter::add);
+            this.sortedTraversers = this.sorter.iterator();
+        }
+        if (!this.sortedTraversers.hasNext()) {
+            this.closeSorter();
+            throw FastNoSuchElementException.instance();
+        }
+        final Traverser.Admin<S> traverser = this.sortedTraversers.next();
+        if (this.sorter.getRunCount() > 0) {
+            traverser.setSideEffects(this.getTraversal().getSideEffects());
+            final Optional<Graph> graph = this.getTraversal().getGraph();
+            if (graph.isPresent())
+                traverser.attach(Attachable.Method.get(graph.get()));
+        }
+        return traverser;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.closeSorter();
+    }
+
+    private void closeSorter() {
+        if (null != this.sorter) {
+            this.sorter.close();
+            this.sorter = null;
+        }
+        this.sortedTraversers = null;
+    }
+
     @Override
     public void addComparator(final Traversal.Admin<S, C> traversal, final Comparator<C> comparator) {
         this.comparators.add(new Pair<>(this.integrateChild(traversal), comparator));
@@ -126,6 +211,8 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
             clone.comparators.add(new Pair<>(comparator.getValue0().clone(), comparator.getValue1()));
         }
         clone.chainedComparator = null;
+        clone.sorter = null;
+        clone.sortedTraversers = null;
         return clone;
     }
 
@@ -137,9 +224,8 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
 
     @Override
     public MemoryComputeKey<TraverserSet<S>> getMemoryComputeKey() {
-        if (null == this.chainedComparator)
-            this.chainedComparator = new ChainedComparator<>(true, this.comparators);
-        return MemoryComputeKey.of(this.getId(), new OrderBiOperator<>(this.chainedComparator, this.limit), false, true);
+        // the operator may be shared by threads so it does not use the memoizing comparator of the step
+        return MemoryComputeKey.of(this.getId(), new OrderBiOperator<>(new ChainedComparator<>(true, this.comparators), this.limit), false, true);
     }
 
     ////////////////
@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.MutablePath;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Emits the shortest path (as a {@link Path} of vertices) from the incoming vertex to each of the target vertices.
+ * The adjacency is determined by a single {@link VertexStep} modulated by {@code by(Traversal)} (default {@code bothE()}).
+ * Unweighted paths are found with a bidirectional breadth-first search that expands the smaller frontier first.
+ * If a weight property key is modulated by {@code by(String)}, Dijkstra's algorithm is used instead.
+ * If no target vertices are provided, the shortest path to every reachable vertex is emitted.
+ *
+ * @author agent (agent@local)
+ */
+public final class ShortestPathStep extends FlatMapStep<Vertex, Path> implements TraversalParent, ByModulating {
+
+    private final Object[] targetIds;
+    private Traversal.Admin<Vertex, ? extends Element> edgeTraversal;
+    private Direction direction;
+    private String[] edgeLabels;
+    private String weightKey = null;
+
+    public ShortestPathStep(final Traversal.Admin traversal, final Object... targetIds) {
+        super(traversal);
+        this.targetIds = new Object[targetIds.length];
+        for (int i = 0; i < targetIds.length; i++) {
+            this.targetIds[i] = targetIds[i] instanceof Vertex ? ((Vertex) targetIds[i]).id() : targetIds[i];
+        }
+        this.modulateBy(__.<Vertex>bothE().asAdmin());
+    }
+
+    public Object[] getTargetIds() {
+        return this.targetIds;
+    }
+
+    public String getWeightKey() {
+        return this.weightKey;
+    }
+
+    @Override
+    protected Iterator<Path> flatMap(final Traverser.Admin<Vertex> traverser) {
+        final Vertex source = traverser.get();
+        final List<Vertex> targets = 0 == this.targetIds.length ?
+                Collections.emptyList() :
+                IteratorUtils.list(source.graph().vertices(this.targetIds));
+        if (null != this.weightKey)
+            return this.dijkstra(source, targets).iterator();
+        else if (targets.isEmpty())
+            return 0 == this.targetIds.length ? this.breadthFirst(source).iterator() : Collections.emptyIterator();
+        else {
+            final List<Path> paths = new ArrayList<>(targets.size());
+            for (final Vertex target : targets) {
+                final Path path = this.bidirectionalBreadthFirst(source, target);
+                if (null != path)
+                    paths.add(path);
+            }
+            return paths.iterator();
+        }
+    }
+
+    private List<Path> breadthFirst(final Vertex source) {
+        final Map<Vertex, Vertex> parents = new LinkedHashMap<>();
+        parents.put(source, null);
+        List<Vertex> frontier = Collections.singletonList(source);
+        while (!frontier.isEmpty()) {
+            final List<Vertex> next = new ArrayList<>();
+            for (final Vertex vertex : frontier) {
+                this.adjacent(vertex, this.direction).forEachRemaining(adjacent -> {
+                    if (!parents.containsKey(adjacent)) {
+                        parents.put(adjacent, vertex);
+                        next.add(adjacent);
+                    }
+                });
+            }
+            frontier = next;
+        }
+        final List<Path> paths = new ArrayList<>(parents.size() - 1);
+        for (final Vertex vertex : parents.keySet()) {
+            if (!vertex.equals(source))
+                paths.add(ShortestPathStep.makePath(vertex, parents, Collections.emptyMap()));
+        }
+        return paths;
+    }
+
+    private Path bidirectionalBreadthFirst(final Vertex source, final Vertex target) {
+        if (source.equals(target))
+            return MutablePath.make().extend(source, Collections.emptySet());
+        // each side records the vertex it was reached from and its distance from the side's root
+        final Map<Vertex, Vertex> forwardParents = new HashMap<>();
+        final Map<Vertex, Vertex> backwardParents = new HashMap<>();
+        final Map<Vertex, Integer> forwardDistances = new HashMap<>();
+        final Map<Vertex, Integer> backwardDistances = new HashMap<>();
+        forwardParents.put(source, null);
+        forwardDistances.put(source, 0);
+        backwardParents.put(target, null);
+        backwardDistances.put(target, 0);
+        List<Vertex> forwardFrontier = Collections.singletonList(source);
+        List<Vertex> backwardFrontier = Collections.singletonList(target);
+        while (!forwardFrontier.isEmpty() && !backwardFrontier.isEmpty()) {
+            final boolean forward = forwardFrontier.size() <= backwardFrontier.size();
+            final Map<Vertex, Vertex> parents = forward ? forwardParents : backwardParents;
+            final Map<Vertex, Integer> distances = forward ? forwardDistances : backwardDistances;
+            final Map<Vertex, Integer> otherDistances = forward ? backwardDistances : forwardDistances;
+            final List<Vertex> next = new ArrayList<>();
+            Vertex meeting = null;
+            int meetingDistance = Integer.MAX_VALUE;
+            for (final Vertex vertex : forward ? forwardFrontier : backwardFrontier) {
+                final int distance = distances.get(vertex) + 1;
+                final Iterator<Vertex> adjacents = this.adjacent(vertex, forward ? this.direction : this.direction.opposite());
+                while (adjacents.hasNext()) {
+                    final Vertex adjacent = adjacents.next();
+                    if (parents.containsKey(adjacent))
+                        continue;
+                    parents.put(adjacent, vertex);
+                    distances.put(adjacent, distance);
+                    next.add(adjacent);
+                    // the whole level is expanded as a meeting found early in the level is not necessarily the closest
+                    final Integer otherDistance = otherDistances.get(adjacent);
+                    if (null != otherDistance && distance + otherDistance < meetingDistance) {
+                        meeting = adjacent;
+                        meetingDistance = distance + otherDistance;
+                    }
+                }
+            }
+            if (null != meeting)
+                return ShortestPathStep.makePath(meeting, forwardParents, backwardParents);
+            if (forward)
+                forwardFrontier = next;
+            else
+                backwardFrontier = next;
+        }
+        return null;
+    }
+
+    private List<Path> dijkstra(final Vertex source, final List<Vertex> targets) {
+        final Set<Vertex> remaining = new HashSet<>(targets);
+        final Map<Vertex, Vertex> parents = new HashMap<>();
+        final Map<Vertex, Double> distances = new HashMap<>();
+        final Map<Vertex, Path> paths = new LinkedHashMap<>();
+        final PriorityQueue<Object[]> queue = new PriorityQueue<>((a, b) -> Double.compare((Double) a[1], (Double) b[1]));
+        parents.put(source, null);
+        distances.put(source, 0.0d);
+        queue.add(new Object[]{source, 0.0d});
+        final Set<Vertex> settled = new HashSet<>();
+        while (!queue.isEmpty() && (targets.isEmpty() || !remaining.isEmpty())) {
+            final Object[] entry = queue.poll();
+            final Vertex vertex = (Vertex) entry[0];
+            if (!settled.add(vertex))
+                continue;
+            if (targets.isEmpty() ? !vertex.equals(source) : remaining.remove(vertex))
+                paths.put(vertex, ShortestPathStep.makePath(vertex, parents, Collections.emptyMap()));
+            final double distance = (Double) entry[1];
+            final Iterator<Edge> edges = vertex.edges(this.direction, this.edgeLabels);
+            while (edges.hasNext()) {
+                final Edge edge = edges.next();
+                final Vertex adjacent = ShortestPathStep.otherVertex(vertex, edge, this.direction);
+                if (settled.contains(adjacent))
+                    continue;
+                final double candidate = distance + this.weight(edge);
+                final Double current = distances.get(adjacent);
+                if (null == current || candidate < current) {
+                    distances.put(adjacent, candidate);
+                    parents.put(adjacent, vertex);
+                    queue.add(new Object[]{adjacent, candidate});
+                }
+            }
+        }
+        if (targets.isEmpty())
+            return new ArrayList<>(paths.values());
+        // emit the paths in the order of the provided targets
+        final List<Path> result = new ArrayList<>(paths.size());
+        for (final Vertex target : targets) {
+            final Path path = paths.get(target);
+            if (null != path)
+                result.add(path);
+        }
+        return result;
+    }
+
+    private double weight(final Edge edge) {
+        final Property<Object> property = edge.property(this.weightKey);
+        if (!property.isPresent() || !(property.value() instanceof Number))
+            throw new IllegalStateException("The edge does not have a numeric weight property " + this.weightKey + ": " + edge);
+        final double weight = ((Number) property.value()).doubleValue();
+        if (weight < 0.0d)
+            throw new IllegalStateException("Shortest paths can not be computed over negative edge weights: " + edge);
+        return weight;
+    }
+
+    private Iterator<Vertex> adjacent(final Vertex vertex, final Direction direction) {
+        return vertex.vertices(direction, this.edgeLabels);
+    }
+
+    private static Vertex otherVertex(final Vertex vertex, final Edge edge, final Direction direction) {
+        if (Direction.OUT == direction)
+            return edge.inVertex();
+        else if (Direction.IN == direction)
+            return edge.outVertex();
+        else {
+            final Vertex outVertex = edge.outVertex();
+            return outVertex.equals(vertex) ? edge.inVertex() : outVertex;
+        }
+    }
+
+    private static Path makePath(final Vertex meeting, final Map<Vertex, Vertex> forwardParents, final Map<Vertex, Vertex> backwardParents) {
+        final LinkedList<Vertex> vertices = new LinkedList<>();
+        for (Vertex vertex = meeting; null != vertex; vertex = forwardParents.get(vertex)) {
+            vertices.addFirst(vertex);
+        }
+        for (Vertex vertex = backwardParents.get(meeting); null != vertex; vertex = backwardParents.get(vertex)) {
+            vertices.addLast(vertex);
+        }
+        final Path path = MutablePath.make();
+        for (final Vertex vertex : vertices) {
+            path.extend(vertex, Collections.emptySet());
+        }
+        return path;
+    }
+
+    @Override
+    public void modulateBy(final Traversal.Admin<?, ?> edgeTraversal) {
+        if (1 != edgeTraversal.getSteps().size() || !(edgeTraversal.getStartStep() instanceof VertexStep))
+            throw new IllegalArgumentException("The shortest path adjacency must be determined by a single vertex step: " + edgeTraversal);
+        final VertexStep<?> vertexStep = (VertexStep<?>) edgeTraversal.getStartStep();
+        this.direction = vertexStep.getDirection();
+        this.edgeLabels = vertexStep.getEdgeLabels();
+        this.edgeTraversal = this.integrateChild((Traversal.Admin<Vertex, ? extends Element>) edgeTraversal);
+    }
+
+    @Override
+    public void modulateBy(final String weightKey) {
+        this.weightKey = weightKey;
+    }
+
+    @Override
+    public List<Traversal.Admin<Vertex, ? extends Element>> getLocalChildren() {
+        return Collections.singletonList(this.edgeTraversal);
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return this.getSelfAndChildRequirements(TraverserRequirement.OBJECT);
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, Arrays.asList(this.targetIds), this.edgeTraversal, this.weightKey);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode() ^ this.edgeTraversal.hashCode();
+        for (final Object id : this.targetIds) {
+            result ^= id.hashCode();
+        }
+        if (null != this.weightKey)
+            result ^= this.weightKey.hashCode();
+        return result;
+    }
+
+    @Override
+    public ShortestPathStep clone() {
+        final ShortestPathStep clone = (ShortestPathStep) super.clone();
+        clone.edgeTraversal = this.edgeTraversal.clone();
+        return clone;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
+        super.setTraversal(parentTraversal);
+        this.integrateChild(this.edgeTraversal);
+    }
+}
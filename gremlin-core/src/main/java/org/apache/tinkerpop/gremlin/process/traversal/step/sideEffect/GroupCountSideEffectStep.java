@@ -22,26 +22,34 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Spillable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupCountStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.SpillableMap;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.HashMapSupplier;
 
+import java.io.File;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class GroupCountSideEffectStep<S, E> extends SideEffectStep<S> implements SideEffectCapable<Map<E, Long>, Map<E, Long>>, TraversalParent, ByModulating {
+public final class GroupCountSideEffectStep<S, E> extends SideEffectStep<S> implements SideEffectCapable<Map<E, Long>, Map<E, Long>>, TraversalParent, ByModulating, Spillable, AutoCloseable {
 
     private Traversal.Admin<S, E> keyTraversal = null;
     private String sideEffectKey;
+    private int spillThreshold = Integer.MAX_VALUE;
+    private File spillDirectory = null;
+    private SpillableMap<E, Long> spillableMap = null;
 
     public GroupCountSideEffectStep(final Traversal.Admin traversal, final String sideEffectKey) {
         super(traversal);
@@ -53,7 +61,71 @@ public final class GroupCountSideEffectStep<S, E> extends SideEffectStep<S> impl
     protected void sideEffect(final Traverser.Admin<S> traverser) {
         final Map<E, Long> map = new HashMap<>(1);
         map.put(TraversalUtil.applyNullable(traverser, this.keyTraversal), traverser.bulk());
-        this.getTraversal().getSideEffects().add(this.sideEffectKey, map);
+        if (this.isSpillable()) {
+            if (null == this.spillableMap)
+                this.spillableMap = new SpillableMap<>(GroupCountStep.GroupCountBiOperator.instance(), this.spillThreshold, this.spillDirectory, UnaryOperator.identity(), SpillableMap.attach(this.getTraversal()), UnaryOperator.identity());
+            this.spillableMap.add(map);
+        } else
+            this.getTraversal().getSideEffects().add(this.sideEffectKey, map);
+    }
+
+    @Override
+    public void setSpillThreshold(final int spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    @Override
+    public int getSpillThreshold() {
+        return this.spillThreshold;
+    }
+
+    @Override
+    public void setSpillDirectory(final File spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public File getSpillDirectory() {
+        return this.spillDirectory;
+    }
+
+    @Override
+    protected Traverser.Admin<S> processNextStart() {
+        if (!this.isSpillable())
+            return super.processNextStart();
+        try {
+            return super.processNextStart();
+        } catch (final NoSuchElementException e) {
+            this.mergeSpillableMap();
+            throw e;
+        }
+    }
+
+    /**
+     * The local aggregate of a spilling step is merged into the side-effect once the step has run out of starts or
+     * when it is reset or closed before that happens.
+     */
+    private void mergeSpillableMap() {
+        if (null != this.spillableMap) {
+            try {
+                // the merged partitions have disjoint keys and are added one at a time rather than as one merged map
+                this.spillableMap.reduce(UnaryOperator.identity(), partition -> this.getTraversal().getSideEffects().add(this.sideEffectKey, partition));
+            } finally {
+                this.spillableMap.close();
+                this.spillableMap = null;
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.mergeSpillableMap();
+    }
+
+    @Override
+    public void close() {
+        this.mergeSpillableMap();
     }
 
     @Override
@@ -86,6 +158,7 @@ public final class GroupCountSideEffectStep<S, E> extends SideEffectStep<S> impl
         final GroupCountSideEffectStep<S, E> clone = (GroupCountSideEffectStep<S, E>) super.clone();
         if (null != this.keyTraversal)
             clone.keyTraversal = this.keyTraversal.clone();
+        clone.spillableMap = null;
         return clone;
     }
 
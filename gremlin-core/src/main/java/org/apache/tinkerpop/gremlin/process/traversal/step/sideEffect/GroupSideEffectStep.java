@@ -23,24 +23,29 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Spillable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.SpillableMap;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.HashMapSupplier;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class GroupSideEffectStep<S, K, V> extends SideEffectStep<S> implements SideEffectCapable<Map<K, ?>, Map<K, V>>, TraversalParent, ByModulating {
+public final class GroupSideEffectStep<S, K, V> extends SideEffectStep<S> implements SideEffectCapable<Map<K, ?>, Map<K, V>>, TraversalParent, ByModulating, Spillable, AutoCloseable {
 
     private char state = 'k';
     private Traversal.Admin<S, K> keyTraversal;
@@ -48,6 +53,9 @@ public final class GroupSideEffectStep<S, K, V> extends SideEffectStep<S> implem
     private Traversal.Admin<S, V> valueTraversal;
     ///
     private String sideEffectKey;
+    private int spillThreshold = Integer.MAX_VALUE;
+    private File spillDirectory = null;
+    private SpillableMap<K, V> spillableMap = null;
 
     public GroupSideEffectStep(final Traversal.Admin traversal, final String sideEffectKey) {
         super(traversal);
@@ -86,7 +94,71 @@ public final class GroupSideEffectStep<S, K, V> extends SideEffectStep<S> implem
             }
             map.put(TraversalUtil.applyNullable(traverser, this.keyTraversal), (V) traverserSet);
         }
-        this.getTraversal().getSideEffects().add(this.sideEffectKey, map);
+        if (this.isSpillable()) {
+            if (null == this.spillableMap)
+                this.spillableMap = GroupStep.createSpillableMap(new GroupStep.GroupBiOperator<>(this.valueTraversal), this.spillThreshold, this.spillDirectory, this.getTraversal());
+            this.spillableMap.add(map);
+        } else
+            this.getTraversal().getSideEffects().add(this.sideEffectKey, map);
+    }
+
+    @Override
+    public void setSpillThreshold(final int spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    @Override
+    public int getSpillThreshold() {
+        return this.spillThreshold;
+    }
+
+    @Override
+    public void setSpillDirectory(final File spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public File getSpillDirectory() {
+        return this.spillDirectory;
+    }
+
+    @Override
+    protected Traverser.Admin<S> processNextStart() {
+        if (!this.isSpillable())
+            return super.processNextStart();
+        try {
+            return super.processNextStart();
+        } catch (final NoSuchElementException e) {
+            this.mergeSpillableMap();
+            throw e;
+        }
+    }
+
+    /**
+     * The local aggregate of a spilling step is merged into the side-effect once the step has run out of starts or
+     * when it is reset or closed before that happens.
+     */
+    private void mergeSpillableMap() {
+        if (null != this.spillableMap) {
+            try {
+                // the merged partitions have disjoint keys and are added one at a time rather than as one merged map
+                this.spillableMap.reduce(UnaryOperator.identity(), partition -> this.getTraversal().getSideEffects().add(this.sideEffectKey, partition));
+            } finally {
+                this.spillableMap.close();
+                this.spillableMap = null;
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.mergeSpillableMap();
+    }
+
+    @Override
+    public void close() {
+        this.mergeSpillableMap();
     }
 
     @Override
@@ -122,6 +194,7 @@ public final class GroupSideEffectStep<S, K, V> extends SideEffectStep<S> implem
             clone.keyTraversal = this.keyTraversal.clone();
         clone.valueTraversal = this.valueTraversal.clone();
         clone.preTraversal = (Traversal.Admin<S, ?>) GroupStep.generatePreTraversal(clone.valueTraversal);
+        clone.spillableMap = null;
         return clone;
     }
 
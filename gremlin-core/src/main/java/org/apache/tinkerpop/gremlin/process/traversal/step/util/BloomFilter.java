@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.util.HashHelper;
+
+/**
+ * A BloomFilter is a {@link DuplicateFilter} for approximate deduplication that uses a fixed number of bits regardless of the objects
+ * added to it. {@link #contains(Object)} never returns {@code false} for an object that was added, but it returns
+ * {@code true} for an object that was not added with a probability of about the configured false-positive
+ * probability, provided no more than the expected number of objects are added. Beyond that, the false-positive
+ * probability grows quickly. For deduplication this means that a small fraction of distinct objects are filtered as
+ * if they were duplicates.
+ * <p/>
+ * The filter needs about {@code -n*ln(p)/ln(2)^2} bits for {@code n} expected insertions and a false-positive
+ * probability of {@code p} (e.g. 1.2MB for one million insertions at 1%). The bits are only allocated once the first
+ * object is added, so an unused (e.g. cloned or cleared) filter is cheap. Objects are hashed with {@link HashHelper}.
+ *
+ * @author agent (agent@local)
+ */
+public final class BloomFilter implements DuplicateFilter {
+
+    private long[] bits = null;
+    private final int numberOfWords;
+    private final long numberOfBits;
+    private final int numberOfHashes;
+    private int size = 0;
+
+    public BloomFilter(final long expectedInsertions, final double falsePositiveProbability) {
+        if (expectedInsertions < 1)
+            throw new IllegalArgumentException("The expected insertions must be positive: " + expectedInsertions);
+        if (falsePositiveProbability <= 0.0d || falsePositiveProbability >= 1.0d)
+            throw new IllegalArgumentException("The false-positive probability must be between 0.0 and 1.0 (exclusive): " + falsePositiveProbability);
+        final long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.numberOfWords = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) / 64);
+        this.numberOfBits = this.numberOfWords * 64l;
+        this.numberOfHashes = Math.max(1, (int) Math.round((double) this.numberOfBits / expectedInsertions * Math.log(2)));
+    }
+
+    public int getNumberOfHashes() {
+        return this.numberOfHashes;
+    }
+
+    public long getNumberOfBits() {
+        return this.numberOfBits;
+    }
+
+    @Override
+    public boolean add(final Object object) {
+        if (null == this.bits)
+            this.bits = new long[this.numberOfWords];
+        final long hash = HashHelper.hash(object);
+        final long hash1 = hash >>> 32;
+        final long hash2 = hash & 0xffffffffl;
+        boolean changed = false;
+        for (int i = 0; i < this.numberOfHashes; i++) {
+            final long bit = Math.floorMod(hash1 + i * hash2 + i * i, this.numberOfBits);
+            final long mask = 1l << bit;
+            final int index = (int) (bit >>> 6);
+            if (0l == (this.bits[index] & mask)) {
+                this.bits[index] |= mask;
+                changed = true;
+            }
+        }
+        if (changed)
+            this.size++;
+        return changed;
+    }
+
+    @Override
+    public boolean contains(final Object object) {
+        if (null == this.bits)
+            return false;
+        final long hash = HashHelper.hash(object);
+        final long hash1 = hash >>> 32;
+        final long hash2 = hash & 0xffffffffl;
+        for (int i = 0; i < this.numberOfHashes; i++) {
+            final long bit = Math.floorMod(hash1 + i * hash2 + i * i, this.numberOfBits);
+            if (0l == (this.bits[(int) (bit >>> 6)] & (1l << bit)))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Get the number of objects that were added to the filter and were not already contained by it.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public void clear() {
+        this.bits = null;
+        this.size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "bloom[" + this.size() + "]";
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import java.io.Serializable;
+
+/**
+ * A DuplicateFilter records the objects that have been seen by a deduplicating step. Unlike a {@link java.util.Set},
+ * it need not retain the objects added to it and therefore can not be iterated.
+ *
+ * @author agent (agent@local)
+ */
+public interface DuplicateFilter extends Serializable {
+
+    /**
+     * Add an object to the filter.
+     *
+     * @return {@code true} if the object had not been seen before
+     */
+    public boolean add(final Object object);
+
+    public boolean contains(final Object object);
+
+    /**
+     * Get the number of distinct objects that have been added to the filter.
+     */
+    public int size();
+
+    public void clear();
+}
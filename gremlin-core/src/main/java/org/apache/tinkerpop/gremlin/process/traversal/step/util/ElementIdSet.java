@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.util.HashHelper;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * An ElementIdSet is a {@link DuplicateFilter} that stores {@link Vertex}, {@link Edge} and {@link VertexProperty}
+ * objects with {@code Long} or {@code Integer} ids as primitive longs in open-addressing tables rather than retaining
+ * the elements themselves. Any other object is held in a backing {@link HashSet}. Membership is the same as that of
+ * {@link org.apache.tinkerpop.gremlin.structure.util.ElementHelper#areEqual(Element, Object)}: two elements are equal
+ * if they are of the same kind and their ids are equal.
+ *
+ * @author agent (agent@local)
+ */
+public final class ElementIdSet implements DuplicateFilter {
+
+    // one table for each of vertex, edge and vertex property ids and for each of long and integer ids
+    private final LongHashSet[] idSets = new LongHashSet[6];
+    private Set<Object> objects = null;
+
+    @Override
+    public boolean add(final Object object) {
+        final int index = ElementIdSet.index(object);
+        if (-1 == index) {
+            if (null == this.objects)
+                this.objects = new HashSet<>();
+            return this.objects.add(object);
+        }
+        if (null == this.idSets[index])
+            this.idSets[index] = new LongHashSet();
+        return this.idSets[index].add(((Number) ((Element) object).id()).longValue());
+    }
+
+    @Override
+    public boolean contains(final Object object) {
+        final int index = ElementIdSet.index(object);
+        if (-1 == index)
+            return null != this.objects && this.objects.contains(object);
+        return null != this.idSets[index] && this.idSets[index].contains(((Number) ((Element) object).id()).longValue());
+    }
+
+    @Override
+    public int size() {
+        int size = null == this.objects ? 0 : this.objects.size();
+        for (final LongHashSet idSet : this.idSets) {
+            if (null != idSet)
+                size = size + idSet.size;
+        }
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.idSets, null);
+        this.objects = null;
+    }
+
+    @Override
+    public String toString() {
+        return "idset[" + this.size() + "]";
+    }
+
+    private static int index(final Object object) {
+        if (!(object instanceof Element))
+            return -1;
+        final Object id = ((Element) object).id();
+        final int offset;
+        if (id instanceof Long)
+            offset = 0;
+        else if (id instanceof Integer)
+            offset = 1;
+        else
+            return -1;
+        if (object instanceof Vertex)
+            return offset;
+        else if (object instanceof Edge)
+            return 2 + offset;
+        else if (object instanceof VertexProperty)
+            return 4 + offset;
+        else
+            return -1;
+    }
+
+    /**
+     * A linear-probing hash set of primitive longs.
+     */
+    private static final class LongHashSet implements Serializable {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] table = new long[INITIAL_CAPACITY];
+        private boolean hasZero = false;
+        private int size = 0;
+
+        private boolean add(final long value) {
+            if (0l == value) {
+                if (this.hasZero)
+                    return false;
+                this.hasZero = true;
+                this.size++;
+                return true;
+            }
+            if (this.insert(this.table, value)) {
+                // keep the load factor below one half
+                if (++this.size * 2 > this.table.length)
+                    this.resize();
+                return true;
+            }
+            return false;
+        }
+
+        private boolean contains(final long value) {
+            if (0l == value)
+                return this.hasZero;
+            final int mask = this.table.length - 1;
+            int slot = (int) HashHelper.mix(value) & mask;
+            while (0l != this.table[slot]) {
+                if (value == this.table[slot])
+                    return true;
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        private boolean insert(final long[] table, final long value) {
+            final int mask = table.length - 1;
+            int slot = (int) HashHelper.mix(value) & mask;
+            while (0l != table[slot]) {
+                if (value == table[slot])
+                    return false;
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = value;
+            return true;
+        }
+
+        private void resize() {
+            final long[] table = new long[this.table.length * 2];
+            for (final long value : this.table) {
+                if (0l != value)
+                    this.insert(table, value);
+            }
+            this.table = table;
+        }
+    }
+}
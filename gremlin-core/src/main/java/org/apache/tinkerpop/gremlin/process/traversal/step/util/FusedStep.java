@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FlatMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A step that evaluates a run of adjacent {@link FilterStep}, {@link MapStep} and {@link FlatMapStep} steps as one
+ * composed function. Each traverser is pushed through all the fused steps at once rather than being handed from step
+ * to step. The fused steps are not part of the traversal and only their filter/map/flatMap logic is used. As such,
+ * only stateless steps whose logic is fully captured by those functions should be fused. This step is typically
+ * created by {@link org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.StepFusionStrategy}.
+ *
+ * @author agent (agent@local)
+ */
+public final class FusedStep<S, E> extends AbstractStep<S, E> {
+
+    private static final byte FILTER = 0;
+    private static final byte MAP = 1;
+    private static final byte FLAT_MAP = 2;
+
+    private List<Step> fusedSteps;
+    private byte[] types;
+    private Traverser.Admin[] heads;
+    private Iterator[] iterators;
+
+    public FusedStep(final Traversal.Admin traversal, final List<Step> fusedSteps) {
+        super(traversal);
+        this.fusedSteps = new ArrayList<>(fusedSteps);
+        this.types = new byte[this.fusedSteps.size()];
+        for (int i = 0; i < this.types.length; i++) {
+            final Step step = this.fusedSteps.get(i);
+            if (step instanceof FilterStep)
+                this.types[i] = FILTER;
+            else if (step instanceof MapStep)
+                this.types[i] = MAP;
+            else if (step instanceof FlatMapStep)
+                this.types[i] = FLAT_MAP;
+            else
+                throw new IllegalArgumentException("Only filter, map and flatMap steps can be fused: " + step);
+            step.setTraversal(traversal);
+        }
+        this.heads = new Traverser.Admin[this.types.length];
+        this.iterators = new Iterator[this.types.length];
+    }
+
+    public List<Step> getFusedSteps() {
+        return Collections.unmodifiableList(this.fusedSteps);
+    }
+
+    @Override
+    protected Traverser.Admin<E> processNextStart() throws NoSuchElementException {
+        while (true) {
+            // resume the deepest flatMap that still has objects before pulling another start
+            int stage = -1;
+            for (int i = this.types.length - 1; i >= 0; i--) {
+                if (null != this.iterators[i]) {
+                    if (this.iterators[i].hasNext()) {
+                        stage = i;
+                        break;
+                    }
+                    this.iterators[i] = null;
+                    this.heads[i] = null;
+                }
+            }
+            final Traverser.Admin traverser = -1 == stage ?
+                    this.process(this.starts.next(), 0) :
+                    this.process(this.heads[stage].split(this.iterators[stage].next(), this.fusedSteps.get(stage)), stage + 1);
+            if (null != traverser)
+                return traverser;
+        }
+    }
+
+    /**
+     * Push the traverser through the fused steps starting at the provided stage.
+     *
+     * @return the traverser emitted by the last fused step or {@code null} if the traverser was filtered
+     */
+    private Traverser.Admin process(Traverser.Admin traverser, final int stage) {
+        for (int i = stage; i < this.types.length; i++) {
+            final Step step = this.fusedSteps.get(i);
+            if (FILTER == this.types[i]) {
+                if (!((FilterStep) step).applyFilter(traverser))
+                    return null;
+            } else if (MAP == this.types[i]) {
+                traverser = traverser.split(((MapStep) step).applyMap(traverser), step);
+            } else {
+                final Iterator iterator = ((FlatMapStep) step).applyFlatMap(traverser);
+                if (!iterator.hasNext())
+                    return null;
+                this.heads[i] = traverser;
+                this.iterators[i] = iterator;
+                traverser = traverser.split(iterator.next(), step);
+            }
+            if (null == traverser.get()) // as with unfused steps, traversers of null objects are not passed on
+                return null;
+        }
+        return traverser;
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        final Set<TraverserRequirement> requirements = new HashSet<>();
+        for (final Step step : this.fusedSteps) {
+            requirements.addAll(step.getRequirements());
+        }
+        return requirements;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> traversal) {
+        super.setTraversal(traversal);
+        this.fusedSteps.forEach(step -> step.setTraversal(traversal));
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.fusedSteps.forEach(Step::reset);
+        this.heads = new Traverser.Admin[this.types.length];
+        this.iterators = new Iterator[this.types.length];
+    }
+
+    @Override
+    public FusedStep<S, E> clone() {
+        final FusedStep<S, E> clone = (FusedStep<S, E>) super.clone();
+        clone.fusedSteps = new ArrayList<>(this.fusedSteps.size());
+        for (final Step step : this.fusedSteps) {
+            clone.fusedSteps.add(step.clone());
+        }
+        clone.heads = new Traverser.Admin[this.types.length];
+        clone.iterators = new Iterator[this.types.length];
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.fusedSteps);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.fusedSteps.hashCode();
+    }
+}
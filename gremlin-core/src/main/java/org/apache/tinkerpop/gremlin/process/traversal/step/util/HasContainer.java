@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.util;
 
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.CompiledPredicate;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.T;
@@ -35,12 +36,24 @@ import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
 /**
+ * A key and a {@link P} to test an {@link Element} against. The predicate is compiled into a
+ * {@link CompiledPredicate} when the container is built so that testing many elements avoids boxing numbers and
+ * re-scanning {@code within()} collections.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class HasContainer implements Serializable, Cloneable, Predicate<Element> {
 
+    private static final byte ID = 0;
+    private static final byte LABEL = 1;
+    private static final byte VALUE = 2;
+    private static final byte KEY = 3;
+    private static final byte PROPERTY = 4;
+
     private String key;
     private P predicate;
+    private byte keyType;
+    private transient CompiledPredicate compiledPredicate;
 
     private final boolean testingIdString;
 
@@ -68,19 +81,21 @@ public class HasContainer implements Serializable, Cloneable, Predicate<Element>
             if (this.testingIdString)
                 this.predicate.setValue(this.predicate.getValue() instanceof Collection ? IteratorUtils.set(IteratorUtils.map(((Collection<Object>) this.predicate.getValue()).iterator(), Object::toString)) : this.predicate.getValue().toString());
         }
+        this.keyType = HasContainer.keyType(this.key);
+        this.compiledPredicate = CompiledPredicate.compile(this.predicate);
     }
 
     public final boolean test(final Element element) {
         // it is OK to evaluate equality of ids via toString(), given that the test suite enforces the value of
         // id().toString() to be a first class representation of the identifier. a string test is only executed
         // if the predicate value is a String.  this allows stuff like: g.V().has(id,lt(10)) to work properly
-        if (this.key.equals(T.id.getAccessor()))
+        if (ID == this.keyType)
             return testingIdString ? testIdAsString(element) : testId(element);
-        else if (this.key.equals(T.label.getAccessor()))
+        else if (LABEL == this.keyType)
             return testLabel(element);
-        else if (element instanceof VertexProperty && this.key.equals(T.value.getAccessor()))
+        else if (element instanceof VertexProperty && VALUE == this.keyType)
             return testValue((VertexProperty) element);
-        else if (element instanceof VertexProperty && this.key.equals(T.key.getAccessor()))
+        else if (element instanceof VertexProperty && KEY == this.keyType)
             return testKey((VertexProperty) element);
         else {
             if (element instanceof Vertex) {
@@ -98,23 +113,23 @@ public class HasContainer implements Serializable, Cloneable, Predicate<Element>
     }
 
     protected boolean testId(Element element) {
-        return this.predicate.test(element.id());
+        return this.getCompiledPredicate().test(element.id());
     }
 
     protected boolean testIdAsString(Element element) {
-        return this.predicate.test(element.id().toString());
+        return this.getCompiledPredicate().test(element.id().toString());
     }
 
     protected boolean testLabel(Element element) {
-        return this.predicate.test(element.label());
+        return this.getCompiledPredicate().test(element.label());
     }
 
     protected boolean testValue(Property property) {
-        return this.predicate.test(property.value());
+        return this.getCompiledPredicate().test(property.value());
     }
 
     protected boolean testKey(Property property) {
-        return this.predicate.test(property.key());
+        return this.getCompiledPredicate().test(property.key());
     }
 
 
@@ -126,6 +141,7 @@ public class HasContainer implements Serializable, Cloneable, Predicate<Element>
         try {
             final HasContainer clone = (HasContainer) super.clone();
             clone.predicate = this.predicate.clone();
+            clone.compiledPredicate = CompiledPredicate.compile(clone.predicate);
             return clone;
         } catch (final CloneNotSupportedException e) {
             throw new IllegalStateException(e.getMessage(), e);
@@ -143,6 +159,7 @@ public class HasContainer implements Serializable, Cloneable, Predicate<Element>
 
     public final void setKey(final String key) {
         this.key = key;
+        this.keyType = HasContainer.keyType(key);
     }
 
     public final P<?> getPredicate() {
@@ -157,8 +174,30 @@ public class HasContainer implements Serializable, Cloneable, Predicate<Element>
         return this.predicate.getValue();
     }
 
+    /**
+     * Gets the compiled form of the predicate which is recompiled if the values of the predicate have changed.
+     */
+    protected final CompiledPredicate getCompiledPredicate() {
+        if (null == this.compiledPredicate || !this.compiledPredicate.isCurrent())
+            this.compiledPredicate = CompiledPredicate.compile(this.predicate);
+        return this.compiledPredicate;
+    }
+
     ////////////
 
+    private static byte keyType(final String key) {
+        if (key.equals(T.id.getAccessor()))
+            return ID;
+        else if (key.equals(T.label.getAccessor()))
+            return LABEL;
+        else if (key.equals(T.value.getAccessor()))
+            return VALUE;
+        else if (key.equals(T.key.getAccessor()))
+            return KEY;
+        else
+            return PROPERTY;
+    }
+
     private void enforceHomogenousCollectionIfPresent(final Object predicateValue) {
         if (predicateValue instanceof Collection) {
             final Collection collection = (Collection) predicateValue;
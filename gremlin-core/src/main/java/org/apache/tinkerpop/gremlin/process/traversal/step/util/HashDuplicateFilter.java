@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A HashDuplicateFilter is a {@link DuplicateFilter} that holds the objects added to it in a {@link HashSet}. It is
+ * the default filter of {@code dedup()}.
+ *
+ * @author agent (agent@local)
+ */
+public final class HashDuplicateFilter implements DuplicateFilter {
+
+    private final Set<Object> objects = new HashSet<>();
+
+    @Override
+    public boolean add(final Object object) {
+        return this.objects.add(object);
+    }
+
+    @Override
+    public boolean contains(final Object object) {
+        return this.objects.contains(object);
+    }
+
+    @Override
+    public int size() {
+        return this.objects.size();
+    }
+
+    @Override
+    public void clear() {
+        this.objects.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "hash[" + this.size() + "]";
+    }
+}
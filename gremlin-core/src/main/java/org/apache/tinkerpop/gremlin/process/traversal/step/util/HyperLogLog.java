@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.util.HashHelper;
+
+import java.io.Serializable;
+
+/**
+ * A HyperLogLog is a mergeable sketch that estimates the number of distinct objects it has seen using
+ * {@code 2^precision} bytes of state. The relative standard error of the estimate is about {@code 1.04/sqrt(2^precision)}
+ * (e.g. 0.81% for the default precision of 14). Objects are hashed with {@link HashHelper} so that attached, detached and
+ * reference forms of the same element are counted once, while elements of different kinds with the same id are
+ * counted apart.
+ * <p/>
+ * A sketch created with {@link #of(Object)} holds a single hash and only allocates its registers when it is merged
+ * into, which keeps the per-traverser projection of a reducing step cheap.
+ *
+ * @author agent (agent@local)
+ */
+public final class HyperLogLog implements Serializable {
+
+    public static final int DEFAULT_PRECISION = 14;
+
+    private int precision;
+    private byte[] registers;
+    private long hash;
+    private boolean hasHash;
+
+    private HyperLogLog() {
+        // for serialization
+    }
+
+    public HyperLogLog(final int precision) {
+        if (precision < 4 || precision > 18)
+            throw new IllegalArgumentException("The precision must be between 4 and 18: " + precision);
+        this.precision = precision;
+    }
+
+    public static HyperLogLog of(final Object object) {
+        return HyperLogLog.of(object, DEFAULT_PRECISION);
+    }
+
+    public static HyperLogLog of(final Object object, final int precision) {
+        final HyperLogLog hyperLogLog = new HyperLogLog(precision);
+        hyperLogLog.hash = HashHelper.hash(object);
+        hyperLogLog.hasHash = true;
+        return hyperLogLog;
+    }
+
+    public int getPrecision() {
+        return this.precision;
+    }
+
+    public void add(final Object object) {
+        this.addHash(HashHelper.hash(object));
+    }
+
+    public HyperLogLog merge(final HyperLogLog other) {
+        if (other.precision != this.precision)
+            throw new IllegalArgumentException("HyperLogLogs of different precision can not be merged: " + this.precision + " != " + other.precision);
+        if (null == other.registers) {
+            if (other.hasHash)
+                this.addHash(other.hash);
+        } else {
+            this.initializeRegisters();
+            for (int i = 0; i < this.registers.length; i++) {
+                if (other.registers[i] > this.registers[i])
+                    this.registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Get the estimated number of distinct objects added to the sketch.
+     *
+     * @return the estimated cardinality
+     */
+    public long cardinality() {
+        if (null == this.registers)
+            return this.hasHash ? 1l : 0l;
+        final int m = this.registers.length;
+        double sum = 0.0d;
+        int zeros = 0;
+        for (final byte register : this.registers) {
+            sum += 1.0d / (1l << register);
+            if (0 == register) zeros++;
+        }
+        final double alpha = 16 == m ? 0.673d : 32 == m ? 0.697d : 64 == m ? 0.709d : 0.7213d / (1.0d + 1.079d / m);
+        final double estimate = alpha * m * m / sum;
+        // linear counting is more accurate for small cardinalities
+        if (estimate <= 2.5d * m && zeros > 0)
+            return Math.round(m * Math.log((double) m / zeros));
+        return Math.round(estimate);
+    }
+
+    @Override
+    public String toString() {
+        return "hll[" + this.cardinality() + "]";
+    }
+
+    private void addHash(final long hash) {
+        this.initializeRegisters();
+        final int index = (int) (hash >>> (64 - this.precision));
+        final long remainder = (hash << this.precision) | (1l << (this.precision - 1));
+        final byte rank = (byte) (Long.numberOfLeadingZeros(remainder) + 1);
+        if (rank > this.registers[index])
+            this.registers[index] = rank;
+    }
+
+    private void initializeRegisters() {
+        if (null == this.registers) {
+            this.registers = new byte[1 << this.precision];
+            if (this.hasHash) {
+                this.hasHash = false;
+                this.addHash(this.hash);
+            }
+        }
+    }
+}
@@ -21,24 +21,44 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.util;
 import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.Pop;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
+ * A {@link Path} that is a linked list of immutable sections so that traversers split from the same traverser share
+ * their path prefix. The labels of a section are stored as a bitmask over a table of (at most 64) interned labels which
+ * the section references. New sections intern their labels into the current table and once it is full, a new table is
+ * started so that a full table is reclaimed when no path section references it anymore. A label set is only stored as
+ * a bitmask when the order of its bits is the order in which the labels were added, else (or when the labels do not
+ * fit in a table) the {@link Set} itself is stored.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class ImmutablePath implements Path, Serializable, Cloneable {
 
-    private static final ImmutablePath TAIL_PATH = new ImmutablePath(null, null, null);
+    private static final ImmutablePath TAIL_PATH = new ImmutablePath(null, null, null, 0L, null);
+
+    private static final int MAX_INTERNED_LABELS = Long.SIZE;
+    private static final int MAX_CACHED_LABEL_SETS = 4096;
+    private static final AtomicReference<LabelTable> LABEL_TABLE = new AtomicReference<>(new LabelTable());
 
-    private ImmutablePath previousPath;
-    private Object currentObject;
-    private Set<String> currentLabels;
+    private transient ImmutablePath previousPath;
+    private transient Object currentObject;
+    private transient LabelTable labelTable;
+    private transient long currentLabelBits;
+    private transient Set<String> currentLabels;
 
     public static Path make() {
         return TAIL_PATH;
@@ -50,16 +70,40 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
         return this;
     }
 
-    private ImmutablePath(final ImmutablePath previousPath, final Object currentObject, final Set<String> currentLabels) {
+    private ImmutablePath(final ImmutablePath previousPath, final Object currentObject, final LabelTable labelTable, final long currentLabelBits, final Set<String> currentLabels) {
         this.previousPath = previousPath;
         this.currentObject = currentObject;
+        this.labelTable = labelTable;
+        this.currentLabelBits = currentLabelBits;
         this.currentLabels = currentLabels;
     }
 
+    private static ImmutablePath section(final ImmutablePath previousPath, final Object currentObject, final Set<String> labels) {
+        if (labels.isEmpty())
+            return new ImmutablePath(previousPath, currentObject, null, 0L, null);
+        final LabelTable labelTable = LabelTable.current(labels);
+        final long bits = labelTable.toBits(labels, 0L);
+        return 0L == bits ?
+                new ImmutablePath(previousPath, currentObject, null, 0L, labels) :
+                new ImmutablePath(previousPath, currentObject, labelTable, bits, null);
+    }
+
     private final boolean isTail() {
         return null == this.currentObject;
     }
 
+    private Set<String> currentLabels() {
+        if (null != this.currentLabels)
+            return this.currentLabels;
+        return null == this.labelTable ? Collections.emptySet() : this.labelTable.toLabels(this.currentLabelBits);
+    }
+
+    private boolean hasCurrentLabel(final String label, final LabelBit labelBit) {
+        if (null != this.currentLabels)
+            return this.currentLabels.contains(label);
+        return null != this.labelTable && 0L != (this.currentLabelBits & labelBit.in(this.labelTable));
+    }
+
     @Override
     public boolean isEmpty() {
         return this.isTail();
@@ -83,19 +127,25 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
 
     @Override
     public Path extend(final Object object, final Set<String> labels) {
-        return new ImmutablePath(this, object, labels);
+        return ImmutablePath.section(this, object, labels);
     }
 
     @Override
     public Path extend(final Set<String> labels) {
-        if (labels.isEmpty() || this.currentLabels.containsAll(labels))
+        if (labels.isEmpty())
             return this;
-        else {
-            final Set<String> newLabels = new LinkedHashSet<>();
-            newLabels.addAll(this.currentLabels);
-            newLabels.addAll(labels);
-            return new ImmutablePath(this.previousPath, this.currentObject, newLabels);
-        }
+        if (null == this.currentLabels) {
+            if (null == this.labelTable)
+                return ImmutablePath.section(this.previousPath, this.currentObject, labels);
+            final long bits = this.labelTable.toBits(labels, this.currentLabelBits);
+            if (0L != bits)
+                return bits == this.currentLabelBits ? this : new ImmutablePath(this.previousPath, this.currentObject, this.labelTable, bits, null);
+        } else if (this.currentLabels.containsAll(labels))
+            return this;
+        final Set<String> newLabels = new LinkedHashSet<>();
+        newLabels.addAll(this.currentLabels());
+        newLabels.addAll(labels);
+        return new ImmutablePath(this.previousPath, this.currentObject, null, 0L, newLabels);
     }
 
     @Override
@@ -113,12 +163,27 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
             currentPath = currentPath.previousPath;
         }
         // build a new immutable path using the respective path sections that are not to be retracted
-        Path newPath = TAIL_PATH;
+        LabelTable retractedTable = null;
+        long retractedBits = 0L;
+        ImmutablePath newPath = TAIL_PATH;
         for (final ImmutablePath immutablePath : immutablePaths) {
-            final Set<String> temp = new LinkedHashSet<>(immutablePath.currentLabels);
-            temp.removeAll(labels);
-            if (!temp.isEmpty())
-                newPath = newPath.extend(immutablePath.currentObject, temp);
+            if (null == immutablePath.currentLabels) {
+                if (null == immutablePath.labelTable)
+                    continue;
+                if (retractedTable != immutablePath.labelTable) {
+                    retractedTable = immutablePath.labelTable;
+                    retractedBits = retractedTable.toMask(labels);
+                }
+                // removing bits never reorders the remaining labels so the section remains a bitmask
+                final long bits = immutablePath.currentLabelBits & ~retractedBits;
+                if (0L != bits)
+                    newPath = new ImmutablePath(newPath, immutablePath.currentObject, retractedTable, bits, null);
+            } else {
+                final Set<String> temp = new LinkedHashSet<>(immutablePath.currentLabels);
+                temp.removeAll(labels);
+                if (!temp.isEmpty())
+                    newPath = ImmutablePath.section(newPath, immutablePath.currentObject, temp);
+            }
         }
         return newPath;
     }
@@ -134,8 +199,26 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
         }
     }
 
+    @Override
+    public <A> A get(final String label) {
+        final LabelBit labelBit = new LabelBit(label);
+        final List<Object> objects = new ArrayList<>(1);
+        ImmutablePath currentPath = this;
+        while (true) {
+            if (currentPath.isTail())
+                break;
+            else if (currentPath.hasCurrentLabel(label, labelBit))
+                objects.add(0, currentPath.currentObject);
+            currentPath = currentPath.previousPath;
+        }
+        if (objects.isEmpty())
+            throw Path.Exceptions.stepWithProvidedLabelDoesNotExist(label);
+        return 1 == objects.size() ? (A) objects.get(0) : (A) objects;
+    }
+
     @Override
     public <A> A get(final Pop pop, final String label) {
+        final LabelBit labelBit = new LabelBit(label);
         if (Pop.mixed == pop) {
             return this.get(label);
         } else if (Pop.all == pop) {
@@ -145,7 +228,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
             while (true) {
                 if (currentPath.isTail())
                     break;
-                else if (currentPath.currentLabels.contains(label))
+                else if (currentPath.hasCurrentLabel(label, labelBit))
                     list.add(0, currentPath.currentObject);
                 currentPath = currentPath.previousPath;
             }
@@ -155,7 +238,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
             while (true) {
                 if (currentPath.isTail())
                     throw Path.Exceptions.stepWithProvidedLabelDoesNotExist(label);
-                else if (currentPath.currentLabels.contains(label))
+                else if (currentPath.hasCurrentLabel(label, labelBit))
                     return (A) currentPath.currentObject;
                 else
                     currentPath = currentPath.previousPath;
@@ -166,7 +249,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
             while (true) {
                 if (currentPath.isTail())
                     break;
-                else if (currentPath.currentLabels.contains(label))
+                else if (currentPath.hasCurrentLabel(label, labelBit))
                     found = (A) currentPath.currentObject;
                 currentPath = currentPath.previousPath;
             }
@@ -178,11 +261,12 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
 
     @Override
     public boolean hasLabel(final String label) {
+        final LabelBit labelBit = new LabelBit(label);
         ImmutablePath currentPath = this;
         while (true) {
             if (currentPath.isTail())
                 return false;
-            else if (currentPath.currentLabels.contains(label))
+            else if (currentPath.hasCurrentLabel(label, labelBit))
                 return true;
             else
                 currentPath = currentPath.previousPath;
@@ -209,7 +293,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
         while (true) {
             if (currentPath.isTail())
                 break;
-            labels.add(0, currentPath.currentLabels);
+            labels.add(0, currentPath.currentLabels());
             currentPath = currentPath.previousPath;
         }
         return Collections.unmodifiableList(labels);
@@ -256,7 +340,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
                 if (currentPath.isTail())
                     return true;
                 else if (!currentPath.currentObject.equals(otherObjects.get(i)) ||
-                        !currentPath.currentLabels.equals(otherLabels.get(i)))
+                        !currentPath.currentLabels().equals(otherLabels.get(i)))
                     return false;
                 else
                     currentPath = currentPath.previousPath;
@@ -274,7 +358,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
         while (true) {
             if (currentPath.isTail())
                 break;
-            for (final String label : currentPath.currentLabels) {
+            for (final String label : currentPath.currentLabels()) {
                 if (!otherPath.hasLabel(label) || !this.get(pop, label).equals(otherPath.get(pop, label)))
                     return false;
             }
@@ -298,4 +382,151 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
             }
         }
     }
+
+    private void writeObject(final ObjectOutputStream outputStream) throws IOException {
+        // label bits are only meaningful to this JVM so the labels themselves are serialized
+        outputStream.defaultWriteObject();
+        outputStream.writeObject(this.previousPath);
+        outputStream.writeObject(this.currentObject);
+        outputStream.writeObject(this.isTail() ? null : new LinkedHashSet<>(this.currentLabels()));
+    }
+
+    private void readObject(final ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+        inputStream.defaultReadObject();
+        this.previousPath = (ImmutablePath) inputStream.readObject();
+        this.currentObject = inputStream.readObject();
+        final Set<String> labels = (Set<String>) inputStream.readObject();
+        if (null != labels && !labels.isEmpty()) {
+            final LabelTable labelTable = LabelTable.current(labels);
+            this.currentLabelBits = labelTable.toBits(labels, 0L);
+            if (0L == this.currentLabelBits)
+                this.currentLabels = labels;
+            else
+                this.labelTable = labelTable;
+        }
+    }
+
+    ///////////////////////
+
+    /**
+     * A table of at most 64 interned labels that gives each label a bit. The bits of a section are only meaningful
+     * with respect to the table that the section references.
+     */
+    private static final class LabelTable {
+        private final Map<String, Long> labelBits = new ConcurrentHashMap<>();
+        private final AtomicReferenceArray<String> internedLabels = new AtomicReferenceArray<>(MAX_INTERNED_LABELS);
+        private final Map<Long, Set<String>> labelSets = new ConcurrentHashMap<>();
+
+        /**
+         * Gets the table into which new sections should intern the provided labels. If the current table has no room
+         * for the labels it does not already hold, then a new table is started.
+         */
+        private static LabelTable current(final Set<String> labels) {
+            final LabelTable labelTable = LABEL_TABLE.get();
+            if (labels.size() > MAX_INTERNED_LABELS || labelTable.hasRoomFor(labels))
+                return labelTable;
+            LABEL_TABLE.compareAndSet(labelTable, new LabelTable());
+            return LABEL_TABLE.get();
+        }
+
+        private boolean hasRoomFor(final Set<String> labels) {
+            int missing = 0;
+            for (final String label : labels) {
+                if (!this.labelBits.containsKey(label))
+                    missing++;
+            }
+            return this.labelBits.size() + missing <= MAX_INTERNED_LABELS;
+        }
+
+        /**
+         * Gets the bit of an interned label. If the label is not interned, it is interned when {@code intern} is true
+         * and there is room in the table. A bit of 0 means that the label can not be represented as a bit.
+         */
+        private long labelBit(final String label, final boolean intern) {
+            final Long bit = this.labelBits.get(label);
+            if (null != bit)
+                return bit;
+            if (!intern)
+                return 0L;
+            synchronized (this) {
+                final Long existingBit = this.labelBits.get(label);
+                if (null != existingBit)
+                    return existingBit;
+                final int index = this.labelBits.size();
+                if (index >= MAX_INTERNED_LABELS)
+                    return 0L;
+                this.internedLabels.set(index, label);
+                this.labelBits.put(label, 1L << index);
+                return 1L << index;
+            }
+        }
+
+        private long toMask(final Set<String> labels) {
+            long mask = 0L;
+            for (final String label : labels) {
+                mask |= this.labelBit(label, false);
+            }
+            return mask;
+        }
+
+        /**
+         * Adds the labels (in iteration order) to the provided bits. If a label can not be interned or would not be
+         * decoded in the order in which it was added, then 0 is returned and the labels must be stored as a set.
+         */
+        private long toBits(final Set<String> labels, long bits) {
+            long highestBit = Long.highestOneBit(bits);
+            for (final String label : labels) {
+                final long bit = this.labelBit(label, true);
+                if (0L == bit)
+                    return 0L;
+                else if (0L != (bits & bit))
+                    continue;
+                else if (Long.compareUnsigned(bit, highestBit) < 0)
+                    return 0L;
+                bits = bits | bit;
+                highestBit = bit;
+            }
+            return bits;
+        }
+
+        private Set<String> toLabels(final long bits) {
+            if (0L == bits)
+                return Collections.emptySet();
+            Set<String> labels = this.labelSets.get(bits);
+            if (null == labels) {
+                final Set<String> temp = new LinkedHashSet<>();
+                long remainingBits = bits;
+                while (0L != remainingBits) {
+                    temp.add(this.internedLabels.get(Long.numberOfTrailingZeros(remainingBits)));
+                    remainingBits = remainingBits & (remainingBits - 1);
+                }
+                labels = Collections.unmodifiableSet(temp);
+                if (this.labelSets.size() < MAX_CACHED_LABEL_SETS)
+                    this.labelSets.put(bits, labels);
+            }
+            return labels;
+        }
+    }
+
+    /**
+     * The bit of a label which is looked up once per {@link LabelTable} while walking the sections of a path, as
+     * consecutive sections usually reference the same table.
+     */
+    private static final class LabelBit {
+        private final String label;
+        private LabelTable labelTable;
+        private long bit;
+
+        private LabelBit(final String label) {
+            this.label = label;
+        }
+
+        private long in(final LabelTable labelTable) {
+            if (this.labelTable != labelTable) {
+                this.labelTable = labelTable;
+                this.bit = labelTable.labelBit(this.label, false);
+            }
+            return this.bit;
+        }
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.javatuples.Pair;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of the results of child traversals for a {@link org.apache.tinkerpop.gremlin.process.traversal.step.Memoizing}
+ * step which evicts the least recently used result once it is full. Results are keyed by the start object of the
+ * child traversal which, for an {@link org.apache.tinkerpop.gremlin.structure.Element}, amounts to its id.
+ *
+ * @author agent (agent@local)
+ */
+public final class MemoCache<V> extends LinkedHashMap<Object, V> {
+
+    private final int maxSize;
+
+    public MemoCache(final int maxSize) {
+        super(16, 0.75f, true);
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Get the key of the results for a traverser whose child traversal is started with the bulk of the traverser.
+     * As the results of such a child (e.g. of {@code local(count())}) may depend on the bulk, the bulk is part of the
+     * key unless it is {@code 1}.
+     */
+    public static Object key(final Traverser<?> traverser) {
+        return 1l == traverser.bulk() ? traverser.get() : Pair.with(traverser.get(), traverser.bulk());
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<Object, V> eldest) {
+        return this.size() > this.maxSize;
+    }
+}
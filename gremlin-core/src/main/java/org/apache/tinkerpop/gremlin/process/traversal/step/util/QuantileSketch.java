@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A QuantileSketch is a mergeable summary of a stream of numbers from which approximate quantiles can be read. It is
+ * a compactor hierarchy in the style of KLL: values enter at level 0 with weight 1 and, when a level fills up, it is
+ * sorted and every other value is promoted to the next level with twice the weight. The number of retained values is
+ * bounded by roughly {@code 3k} regardless of the length of the stream and the rank error is about {@code 1.7/k}
+ * (e.g. 0.85% for the default {@code k} of 200).
+ *
+ * @author agent (agent@local)
+ */
+public final class QuantileSketch implements Serializable {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final int MIN_LEVEL_CAPACITY = 8;
+
+    private int k;
+    private double[][] levels;
+    private int[] sizes;
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private boolean coin;
+
+    private QuantileSketch() {
+        // for serialization
+    }
+
+    public QuantileSketch(final int k) {
+        if (k < MIN_LEVEL_CAPACITY)
+            throw new IllegalArgumentException("The k of a quantile sketch must be at least " + MIN_LEVEL_CAPACITY + ": " + k);
+        this.k = k;
+        this.levels = new double[0][];
+        this.sizes = new int[0];
+    }
+
+    public static QuantileSketch of(final Number number, final long weight) {
+        return QuantileSketch.of(number, weight, DEFAULT_K);
+    }
+
+    public static QuantileSketch of(final Number number, final long weight, final int k) {
+        final QuantileSketch sketch = new QuantileSketch(k);
+        sketch.add(number, weight);
+        return sketch;
+    }
+
+    public int getK() {
+        return this.k;
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public boolean isEmpty() {
+        return 0l == this.count;
+    }
+
+    public void add(final Number number) {
+        this.add(number, 1l);
+    }
+
+    /**
+     * Add a number with the provided weight. The weight is decomposed into powers of two so that a heavily bulked
+     * value costs at most one slot per level.
+     */
+    public void add(final Number number, final long weight) {
+        if (weight <= 0l)
+            return;
+        final double value = number.doubleValue();
+        if (Double.isNaN(value))
+            return;
+        long remaining = weight;
+        int level = 0;
+        while (remaining > 0l) {
+            if ((remaining & 1l) == 1l)
+                this.append(level, value);
+            remaining >>>= 1;
+            level++;
+        }
+        this.count += weight;
+        this.updateBounds(value, value);
+        this.compress();
+    }
+
+    public QuantileSketch merge(final QuantileSketch other) {
+        if (other.isEmpty())
+            return this;
+        for (int level = 0; level < other.levels.length; level++) {
+            for (int i = 0; i < other.sizes[level]; i++) {
+                this.append(level, other.levels[level][i]);
+            }
+        }
+        this.count += other.count;
+        this.updateBounds(other.min, other.max);
+        this.compress();
+        return this;
+    }
+
+    /**
+     * Get the approximate value at the provided quantile.
+     *
+     * @param quantile a quantile between {@code 0.0} and {@code 1.0}
+     * @return the approximate value at that quantile or {@code NaN} if the sketch is empty
+     */
+    public double quantile(final double quantile) {
+        if (quantile < 0.0d || quantile > 1.0d)
+            throw new IllegalArgumentException("A quantile must be between 0.0 and 1.0: " + quantile);
+        if (this.isEmpty())
+            return Double.NaN;
+        if (0.0d == quantile)
+            return this.min;
+        if (1.0d == quantile)
+            return this.max;
+        int retained = 0;
+        for (final int size : this.sizes) {
+            retained += size;
+        }
+        final double[] values = new double[retained];
+        final long[] weights = new long[retained];
+        int index = 0;
+        for (int level = 0; level < this.levels.length; level++) {
+            for (int i = 0; i < this.sizes[level]; i++) {
+                values[index] = this.levels[level][i];
+                weights[index++] = 1l << level;
+            }
+        }
+        final Integer[] order = new Integer[retained];
+        for (int i = 0; i < retained; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+        long total = 0l;
+        for (final long weight : weights) {
+            total += weight;
+        }
+        final double target = quantile * total;
+        long cumulative = 0l;
+        for (final Integer i : order) {
+            cumulative += weights[i];
+            if (cumulative >= target)
+                return values[i];
+        }
+        return this.max;
+    }
+
+    @Override
+    public String toString() {
+        return "quantiles[" + this.count + "]";
+    }
+
+    private void updateBounds(final double low, final double high) {
+        if (Double.isNaN(this.min) || low < this.min)
+            this.min = low;
+        if (Double.isNaN(this.max) || high > this.max)
+            this.max = high;
+    }
+
+    private void append(final int level, final double value) {
+        if (level >= this.levels.length) {
+            this.levels = Arrays.copyOf(this.levels, level + 1);
+            this.sizes = Arrays.copyOf(this.sizes, level + 1);
+        }
+        if (null == this.levels[level])
+            this.levels[level] = new double[MIN_LEVEL_CAPACITY];
+        else if (this.sizes[level] == this.levels[level].length)
+            this.levels[level] = Arrays.copyOf(this.levels[level], this.levels[level].length * 2);
+        this.levels[level][this.sizes[level]++] = value;
+    }
+
+    private int capacity(final int level) {
+        // lower levels get geometrically smaller capacities so that most of the space goes to the heaviest values
+        final int depth = this.levels.length - 1 - level;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(this.k * Math.pow(2.0d / 3.0d, depth)));
+    }
+
+    private void compress() {
+        for (int level = 0; level < this.levels.length; level++) {
+            if (this.sizes[level] >= this.capacity(level))
+                this.compact(level);
+        }
+    }
+
+    private void compact(final int level) {
+        final double[] values = this.levels[level];
+        final int size = this.sizes[level];
+        Arrays.sort(values, 0, size);
+        // an odd value out stays behind so that the promoted values pair up exactly
+        final int start = size % 2;
+        final int offset = this.coin ? 1 : 0;
+        this.coin = !this.coin;
+        for (int i = start; i < size; i = i + 2) {
+            this.append(level + 1, values[i + offset]);
+        }
+        this.sizes[level] = start;
+    }
+}
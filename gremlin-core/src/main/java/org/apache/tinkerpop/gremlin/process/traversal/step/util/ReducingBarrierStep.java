@@ -27,6 +27,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.Generating;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 
 import java.util.function.BinaryOperator;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -39,6 +40,11 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
     protected BinaryOperator<E> reducingBiOperator;
     private boolean hasProcessedOnce = false;
     private E seed = null;
+    private int windowSize = Integer.MAX_VALUE;
+    private long windowTime = Long.MAX_VALUE;
+    private int windowCount = 0;
+    private long windowStart = 0l;
+    private transient LongSupplier windowClock = null;
 
     public ReducingBarrierStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -54,6 +60,19 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
 
     public abstract E projectTraverser(final Traverser.Admin<S> traverser);
 
+    /**
+     * Reduce a traverser into the seed. By default, the traverser is projected and the projection is reduced into
+     * the seed with the reducing {@link BinaryOperator}. A step whose seed is a mutable summary can add the traverser
+     * to the seed directly rather than creating a summary per traverser.
+     *
+     * @param seed      the current seed of the step
+     * @param traverser the traverser to reduce
+     * @return the reduced seed
+     */
+    protected E reduce(final E seed, final Traverser.Admin<S> traverser) {
+        return this.reducingBiOperator.apply(seed, this.projectTraverser(traverser));
+    }
+
     public void setReducingBiOperator(final BinaryOperator<E> reducingBiOperator) {
         this.reducingBiOperator = reducingBiOperator;
     }
@@ -62,10 +81,77 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
         return this.reducingBiOperator;
     }
 
+    public void setWindowSize(final int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public int getWindowSize() {
+        return this.windowSize;
+    }
+
+    public void setWindowTime(final long windowTime) {
+        this.windowTime = windowTime;
+    }
+
+    public long getWindowTime() {
+        return this.windowTime;
+    }
+
+    /**
+     * Set the clock that the age of a window is measured with (e.g. a controllable clock for testing).
+     * {@code null} (the default) means {@link System#currentTimeMillis()}.
+     *
+     * @param windowClock a supplier of the current time in milliseconds
+     */
+    public void setWindowClock(final LongSupplier windowClock) {
+        this.windowClock = windowClock;
+    }
+
+    /**
+     * Count a start into the current window and determine if the window is now closed, in which case the step should
+     * stop reducing and emit what it has reduced so far. Without a window size or time, a window never closes.
+     *
+     * @return whether the current window has closed
+     */
+    protected boolean closeWindow() {
+        if (Integer.MAX_VALUE == this.windowSize && Long.MAX_VALUE == this.windowTime)
+            return false;
+        if (0 == this.windowCount++)
+            this.windowStart = this.currentTimeMillis();
+        if (this.windowCount >= this.windowSize ||
+                (Long.MAX_VALUE != this.windowTime && this.currentTimeMillis() - this.windowStart >= this.windowTime)) {
+            this.windowCount = 0;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Determine if the current window has outlived the window time before the next start is reduced into it. This is
+     * checked whenever the step is polled for a start so that a start that arrives after the window time has passed
+     * opens the next window rather than joining the expired one.
+     *
+     * @return whether the current, non-empty window has closed because of its age
+     */
+    protected boolean windowExpired() {
+        if (Long.MAX_VALUE == this.windowTime || 0 == this.windowCount)
+            return false;
+        if (this.currentTimeMillis() - this.windowStart >= this.windowTime) {
+            this.windowCount = 0;
+            return true;
+        }
+        return false;
+    }
+
+    private long currentTimeMillis() {
+        return null == this.windowClock ? System.currentTimeMillis() : this.windowClock.getAsLong();
+    }
+
     public void reset() {
         super.reset();
         this.hasProcessedOnce = false;
         this.seed = null;
+        this.windowCount = 0;
     }
 
     @Override
@@ -80,8 +166,13 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
             return;
         this.hasProcessedOnce = true;
         if (this.seed == null) this.seed = this.seedSupplier.get();
-        while (this.starts.hasNext())
-            this.seed = this.reducingBiOperator.apply(this.seed, this.projectTraverser(this.starts.next()));
+        while (this.starts.hasNext()) {
+            if (this.windowExpired())
+                break;
+            this.seed = this.reduce(this.seed, this.starts.next());
+            if (this.closeWindow())
+                break;
+        }
     }
 
     @Override
@@ -123,6 +214,7 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
         final ReducingBarrierStep<S, E> clone = (ReducingBarrierStep<S, E>) super.clone();
         clone.hasProcessedOnce = false;
         clone.seed = null;
+        clone.windowCount = 0;
         return clone;
     }
 
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.util.SpillFile;
+import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
+import org.javatuples.Pair;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A SpillableDuplicateFilter deduplicates traversers by key while holding at most {@code spillThreshold} keys in
+ * memory. Until the threshold is reached, {@link #filter(Object, Traverser.Admin)} behaves like adding to a set. After
+ * that, traversers whose keys are not in memory are detached and hash-partitioned by key to disk. {@link #drain()}
+ * then deduplicates the spilled traversers one partition at a time. The distinct keys of each drained partition are
+ * kept on disk so that traversers which arrive after a drain are still deduplicated against them.
+ *
+ * @author agent (agent@local)
+ */
+public final class SpillableDuplicateFilter<S> implements AutoCloseable {
+
+    private static final int PARTITIONS = 16;
+
+    private final DuplicateFilter duplicateFilter;
+    private final int spillThreshold;
+    private final File spillDirectory;
+    private SpillFile<Pair<Object, Traverser.Admin<S>>>[] pending = null;
+    private SpillFile<Object>[] drained = null;
+
+    /**
+     * @param duplicateFilter the in-memory filter of keys
+     * @param spillThreshold  the number of keys to hold in memory before spilling
+     * @param spillDirectory  the directory to create spill files in ({@code null} for the temporary-file directory)
+     */
+    public SpillableDuplicateFilter(final DuplicateFilter duplicateFilter, final int spillThreshold, final File spillDirectory) {
+        this.duplicateFilter = duplicateFilter;
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Determine if the traverser should be emitted now.
+     *
+     * @return {@code true} if the key has not been seen before and {@code false} if the traverser is a duplicate or
+     * it was spilled to disk to be deduplicated by {@link #drain()}
+     */
+    public boolean filter(final Object key, final Traverser.Admin<S> traverser) {
+        if (this.duplicateFilter.contains(key))
+            return false;
+        if (this.duplicateFilter.size() < this.spillThreshold)
+            return this.duplicateFilter.add(key);
+        if (null == this.pending) {
+            this.pending = new SpillFile[PARTITIONS];
+            this.drained = new SpillFile[PARTITIONS];
+        }
+        final int partition = partition(key);
+        if (null == this.pending[partition])
+            this.pending[partition] = new SpillFile<>(this.spillDirectory);
+        this.pending[partition].write(new Pair<>(key, traverser.detach()));
+        return false;
+    }
+
+    public boolean hasPending() {
+        if (null != this.pending) {
+            for (final SpillFile<?> file : this.pending) {
+                if (null != file)
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the distinct spilled traversers whose keys have not been seen before. The traversers are detached.
+     */
+    public Iterator<Traverser.Admin<S>> drain() {
+        if (!this.hasPending())
+            return EmptyIterator.instance();
+        return new Iterator<Traverser.Admin<S>>() {
+            private int partition = 0;
+            private Iterator<Traverser.Admin<S>> current = EmptyIterator.instance();
+
+            @Override
+            public boolean hasNext() {
+                while (!this.current.hasNext() && this.partition < PARTITIONS) {
+                    this.current = drainPartition(this.partition++);
+                }
+                return this.current.hasNext();
+            }
+
+            @Override
+            public Traverser.Admin<S> next() {
+                if (!this.hasNext())
+                    throw new NoSuchElementException();
+                return this.current.next();
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        if (null != this.pending) {
+            for (int i = 0; i < PARTITIONS; i++) {
+                if (null != this.pending[i])
+                    this.pending[i].close();
+                if (null != this.drained[i])
+                    this.drained[i].close();
+            }
+            this.pending = null;
+            this.drained = null;
+        }
+    }
+
+    private Iterator<Traverser.Admin<S>> drainPartition(final int partition) {
+        if (null == this.pending[partition])
+            return EmptyIterator.instance();
+        final DuplicateFilter keys = new ElementIdSet();
+        final SpillFile<Object> drainedKeys = new SpillFile<>(this.spillDirectory);
+        if (null != this.drained[partition]) {
+            for (final Object key : this.drained[partition]) {
+                keys.add(key);
+                drainedKeys.write(key);
+            }
+            this.drained[partition].close();
+        }
+        final List<Traverser.Admin<S>> traversers = new ArrayList<>();
+        for (final Pair<Object, Traverser.Admin<S>> pair : this.pending[partition]) {
+            if (keys.add(pair.getValue0())) {
+                drainedKeys.write(pair.getValue0());
+                traversers.add(pair.getValue1());
+            }
+        }
+        this.pending[partition].close();
+        this.pending[partition] = null;
+        this.drained[partition] = drainedKeys;
+        return traversers.iterator();
+    }
+
+    private static int partition(final Object key) {
+        return null == key ? 0 : Math.floorMod(key.hashCode(), PARTITIONS);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.SpillFile;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
+import org.apache.tinkerpop.gremlin.util.HashHelper;
+import org.javatuples.Pair;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * A SpillableMap reduces a stream of maps with a reducing {@link BinaryOperator} (e.g. {@code GroupBiOperator}) while
+ * holding at most {@code spillThreshold} keys in memory. When the threshold is exceeded, the in-memory entries are
+ * hash-partitioned by key and appended to one {@link SpillFile} per partition. {@link #reduce(UnaryOperator, Consumer)}
+ * then merges one partition at a time with the same operator. A partition that holds more than {@code spillThreshold}
+ * entries is first split into sub-partitions by further bits of the key hash, so that no more than about
+ * {@code spillThreshold} unreduced entries are in memory at once no matter how many keys were spilled.
+ *
+ * @author agent (agent@local)
+ */
+public final class SpillableMap<K, V> implements AutoCloseable {
+
+    private static final int PARTITION_BITS = 4;
+    private static final int PARTITIONS = 1 << PARTITION_BITS;
+    // the number of times a partition can be split before the bits of the 64-bit key hash are used up
+    private static final int LEVELS = 64 / PARTITION_BITS;
+
+    private final BinaryOperator<Map<K, V>> reducer;
+    private final int spillThreshold;
+    private final File spillDirectory;
+    private final UnaryOperator<V> spillFunction;
+    private final UnaryOperator<K> readKeyFunction;
+    private final UnaryOperator<V> readFunction;
+    private Map<K, V> map = new HashMap<>();
+    private SpillFile<Pair<K, V>>[] partitions = null;
+
+    /**
+     * @param reducer        the operator used to merge the maps (it may mutate and return its first argument)
+     * @param spillThreshold the number of keys to hold in memory before spilling
+     * @param spillDirectory the directory to create spill files in ({@code null} for the temporary-file directory)
+     * @param spillFunction   prepares a value for serialization (e.g. detaching traversers)
+     * @param readKeyFunction prepares a deserialized key for reduction (e.g. re-attaching graph elements)
+     * @param readFunction    prepares a deserialized value for reduction (e.g. setting traverser side-effects)
+     */
+    public SpillableMap(final BinaryOperator<Map<K, V>> reducer, final int spillThreshold, final File spillDirectory,
+                        final UnaryOperator<V> spillFunction, final UnaryOperator<K> readKeyFunction, final UnaryOperator<V> readFunction) {
+        this.reducer = reducer;
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
+        this.spillFunction = spillFunction;
+        this.readKeyFunction = readKeyFunction;
+        this.readFunction = readFunction;
+    }
+
+    public void add(final Map<K, V> map) {
+        this.map = this.reducer.apply(this.map, map);
+        if (this.map.size() > this.spillThreshold)
+            this.spill();
+    }
+
+    public boolean hasSpilled() {
+        return null != this.partitions;
+    }
+
+    /**
+     * Merge all in-memory and spilled entries, partition by partition, into a single map.
+     *
+     * @param finalizer applied to each fully merged partition before it is added to the result (e.g. a final reduction)
+     * @return the merged map
+     */
+    public Map<K, V> reduce(final UnaryOperator<Map<K, V>> finalizer) {
+        if (!this.hasSpilled())
+            return finalizer.apply(this.takeMap());
+        final Map<K, V> result = new HashMap<>();
+        this.reduce(finalizer, result::putAll);
+        return result;
+    }
+
+    /**
+     * Merge all in-memory and spilled entries partition by partition and hand each merged partition to the consumer
+     * (e.g. to add it to a side-effect) rather than collecting them into a single map. The partitions have disjoint
+     * keys.
+     *
+     * @param finalizer applied to each fully merged partition before it is consumed (e.g. a final reduction)
+     * @param consumer  the consumer of the merged partitions
+     */
+    public void reduce(final UnaryOperator<Map<K, V>> finalizer, final Consumer<Map<K, V>> consumer) {
+        if (!this.hasSpilled()) {
+            consumer.accept(finalizer.apply(this.takeMap()));
+            return;
+        }
+        // the in-memory entries join their partitions on disk so that any partition can be split if it is too large
+        this.spill();
+        for (int i = 0; i < PARTITIONS; i++) {
+            if (null != this.partitions[i]) {
+                this.reducePartition(this.partitions[i], 1, finalizer, consumer);
+                this.partitions[i] = null;
+            }
+        }
+        this.partitions = null;
+    }
+
+    @Override
+    public void close() {
+        if (null != this.partitions) {
+            for (final SpillFile<Pair<K, V>> file : this.partitions) {
+                if (null != file)
+                    file.close();
+            }
+            this.partitions = null;
+        }
+        this.map.clear();
+    }
+
+    /**
+     * Get a read function that re-attaches deserialized graph objects (i.e. {@link Attachable} objects such as
+     * spilled elements) to the graph of the traversal so that they can be traversed from again.
+     *
+     * @param traversal the traversal whose graph the objects are attached to
+     * @return the read function
+     */
+    public static <T> UnaryOperator<T> attach(final Traversal.Admin<?, ?> traversal) {
+        return object -> {
+            if (!(object instanceof Attachable))
+                return object;
+            final Optional<Graph> graph = traversal.getGraph();
+            return graph.isPresent() ? ((Attachable<T>) object).attach(Attachable.Method.get(graph.get())) : object;
+        };
+    }
+
+    /**
+     * Hand the in-memory map over to the caller so that {@link #close()} does not clear a map that was returned.
+     */
+    private Map<K, V> takeMap() {
+        final Map<K, V> map = this.map;
+        this.map = new HashMap<>();
+        return map;
+    }
+
+    private void reducePartition(final SpillFile<Pair<K, V>> file, final int level, final UnaryOperator<Map<K, V>> finalizer, final Consumer<Map<K, V>> consumer) {
+        try {
+            if (file.size() > this.spillThreshold && level < LEVELS) {
+                final SpillFile<Pair<K, V>>[] split = new SpillFile[PARTITIONS];
+                try {
+                    for (final Pair<K, V> pair : file) {
+                        final int partition = partition(pair.getValue0(), level);
+                        if (null == split[partition])
+                            split[partition] = new SpillFile<>(this.spillDirectory);
+                        split[partition].write(pair);
+                    }
+                    for (final SpillFile<Pair<K, V>> subPartition : split) {
+                        if (null != subPartition)
+                            this.reducePartition(subPartition, level + 1, finalizer, consumer);
+                    }
+                } finally {
+                    for (final SpillFile<Pair<K, V>> subPartition : split) {
+                        if (null != subPartition)
+                            subPartition.close();
+                    }
+                }
+            } else {
+                Map<K, V> partition = new HashMap<>();
+                for (final Pair<K, V> pair : file) {
+                    partition = this.reducer.apply(partition, Collections.singletonMap(this.readKeyFunction.apply(pair.getValue0()), this.readFunction.apply(pair.getValue1())));
+                }
+                consumer.accept(finalizer.apply(partition));
+            }
+        } finally {
+            file.close();
+        }
+    }
+
+    private void spill() {
+        if (null == this.partitions)
+            this.partitions = new SpillFile[PARTITIONS];
+        for (final Map.Entry<K, V> entry : this.map.entrySet()) {
+            final int partition = partition(entry.getKey(), 0);
+            if (null == this.partitions[partition])
+                this.partitions[partition] = new SpillFile<>(this.spillDirectory);
+            this.partitions[partition].write(new Pair<>(entry.getKey(), this.spillFunction.apply(entry.getValue())));
+        }
+        this.map = new HashMap<>();
+    }
+
+    /**
+     * Each level of partitioning uses the next {@link #PARTITION_BITS} bits of the mixed hash of the key.
+     */
+    private static int partition(final Object key, final int level) {
+        final long hash = HashHelper.mix(null == key ? 0 : key.hashCode());
+        return (int) (hash >>> (level * PARTITION_BITS)) & (PARTITIONS - 1);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A TopKSketch is a mergeable Misra-Gries summary that tracks the most frequent objects of a stream with a bounded
+ * number of counters. When the number of counters exceeds twice the capacity, every counter is decremented by the
+ * count of the (capacity+1)th most frequent object and those that reach zero are removed. Any object that occurs more
+ * than {@code n/(capacity+1)} times is guaranteed to be retained and each reported count underestimates the true count
+ * by at most {@link #getError()}.
+ *
+ * @author agent (agent@local)
+ */
+public final class TopKSketch implements Serializable {
+
+    private int capacity;
+    private Map<Object, Long> counters;
+    private long error;
+
+    private TopKSketch() {
+        // for serialization
+    }
+
+    public TopKSketch(final int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("The capacity of a top-k sketch must be at least 1: " + capacity);
+        this.capacity = capacity;
+        this.counters = new HashMap<>();
+    }
+
+    public static TopKSketch of(final Object object, final long count, final int capacity) {
+        final TopKSketch sketch = new TopKSketch(capacity);
+        sketch.add(object, count);
+        return sketch;
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Get the maximum amount by which any count reported by this sketch underestimates the true count.
+     */
+    public long getError() {
+        return this.error;
+    }
+
+    public void add(final Object object, final long count) {
+        this.counters.merge(object, count, Long::sum);
+        if (this.counters.size() > 2 * this.capacity)
+            this.prune();
+    }
+
+    public TopKSketch merge(final TopKSketch other) {
+        other.counters.forEach((object, count) -> this.counters.merge(object, count, Long::sum));
+        this.error += other.error;
+        if (this.counters.size() > 2 * this.capacity)
+            this.prune();
+        return this;
+    }
+
+    /**
+     * Get the {@code k} most frequent objects in descending order of their approximate counts.
+     */
+    public Map<Object, Long> topK(final int k) {
+        final List<Map.Entry<Object, Long>> entries = new ArrayList<>(this.counters.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        final Map<Object, Long> top = new LinkedHashMap<>();
+        for (int i = 0; i < k && i < entries.size(); i++) {
+            top.put(entries.get(i).getKey(), entries.get(i).getValue());
+        }
+        return top;
+    }
+
+    @Override
+    public String toString() {
+        return "topk" + this.topK(this.capacity);
+    }
+
+    private void prune() {
+        final long[] counts = new long[this.counters.size()];
+        int index = 0;
+        for (final Long count : this.counters.values()) {
+            counts[index++] = count;
+        }
+        Arrays.sort(counts);
+        final long decrement = counts[counts.length - 1 - this.capacity];
+        final Iterator<Map.Entry<Object, Long>> iterator = this.counters.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Object, Long> entry = iterator.next();
+            if (entry.getValue() <= decrement)
+                iterator.remove();
+            else
+                entry.setValue(entry.getValue() - decrement);
+        }
+        this.error += decrement;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code ApproximateDedupStrategy} configures {@code dedup()} to track the objects it has seen with a fixed-size
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.step.util.BloomFilter} rather than an exact set. The memory
+ * used is about {@code -n*ln(p)/ln(2)^2} bits for {@code n} expected insertions and false-positive probability
+ * {@code p} (e.g. 1.2MB for one million insertions at 1%) no matter how large the deduplicated objects are. The price
+ * is that about {@code p} of the distinct objects are filtered as if they were duplicates (more if the number of
+ * distinct objects exceeds the expected insertions). Duplicates are never let through.
+ * <p/>
+ * <pre>
+ * g.withStrategies(ApproximateDedupStrategy.build().expectedInsertions(10000000).falsePositiveProbability(0.001).create()).V().out().out().dedup().count()
+ * </pre>
+ *
+ * @author agent (agent@local)
+ */
+public final class ApproximateDedupStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy> implements TraversalStrategy.DecorationStrategy {
+
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private ApproximateDedupStrategy(final long expectedInsertions, final double falsePositiveProbability) {
+        if (expectedInsertions < 1)
+            throw new IllegalArgumentException("The expected insertions must be greater than zero: " + expectedInsertions);
+        if (falsePositiveProbability <= 0.0d || falsePositiveProbability >= 1.0d)
+            throw new IllegalArgumentException("The false-positive probability must be between 0.0 and 1.0 (exclusive): " + falsePositiveProbability);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        for (final DedupGlobalStep step : TraversalHelper.getStepsOfClass(DedupGlobalStep.class, traversal)) {
+            step.setBloomFilter(this.expectedInsertions, this.falsePositiveProbability);
+        }
+    }
+
+    public long getExpectedInsertions() {
+        return this.expectedInsertions;
+    }
+
+    public double getFalsePositiveProbability() {
+        return this.falsePositiveProbability;
+    }
+
+    public static final String EXPECTED_INSERTIONS = "expectedInsertions";
+    public static final String FALSE_POSITIVE_PROBABILITY = "falsePositiveProbability";
+
+    public static ApproximateDedupStrategy create(final Configuration configuration) {
+        final Builder builder = ApproximateDedupStrategy.build();
+        if (configuration.containsKey(EXPECTED_INSERTIONS))
+            builder.expectedInsertions(configuration.getLong(EXPECTED_INSERTIONS));
+        if (configuration.containsKey(FALSE_POSITIVE_PROBABILITY))
+            builder.falsePositiveProbability(configuration.getDouble(FALSE_POSITIVE_PROBABILITY));
+        return builder.create();
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(STRATEGY, ApproximateDedupStrategy.class.getCanonicalName());
+        map.put(EXPECTED_INSERTIONS, this.expectedInsertions);
+        map.put(FALSE_POSITIVE_PROBABILITY, this.falsePositiveProbability);
+        return new MapConfiguration(map);
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private long expectedInsertions = 1000000l;
+        private double falsePositiveProbability = 0.01d;
+
+        private Builder() {
+        }
+
+        /**
+         * The number of distinct objects each {@code dedup()} is expected to see (default 1000000).
+         */
+        public Builder expectedInsertions(final long expectedInsertions) {
+            this.expectedInsertions = expectedInsertions;
+            return this;
+        }
+
+        /**
+         * The probability that a distinct object is filtered as a duplicate (default 0.01).
+         */
+        public Builder falsePositiveProbability(final double falsePositiveProbability) {
+            this.falsePositiveProbability = falsePositiveProbability;
+            return this;
+        }
+
+        public ApproximateDedupStrategy create() {
+            return new ApproximateDedupStrategy(this.expectedInsertions, this.falsePositiveProbability);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+/**
+ * {@code BreadthFirstRepeatStrategy} has {@code repeat()} process its loops breadth-first in OLTP. All the traversers
+ * of a loop are merged into a single frontier before the next loop begins and thus, traversers that reach the same
+ * object the same way are bulked and walked once. For deep traversals over dense graphs this can drastically reduce
+ * the number of traversers processed. The cost is that each loop is a barrier (i.e. the full frontier is held in
+ * memory and the first result is only available once its loop has completed). OLAP is always breadth-first and is
+ * not affected by this strategy.
+ * <p/>
+ * <pre>
+ * g.withStrategies(BreadthFirstRepeatStrategy.instance()).V(1).repeat(out()).times(5).count()
+ * </pre>
+ *
+ * @author agent (agent@local)
+ */
+public final class BreadthFirstRepeatStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy> implements TraversalStrategy.DecorationStrategy {
+
+    private static final BreadthFirstRepeatStrategy INSTANCE = new BreadthFirstRepeatStrategy();
+
+    private BreadthFirstRepeatStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        for (final RepeatStep<?> step : TraversalHelper.getStepsOfClass(RepeatStep.class, traversal)) {
+            step.setBreadthFirst(true);
+        }
+    }
+
+    public static BreadthFirstRepeatStrategy instance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Memoizing;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code MemoizationStrategy} has the {@link Memoizing} steps of a traversal (e.g. {@code where()}, {@code and()},
+ * {@code or()}, {@code local()}, {@code coalesce()} and the {@code by()} of {@code order()}, {@code group()} and
+ * {@code groupCount()}) cache the results of their child traversals by the object of the incoming traverser. Traversers at an
+ * object whose result is cached do not re-execute the children, which pays off when many traversers share the same
+ * elements. A step only memoizes if the results of all its children are determined by their start object alone and
+ * no step of the traversal mutates the graph.
+ * <p/>
+ * <pre>
+ * g.withStrategies(MemoizationStrategy.build().size(10000).create()).V().out().where(out("created").count().is(gt(1)))
+ * g.withStrategies(MemoizationStrategy.build().size(10000).create()).V().out().order().by(out().count())
+ * </pre>
+ *
+ * @author agent (agent@local)
+ */
+public final class MemoizationStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy> implements TraversalStrategy.DecorationStrategy {
+
+    private static final Set<Class<? extends DecorationStrategy>> PRIORS = Collections.singleton(ConnectiveStrategy.class);
+
+    private final int size;
+
+    private MemoizationStrategy(final int size) {
+        if (size < 1)
+            throw new IllegalArgumentException("The memo size must be greater than zero: " + size);
+        this.size = size;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.hasStepOfAssignableClassRecursively(Mutating.class, TraversalHelper.getRootTraversal(traversal)))
+            return;
+
+        for (final Memoizing step : TraversalHelper.getStepsOfAssignableClass(Memoizing.class, traversal)) {
+            if (((TraversalParent) step).getLocalChildren().stream().allMatch(TraversalHelper::isDeterminedByStart))
+                step.setMemoSize(this.size);
+        }
+    }
+
+    @Override
+    public Set<Class<? extends DecorationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public int getSize() {
+        return this.size;
+    }
+
+    public static final String SIZE = "size";
+
+    public static MemoizationStrategy create(final Configuration configuration) {
+        final Builder builder = MemoizationStrategy.build();
+        if (configuration.containsKey(SIZE))
+            builder.size(configuration.getInt(SIZE));
+        return builder.create();
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(STRATEGY, MemoizationStrategy.class.getCanonicalName());
+        map.put(SIZE, this.size);
+        return new MapConfiguration(map);
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private int size = 10000;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of cached results per step (default is 10000).
+         */
+        public Builder size(final int size) {
+            this.size = size;
+            return this;
+        }
+
+        public MemoizationStrategy create() {
+            return new MemoizationStrategy(this.size);
+        }
+    }
+}
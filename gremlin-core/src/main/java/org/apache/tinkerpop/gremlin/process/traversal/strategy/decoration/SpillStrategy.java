@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Spillable;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code SpillStrategy} bounds the memory used by {@link Spillable} steps (e.g. {@code order()}, {@code group()},
+ * {@code groupCount()} and {@code dedup()}) by configuring them
+ * to spill their state to local disk once they hold more than {@code spillThreshold} objects. The strategy only
+ * applies to OLTP traversals as a {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer} manages the
+ * memory of its barriers on its own. A spilling {@code group()} or {@code groupCount()} side-effect step only writes
+ * its side-effect once it has consumed all of its starts (or is reset or closed) and is therefore not spilled when its
+ * side-effect is read while the traversal is iterated (e.g. by {@code select()} or a lambda).
+ * <p/>
+ * <pre>
+ * g.withStrategies(SpillStrategy.build().spillThreshold(100000).create()).V().order().by("name")
+ * </pre>
+ *
+ * @author agent (agent@local)
+ */
+public final class SpillStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy> implements TraversalStrategy.DecorationStrategy {
+
+    private final int spillThreshold;
+    private final File spillDirectory;
+
+    private SpillStrategy(final int spillThreshold, final File spillDirectory) {
+        if (spillThreshold < 1)
+            throw new IllegalArgumentException("The spill threshold must be greater than zero: " + spillThreshold);
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        for (final Spillable step : TraversalHelper.getStepsOfAssignableClass(Spillable.class, traversal)) {
+            // a spilling side-effect step only writes its side-effect once it is exhausted so it must remain eager
+            // if the side-effect is read while the traversal is being iterated
+            if (step instanceof SideEffectCapable && SpillStrategy.isSideEffectRead(((SideEffectCapable) step).getSideEffectKey(), traversal))
+                continue;
+            step.setSpillThreshold(this.spillThreshold);
+            step.setSpillDirectory(this.spillDirectory);
+        }
+    }
+
+    private static boolean isSideEffectRead(final String sideEffectKey, final Traversal.Admin<?, ?> traversal) {
+        return TraversalHelper.anyStepRecursively(step -> step instanceof LambdaHolder ||
+                (step instanceof Scoping && ((Scoping) step).getScopeKeys().contains(sideEffectKey)), TraversalHelper.getRootTraversal(traversal));
+    }
+
+    public int getSpillThreshold() {
+        return this.spillThreshold;
+    }
+
+    public File getSpillDirectory() {
+        return this.spillDirectory;
+    }
+
+    public static final String SPILL_THRESHOLD = "spillThreshold";
+    public static final String SPILL_DIRECTORY = "spillDirectory";
+
+    public static SpillStrategy create(final Configuration configuration) {
+        final Builder builder = SpillStrategy.build();
+        if (configuration.containsKey(SPILL_THRESHOLD))
+            builder.spillThreshold(configuration.getInt(SPILL_THRESHOLD));
+        if (configuration.containsKey(SPILL_DIRECTORY))
+            builder.spillDirectory(new File(configuration.getString(SPILL_DIRECTORY)));
+        return builder.create();
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(STRATEGY, SpillStrategy.class.getCanonicalName());
+        map.put(SPILL_THRESHOLD, this.spillThreshold);
+        if (null != this.spillDirectory)
+            map.put(SPILL_DIRECTORY, this.spillDirectory.getAbsolutePath());
+        return new MapConfiguration(map);
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private int spillThreshold = 100000;
+        private File spillDirectory = null;
+
+        private Builder() {
+        }
+
+        /**
+         * The number of objects a step may hold in memory before it spills to disk (default 100000).
+         */
+        public Builder spillThreshold(final int spillThreshold) {
+            this.spillThreshold = spillThreshold;
+            return this;
+        }
+
+        /**
+         * The directory to create spill files in (default is the JVM temporary-file directory).
+         */
+        public Builder spillDirectory(final File spillDirectory) {
+            this.spillDirectory = spillDirectory;
+            return this;
+        }
+
+        public SpillStrategy create() {
+            return new SpillStrategy(this.spillThreshold, this.spillDirectory);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Windowed;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code WindowStrategy} configures the {@link Windowed} steps (e.g. {@code group()} and {@code groupCount()}) of a
+ * traversal to emit a partial result for every window of {@code windowSize} traversers or {@code windowTime}
+ * milliseconds instead of a single result once all their starts are consumed. This allows traversals over long-running
+ * or unbounded sources to stream progressive results (e.g. from Gremlin Server) before they complete. Each partial
+ * result only reflects the traversers of its window. The strategy only applies to the steps of the root traversal of
+ * an OLTP traversal.
+ * <p/>
+ * <pre>
+ * g.withStrategies(WindowStrategy.build().windowSize(1000).windowTime(500).create()).V().groupCount().by(label)
+ * </pre>
+ *
+ * @author agent (agent@local)
+ */
+public final class WindowStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy> implements TraversalStrategy.DecorationStrategy {
+
+    private final int windowSize;
+    private final long windowTime;
+
+    private WindowStrategy(final int windowSize, final long windowTime) {
+        if (windowSize < 1)
+            throw new IllegalArgumentException("The window size must be greater than zero: " + windowSize);
+        if (windowTime < 1)
+            throw new IllegalArgumentException("The window time must be greater than zero: " + windowTime);
+        if (Integer.MAX_VALUE == windowSize && Long.MAX_VALUE == windowTime)
+            throw new IllegalArgumentException("Either the window size or the window time must be provided");
+        this.windowSize = windowSize;
+        this.windowTime = windowTime;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (!(traversal.getParent() instanceof EmptyStep) || TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        for (final Windowed step : TraversalHelper.getStepsOfAssignableClass(Windowed.class, traversal)) {
+            step.setWindowSize(this.windowSize);
+            step.setWindowTime(this.windowTime);
+        }
+    }
+
+    public int getWindowSize() {
+        return this.windowSize;
+    }
+
+    public long getWindowTime() {
+        return this.windowTime;
+    }
+
+    public static final String WINDOW_SIZE = "windowSize";
+    public static final String WINDOW_TIME = "windowTime";
+
+    public static WindowStrategy create(final Configuration configuration) {
+        final Builder builder = WindowStrategy.build();
+        if (configuration.containsKey(WINDOW_SIZE))
+            builder.windowSize(configuration.getInt(WINDOW_SIZE));
+        if (configuration.containsKey(WINDOW_TIME))
+            builder.windowTime(configuration.getLong(WINDOW_TIME));
+        return builder.create();
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(STRATEGY, WindowStrategy.class.getCanonicalName());
+        if (Integer.MAX_VALUE != this.windowSize)
+            map.put(WINDOW_SIZE, this.windowSize);
+        if (Long.MAX_VALUE != this.windowTime)
+            map.put(WINDOW_TIME, this.windowTime);
+        return new MapConfiguration(map);
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private int windowSize = Integer.MAX_VALUE;
+        private long windowTime = Long.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * The number of traversers after which a window is emitted (default is no size bound).
+         */
+        public Builder windowSize(final int windowSize) {
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * The number of milliseconds after which a window is emitted (default is no time bound).
+         */
+        public Builder windowTime(final long windowTime) {
+            this.windowTime = windowTime;
+            return this;
+        }
+
+        public WindowStrategy create() {
+            return new WindowStrategy(this.windowSize, this.windowTime);
+        }
+    }
+}
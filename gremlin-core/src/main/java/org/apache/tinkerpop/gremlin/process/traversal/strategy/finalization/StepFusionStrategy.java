@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ClassFilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.IsStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.IdStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.LabelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertyKeyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertyValueStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.FusedStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code StepFusionStrategy} replaces runs of adjacent stateless filter and map steps (e.g. {@code has()},
+ * {@code is()}, {@code values()}, {@code id()} and {@code label()}) with a single {@link FusedStep} which pushes each
+ * traverser through the whole run at once rather than handing it from step to step. It is a finalization strategy so
+ * that provider optimizations (e.g. folding {@code has()} into the graph step) still see the individual steps. A run
+ * ends with a labeled step. A lazy barrier (i.e. {@code barrier(n)}) within a run is moved after the fused step so
+ * that the traversers are still bulked for the steps that follow. The strategy is not applied to OLAP traversals nor
+ * to traversals that are being profiled. It is not a default strategy and must be added with
+ * {@code g.withStrategies(StepFusionStrategy.instance())}.
+ * <p/>
+ *
+ * @author agent (agent@local)
+ * @example <pre>
+ * __.has("age", gt(30)).values("name").is(neq("josh"))            // is replaced by fused([has(age,gt(30)), values(name), is(neq(josh))])
+ * __.has("age", gt(30)).values("name").barrier(2500).is(neq("josh")) // is replaced by fused([has(age,gt(30)), values(name), is(neq(josh))]).barrier(2500)
+ * </pre>
+ */
+public final class StepFusionStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    private static final StepFusionStrategy INSTANCE = new StepFusionStrategy();
+    private static final Set<Class<? extends Step>> FUSIBLE_STEPS = new HashSet<>(Arrays.asList(
+            HasStep.class,
+            IsStep.class,
+            ClassFilterStep.class,
+            IdStep.class,
+            LabelStep.class,
+            PropertiesStep.class,
+            PropertyKeyStep.class,
+            PropertyValueStep.class));
+
+    private StepFusionStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal) ||
+                TraversalHelper.hasStepOfAssignableClassRecursively(ProfileSideEffectStep.class, TraversalHelper.getRootTraversal(traversal)))
+            return;
+
+        final List<Step> steps = traversal.getSteps();
+        int i = 0;
+        while (i < steps.size()) {
+            final List<Step> run = new ArrayList<>();
+            Step barrier = null;
+            int end = i;
+            while (end < steps.size()) {
+                final Step step = steps.get(end);
+                if (FUSIBLE_STEPS.contains(step.getClass())) {
+                    run.add(step);
+                    end++;
+                    // labels can only be reflected after the last fused step
+                    if (!step.getLabels().isEmpty())
+                        break;
+                } else if (!run.isEmpty() && StepFusionStrategy.isLazyBarrier(step) &&
+                        end + 1 < steps.size() && FUSIBLE_STEPS.contains(steps.get(end + 1).getClass())) {
+                    // a lazy barrier within the run is moved after the run
+                    if (null == barrier)
+                        barrier = step;
+                    end++;
+                } else
+                    break;
+            }
+            if (run.size() > 1) {
+                final FusedStep<?, ?> fusedStep = new FusedStep<>(traversal, run);
+                TraversalHelper.copyLabels(run.get(run.size() - 1), fusedStep, true);
+                for (int j = i; j < end; j++) {
+                    traversal.removeStep(i);
+                }
+                traversal.addStep(i++, fusedStep);
+                if (null != barrier && !(fusedStep.getNextStep() instanceof Barrier) &&
+                        (!(fusedStep.getNextStep() instanceof EmptyStep) || traversal.getParent() instanceof EmptyStep))
+                    traversal.addStep(i++, barrier);
+            } else
+                i = Math.max(i + 1, end);
+        }
+    }
+
+    private static boolean isLazyBarrier(final Step step) {
+        return step instanceof NoOpBarrierStep &&
+                Integer.MAX_VALUE != ((NoOpBarrierStep) step).getMaxBarrierSize() &&
+                step.getLabels().isEmpty();
+    }
+
+    public static StepFusionStrategy instance() {
+        return INSTANCE;
+    }
+}
@@ -18,6 +18,8 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
 
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
@@ -36,16 +38,30 @@ import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequire
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
+ * {@code LazyBarrierStrategy} is an OLTP-only strategy that inserts a {@link NoOpBarrierStep} after every
+ * {@link FlatMapStep} (save the first) in order to bulk the traversers generated by the flatMaps. The inserted
+ * barriers adapt their size to how much bulking actually occurs. As such, barriers are also inserted after labeled
+ * steps when {@link PathRetractionStrategy} retracts the path data as traversers with the same retained path data
+ * can be bulked and when they are not, the barriers degrade to passing traversers straight through. How the inserted
+ * barriers adapt can be configured with {@link #build()} and {@link #instance()} uses the defaults documented on
+ * {@link Builder}.
+ * <p/>
+ * <pre>
+ * g.withStrategies(LazyBarrierStrategy.build().probeInterval(1000).create()).V().out().out()
+ * </pre>
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class LazyBarrierStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
 
     private final boolean IS_TESTING = Boolean.valueOf(System.getProperty("is.testing", "false"));
-    private static final LazyBarrierStrategy INSTANCE = new LazyBarrierStrategy();
+    private static final LazyBarrierStrategy INSTANCE = LazyBarrierStrategy.build().create();
     private static final Set<Class<? extends OptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
             RangeByIsCountStrategy.class,
             PathRetractionStrategy.class,
@@ -58,7 +74,25 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
     private static final int BIG_START_SIZE = 5;
     protected static final int MAX_BARRIER_SIZE = 2500;
 
-    private LazyBarrierStrategy() {
+    private final double shrinkMergeRatio;
+    private final double growMergeRatio;
+    private final double lowMemoryRatio;
+    private final int probeInterval;
+    private final int probeSize;
+
+    private LazyBarrierStrategy(final double shrinkMergeRatio, final double growMergeRatio, final double lowMemoryRatio,
+                                final int probeInterval, final int probeSize) {
+        if (shrinkMergeRatio < 0.0d || shrinkMergeRatio > growMergeRatio || growMergeRatio > 1.0d)
+            throw new IllegalArgumentException("The merge ratios must satisfy 0 <= shrinkMergeRatio <= growMergeRatio <= 1: " + shrinkMergeRatio + ", " + growMergeRatio);
+        if (lowMemoryRatio < 0.0d || lowMemoryRatio > 1.0d)
+            throw new IllegalArgumentException("The low memory ratio must be between 0 and 1: " + lowMemoryRatio);
+        if (probeInterval < 1 || probeSize < 1)
+            throw new IllegalArgumentException("The probe interval and probe size must be greater than zero: " + probeInterval + ", " + probeSize);
+        this.shrinkMergeRatio = shrinkMergeRatio;
+        this.growMergeRatio = growMergeRatio;
+        this.lowMemoryRatio = lowMemoryRatio;
+        this.probeInterval = probeInterval;
+        this.probeSize = probeSize;
     }
 
     @Override
@@ -71,6 +105,8 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
 
         boolean foundFlatMap = false;
         boolean labeledPath = false;
+        final boolean retractedPath = traversal.getSteps().stream()
+                .anyMatch(step -> step instanceof PathProcessor && null != ((PathProcessor) step).getKeepLabels());
         for (int i = 0; i < traversal.getSteps().size(); i++) {
             final Step<?, ?> step = traversal.getSteps().get(i);
 
@@ -84,10 +120,11 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
                     (step instanceof GraphStep &&
                             (i > 0 || ((GraphStep) step).getIds().length >= BIG_START_SIZE ||
                                     (((GraphStep) step).getIds().length == 0 && !(step.getNextStep() instanceof HasStep))))) {
-                if (foundFlatMap && !labeledPath &&
+                if (foundFlatMap && (!labeledPath || retractedPath) &&
                         !(step.getNextStep() instanceof Barrier) &&
                         (!(step.getNextStep() instanceof EmptyStep) || step.getTraversal().getParent() instanceof EmptyStep)) {
-                    final Step noOpBarrierStep = new NoOpBarrierStep<>(traversal, MAX_BARRIER_SIZE);
+                    final Step noOpBarrierStep = new NoOpBarrierStep<>(traversal, MAX_BARRIER_SIZE,
+                            this.shrinkMergeRatio, this.growMergeRatio, this.lowMemoryRatio, this.probeInterval, this.probeSize);
                     TraversalHelper.copyLabels(step, noOpBarrierStep, true);
                     TraversalHelper.insertAfterStep(noOpBarrierStep, step, traversal);
                 } else
@@ -105,7 +142,124 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
         return PRIORS;
     }
 
+    public double getShrinkMergeRatio() {
+        return this.shrinkMergeRatio;
+    }
+
+    public double getGrowMergeRatio() {
+        return this.growMergeRatio;
+    }
+
+    public double getLowMemoryRatio() {
+        return this.lowMemoryRatio;
+    }
+
+    public int getProbeInterval() {
+        return this.probeInterval;
+    }
+
+    public int getProbeSize() {
+        return this.probeSize;
+    }
+
+    public static final String SHRINK_MERGE_RATIO = "shrinkMergeRatio";
+    public static final String GROW_MERGE_RATIO = "growMergeRatio";
+    public static final String LOW_MEMORY_RATIO = "lowMemoryRatio";
+    public static final String PROBE_INTERVAL = "probeInterval";
+    public static final String PROBE_SIZE = "probeSize";
+
+    public static LazyBarrierStrategy create(final Configuration configuration) {
+        final Builder builder = LazyBarrierStrategy.build();
+        if (configuration.containsKey(SHRINK_MERGE_RATIO))
+            builder.shrinkMergeRatio(configuration.getDouble(SHRINK_MERGE_RATIO));
+        if (configuration.containsKey(GROW_MERGE_RATIO))
+            builder.growMergeRatio(configuration.getDouble(GROW_MERGE_RATIO));
+        if (configuration.containsKey(LOW_MEMORY_RATIO))
+            builder.lowMemoryRatio(configuration.getDouble(LOW_MEMORY_RATIO));
+        if (configuration.containsKey(PROBE_INTERVAL))
+            builder.probeInterval(configuration.getInt(PROBE_INTERVAL));
+        if (configuration.containsKey(PROBE_SIZE))
+            builder.probeSize(configuration.getInt(PROBE_SIZE));
+        return builder.create();
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(STRATEGY, LazyBarrierStrategy.class.getCanonicalName());
+        map.put(SHRINK_MERGE_RATIO, this.shrinkMergeRatio);
+        map.put(GROW_MERGE_RATIO, this.growMergeRatio);
+        map.put(LOW_MEMORY_RATIO, this.lowMemoryRatio);
+        map.put(PROBE_INTERVAL, this.probeInterval);
+        map.put(PROBE_SIZE, this.probeSize);
+        return new MapConfiguration(map);
+    }
+
     public static LazyBarrierStrategy instance() {
         return INSTANCE;
     }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private double shrinkMergeRatio = NoOpBarrierStep.DEFAULT_SHRINK_MERGE_RATIO;
+        private double growMergeRatio = NoOpBarrierStep.DEFAULT_GROW_MERGE_RATIO;
+        private double lowMemoryRatio = NoOpBarrierStep.DEFAULT_LOW_MEMORY_RATIO;
+        private int probeInterval = NoOpBarrierStep.DEFAULT_PROBE_INTERVAL;
+        private int probeSize = NoOpBarrierStep.DEFAULT_PROBE_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * The share of traversers merged into a full barrier below which the barrier shrinks to a quarter of its
+         * size (default 0.05).
+         */
+        public Builder shrinkMergeRatio(final double shrinkMergeRatio) {
+            this.shrinkMergeRatio = shrinkMergeRatio;
+            return this;
+        }
+
+        /**
+         * The share of traversers merged into a full barrier at or above which the barrier doubles its size, up to
+         * its maximum size (default 0.25).
+         */
+        public Builder growMergeRatio(final double growMergeRatio) {
+            this.growMergeRatio = growMergeRatio;
+            return this;
+        }
+
+        /**
+         * The share of the maximum heap that, once the free heap drops below it, halves the size of a full barrier
+         * (default 0.1).
+         */
+        public Builder lowMemoryRatio(final double lowMemoryRatio) {
+            this.lowMemoryRatio = lowMemoryRatio;
+            return this;
+        }
+
+        /**
+         * The number of traversers a shrunken barrier passes straight through before it probes whether bulking pays
+         * off again (default 10000).
+         */
+        public Builder probeInterval(final int probeInterval) {
+            this.probeInterval = probeInterval;
+            return this;
+        }
+
+        /**
+         * The size of the barrier that probes whether bulking pays off again (default 256).
+         */
+        public Builder probeSize(final int probeSize) {
+            this.probeSize = probeSize;
+            return this;
+        }
+
+        public LazyBarrierStrategy create() {
+            return new LazyBarrierStrategy(this.shrinkMergeRatio, this.growMergeRatio, this.lowMemoryRatio, this.probeInterval, this.probeSize);
+        }
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.kryoshim.InputShim;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.kryoshim.KryoShim;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.kryoshim.OutputShim;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.kryoshim.SerializerShim;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Serializes the traversers that {@code TraversalVertexProgram} passes between workers. Rather than writing every
+ * field of the traverser, a leading byte flags which of the bulk, loops, sack and tags differ from their defaults and
+ * only those are written (with the bulk and loops as variable length numbers). The path is written as is given that
+ * it is already detached and retracted to the labels that are still required.
+ *
+ * @author agent (agent@local)
+ */
+public final class TraverserSerializer<T extends O_Traverser> implements SerializerShim<T> {
+
+    private static final byte BULK = 1;
+    private static final byte LOOPS = 2;
+    private static final byte SACK = 4;
+    private static final byte TAGS = 8;
+
+    private static final Map<Class<?>, Supplier<O_Traverser>> TRAVERSERS = new HashMap<>();
+
+    static {
+        TRAVERSERS.put(B_O_Traverser.class, B_O_Traverser::new);
+        TRAVERSERS.put(B_O_S_SE_SL_Traverser.class, B_O_S_SE_SL_Traverser::new);
+        TRAVERSERS.put(B_LP_O_S_SE_SL_Traverser.class, B_LP_O_S_SE_SL_Traverser::new);
+        TRAVERSERS.put(B_LP_O_P_S_SE_SL_Traverser.class, B_LP_O_P_S_SE_SL_Traverser::new);
+        TRAVERSERS.put(O_OB_S_SE_SL_Traverser.class, O_OB_S_SE_SL_Traverser::new);
+        TRAVERSERS.put(LP_O_OB_S_SE_SL_Traverser.class, LP_O_OB_S_SE_SL_Traverser::new);
+        TRAVERSERS.put(LP_O_OB_P_S_SE_SL_Traverser.class, LP_O_OB_P_S_SE_SL_Traverser::new);
+    }
+
+    @Override
+    public <O extends OutputShim> void write(final KryoShim<?, O> kryo, final O output, final T traverser) {
+        final Set<String> tags = traverser.tags;
+        byte flags = 0;
+        if (1L != traverser.bulk()) flags |= BULK;
+        if (hasSackAndLoops(traverser)) {
+            if (0 != traverser.loops()) flags |= LOOPS;
+            if (null != traverser.sack()) flags |= SACK;
+        }
+        if (null != tags && !tags.isEmpty()) flags |= TAGS;
+        output.writeByte(flags);
+        kryo.writeClassAndObject(output, traverser.get());
+        output.writeString(traverser.getStepId());
+        if ((flags & BULK) != 0)
+            output.writeVarLong(traverser.bulk(), true);
+        if ((flags & LOOPS) != 0)
+            output.writeVarInt(traverser.loops(), true);
+        if ((flags & SACK) != 0)
+            kryo.writeClassAndObject(output, traverser.sack());
+        if ((flags & TAGS) != 0) {
+            output.writeVarInt(tags.size(), true);
+            for (final String tag : tags) {
+                output.writeString(tag);
+            }
+        }
+        if (hasPath(traverser))
+            kryo.writeClassAndObject(output, traverser.path());
+    }
+
+    @Override
+    public <I extends InputShim> T read(final KryoShim<I, ?> kryo, final I input, final Class<T> traverserClass) {
+        final Supplier<O_Traverser> supplier = TRAVERSERS.get(traverserClass);
+        if (null == supplier)
+            throw new IllegalStateException("The traverser class can not be deserialized by this serializer: " + traverserClass.getCanonicalName());
+        final T traverser = (T) supplier.get();
+        final byte flags = input.readByte();
+        traverser.set(kryo.readClassAndObject(input));
+        traverser.setStepId(input.readString());
+        if ((flags & BULK) != 0)
+            traverser.setBulk(input.readVarLong(true));
+        if ((flags & LOOPS) != 0)
+            setLoops(traverser, (short) input.readVarInt(true));
+        if ((flags & SACK) != 0)
+            traverser.sack(kryo.readClassAndObject(input));
+        if ((flags & TAGS) != 0) {
+            final int size = input.readVarInt(true);
+            final Set<String> tags = traverser.getTags();
+            for (int i = 0; i < size; i++) {
+                tags.add(input.readString());
+            }
+        }
+        if (hasPath(traverser))
+            setPath(traverser, (Path) kryo.readClassAndObject(input));
+        return traverser;
+    }
+
+    private static boolean hasSackAndLoops(final Traverser.Admin<?> traverser) {
+        return traverser instanceof B_O_S_SE_SL_Traverser || traverser instanceof O_OB_S_SE_SL_Traverser;
+    }
+
+    private static boolean hasPath(final Traverser.Admin<?> traverser) {
+        return traverser instanceof B_LP_O_S_SE_SL_Traverser || traverser instanceof B_LP_O_P_S_SE_SL_Traverser ||
+                traverser instanceof LP_O_OB_S_SE_SL_Traverser || traverser instanceof LP_O_OB_P_S_SE_SL_Traverser;
+    }
+
+    private static void setPath(final Traverser.Admin<?> traverser, final Path path) {
+        if (traverser instanceof B_LP_O_S_SE_SL_Traverser)
+            ((B_LP_O_S_SE_SL_Traverser) traverser).path = path;
+        else if (traverser instanceof B_LP_O_P_S_SE_SL_Traverser)
+            ((B_LP_O_P_S_SE_SL_Traverser) traverser).path = path;
+        else if (traverser instanceof LP_O_OB_S_SE_SL_Traverser)
+            ((LP_O_OB_S_SE_SL_Traverser) traverser).path = path;
+        else
+            ((LP_O_OB_P_S_SE_SL_Traverser) traverser).path = path;
+    }
+
+    private static void setLoops(final Traverser.Admin<?> traverser, final short loops) {
+        if (traverser instanceof B_O_S_SE_SL_Traverser)
+            ((B_O_S_SE_SL_Traverser) traverser).loops = loops;
+        else
+            ((O_OB_S_SE_SL_Traverser) traverser).loops = loops;
+    }
+}
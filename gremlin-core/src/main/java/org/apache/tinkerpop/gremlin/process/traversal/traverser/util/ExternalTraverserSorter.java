@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.util.SpillFile;
+import org.apache.tinkerpop.gremlin.util.function.ChainedComparator;
+import org.javatuples.Pair;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * An ExternalTraverserSorter sorts an arbitrarily large number of traversers with a bounded amount of memory.
+ * Traversers are bulked into a {@link TraverserSet} until it holds {@code runSize} traversers, at which point the set is
+ * sorted and spilled to a {@link SpillFile} as a run of (sort keys, detached traverser) pairs. Iterating the sorter
+ * lazily merges the spilled runs with the traversers that remain in memory. If no run was ever spilled, the sorter
+ * behaves exactly like {@link TraverserSet#sort(Comparator)}. Traversers read back from disk are detached and it is up
+ * to the caller to re-attach them and reset their side-effects.
+ *
+ * @author agent (agent@local)
+ */
+public final class ExternalTraverserSorter<S> implements Iterable<Traverser.Admin<S>>, AutoCloseable {
+
+    private final ChainedComparator<S, ?> comparator;
+    private final int runSize;
+    private final File directory;
+    private final TraverserSet<S> traverserSet = new TraverserSet<>();
+    private final List<SpillFile<Pair<List, Traverser.Admin<S>>>> runs = new ArrayList<>();
+
+    public ExternalTraverserSorter(final ChainedComparator<S, ?> comparator, final int runSize, final File directory) {
+        if (runSize < 1)
+            throw new IllegalArgumentException("The run size must be greater than zero: " + runSize);
+        this.comparator = comparator;
+        this.runSize = runSize;
+        this.directory = directory;
+    }
+
+    public void add(final Traverser.Admin<S> traverser) {
+        this.traverserSet.add(traverser);
+        if (this.traverserSet.size() >= this.runSize)
+            this.spill();
+    }
+
+    public int getRunCount() {
+        return this.runs.size();
+    }
+
+    @Override
+    public Iterator<Traverser.Admin<S>> iterator() {
+        if (this.runs.isEmpty()) {
+            this.traverserSet.sort((Comparator) this.comparator);
+            return this.traverserSet.iterator();
+        }
+        final PriorityQueue<Run> queue = new PriorityQueue<>();
+        final List<Run> runs = new ArrayList<>(this.runs.size() + 1);
+        for (final SpillFile<Pair<List, Traverser.Admin<S>>> run : this.runs) {
+            runs.add(new Run(runs.size(), run.iterator()));
+        }
+        runs.add(new Run(runs.size(), this.sortRun().iterator()));
+        runs.stream().filter(run -> null != run.head).forEach(queue::add);
+        return new Iterator<Traverser.Admin<S>>() {
+            @Override
+            public boolean hasNext() {
+                return !queue.isEmpty();
+            }
+
+            @Override
+            public Traverser.Admin<S> next() {
+                final Run run = queue.poll();
+                if (null == run)
+                    throw new NoSuchElementException();
+                final Traverser.Admin<S> traverser = run.head.getValue1();
+                if (run.advance())
+                    queue.add(run);
+                return traverser;
+            }
+        };
+    }
+
+    /**
+     * Delete all spilled runs and clear the traversers held in memory.
+     */
+    @Override
+    public void close() {
+        this.runs.forEach(SpillFile::close);
+        this.runs.clear();
+        this.traverserSet.clear();
+    }
+
+    private List<Pair<List, Traverser.Admin<S>>> sortRun() {
+        final List<Pair<List, Traverser.Admin<S>>> run = new ArrayList<>(this.traverserSet.size());
+        for (final Traverser.Admin<S> traverser : this.traverserSet) {
+            run.add(new Pair<>(this.comparator.getSortKeys((S) traverser), traverser));
+        }
+        this.traverserSet.clear();
+        run.sort((a, b) -> this.comparator.compareSortKeys(a.getValue0(), b.getValue0()));
+        return run;
+    }
+
+    private void spill() {
+        final SpillFile<Pair<List, Traverser.Admin<S>>> file = new SpillFile<>(this.directory);
+        for (final Pair<List, Traverser.Admin<S>> pair : this.sortRun()) {
+            file.write(new Pair<>(pair.getValue0(), pair.getValue1().detach()));
+        }
+        this.runs.add(file);
+    }
+
+    private final class Run implements Comparable<Run> {
+
+        private final int index;
+        private final Iterator<Pair<List, Traverser.Admin<S>>> iterator;
+        private Pair<List, Traverser.Admin<S>> head;
+
+        private Run(final int index, final Iterator<Pair<List, Traverser.Admin<S>>> iterator) {
+            this.index = index;
+            this.iterator = iterator;
+            this.advance();
+        }
+
+        private boolean advance() {
+            this.head = this.iterator.hasNext() ? this.iterator.next() : null;
+            return null != this.head;
+        }
+
+        @Override
+        public int compareTo(final Run other) {
+            final int comparison = comparator.compareSortKeys(this.head.getValue0(), other.head.getValue0());
+            return 0 != comparison ? comparison : Integer.compare(this.index, other.index);
+        }
+    }
+}
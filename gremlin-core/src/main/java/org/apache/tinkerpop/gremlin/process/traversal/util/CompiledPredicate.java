@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@link P} compiled into a form that is cheaper to evaluate repeatedly. Comparisons of integral numbers are done
+ * on primitive {@code long} values, {@link Contains} collections are hashed once, {@link String} comparisons skip
+ * the {@link Number} type checks of {@link Compare} and {@link AndP}/{@link OrP} are evaluated over an array of
+ * their compiled predicates. Anything else is delegated to {@link P#test(Object)} so that a compiled predicate always
+ * yields the same result as the predicate it was compiled from.
+ * <p/>
+ * A compiled predicate captures the values of the predicate at compilation. {@link #isCurrent()} tells whether
+ * those values were since replaced via {@link P#setValue(Object)} and thus whether the predicate must be recompiled.
+ *
+ * @author agent (agent@local)
+ */
+public abstract class CompiledPredicate implements Predicate<Object> {
+
+    protected final P<?> predicate;
+    protected final Object value;
+
+    private CompiledPredicate(final P<?> predicate) {
+        this.predicate = predicate;
+        this.value = predicate.getValue();
+    }
+
+    /**
+     * Determines if the values of the predicate are still the ones this predicate was compiled with.
+     */
+    public boolean isCurrent() {
+        return this.predicate.getValue() == this.value;
+    }
+
+    public P<?> getPredicate() {
+        return this.predicate;
+    }
+
+    @Override
+    public String toString() {
+        return this.predicate.toString();
+    }
+
+    public static CompiledPredicate compile(final P<?> predicate) {
+        if (predicate.getClass().equals(AndP.class) || predicate.getClass().equals(OrP.class))
+            return new ConnectivePredicate((ConnectiveP<?>) predicate);
+        else if (!predicate.getClass().equals(P.class) || null == predicate.getValue())
+            return new DelegatingPredicate(predicate);
+        else if (predicate.getBiPredicate() instanceof Compare) {
+            if (isIntegral(predicate.getValue()))
+                return new IntegralPredicate(predicate);
+            else if (predicate.getValue() instanceof String)
+                return new StringPredicate(predicate);
+        } else if (predicate.getBiPredicate() instanceof Contains && predicate.getValue() instanceof Collection && !(predicate.getValue() instanceof Set))
+            return new ContainsPredicate(predicate);
+        return new DelegatingPredicate(predicate);
+    }
+
+    private static boolean isIntegral(final Object object) {
+        return object instanceof Integer || object instanceof Long || object instanceof Short || object instanceof Byte;
+    }
+
+    private static boolean compare(final Compare compare, final int comparison) {
+        switch (compare) {
+            case eq:
+                return 0 == comparison;
+            case neq:
+                return 0 != comparison;
+            case gt:
+                return comparison > 0;
+            case gte:
+                return comparison >= 0;
+            case lt:
+                return comparison < 0;
+            default:
+                return comparison <= 0;
+        }
+    }
+
+    ////////////
+
+    private static final class DelegatingPredicate extends CompiledPredicate {
+
+        private DelegatingPredicate(final P<?> predicate) {
+            super(predicate);
+        }
+
+        @Override
+        public boolean test(final Object object) {
+            return ((P) this.predicate).test(object);
+        }
+
+        @Override
+        public boolean isCurrent() {
+            return true;
+        }
+    }
+
+    private static final class IntegralPredicate extends CompiledPredicate {
+
+        private final Compare compare;
+        private final long primitive;
+
+        private IntegralPredicate(final P<?> predicate) {
+            super(predicate);
+            this.compare = (Compare) predicate.getBiPredicate();
+            this.primitive = ((Number) this.value).longValue();
+        }
+
+        @Override
+        public boolean test(final Object object) {
+            return isIntegral(object) ?
+                    compare(this.compare, Long.compare(((Number) object).longValue(), this.primitive)) :
+                    this.compare.test(object, this.value);
+        }
+    }
+
+    private static final class StringPredicate extends CompiledPredicate {
+
+        private final Compare compare;
+        private final String string;
+
+        private StringPredicate(final P<?> predicate) {
+            super(predicate);
+            this.compare = (Compare) predicate.getBiPredicate();
+            this.string = (String) this.value;
+        }
+
+        @Override
+        public boolean test(final Object object) {
+            if (object instanceof String)
+                return Compare.eq == this.compare || Compare.neq == this.compare ?
+                        this.string.equals(object) == (Compare.eq == this.compare) :
+                        compare(this.compare, ((String) object).compareTo(this.string));
+            return this.compare.test(object, this.value);
+        }
+    }
+
+    private static final class ContainsPredicate extends CompiledPredicate {
+
+        private final boolean within;
+        private final Set<Object> set;
+
+        private ContainsPredicate(final P<?> predicate) {
+            super(predicate);
+            this.within = Contains.within == predicate.getBiPredicate();
+            this.set = new HashSet<>((Collection<?>) this.value);
+        }
+
+        @Override
+        public boolean test(final Object object) {
+            return this.set.contains(object) == this.within;
+        }
+    }
+
+    private static final class ConnectivePredicate extends CompiledPredicate {
+
+        private final boolean and;
+        private final List<? extends P<?>> predicates;
+        private final CompiledPredicate[] compiled;
+
+        private ConnectivePredicate(final ConnectiveP<?> predicate) {
+            super(predicate);
+            this.and = predicate instanceof AndP;
+            this.predicates = predicate.getPredicates();
+            this.compiled = new CompiledPredicate[this.predicates.size()];
+            for (int i = 0; i < this.compiled.length; i++) {
+                this.compiled[i] = CompiledPredicate.compile(this.predicates.get(i));
+            }
+        }
+
+        @Override
+        public boolean test(final Object object) {
+            for (final CompiledPredicate predicate : this.compiled) {
+                if (predicate.test(object) != this.and)
+                    return !this.and;
+            }
+            return this.and;
+        }
+
+        @Override
+        public boolean isCurrent() {
+            if (this.predicates.size() != this.compiled.length)
+                return false;
+            for (int i = 0; i < this.compiled.length; i++) {
+                if (this.predicates.get(i) != this.compiled[i].predicate || !this.compiled[i].isCurrent())
+                    return false;
+            }
+            return true;
+        }
+    }
+}
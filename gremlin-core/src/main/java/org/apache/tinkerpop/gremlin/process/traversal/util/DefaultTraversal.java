@@ -203,6 +203,26 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
         this.lastTraverser = EmptyTraverser.instance();
     }
 
+    /**
+     * Closes the steps of the traversal (and of its child traversals) that hold resources such as spill files which
+     * would otherwise only be released once the traversal is fully iterated.
+     */
+    @Override
+    public void close() throws Exception {
+        for (final Step<?, ?> step : this.steps) {
+            if (step instanceof AutoCloseable)
+                ((AutoCloseable) step).close();
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> localChild : ((TraversalParent) step).getLocalChildren()) {
+                    localChild.close();
+                }
+                for (final Traversal.Admin<?, ?> globalChild : ((TraversalParent) step).getGlobalChildren()) {
+                    globalChild.close();
+                }
+            }
+        }
+    }
+
     @Override
     public void addStart(final Traverser.Admin<S> start) {
         if (!this.locked) this.applyStrategies();
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoPool;
+import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A SpillFile is a temporary, append-only file of Gryo-serialized objects. It is used by {@link org.apache.tinkerpop.gremlin.process.traversal.step.Spillable}
+ * steps to move state out of the heap. Objects are written with {@link #write(Object)} and, once writing is complete,
+ * are lazily read back in write order via {@link #iterator()}. Closing the file deletes it from disk.
+ * Any graph elements written should be detached first as they are not re-attached when read.
+ *
+ * @author agent (agent@local)
+ */
+public final class SpillFile<E> implements Iterable<E>, AutoCloseable {
+
+    private static final int BUFFER_SIZE = 65536;
+    private static final GryoPool GRYO_POOL = GryoPool.build().poolSize(16).type(GryoPool.Type.READER).create();
+
+    private final File file;
+    private final List<SpillIterator> iterators = new ArrayList<>();
+    private Output output;
+    private Kryo kryo;
+    private long size = 0L;
+
+    public SpillFile(final File directory) {
+        try {
+            this.file = File.createTempFile("gremlin-spill-", ".kryo", directory);
+            this.file.deleteOnExit();
+            this.output = new Output(new FileOutputStream(this.file), BUFFER_SIZE);
+            this.kryo = GRYO_POOL.takeKryo();
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to create spill file in " + directory + ": " + e.getMessage(), e);
+        }
+    }
+
+    public void write(final E object) {
+        if (null == this.output)
+            throw new IllegalStateException("The spill file is no longer writable: " + this.file);
+        this.kryo.writeClassAndObject(this.output, object);
+        this.size++;
+    }
+
+    public long size() {
+        return this.size;
+    }
+
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Completes writing (if not already complete) and returns a lazy iterator over the spilled objects.
+     * The iterator releases its file handle once it is exhausted or the spill file is closed.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        this.finishWriting();
+        if (0L == this.size)
+            return EmptyIterator.instance();
+        final SpillIterator iterator = new SpillIterator();
+        this.iterators.add(iterator);
+        return iterator;
+    }
+
+    /**
+     * Releases all resources associated with the spill file and deletes it from disk.
+     */
+    @Override
+    public void close() {
+        this.finishWriting();
+        this.iterators.forEach(SpillIterator::close);
+        this.iterators.clear();
+        this.file.delete();
+    }
+
+    private void finishWriting() {
+        if (null != this.output) {
+            this.output.close();
+            this.output = null;
+            GRYO_POOL.offerKryo(this.kryo);
+            this.kryo = null;
+        }
+    }
+
+    private final class SpillIterator implements Iterator<E> {
+
+        private Input input;
+        private Kryo kryo;
+        private long remaining = SpillFile.this.size;
+
+        private SpillIterator() {
+            try {
+                this.input = new Input(new FileInputStream(SpillFile.this.file), BUFFER_SIZE);
+                this.kryo = GRYO_POOL.takeKryo();
+            } catch (final IOException e) {
+                throw new IllegalStateException("Unable to read spill file " + SpillFile.this.file + ": " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.remaining > 0L;
+        }
+
+        @Override
+        public E next() {
+            if (this.remaining <= 0L)
+                throw new NoSuchElementException();
+            final E object = (E) this.kryo.readClassAndObject(this.input);
+            if (--this.remaining == 0L)
+                this.close();
+            return object;
+        }
+
+        private void close() {
+            if (null != this.input) {
+                this.remaining = 0L;
+                this.input.close();
+                this.input = null;
+                GRYO_POOL.offerKryo(this.kryo);
+                this.kryo = null;
+            }
+        }
+    }
+}
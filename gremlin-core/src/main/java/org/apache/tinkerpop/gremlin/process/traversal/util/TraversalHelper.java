@@ -27,29 +27,41 @@ import org.apache.tinkerpop.gremlin.process.traversal.lambda.ElementValueTravers
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.TokenTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.CoinStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ConnectiveStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.NotStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.SampleGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WherePredicateStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.LabelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.LoopsStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertyMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.SampleLocalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SideEffectStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -447,6 +459,45 @@ public final class TraversalHelper {
         return false;
     }
 
+    /**
+     * Determine if a {@link Traversal} and its children neither mutate the graph nor write side-effects. Steps that
+     * hold lambdas are assumed to have side-effects. The children of a step may be evaluated in any order (or not
+     * at all) if they are side-effect free.
+     *
+     * @param traversal the traversal to inspect
+     * @return {@code true} if the traversal has no side-effects and {@code false} otherwise
+     */
+    public static boolean isSideEffectFree(final Traversal.Admin<?, ?> traversal) {
+        return !anyStepRecursively(step -> step instanceof Mutating ||
+                step instanceof SideEffectCapable ||
+                step instanceof SideEffectStep ||
+                step instanceof LambdaHolder, traversal);
+    }
+
+    /**
+     * Determine if the result of a {@link Traversal} depends on nothing but the object of its start traverser. That
+     * is, it is side-effect free, is deterministic and does not read the path, loops, sack or side-effects of the
+     * traverser. The result of such a traversal can be cached by start object.
+     *
+     * @param traversal the traversal to inspect
+     * @return {@code true} if the result of the traversal is determined by its start and {@code false} otherwise
+     */
+    public static boolean isDeterminedByStart(final Traversal.Admin<?, ?> traversal) {
+        return isSideEffectFree(traversal) &&
+                !anyStepRecursively(step -> step instanceof Scoping ||
+                        step instanceof PathProcessor ||
+                        step instanceof LoopsStep ||
+                        step instanceof CoinStep ||
+                        step instanceof SampleGlobalStep ||
+                        step instanceof SampleLocalStep ||
+                        !Collections.disjoint(step.getRequirements(), HISTORY_REQUIREMENTS), traversal);
+    }
+
+    private static final Set<TraverserRequirement> HISTORY_REQUIREMENTS = EnumSet.of(
+            TraverserRequirement.PATH, TraverserRequirement.LABELED_PATH,
+            TraverserRequirement.SINGLE_LOOP, TraverserRequirement.NESTED_LOOP,
+            TraverserRequirement.SACK, TraverserRequirement.SIDE_EFFECTS);
+
     /**
      * Apply the provider {@link Consumer} function to the provided {@link Traversal} and all of its children.
      *
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.util;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.MemoCache;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -46,6 +47,22 @@ public final class TraversalUtil {
         }
     }
 
+    /**
+     * Apply the traversal to the traverser unless the result for the object of the traverser is in the memo cache.
+     * A {@code null} memo cache always applies the traversal.
+     */
+    public static final <S, E> E apply(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal, final MemoCache<E> memo) {
+        if (null == memo)
+            return TraversalUtil.apply(traverser, traversal);
+        final S start = traverser.get();
+        E end = memo.get(start);
+        if (null == end) {
+            end = TraversalUtil.apply(traverser, traversal);
+            memo.put(start, end);
+        }
+        return end;
+    }
+
     public static final <S, E> Iterator<E> applyAll(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal) {
         final Traverser.Admin<S> split = traverser.split();
         split.setSideEffects(traversal.getSideEffects());
@@ -75,6 +92,10 @@ public final class TraversalUtil {
         return null == traversal ? (E) traverser.get() : TraversalUtil.apply(traverser, traversal);
     }
 
+    public static final <S, E> E applyNullable(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal, final MemoCache<E> memo) {
+        return null == traversal ? (E) traverser.get() : TraversalUtil.apply(traverser, traversal, memo);
+    }
+
     public static final <S, E> boolean test(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal) {
         final Traverser.Admin<S> split = traverser.split();
         split.setSideEffects(traversal.getSideEffects());
@@ -96,6 +117,17 @@ public final class TraversalUtil {
         }
     }
 
+    public static final <S, E> E apply(final S start, final Traversal.Admin<S, E> traversal, final MemoCache<E> memo) {
+        if (null == memo)
+            return TraversalUtil.apply(start, traversal);
+        E end = memo.get(start);
+        if (null == end) {
+            end = TraversalUtil.apply(start, traversal);
+            memo.put(start, end);
+        }
+        return end;
+    }
+
     public static final <S, E> Iterator<E> applyAll(final S start, final Traversal.Admin<S, E> traversal) {
         traversal.reset();
         traversal.addStart(traversal.getTraverserGenerator().generate(start, traversal.getStartStep(), 1l));
@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.structure.io.graphson;
 
+import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration.HybridExecutionStrategy;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration.VertexProgramStrategy;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.optimization.GraphFilterStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
@@ -33,13 +34,19 @@ import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalOptionParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.Tree;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ApproximateDedupStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.BreadthFirstRepeatStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ConnectiveStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ElementIdStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.EventStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.HaltedTraverserStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.MemoizationStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.PartitionStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SpillStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.WindowStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.StepFusionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.AdjacentToIncidentStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.FilterRankingStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IdentityRemovalStrategy;
@@ -150,14 +157,20 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                             Scope.values(),
                             T.values()).flatMap(Stream::of).forEach(e -> put(e.getClass(), e.getDeclaringClass().getSimpleName()));
                     Arrays.asList(
+                            ApproximateDedupStrategy.class,
+                            BreadthFirstRepeatStrategy.class,
                             ConnectiveStrategy.class,
                             ElementIdStrategy.class,
                             EventStrategy.class,
                             HaltedTraverserStrategy.class,
+                            MemoizationStrategy.class,
                             PartitionStrategy.class,
+                            SpillStrategy.class,
                             SubgraphStrategy.class,
+                            WindowStrategy.class,
                             LazyBarrierStrategy.class,
                             MatchAlgorithmStrategy.class,
+                            StepFusionStrategy.class,
                             AdjacentToIncidentStrategy.class,
                             FilterRankingStrategy.class,
                             IdentityRemovalStrategy.class,
@@ -175,6 +188,7 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                             StandardVerificationStrategy.class,
                             //
                             GraphFilterStrategy.class,
+                            HybridExecutionStrategy.class,
                             VertexProgramStrategy.class
                     ).forEach(strategy -> put(strategy, strategy.getSimpleName()));
                 }});
@@ -254,14 +268,20 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
             addDeserializer(Lambda.class, new GraphSONTraversalSerializersV2d0.LambdaJacksonDeserializer());
             addDeserializer(Traverser.class, new GraphSONTraversalSerializersV2d0.TraverserJacksonDeserializer());
             Arrays.asList(
+                    ApproximateDedupStrategy.class,
+                    BreadthFirstRepeatStrategy.class,
                     ConnectiveStrategy.class,
                     ElementIdStrategy.class,
                     EventStrategy.class,
                     HaltedTraverserStrategy.class,
+                    MemoizationStrategy.class,
                     PartitionStrategy.class,
+                    SpillStrategy.class,
                     SubgraphStrategy.class,
+                    WindowStrategy.class,
                     LazyBarrierStrategy.class,
                     MatchAlgorithmStrategy.class,
+                    StepFusionStrategy.class,
                     AdjacentToIncidentStrategy.class,
                     FilterRankingStrategy.class,
                     IdentityRemovalStrategy.class,
@@ -279,6 +299,7 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                     StandardVerificationStrategy.class,
                     //
                     GraphFilterStrategy.class,
+                    HybridExecutionStrategy.class,
                     VertexProgramStrategy.class
             ).forEach(strategy -> addDeserializer(strategy, new GraphSONTraversalSerializersV2d0.TraversalStrategyProxyJacksonDeserializer(strategy)));
         }
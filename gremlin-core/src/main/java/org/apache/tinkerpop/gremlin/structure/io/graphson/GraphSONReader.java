@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.structure.io.graphson;
 
+import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -38,6 +39,8 @@ import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
 import org.apache.tinkerpop.gremlin.structure.util.star.StarGraphGraphSONDeserializer;
 import org.apache.tinkerpop.gremlin.util.function.FunctionUtils;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.apache.tinkerpop.shaded.jackson.core.JsonParser;
+import org.apache.tinkerpop.shaded.jackson.core.JsonToken;
 import org.apache.tinkerpop.shaded.jackson.core.type.TypeReference;
 import org.apache.tinkerpop.shaded.jackson.databind.JsonNode;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
@@ -54,6 +57,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -146,6 +150,75 @@ public final class GraphSONReader implements GraphReader {
         return readVertexStrings(inputStream).<Vertex>map(FunctionUtils.wrapFunction(line -> readVertex(new ByteArrayInputStream(line.getBytes()), vertexAttachMethod, edgeAttachMethod, attachEdgesOfThisDirection))).iterator();
     }
 
+    /**
+     * Read a {@link Vertex} from output generated by any of the {@link GraphSONWriter} {@code writeVertex} or
+     * {@code writeVertices} methods and filter it by the {@link GraphFilter}. The vertex is parsed as a stream so
+     * that the edges of illegal directions and labels are skipped without being deserialized. If the vertex filter
+     * only tests the id and label of the vertex, an illegal vertex is rejected without parsing its edges and properties
+     * and the vertex properties with keys that are not loaded are skipped as well.
+     *
+     * @param inputStream a stream containing at least a single vertex as defined by the accompanying
+     *                    {@link GraphWriter#writeVertex(OutputStream, Vertex)}.
+     * @param graphFilter The {@link GraphFilter} to filter the vertex and its associated edges by.
+     */
+    @Override
+    public Optional<Vertex> readVertex(final InputStream inputStream, final GraphFilter graphFilter) throws IOException {
+        final Map<String, Object> vertexData = new HashMap<>();
+        try (final JsonParser parser = mapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+                throw new IOException("Invalid format - a vertex must be a JSON object");
+            boolean checkedVertex = !graphFilter.hasIdAndLabelVertexFilter();
+            // unless the vertex filter may access them, the vertex properties that are not loaded are skipped
+            final boolean projectVertexProperties = graphFilter.hasVertexPropertyFilter() &&
+                    (!graphFilter.hasVertexFilter() || graphFilter.hasIdAndLabelVertexFilter());
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.getCurrentName();
+                parser.nextToken();
+                if (field.equals(GraphSONTokens.OUT_E) || field.equals(GraphSONTokens.IN_E)) {
+                    final Direction direction = field.equals(GraphSONTokens.OUT_E) ? Direction.OUT : Direction.IN;
+                    if (graphFilter.checkEdgeLegality(direction).negative())
+                        parser.skipChildren();
+                    else {
+                        final Map<String, Object> edgeData = new HashMap<>();
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            final String label = parser.getCurrentName();
+                            parser.nextToken();
+                            if (graphFilter.checkEdgeLegality(direction, label).negative())
+                                parser.skipChildren();
+                            else
+                                edgeData.put(label, mapper.readValue(parser, Object.class));
+                        }
+                        vertexData.put(field, edgeData);
+                    }
+                } else if (field.equals(GraphSONTokens.PROPERTIES) && projectVertexProperties) {
+                    final Map<String, Object> propertyData = new HashMap<>();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        final String key = parser.getCurrentName();
+                        parser.nextToken();
+                        if (graphFilter.legalVertexProperty(key))
+                            propertyData.put(key, mapper.readValue(parser, Object.class));
+                        else
+                            parser.skipChildren();
+                    }
+                    vertexData.put(field, propertyData);
+                } else
+                    vertexData.put(field, mapper.readValue(parser, Object.class));
+                if (!checkedVertex && vertexData.containsKey(GraphSONTokens.ID) && vertexData.containsKey(GraphSONTokens.LABEL)) {
+                    checkedVertex = true;
+                    final StarGraph starGraph = StarGraph.open();
+                    if (!graphFilter.legalVertex(starGraph.addVertex(T.id, vertexData.get(GraphSONTokens.ID), T.label, vertexData.get(GraphSONTokens.LABEL))))
+                        return Optional.empty();
+                }
+            }
+        }
+        final StarGraph starGraph = StarGraphGraphSONDeserializer.readStarGraphVertex(vertexData);
+        if (vertexData.containsKey(GraphSONTokens.OUT_E))
+            StarGraphGraphSONDeserializer.readStarGraphEdges(null, starGraph, vertexData, GraphSONTokens.OUT_E);
+        if (vertexData.containsKey(GraphSONTokens.IN_E))
+            StarGraphGraphSONDeserializer.readStarGraphEdges(null, starGraph, vertexData, GraphSONTokens.IN_E);
+        return starGraph.applyGraphFilter(graphFilter).map(StarGraph::getStarVertex);
+    }
+
     /**
      * Read a {@link Vertex}  from output generated by any of the {@link GraphSONWriter} {@code writeVertex} or
      * {@code writeVertices} methods or by {@link GraphSONWriter#writeGraph(OutputStream, Graph)}.
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.structure.io.gryo;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
 import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration.HybridExecutionStrategy;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration.VertexProgramStrategy;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.optimization.GraphFilterStrategy;
 import org.apache.tinkerpop.gremlin.process.computer.util.MapMemory;
@@ -36,6 +37,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.SackFunctions;
 import org.apache.tinkerpop.gremlin.process.traversal.Scope;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalOptionParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxDistinctCountStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxQuantileStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxTopKStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.FoldStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupCountStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupStep;
@@ -45,13 +49,22 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.map.MeanGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.TreeStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HyperLogLog;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.QuantileSketch;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TopKSketch;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.Tree;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ApproximateDedupStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.BreadthFirstRepeatStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ConnectiveStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.HaltedTraverserStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.MemoizationStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.PartitionStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SpillStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.WindowStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.StepFusionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.AdjacentToIncidentStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.FilterRankingStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IdentityRemovalStrategy;
@@ -74,6 +87,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.traverser.LP_O_OB_P_S_SE_S
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.LP_O_OB_S_SE_SL_Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.O_OB_S_SE_SL_Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.O_Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserSerializer;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalMetrics;
@@ -350,14 +364,14 @@ public final class GryoMapper implements Mapper<Kryo> {
             add(GryoTypeReg.of(VertexProperty.class, 68, new GryoSerializers.VertexPropertySerializer()));
             add(GryoTypeReg.of(Path.class, 59, new GryoSerializers.PathSerializer()));
             // skip 55
-            add(GryoTypeReg.of(B_O_Traverser.class, 75));
+            add(GryoTypeReg.of(B_O_Traverser.class, 75, new TraverserSerializer<>()));
             add(GryoTypeReg.of(O_Traverser.class, 76));
-            add(GryoTypeReg.of(B_LP_O_P_S_SE_SL_Traverser.class, 77));
-            add(GryoTypeReg.of(B_O_S_SE_SL_Traverser.class, 78));
-            add(GryoTypeReg.of(B_LP_O_S_SE_SL_Traverser.class, 87));
-            add(GryoTypeReg.of(O_OB_S_SE_SL_Traverser.class, 89));
-            add(GryoTypeReg.of(LP_O_OB_S_SE_SL_Traverser.class, 90));
-            add(GryoTypeReg.of(LP_O_OB_P_S_SE_SL_Traverser.class, 91));
+            add(GryoTypeReg.of(B_LP_O_P_S_SE_SL_Traverser.class, 77, new TraverserSerializer<>()));
+            add(GryoTypeReg.of(B_O_S_SE_SL_Traverser.class, 78, new TraverserSerializer<>()));
+            add(GryoTypeReg.of(B_LP_O_S_SE_SL_Traverser.class, 87, new TraverserSerializer<>()));
+            add(GryoTypeReg.of(O_OB_S_SE_SL_Traverser.class, 89, new TraverserSerializer<>()));
+            add(GryoTypeReg.of(LP_O_OB_S_SE_SL_Traverser.class, 90, new TraverserSerializer<>()));
+            add(GryoTypeReg.of(LP_O_OB_P_S_SE_SL_Traverser.class, 91, new TraverserSerializer<>()));
             add(GryoTypeReg.of(DefaultRemoteTraverser.class, 123, new GryoSerializers.DefaultRemoteTraverserSerializer()));
 
             add(GryoTypeReg.of(Bytecode.class, 122, new GryoSerializers.BytecodeSerializer()));
@@ -387,7 +401,7 @@ public final class GryoMapper implements Mapper<Kryo> {
             add(GryoTypeReg.of(IdentityRemovalStrategy.class, 147));
             add(GryoTypeReg.of(IncidentToAdjacentStrategy.class, 148));
             add(GryoTypeReg.of(InlineFilterStrategy.class, 149));
-            add(GryoTypeReg.of(LazyBarrierStrategy.class, 150));
+            add(GryoTypeReg.of(LazyBarrierStrategy.class, 150, new JavaSerializer()));
             add(GryoTypeReg.of(MatchPredicateStrategy.class, 151));
             add(GryoTypeReg.of(OrderLimitStrategy.class, 152));
             add(GryoTypeReg.of(PathProcessorStrategy.class, 153));
@@ -397,10 +411,19 @@ public final class GryoMapper implements Mapper<Kryo> {
             add(GryoTypeReg.of(GraphFilterStrategy.class, 157));
             add(GryoTypeReg.of(LambdaRestrictionStrategy.class, 158));
             add(GryoTypeReg.of(ReadOnlyStrategy.class, 159));
-            add(GryoTypeReg.of(MatchStep.CountMatchAlgorithm.class, 160)); // ### LAST_ID
-
-
-            add(GryoTypeReg.of(TraverserSet.class, 58));
+            add(GryoTypeReg.of(MatchStep.CountMatchAlgorithm.class, 160));
+            add(GryoTypeReg.of(SpillStrategy.class, 161, new JavaSerializer()));
+            add(GryoTypeReg.of(ApproximateDedupStrategy.class, 169, new JavaSerializer()));
+            add(GryoTypeReg.of(MatchStep.HashJoinMatchAlgorithm.class, 170));
+            add(GryoTypeReg.of(MatchStep.CostMatchAlgorithm.class, 171));
+            add(GryoTypeReg.of(BreadthFirstRepeatStrategy.class, 172));
+            add(GryoTypeReg.of(WindowStrategy.class, 173, new JavaSerializer()));
+            add(GryoTypeReg.of(StepFusionStrategy.class, 174));
+            add(GryoTypeReg.of(MemoizationStrategy.class, 175, new JavaSerializer()));
+            add(GryoTypeReg.of(HybridExecutionStrategy.class, 176, new JavaSerializer())); // ### LAST_ID
+
+
+            add(GryoTypeReg.of(TraverserSet.class, 58, new GryoSerializers.TraverserSetSerializer()));
             add(GryoTypeReg.of(Tree.class, 61));
             add(GryoTypeReg.of(HashSet.class, 62));
             add(GryoTypeReg.of(BulkSet.class, 64));
@@ -438,6 +461,13 @@ public final class GryoMapper implements Mapper<Kryo> {
             add(GryoTypeReg.of(RangeGlobalStep.RangeBiOperator.class, 114));
             add(GryoTypeReg.of(OrderGlobalStep.OrderBiOperator.class, 118, new JavaSerializer())); // because they contain traversals
             add(GryoTypeReg.of(ProfileStep.ProfileBiOperator.class, 119));
+            add(GryoTypeReg.of(ApproxDistinctCountStep.HyperLogLogBiOperator.class, 162));
+            add(GryoTypeReg.of(HyperLogLog.class, 163));
+            add(GryoTypeReg.of(ApproxQuantileStep.QuantileSketchBiOperator.class, 164));
+            add(GryoTypeReg.of(QuantileSketch.class, 165));
+            add(GryoTypeReg.of(double[][].class, 166));
+            add(GryoTypeReg.of(ApproxTopKStep.TopKSketchBiOperator.class, 167));
+            add(GryoTypeReg.of(TopKSketch.class, 168));
         }};
 
         private final List<IoRegistry> registries = new ArrayList<>();
@@ -126,9 +126,23 @@ public final class GryoReader implements GraphReader {
         final Input input = new Input(inputStream);
         this.readHeader(input);
         final StarGraph starGraph = this.kryo.readObject(input, StarGraph.class, serializer);
+        if (null == starGraph) {
+            // the vertex may have been filtered before it was fully read so skip over the bytes up to its terminator
+            skipToTerminator(input);
+            return Optional.empty();
+        }
         // read the terminator
         this.kryo.readClassAndObject(input);
-        return Optional.ofNullable(starGraph == null ? null : starGraph.getStarVertex());
+        return Optional.of(starGraph.getStarVertex());
+    }
+
+    private static void skipToTerminator(final Input input) {
+        final byte[] terminal = VertexTerminator.instance().terminal;
+        int terminatorLocation = 0;
+        while (terminatorLocation < terminal.length) {
+            final byte currentByte = input.readByte();
+            terminatorLocation = currentByte == terminal[terminatorLocation] ? terminatorLocation + 1 : (currentByte == terminal[0] ? 1 : 0);
+        }
     }
 
     /**
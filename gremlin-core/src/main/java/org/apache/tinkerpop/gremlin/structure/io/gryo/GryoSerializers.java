@@ -22,6 +22,8 @@ import org.apache.tinkerpop.gremlin.process.remote.traversal.DefaultRemoteTraver
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
 import org.apache.tinkerpop.gremlin.process.traversal.util.OrP;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -302,4 +304,28 @@ public final class GryoSerializers {
             return new DefaultRemoteTraverser<>(o, input.readLong());
         }
     }
+
+    /**
+     * Serializes a {@link TraverserSet} as its size followed by its traversers so that each traverser is only written
+     * once (rather than as both the key and the value of the backing map).
+     */
+    public final static class TraverserSetSerializer implements SerializerShim<TraverserSet> {
+        @Override
+        public <O extends OutputShim> void write(final KryoShim<?, O> kryo, final O output, final TraverserSet traverserSet) {
+            output.writeVarInt(traverserSet.size(), true);
+            for (final Object traverser : traverserSet) {
+                kryo.writeClassAndObject(output, traverser);
+            }
+        }
+
+        @Override
+        public <I extends InputShim> TraverserSet read(final KryoShim<I, ?> kryo, final I input, final Class<TraverserSet> traverserSetClass) {
+            final TraverserSet<Object> traverserSet = new TraverserSet<>();
+            final int size = input.readVarInt(true);
+            for (int i = 0; i < size; i++) {
+                traverserSet.add((Traverser.Admin<Object>) kryo.readClassAndObject(input));
+            }
+            return traverserSet;
+        }
+    }
 }
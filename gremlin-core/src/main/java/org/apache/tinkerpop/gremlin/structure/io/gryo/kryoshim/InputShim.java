@@ -34,5 +34,44 @@ public interface InputShim {
 
     public int readInt();
 
+    /**
+     * Reads an int in Kryo's variable length encoding. The default implementation decodes it from single bytes so
+     * that shims written before this method was added still read it, and should be overridden where the underlying
+     * input can decode it directly.
+     */
+    public default int readVarInt(final boolean optimizePositive) {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = this.readByte();
+            result |= (b & 0x7F) << shift;
+            if (0 == (b & 0x80))
+                break;
+        }
+        return optimizePositive ? result : ((result >>> 1) ^ -(result & 1));
+    }
+
+    /**
+     * Reads a long in Kryo's variable length encoding. The default implementation decodes it from single bytes so
+     * that shims written before this method was added still read it, and should be overridden where the underlying
+     * input can decode it directly.
+     */
+    public default long readVarLong(final boolean optimizePositive) {
+        long result = 0L;
+        int shift = 0;
+        while (true) {
+            final byte b = this.readByte();
+            if (56 == shift) {
+                // the ninth byte holds the remaining eight bits
+                result |= (long) (b & 0xFF) << shift;
+                break;
+            }
+            result |= (long) (b & 0x7F) << shift;
+            if (0 == (b & 0x80))
+                break;
+            shift += 7;
+        }
+        return optimizePositive ? result : ((result >>> 1) ^ -(result & 1L));
+    }
+
     public double readDouble();
 }
@@ -34,6 +34,35 @@ public interface OutputShim {
 
     public void writeInt(final int i);
 
+    /**
+     * Writes an int in Kryo's variable length encoding. The default implementation encodes it as single bytes so that
+     * shims written before this method was added still write it, and should be overridden where the underlying output
+     * can encode it directly.
+     */
+    public default void writeVarInt(final int i, final boolean optimizePositive) {
+        int value = optimizePositive ? i : ((i << 1) ^ (i >> 31));
+        while (0 != (value & ~0x7F)) {
+            this.writeByte((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        this.writeByte((byte) value);
+    }
+
+    /**
+     * Writes a long in Kryo's variable length encoding. The default implementation encodes it as single bytes so that
+     * shims written before this method was added still write it, and should be overridden where the underlying output
+     * can encode it directly.
+     */
+    public default void writeVarLong(final long l, final boolean optimizePositive) {
+        long value = optimizePositive ? l : ((l << 1) ^ (l >> 63));
+        // at most eight bytes of seven bits and a ninth byte that holds the remaining eight bits
+        for (int bytes = 1; bytes < 9 && 0L != (value & ~0x7FL); bytes++) {
+            this.writeByte((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        this.writeByte((byte) value);
+    }
+
     public void writeDouble(final double d);
 
     public void flush();
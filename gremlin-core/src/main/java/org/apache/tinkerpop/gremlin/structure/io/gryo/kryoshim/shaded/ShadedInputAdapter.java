@@ -59,6 +59,16 @@ public class ShadedInputAdapter implements InputShim {
         return shadedInput.readInt();
     }
 
+    @Override
+    public int readVarInt(final boolean optimizePositive) {
+        return shadedInput.readVarInt(optimizePositive);
+    }
+
+    @Override
+    public long readVarLong(final boolean optimizePositive) {
+        return shadedInput.readVarLong(optimizePositive);
+    }
+
     @Override
     public double readDouble() {
         return shadedInput.readDouble();
@@ -55,6 +55,16 @@ public class ShadedOutputAdapter implements OutputShim {
         shadedOutput.writeInt(i);
     }
 
+    @Override
+    public void writeVarInt(final int i, final boolean optimizePositive) {
+        shadedOutput.writeVarInt(i, optimizePositive);
+    }
+
+    @Override
+    public void writeVarLong(final long l, final boolean optimizePositive) {
+        shadedOutput.writeVarLong(l, optimizePositive);
+    }
+
     @Override
     public void writeDouble(final double d) {
         shadedOutput.writeDouble(d);
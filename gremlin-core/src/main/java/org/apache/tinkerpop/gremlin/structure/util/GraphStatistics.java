@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.util;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+/**
+ * An optional interface that a {@link Graph} can implement to expose cardinality statistics about its elements.
+ * Traversal planners (e.g. {@code MatchStep.CostMatchAlgorithm}) use these statistics to estimate the cost of a
+ * traversal before it is executed. The counts need not be exact, but they should be cheap to compute.
+ *
+ * @author agent (agent@local)
+ */
+public interface GraphStatistics {
+
+    /**
+     * Get the number of vertices with the provided label.
+     *
+     * @param label the vertex label or {@code null} for all vertices
+     * @return the (approximate) number of vertices
+     */
+    public long getVertexCount(final String label);
+
+    /**
+     * Get the number of edges with the provided label.
+     *
+     * @param label the edge label or {@code null} for all edges
+     * @return the (approximate) number of edges
+     */
+    public long getEdgeCount(final String label);
+}
@@ -311,7 +311,9 @@ public final class StarGraph implements Graph, Serializable {
         public void dropVertexProperties(final String... propertyKeys) {
             if (null != this.vertexProperties) {
                 for (final String key : propertyKeys) {
-                    this.vertexProperties.remove(key);
+                    final List<VertexProperty> vertexProperties = this.vertexProperties.remove(key);
+                    if (null != vertexProperties && null != metaProperties)
+                        vertexProperties.forEach(vertexProperty -> metaProperties.remove(vertexProperty.id()));
                 }
             }
         }
@@ -498,6 +500,12 @@ public final class StarGraph implements Graph, Serializable {
                             this.inEdges = inEdges;
                     }
                 }
+                if (graphFilter.hasVertexPropertyFilter() && null != this.vertexProperties) {
+                    for (final String key : new HashSet<>(this.vertexProperties.keySet())) {
+                        if (!graphFilter.legalVertexProperty(key))
+                            this.dropVertexProperties(key);
+                    }
+                }
                 return Optional.of(this);
             } else {
                 return Optional.empty();
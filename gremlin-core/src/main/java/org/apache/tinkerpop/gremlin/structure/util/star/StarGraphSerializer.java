@@ -78,7 +78,9 @@ public class StarGraphSerializer implements SerializerShim<StarGraph> {
     }
 
     /**
-     * If the returned {@link StarGraph} is null, that means that the {@link GraphFilter} filtered the vertex.
+     * If the returned {@link StarGraph} is null, that means that the {@link GraphFilter} filtered the vertex. If the
+     * vertex was filtered by a vertex filter on its id and label (see {@link GraphFilter#hasIdAndLabelVertexFilter()}),
+     * its edges and properties are not read and the caller is responsible for skipping the remainder of the vertex.
      */
     @Override
     public <I extends InputShim> StarGraph read(final KryoShim<I, ?> kryo, final I input, final Class<StarGraph> clazz) {
@@ -87,17 +89,26 @@ public class StarGraphSerializer implements SerializerShim<StarGraph> {
         starGraph.edgeProperties = kryo.readObjectOrNull(input, HashMap.class);
         starGraph.metaProperties = kryo.readObjectOrNull(input, HashMap.class);
         starGraph.addVertex(T.id, kryo.readClassAndObject(input), T.label, kryo.readObject(input, String.class));
+        if (this.graphFilter.hasIdAndLabelVertexFilter() && !this.graphFilter.legalVertex(starGraph.starVertex))
+            return null;
         readEdges(kryo, input, starGraph, Direction.IN);
         readEdges(kryo, input, starGraph, Direction.OUT);
         if (kryo.readObject(input, Boolean.class)) {
+            // unless the vertex filter may access them, the vertex properties that are not loaded are not added to the star graph
+            final boolean projectVertexProperties = this.graphFilter.hasVertexPropertyFilter() &&
+                    (!this.graphFilter.hasVertexFilter() || this.graphFilter.hasIdAndLabelVertexFilter());
             final int numberOfUniqueKeys = kryo.readObject(input, Integer.class);
             for (int i = 0; i < numberOfUniqueKeys; i++) {
                 final String vertexPropertyKey = kryo.readObject(input, String.class);
+                final boolean legalKey = !projectVertexProperties || this.graphFilter.legalVertexProperty(vertexPropertyKey);
                 final int numberOfVertexPropertiesWithKey = kryo.readObject(input, Integer.class);
                 for (int j = 0; j < numberOfVertexPropertiesWithKey; j++) {
                     final Object id = kryo.readClassAndObject(input);
                     final Object value = kryo.readClassAndObject(input);
-                    starGraph.starVertex.property(VertexProperty.Cardinality.list, vertexPropertyKey, value, T.id, id);
+                    if (legalKey)
+                        starGraph.starVertex.property(VertexProperty.Cardinality.list, vertexPropertyKey, value, T.id, id);
+                    else if (null != starGraph.metaProperties)
+                        starGraph.metaProperties.remove(id);
                 }
             }
         }
@@ -126,14 +137,17 @@ public class StarGraphSerializer implements SerializerShim<StarGraph> {
 
     private <I extends InputShim> void readEdges(final KryoShim<I, ?> kryo, final I input, final StarGraph starGraph, final Direction direction) {
         if (kryo.readObject(input, Boolean.class)) {
+            // the edges carry no length so illegal edges are still decoded, but their legality is only checked once per label
+            final boolean legalDirection = this.graphFilter.checkEdgeLegality(direction).positive();
             final int numberOfUniqueLabels = kryo.readObject(input, Integer.class);
             for (int i = 0; i < numberOfUniqueLabels; i++) {
                 final String edgeLabel = kryo.readObject(input, String.class);
+                final boolean legalLabel = legalDirection && this.graphFilter.checkEdgeLegality(direction, edgeLabel).positive();
                 final int numberOfEdgesWithLabel = kryo.readObject(input, Integer.class);
                 for (int j = 0; j < numberOfEdgesWithLabel; j++) {
                     final Object edgeId = kryo.readClassAndObject(input);
                     final Object adjacentVertexId = kryo.readClassAndObject(input);
-                    if (this.graphFilter.checkEdgeLegality(direction, edgeLabel).positive()) {
+                    if (legalLabel) {
                         if (direction.equals(Direction.OUT))
                             starGraph.starVertex.addOutEdge(edgeLabel, starGraph.addVertex(T.id, adjacentVertexId), T.id, edgeId);
                         else
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.util;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+
+import java.util.List;
+
+/**
+ * Utility methods for the 64-bit hashing used by sketches and filters. Unlike {@link Object#hashCode()}, the hashes
+ * are well distributed over all 64 bits and are stable across JVMs for numbers, strings, elements and lists of those.
+ * Objects that are not equal should not hash alike, so an element hashes by its kind and its id (a vertex and an edge
+ * with the same id differ and neither hashes like the id itself) and a number hashes by its class and its value
+ * ({@code 1} and {@code 1l} differ just as they are not {@link Object#equals(Object)}).
+ *
+ * @author agent (agent@local)
+ */
+public final class HashHelper {
+
+    // the seeds that are mixed into the hashes of the different kinds of elements and classes of numbers
+    private static final long VERTEX = 0x9e3779b97f4a7c15l;
+    private static final long EDGE = 0xbf58476d1ce4e5b9l;
+    private static final long VERTEX_PROPERTY = 0x94d049bb133111ebl;
+    private static final long ELEMENT = 0x2545f4914f6cdd1dl;
+    private static final long FLOAT = 0x6a09e667f3bcc909l;
+    private static final long INTEGER = 0xbb67ae8584caa73bl;
+    private static final long SHORT = 0x3c6ef372fe94f82bl;
+    private static final long BYTE = 0xa54ff53a5f1d36f1l;
+
+    private HashHelper() {
+    }
+
+    public static long hash(final Object object) {
+        if (object instanceof Element) {
+            final long kind = object instanceof Vertex ? VERTEX :
+                    object instanceof Edge ? EDGE :
+                            object instanceof VertexProperty ? VERTEX_PROPERTY : ELEMENT;
+            return HashHelper.mix(HashHelper.hash(((Element) object).id()) ^ kind);
+        }
+        if (object instanceof List) {
+            long hash = 1l;
+            for (final Object item : (List) object) {
+                hash = 31l * hash + HashHelper.hash(item);
+            }
+            return HashHelper.mix(hash);
+        }
+        final long value;
+        if (null == object)
+            value = 0l;
+        else if (object instanceof Double)
+            value = Double.doubleToLongBits((Double) object);
+        else if (object instanceof Float)
+            value = HashHelper.mix(Double.doubleToLongBits((Float) object)) ^ FLOAT;
+        else if (object instanceof Long)
+            value = (Long) object;
+        else if (object instanceof Integer)
+            value = HashHelper.mix((Integer) object) ^ INTEGER;
+        else if (object instanceof Short)
+            value = HashHelper.mix((Short) object) ^ SHORT;
+        else if (object instanceof Byte)
+            value = HashHelper.mix((Byte) object) ^ BYTE;
+        else if (object instanceof String) {
+            long fnv = 0xcbf29ce484222325l;
+            final String string = (String) object;
+            for (int i = 0; i < string.length(); i++) {
+                fnv ^= string.charAt(i);
+                fnv *= 0x100000001b3l;
+            }
+            value = fnv;
+        } else
+            value = object.hashCode();
+        return HashHelper.mix(value);
+    }
+
+    /**
+     * The MurmurHash3 64-bit finalizer.
+     */
+    public static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdl;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53l;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.IdentityTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.MemoCache;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.javatuples.Pair;
 
@@ -39,9 +40,21 @@ public final class ChainedComparator<S, C extends Comparable> implements Compara
     private final List<Pair<Traversal.Admin<S, C>, Comparator<C>>> comparators = new ArrayList<>();
     private final boolean isShuffle;
     private final boolean traversers;
+    private final int memoSize;
+    private transient List<MemoCache<Object>> memos;
 
     public ChainedComparator(final boolean traversers, final List<Pair<Traversal.Admin<S, C>, Comparator<C>>> comparators) {
+        this(traversers, comparators, 0);
+    }
+
+    /**
+     * Create a comparator that caches up to {@code memoSize} compared values per comparator by the compared object
+     * rather than applying the comparator traversals for every comparison. The comparator traversals must be
+     * determined by their start object and a memoizing comparator must not be shared between threads.
+     */
+    public ChainedComparator(final boolean traversers, final List<Pair<Traversal.Admin<S, C>, Comparator<C>>> comparators, final int memoSize) {
         this.traversers = traversers;
+        this.memoSize = memoSize;
         if (comparators.isEmpty())
             this.comparators.add(new Pair<>(new IdentityTraversal(), (Comparator) Order.incr));
         else
@@ -57,10 +70,53 @@ public final class ChainedComparator<S, C extends Comparable> implements Compara
 
     @Override
     public int compare(final S objectA, final S objectB) {
-        for (final Pair<Traversal.Admin<S, C>, Comparator<C>> pair : this.comparators) {
-            final int comparison = this.traversers ?
-                    pair.getValue1().compare(TraversalUtil.apply((Traverser.Admin<S>) objectA, pair.getValue0()), TraversalUtil.apply((Traverser.Admin<S>) objectB, pair.getValue0())) :
-                    pair.getValue1().compare(TraversalUtil.apply(objectA, pair.getValue0()), TraversalUtil.apply(objectB, pair.getValue0()));
+        for (int i = 0; i < this.comparators.size(); i++) {
+            final Pair<Traversal.Admin<S, C>, Comparator<C>> pair = this.comparators.get(i);
+            final int comparison = ((Comparator) pair.getValue1()).compare(this.apply(objectA, pair.getValue0(), i), this.apply(objectB, pair.getValue0(), i));
+            if (comparison != 0)
+                return comparison;
+        }
+        return 0;
+    }
+
+    /**
+     * Get the values that this comparator compares for the provided object (one per comparator).
+     * This allows the values to be computed once and compared with {@link #compareSortKeys(List, List)} apart from the object itself.
+     *
+     * @param object the object to compute the sort keys for
+     * @return the sort keys of the object
+     */
+    public List<C> getSortKeys(final S object) {
+        final List<Object> keys = new ArrayList<>(this.comparators.size());
+        for (int i = 0; i < this.comparators.size(); i++) {
+            keys.add(this.apply(object, this.comparators.get(i).getValue0(), i));
+        }
+        return (List) keys;
+    }
+
+    // the compared values are not necessarily Comparable (e.g. by(comparator)) so they are not typed as C here
+    private Object apply(final S object, final Traversal.Admin<S, C> traversal, final int index) {
+        final MemoCache<Object> memo = this.getMemo(index);
+        return this.traversers ?
+                TraversalUtil.<S, Object>apply((Traverser.Admin<S>) object, (Traversal.Admin) traversal, memo) :
+                TraversalUtil.<S, Object>apply(object, (Traversal.Admin) traversal, memo);
+    }
+
+    private MemoCache<Object> getMemo(final int index) {
+        if (0 == this.memoSize)
+            return null;
+        if (null == this.memos) {
+            this.memos = new ArrayList<>(this.comparators.size());
+            for (int i = 0; i < this.comparators.size(); i++) {
+                this.memos.add(new MemoCache<>(this.memoSize));
+            }
+        }
+        return this.memos.get(index);
+    }
+
+    public int compareSortKeys(final List<C> keysA, final List<C> keysB) {
+        for (int i = 0; i < this.comparators.size(); i++) {
+            final int comparison = this.comparators.get(i).getValue1().compare(keysA.get(i), keysB.get(i));
             if (comparison != 0)
                 return comparison;
         }
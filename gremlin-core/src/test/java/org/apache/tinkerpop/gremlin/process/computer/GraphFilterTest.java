@@ -70,6 +70,43 @@ public class GraphFilterTest {
         }
     }
 
+    @Test
+    public void shouldDetermineIfVertexFilterOnlyAccessesIdAndLabel() {
+        GraphFilter graphFilter = new GraphFilter();
+        assertFalse(graphFilter.hasIdAndLabelVertexFilter());
+        graphFilter.setVertexFilter(__.hasLabel("person"));
+        assertTrue(graphFilter.hasIdAndLabelVertexFilter());
+        graphFilter.setVertexFilter(__.<Vertex>hasLabel("person", "software").hasId(1, 2));
+        assertTrue(graphFilter.hasIdAndLabelVertexFilter());
+        graphFilter.setVertexFilter(__.<Vertex>hasLabel("person").has("age"));
+        assertFalse(graphFilter.hasIdAndLabelVertexFilter());
+        graphFilter.setVertexFilter(__.<Vertex>or(__.hasLabel("person"), __.hasLabel("software")));
+        assertFalse(graphFilter.hasIdAndLabelVertexFilter());
+        graphFilter = new GraphFilter();
+        graphFilter.setEdgeFilter(__.outE());
+        assertFalse(graphFilter.hasIdAndLabelVertexFilter());
+    }
+
+    @Test
+    public void shouldDetermineLegalVertexProperties() {
+        GraphFilter graphFilter = new GraphFilter();
+        assertFalse(graphFilter.hasVertexPropertyFilter());
+        assertTrue(graphFilter.legalVertexProperty("name"));
+        graphFilter.setVertexPropertyKeys(new HashSet<>(Arrays.asList("name", "age")));
+        assertTrue(graphFilter.hasFilter());
+        assertTrue(graphFilter.hasVertexPropertyFilter());
+        assertFalse(graphFilter.hasVertexFilter());
+        assertFalse(graphFilter.hasEdgeFilter());
+        assertTrue(graphFilter.legalVertexProperty("name"));
+        assertTrue(graphFilter.legalVertexProperty("age"));
+        assertFalse(graphFilter.legalVertexProperty("lang"));
+        assertEquals(graphFilter, graphFilter.clone());
+        assertEquals(new HashSet<>(Arrays.asList("name", "age")), graphFilter.clone().getVertexPropertyKeys());
+        graphFilter.setVertexPropertyKeys(Collections.emptySet());
+        assertTrue(graphFilter.hasVertexPropertyFilter());
+        assertFalse(graphFilter.legalVertexProperty("name"));
+    }
+
     @Test
     public void shouldGetLegallyPositiveEdgeLabels() {
         GraphFilter graphFilter = new GraphFilter();
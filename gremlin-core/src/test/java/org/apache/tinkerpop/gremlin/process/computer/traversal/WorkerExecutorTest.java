@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.traversal;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.Messenger;
+import org.apache.tinkerpop.gremlin.process.computer.util.MapMemory;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.HaltedTraverserStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMatrix;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @author agent (agent@local)
+ */
+public class WorkerExecutorTest {
+
+    @Test
+    public void shouldSendOneMessagePerHostingVertex() {
+        // vertex 1 has three in-edges from vertex 2 and one from vertex 3 and the host of an edge is its out-vertex
+        final StarGraph starGraph = StarGraph.open();
+        final Vertex vertex = starGraph.addVertex(T.id, 1);
+        final Vertex two = starGraph.addVertex(T.id, 2);
+        final Vertex three = starGraph.addVertex(T.id, 3);
+        final Set<Object> expectedEdges = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            expectedEdges.add(two.addEdge("knows", vertex, T.id, 10 + i).id());
+        }
+        expectedEdges.add(three.addEdge("knows", vertex, T.id, 20).id());
+        vertex.property(TraversalVertexProgram.HALTED_TRAVERSERS, new TraverserSet<>());
+
+        final Traversal.Admin<Vertex, Edge> traversal = __.<Vertex>inE().asAdmin();
+        traversal.applyStrategies();
+        final Traverser.Admin<Vertex> start = traversal.getTraverserGenerator().generate(vertex, traversal.getStartStep(), 1l);
+        start.setStepId(traversal.getStartStep().getId());
+        final MapMemory memory = new MapMemory();
+        memory.set(TraversalVertexProgram.ACTIVE_TRAVERSERS, new TraverserSet<>(start));
+
+        final Map<Object, TraverserSet<Object>> messages = new HashMap<>();
+        final Messenger<TraverserSet<Object>> messenger = new Messenger<TraverserSet<Object>>() {
+            @Override
+            public Iterator<TraverserSet<Object>> receiveMessages() {
+                return Collections.emptyIterator();
+            }
+
+            @Override
+            public void sendMessage(final MessageScope messageScope, final TraverserSet<Object> message) {
+                final Object hostingVertex = ((MessageScope.Global) messageScope).vertices().iterator().next().id();
+                assertFalse(messages.containsKey(hostingVertex));
+                messages.put(hostingVertex, message);
+            }
+        };
+
+        assertFalse(WorkerExecutor.execute(vertex, messenger, new TraversalMatrix<>(traversal), memory, false, HaltedTraverserStrategy.reference()));
+        // one message per hosting vertex rather than one per traverser
+        assertEquals(2, messages.size());
+        assertEquals(3, messages.get(2).size());
+        assertEquals(1, messages.get(3).size());
+        // and the messages hold all the traversers that left the vertex
+        final Set<Object> edges = new HashSet<>();
+        messages.values().forEach(traversers -> traversers.forEach(traverser -> {
+            assertEquals(1l, traverser.bulk());
+            edges.add(((Edge) traverser.get()).id());
+        }));
+        assertEquals(expectedEdges, edges);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author agent (agent@local)
+ */
+@RunWith(Parameterized.class)
+public class GraphFilterStrategyVertexPropertyKeysTest {
+
+    @Parameterized.Parameter(value = 0)
+    public Traversal original;
+
+    @Parameterized.Parameter(value = 1)
+    public Set<String> vertexPropertyKeys;
+
+    @Test
+    public void doTest() {
+        assertEquals(this.vertexPropertyKeys, GraphFilterStrategy.getVertexPropertyKeys(this.original.asAdmin()));
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Iterable<Object[]> generateTestParameters() {
+
+        return Arrays.asList(new Object[][]{
+                {__.V().count(), keys()},
+                {__.V().hasLabel("person").out().id(), keys()},
+                {__.V().has("name", "marko").has(T.id, 1).out().values("age"), keys("name", "age")},
+                {__.V().out().valueMap("name", "lang"), keys("name", "lang")},
+                {__.V().where(__.has("age", P.gt(30))).group().by("name").by(__.values("age").sum()), keys("age", "name")},
+                {__.V().order().by("age", Order.decr).by(T.label).select("a").by("name"), keys("age", "name")},
+                {__.V().repeat(__.out()).until(__.has("lang")).properties("name").has("startTime"), keys("lang", "name", "startTime")},
+                {__.V().values(), null},
+                {__.V().out().valueMap(), null},
+                {__.V().map(t -> t.get()), null},
+                {__.V().order().by((a, b) -> 0), null},
+                {__.V().out().local(__.properties()), null}
+        });
+    }
+
+    private static Set<String> keys(final String... keys) {
+        return new HashSet<>(Arrays.asList(keys));
+    }
+}
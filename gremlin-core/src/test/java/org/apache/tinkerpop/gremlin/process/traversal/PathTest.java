@@ -24,6 +24,11 @@ import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedPath;
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferencePath;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -375,4 +380,56 @@ public class PathTest {
             }
         }
     }
+
+    @Test
+    public void shouldRetainImmutablePathLabelsAcrossSerializationAndManyLabels() throws Exception {
+        Path path = ImmutablePath.make();
+        for (int i = 0; i < 100; i++) {
+            path = path.extend(i, new LinkedHashSet<>(Arrays.asList("label" + i, "x")));
+        }
+        path = path.extend(new LinkedHashSet<>(Arrays.asList("y", "label0")));
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(path);
+        }
+        final Path copy;
+        try (final ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (Path) inputStream.readObject();
+        }
+        for (final Path p : Arrays.asList(path, copy)) {
+            assertEquals(100, p.size());
+            assertEquals(path, p);
+            assertEquals(path.labels(), p.labels());
+            assertEquals(Integer.valueOf(42), p.get("label42"));
+            assertEquals(Integer.valueOf(99), p.get(Pop.last, "x"));
+            assertEquals(100, p.<List<Integer>>get("x").size());
+            assertEquals(Arrays.asList(0, 99), p.get(Pop.all, "label0"));
+            assertEquals(Arrays.asList("label99", "x", "y", "label0"), new ArrayList<>(p.labels().get(99)));
+            assertEquals(99, p.retract(new HashSet<>(Arrays.asList("label0", "x"))).size());
+            assertFalse(p.retract(new HashSet<>(Arrays.asList("x", "label7"))).hasLabel("label7"));
+        }
+        // labels added out of their interned order can not be a bitmask
+        path = ImmutablePath.make().extend(1, Collections.emptySet()).extend(new LinkedHashSet<>(Arrays.asList("label5", "label3")));
+        assertEquals(Arrays.asList("label5", "label3"), new ArrayList<>(path.labels().get(0)));
+        assertEquals(Integer.valueOf(1), path.get("label3"));
+    }
+
+    @Test
+    public void shouldKeepImmutablePathLabelsWhenMoreLabelsAreInternedThanATableHolds() {
+        final List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            paths.add(ImmutablePath.make().extend(i, Collections.singleton("a" + i)).extend(i + 1, Collections.singleton("b" + i)));
+        }
+        for (int i = 0; i < 500; i++) {
+            final Path path = paths.get(i);
+            assertEquals(Integer.valueOf(i), path.get("a" + i));
+            assertEquals(Integer.valueOf(i + 1), path.get(Pop.last, "b" + i));
+            assertFalse(path.hasLabel("a" + (i + 1)));
+            assertEquals(Arrays.asList(Collections.singleton("a" + i), Collections.singleton("b" + i)), path.labels());
+            final Path extended = path.extend(new LinkedHashSet<>(Arrays.asList("b" + i, "c" + i)));
+            assertEquals(Arrays.asList("b" + i, "c" + i), new ArrayList<>(extended.labels().get(1)));
+            assertEquals(Integer.valueOf(i + 1), extended.get("c" + i));
+            assertEquals(1, extended.retract(Collections.singleton("a" + i)).size());
+        }
+    }
 }
@@ -20,9 +20,14 @@ package org.apache.tinkerpop.gremlin.process.traversal.step;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SpillStrategy;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
@@ -42,6 +47,36 @@ public abstract class StepTest {
      */
     protected abstract List<Traversal> getTraversals();
 
+    /**
+     * Return the integers that the spill tests of the steps process. There are 10000 of them in a fixed random order,
+     * with each value between 0 and 2499 occurring about four times.
+     *
+     * @return List of integers.
+     */
+    protected static List<Integer> getSpillTestIntegers() {
+        final Random random = new Random(42);
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            list.add(random.nextInt(2500));
+        }
+        return list;
+    }
+
+    /**
+     * Return a traversal source whose spillable steps spill to disk once they hold 100 entries, so that the integers
+     * of {@link #getSpillTestIntegers()} are spilled many times.
+     *
+     * @param g the traversal source to add the {@link SpillStrategy} to
+     * @return the spilling traversal source
+     */
+    protected static GraphTraversalSource getSpillingTraversalSource(final GraphTraversalSource g) {
+        return g.withStrategies(SpillStrategy.build().spillThreshold(100).create());
+    }
+
+    protected static GraphTraversalSource getSpillingTraversalSource() {
+        return getSpillingTraversalSource(EmptyGraph.instance().traversal());
+    }
+
     protected List<Step> getStepInstances() {
         return this.getTraversals().stream().map(t -> t.asAdmin().getEndStep()).collect(Collectors.toList());
     }
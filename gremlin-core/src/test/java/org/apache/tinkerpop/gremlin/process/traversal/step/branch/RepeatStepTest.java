@@ -21,12 +21,16 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.branch;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.hasLabel;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
@@ -42,4 +46,16 @@ public class RepeatStepTest extends StepTest {
                 __.repeat(out()).until(hasLabel("x"))
         );
     }
+
+    @Test
+    public void shouldDistinguishBreadthFirstRepeatSteps() {
+        final RepeatStep depthFirst = (RepeatStep) __.repeat(out()).times(3).asAdmin().getStartStep();
+        final RepeatStep breadthFirst = (RepeatStep) __.repeat(out()).times(3).asAdmin().getStartStep();
+        assertEquals(depthFirst.hashCode(), breadthFirst.hashCode());
+        assertEquals(depthFirst.toString(), breadthFirst.toString());
+        breadthFirst.setBreadthFirst(true);
+        assertFalse(depthFirst.hashCode() == breadthFirst.hashCode());
+        assertFalse(depthFirst.toString().equals(breadthFirst.toString()));
+        assertTrue(breadthFirst.toString().contains("breadthFirst"));
+    }
 }
@@ -18,15 +18,24 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.step.filter;
 
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.in;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
@@ -41,4 +50,23 @@ public class AndStepTest extends StepTest {
                 __.and(in(), out())
         );
     }
+
+    @Test
+    public void shouldEvaluateTheMostDecisiveChildFirst() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final List<Integer> numbers = IntStream.range(0, 5000).boxed().collect(Collectors.toList());
+        final Traversal.Admin<?, ?> traversal = g.inject(numbers).unfold().and(__.is(P.gte(0)), __.is(P.lt(0))).asAdmin();
+        assertEquals(0, traversal.toList().size());
+        assertArrayEquals(new int[]{1, 0}, TraversalHelper.getFirstStepOfAssignableClass(AndStep.class, traversal).get().getEvaluationOrder());
+    }
+
+    @Test
+    public void shouldNotReorderChildrenWithSideEffects() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final List<Integer> numbers = IntStream.range(0, 5000).boxed().collect(Collectors.toList());
+        final Traversal.Admin<?, ?> traversal = g.inject(numbers).unfold().and(__.sideEffect(t -> {
+        }).is(P.gte(0)), __.is(P.lt(0))).asAdmin();
+        assertEquals(0, traversal.toList().size());
+        assertArrayEquals(new int[]{0, 1}, TraversalHelper.getFirstStepOfAssignableClass(AndStep.class, traversal).get().getEvaluationOrder());
+    }
 }
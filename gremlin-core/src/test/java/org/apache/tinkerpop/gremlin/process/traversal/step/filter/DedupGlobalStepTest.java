@@ -19,12 +19,21 @@
 package org.apache.tinkerpop.gremlin.process.traversal.step.filter;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ApproximateDedupStrategy;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
  */
@@ -37,4 +46,30 @@ public class DedupGlobalStepTest extends StepTest {
                 __.dedup().by("name")
         );
     }
+
+    @Test
+    public void shouldDedupTheSameWhenSpillingToDisk() {
+        final List<Integer> list = getSpillTestIntegers();
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final GraphTraversalSource spilling = getSpillingTraversalSource(g);
+        final List<Object> spilled = spilling.inject(list).unfold().dedup().toList();
+        assertEquals(new HashSet<>(list).size(), spilled.size());
+        assertEquals(new HashSet<>(list), new HashSet<>(spilled));
+        // the first objects are deduplicated in memory and emitted in order
+        assertEquals(g.inject(list).unfold().dedup().limit(100).toList(), spilled.subList(0, 100));
+        assertEquals(new HashSet<>(list), new HashSet<>(spilling.inject(list).unfold().as("a").constant(1).as("b").dedup("a", "b").select("a").toList()));
+    }
+
+    @Test
+    public void shouldDedupApproximatelyWithBloomFilter() {
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            list.add(i % 10000);
+        }
+        final GraphTraversalSource g = EmptyGraph.instance().traversal().withStrategies(
+                ApproximateDedupStrategy.build().expectedInsertions(10000).falsePositiveProbability(0.01d).create());
+        final long count = g.inject(list).unfold().dedup().count().next();
+        assertTrue(count <= 10000);
+        assertTrue(count > 9800);
+    }
 }
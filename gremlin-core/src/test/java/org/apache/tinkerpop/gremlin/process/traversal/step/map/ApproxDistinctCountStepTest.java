@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HyperLogLog;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedEdge;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceVertex;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+import org.javatuples.Pair;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class ApproxDistinctCountStepTest extends StepTest {
+
+    @Override
+    protected List<Traversal> getTraversals() {
+        return Collections.singletonList(__.approxDistinctCount());
+    }
+
+    @Test
+    public void shouldCountSmallStreamsExactly() {
+        assertEquals(0l, __.inject().approxDistinctCount().next().longValue());
+        assertEquals(1l, __.inject("a", "a", "a").approxDistinctCount().next().longValue());
+        assertEquals(3l, __.inject(1, 2, 3, 3, 2, 1).approxDistinctCount().next().longValue());
+    }
+
+    @Test
+    public void shouldCountElementsByKindAndId() {
+        final DetachedVertex vertex = new DetachedVertex(1l, "person", Collections.emptyMap());
+        final DetachedEdge edge = new DetachedEdge(1l, "knows", Collections.emptyMap(), new Pair<>(1l, "person"), new Pair<>(2l, "person"));
+        // a vertex and an edge with the same id are distinct while the reference of the vertex is the same vertex
+        assertEquals(2l, __.inject(vertex, edge, new ReferenceVertex(vertex)).approxDistinctCount().next().longValue());
+        assertEquals(3l, __.inject(vertex, edge, 1l).approxDistinctCount().next().longValue());
+        assertEquals(2l, __.inject(1, 1l).approxDistinctCount().next().longValue());
+    }
+
+    @Test
+    public void shouldEstimateDistinctCountWithinError() {
+        final Random random = new Random(42);
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 200000; i++) {
+            list.add(random.nextInt(50000));
+        }
+        final long exact = __.inject(list).unfold().dedup().count().next();
+        final long approx = __.inject(list).unfold().approxDistinctCount().next();
+        assertTrue(Math.abs(approx - exact) < exact * 0.03d);
+    }
+
+    @Test
+    public void shouldMergeAndSerializeSketches() {
+        final HyperLogLog a = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        final HyperLogLog b = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        for (int i = 0; i < 10000; i++) {
+            a.add("a" + i);
+            b.add("a" + (i + 5000));
+        }
+        final Kryo kryo = GryoMapper.build().create().createMapper();
+        final Output output = new Output(1 << 16, -1);
+        kryo.writeClassAndObject(output, b);
+        final HyperLogLog c = (HyperLogLog) kryo.readClassAndObject(new Input(output.toBytes()));
+        assertEquals(b.cardinality(), c.cardinality());
+        final long merged = a.merge(c).cardinality();
+        assertTrue(Math.abs(merged - 15000) < 15000 * 0.03d);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.QuantileSketch;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class ApproxQuantileStepTest extends StepTest {
+
+    @Override
+    protected List<Traversal> getTraversals() {
+        return Arrays.asList(
+                __.approxQuantile(0.5d),
+                __.approxQuantile(0.5d, 0.9d),
+                __.approxQuantile(0.9d, 0.99d)
+        );
+    }
+
+    @Test
+    public void shouldComputeExactQuantilesOfSmallStreams() {
+        final Map<Double, Double> quantiles = __.inject(1, 2, 3, 4, 5).approxQuantile(0.0d, 0.5d, 1.0d).next();
+        assertEquals(Arrays.asList(0.0d, 0.5d, 1.0d), new ArrayList<>(quantiles.keySet()));
+        assertEquals(1.0d, quantiles.get(0.0d), 0.0d);
+        assertEquals(3.0d, quantiles.get(0.5d), 0.0d);
+        assertEquals(5.0d, quantiles.get(1.0d), 0.0d);
+        assertTrue(__.<Integer>inject().approxQuantile(0.5d).next().isEmpty());
+    }
+
+    @Test
+    public void shouldEstimateQuantilesWithinError() {
+        final Random random = new Random(42);
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            list.add(random.nextInt(100000));
+        }
+        final List<Integer> sorted = new ArrayList<>(list);
+        Collections.sort(sorted);
+        final Map<Double, Double> quantiles = __.inject(list).unfold().approxQuantile(0.1d, 0.5d, 0.99d).next();
+        for (final Map.Entry<Double, Double> entry : quantiles.entrySet()) {
+            final int rank = Collections.binarySearch(sorted, entry.getValue().intValue());
+            assertTrue(Math.abs(Math.abs(rank) - entry.getKey() * sorted.size()) < sorted.size() * 0.02d);
+        }
+    }
+
+    @Test
+    public void shouldMergeAndSerializeSketches() {
+        final QuantileSketch a = new QuantileSketch(QuantileSketch.DEFAULT_K);
+        final QuantileSketch b = new QuantileSketch(QuantileSketch.DEFAULT_K);
+        for (int i = 0; i < 10000; i++) {
+            a.add(i);
+            b.add(i + 10000, 3l);
+        }
+        final Kryo kryo = GryoMapper.build().create().createMapper();
+        final Output output = new Output(1 << 16, -1);
+        kryo.writeClassAndObject(output, b);
+        final QuantileSketch c = (QuantileSketch) kryo.readClassAndObject(new Input(output.toBytes()));
+        assertEquals(b.getCount(), c.getCount());
+        assertEquals(b.quantile(0.5d), c.quantile(0.5d), 0.0d);
+        a.merge(c);
+        assertEquals(40000l, a.getCount());
+        assertEquals(0.0d, a.quantile(0.0d), 0.0d);
+        assertEquals(19999.0d, a.quantile(1.0d), 0.0d);
+        assertEquals(10000.0d + (10000.0d / 3.0d), a.quantile(0.5d), 400.0d);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.structure.Column;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author agent (agent@local)
+ */
+public class ApproxTopKStepTest extends StepTest {
+
+    @Override
+    protected List<Traversal> getTraversals() {
+        return Arrays.asList(
+                __.approxTopK(1),
+                __.approxTopK(10)
+        );
+    }
+
+    @Test
+    public void shouldFindHeavyHitters() {
+        final Random random = new Random(42);
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            // five heavy hitters hidden in a long tail of rare values
+            for (int j = 0; j < (5 - i) * 1000; j++) {
+                list.add(i);
+            }
+        }
+        for (int i = 0; i < 50000; i++) {
+            list.add(100 + random.nextInt(10000));
+        }
+        Collections.shuffle(list, random);
+        final Map<Integer, Long> exact = (Map) __.inject(list).unfold().groupCount()
+                .order(Scope.local).by(Column.values, Order.decr).limit(Scope.local, 5).next();
+        final Map<Object, Long> approx = __.inject(list).unfold().approxTopK(5).next();
+        assertEquals(new ArrayList<>(exact.keySet()), new ArrayList<>(approx.keySet()));
+    }
+
+    @Test
+    public void shouldCountSmallStreamsExactly() {
+        final Map<String, Long> top = __.inject("a", "b", "a", "c", "a", "b").approxTopK(2).next();
+        assertEquals(Arrays.asList("a", "b"), new ArrayList<>(top.keySet()));
+        assertEquals(3l, top.get("a").longValue());
+        assertEquals(2l, top.get("b").longValue());
+    }
+}
@@ -20,11 +20,27 @@
 package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.GroupCountSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SpillStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.WindowStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -39,4 +55,83 @@ public class GroupCountStepTest extends StepTest {
                 __.groupCount().by("age")
         );
     }
+
+    @Test
+    public void shouldGroupCountTheSameWhenSpillingToDisk() {
+        final List<Integer> list = getSpillTestIntegers();
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final GraphTraversalSource spilling = getSpillingTraversalSource(g);
+        assertEquals(g.inject(list).unfold().groupCount().next(), spilling.inject(list).unfold().groupCount().next());
+        assertEquals(g.inject(list).unfold().groupCount("a").cap("a").next(), spilling.inject(list).unfold().groupCount("a").cap("a").next());
+        assertEquals(new HashSet<>(list).size(), spilling.inject(list).unfold().groupCount().next().size());
+    }
+
+    @Test
+    public void shouldMergeASpillingSideEffectWhenClosedBeforeExhausted() throws Exception {
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i % 7);
+        }
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final GraphTraversalSource spilling = g.withStrategies(SpillStrategy.build().spillThreshold(3).create());
+        final Traversal.Admin<?, Integer> expected = g.inject(list).<Integer>unfold().groupCount("a").limit(20).asAdmin();
+        expected.toList();
+        final Traversal.Admin<?, Integer> actual = spilling.inject(list).<Integer>unfold().groupCount("a").limit(20).asAdmin();
+        actual.toList();
+        actual.close();
+        assertEquals(expected.getSideEffects().<Map<Integer, Long>>get("a"), actual.getSideEffects().<Map<Integer, Long>>get("a"));
+    }
+
+    @Test
+    public void shouldNotSpillASideEffectThatIsReadWhileIterating() {
+        final GraphTraversalSource spilling = EmptyGraph.instance().traversal().withStrategies(SpillStrategy.build().spillThreshold(3).create());
+        Traversal.Admin<?, ?> traversal = spilling.inject(1, 2, 3).groupCount("a").select("a").asAdmin();
+        traversal.applyStrategies();
+        assertFalse(TraversalHelper.getFirstStepOfAssignableClass(GroupCountSideEffectStep.class, traversal).get().isSpillable());
+        traversal = spilling.inject(1, 2, 3).groupCount("a").cap("a").asAdmin();
+        traversal.applyStrategies();
+        assertTrue(TraversalHelper.getFirstStepOfAssignableClass(GroupCountSideEffectStep.class, traversal).get().isSpillable());
+    }
+
+    @Test
+    public void shouldGroupCountAWindowOfTraversersAtATime() {
+        final List<Integer> list = getSpillTestIntegers();
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final Map<Integer, Long> expected = g.inject(list).unfold().<Integer>groupCount().next();
+        for (final GraphTraversalSource windowing : Arrays.asList(
+                g.withStrategies(WindowStrategy.build().windowSize(1000).create()),
+                getSpillingTraversalSource(g.withStrategies(WindowStrategy.build().windowSize(1000).create())))) {
+            final List<Map<Integer, Long>> windows = windowing.inject(list).unfold().<Integer>groupCount().toList();
+            assertEquals(10, windows.size());
+            final Map<Integer, Long> merged = new HashMap<>();
+            for (final Map<Integer, Long> window : windows) {
+                assertEquals(1000l, window.values().stream().mapToLong(Long::longValue).sum());
+                window.forEach((k, v) -> merged.merge(k, v, Long::sum));
+            }
+            assertEquals(expected, merged);
+        }
+        // a window that is never filled is emitted when the starts are exhausted
+        assertEquals(1, g.withStrategies(WindowStrategy.build().windowSize(20000).create()).inject(list).unfold().groupCount().toList().size());
+    }
+
+    @Test
+    public void shouldGroupCountAWindowOfTraversersPerTimeInterval() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        for (final GraphTraversalSource windowing : Arrays.asList(
+                g.withStrategies(WindowStrategy.build().windowTime(20).create()),
+                getSpillingTraversalSource(g.withStrategies(WindowStrategy.build().windowTime(20).create())))) {
+            // every traverser arrives 10 milliseconds after the previous one
+            final AtomicLong clock = new AtomicLong();
+            final Traversal.Admin<?, Map<Object, Long>> traversal = windowing.inject(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)).unfold().
+                    sideEffect(t -> clock.addAndGet(10)).groupCount().asAdmin();
+            traversal.applyStrategies();
+            TraversalHelper.getFirstStepOfAssignableClass(GroupCountStep.class, traversal).get().setWindowClock(clock::get);
+            final List<Map<Object, Long>> windows = traversal.toList();
+            // the traverser that arrives when the window is 20 milliseconds old opens the next window
+            assertEquals(5, windows.size());
+            for (final Map<Object, Long> window : windows) {
+                assertEquals(2l, window.values().stream().mapToLong(Long::longValue).sum());
+            }
+        }
+    }
 }
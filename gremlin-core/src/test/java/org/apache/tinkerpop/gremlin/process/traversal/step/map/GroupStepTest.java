@@ -19,13 +19,22 @@
 
 package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.WindowStrategy;
 import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -40,4 +49,34 @@ public class GroupStepTest extends StepTest {
                 __.group().by(T.label).by(__.values("name").count())
         );
     }
+
+    @Test
+    public void shouldGroupTheSameWhenSpillingToDisk() {
+        final List<Integer> list = getSpillTestIntegers();
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final GraphTraversalSource spilling = getSpillingTraversalSource(g);
+        assertEquals(g.inject(list).unfold().group().next(), spilling.inject(list).unfold().group().next());
+        assertEquals(g.inject(list).unfold().group().by().by(__.count()).next(), spilling.inject(list).unfold().group().by().by(__.count()).next());
+        assertEquals(g.inject(list).unfold().group().by().by(__.fold().count(Scope.local)).next(), spilling.inject(list).unfold().group().by().by(__.fold().count(Scope.local)).next());
+        assertEquals(g.inject(list).unfold().group("a").cap("a").next(), spilling.inject(list).unfold().group("a").cap("a").next());
+        assertEquals(g.inject(list).unfold().group("a").by().by(__.sum()).cap("a").next(), spilling.inject(list).unfold().group("a").by().by(__.sum()).cap("a").next());
+    }
+
+    @Test
+    public void shouldGroupAWindowOfTraversersAtATime() {
+        final List<Integer> list = getSpillTestIntegers();
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final Map<Integer, Long> expected = g.inject(list).unfold().<Integer, Long>group().by().by(__.count()).next();
+        for (final GraphTraversalSource windowing : Arrays.asList(
+                g.withStrategies(WindowStrategy.build().windowSize(1000).create()),
+                getSpillingTraversalSource(g.withStrategies(WindowStrategy.build().windowSize(1000).create())))) {
+            final List<Map<Integer, Long>> windows = windowing.inject(list).unfold().<Integer, Long>group().by().by(__.count()).toList();
+            assertEquals(10, windows.size());
+            final Map<Integer, Long> merged = new HashMap<>();
+            windows.forEach(window -> window.forEach((k, v) -> merged.merge(k, v, Long::sum)));
+            assertEquals(expected, merged);
+        }
+        // windows only apply to the root traversal
+        assertEquals(1, g.withStrategies(WindowStrategy.build().windowSize(10).create()).inject(list).local(__.unfold().group()).toList().size());
+    }
 }
@@ -22,6 +22,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.CoinStep;
@@ -29,9 +31,13 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ConnectiveStep
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WherePredicateStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_LP_O_P_S_SE_SL_TraverserGenerator;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.EmptyTraverser;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.util.GraphStatistics;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -39,6 +45,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.P.eq;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.and;
@@ -51,6 +59,9 @@ import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.where;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -397,6 +408,91 @@ public class MatchStepTest extends StepTest {
         traverser.addLabels(Collections.singleton("d"));
     }
 
+    @Test
+    public void testCostMatchAlgorithm() {
+        final Graph graph = mock(Graph.class, withSettings().extraInterfaces(GraphStatistics.class));
+        when(((GraphStatistics) graph).getVertexCount(null)).thenReturn(100l);
+        when(((GraphStatistics) graph).getVertexCount("person")).thenReturn(20l);
+        when(((GraphStatistics) graph).getEdgeCount(null)).thenReturn(1000l);
+        when(((GraphStatistics) graph).getEdgeCount("knows")).thenReturn(50l);
+        when(((GraphStatistics) graph).getEdgeCount("created")).thenReturn(950l);
+        final Traversal.Admin<?, ?> traversal = new DefaultGraphTraversal<>(graph).match(
+                as("a").out("created").as("b"),
+                as("a").out("knows").as("c"),
+                as("c").hasLabel("person").as("d"),
+                where("a", eq("b"))).asAdmin();
+        final List<Traversal.Admin<Object, Object>> patterns = ((MatchStep<?, ?>) traversal.getStartStep()).getGlobalChildren();
+        assertEquals(9.5d, MatchStep.CostMatchAlgorithm.estimateMultiplicity((GraphStatistics) graph, patterns.get(0)), 0.0001d);
+        assertEquals(0.5d, MatchStep.CostMatchAlgorithm.estimateMultiplicity((GraphStatistics) graph, patterns.get(1)), 0.0001d);
+        assertEquals(0.2d, MatchStep.CostMatchAlgorithm.estimateMultiplicity((GraphStatistics) graph, patterns.get(2)), 0.0001d);
+        assertEquals(MatchStep.CostMatchAlgorithm.FILTER_SELECTIVITY, MatchStep.CostMatchAlgorithm.estimateMultiplicity((GraphStatistics) graph, patterns.get(3)), 0.0001d);
+        // the plan is known before any traverser is processed
+        final MatchStep.CostMatchAlgorithm costMatchAlgorithm = new MatchStep.CostMatchAlgorithm();
+        costMatchAlgorithm.initialize(TraversalEngine.Type.STANDARD, patterns);
+        assertEquals(patterns.get(3), costMatchAlgorithm.bundles.get(0).traversal);
+        assertEquals(patterns.get(2), costMatchAlgorithm.bundles.get(1).traversal);
+        assertEquals(patterns.get(1), costMatchAlgorithm.bundles.get(2).traversal);
+        assertEquals(patterns.get(0), costMatchAlgorithm.bundles.get(3).traversal);
+        Traverser.Admin traverser = B_LP_O_P_S_SE_SL_TraverserGenerator.instance().generate(1, EmptyStep.instance(), 1l);
+        traverser.addLabels(Collections.singleton("a"));
+        assertEquals(patterns.get(1), costMatchAlgorithm.apply(traverser));
+        // runtime counts eventually revise the plan
+        for (int i = 0; i < 20000; i++) {
+            costMatchAlgorithm.recordStart(EmptyTraverser.instance(), patterns.get(0));
+        }
+        costMatchAlgorithm.recordEnd(EmptyTraverser.instance(), patterns.get(0));
+        assertEquals(patterns.get(0), costMatchAlgorithm.apply(traverser));
+        // without statistics it is a CountMatchAlgorithm
+        costMatchAlgorithm.initialize(TraversalEngine.Type.STANDARD, ((MatchStep<?, ?>) __.match(as("a").out().as("b")).asAdmin().getStartStep()).getGlobalChildren());
+        assertEquals(0.0d, costMatchAlgorithm.bundles.get(0).multiplicity, 0.0d);
+    }
+
+    @Test
+    public void testHashJoinMatchAlgorithm() {
+        final Traversal.Admin<?, ?> traversal = __.match(
+                as("a").out().as("b"),                  // joinable
+                as("b").out().as("x").out().as("c"),    // labeled intermediate step
+                as("a").aggregate("x").as("d"),         // side-effect
+                as("a").path().as("e"),                 // requires the full path
+                where("a", eq("b")),                    // joinable
+                and(as("a").out().as("f"), as("f").in().as("a")))    // nested match
+                .asAdmin();
+        traversal.applyStrategies(); // necessary to enure step ids are unique
+        final List<Traversal.Admin<Object, Object>> patterns = ((MatchStep<?, ?>) traversal.getStartStep()).getGlobalChildren();
+        final MatchStep.HashJoinMatchAlgorithm hashJoinMatchAlgorithm = new MatchStep.HashJoinMatchAlgorithm();
+        hashJoinMatchAlgorithm.initialize(TraversalEngine.Type.STANDARD, patterns);
+        assertTrue(hashJoinMatchAlgorithm.isJoinable(patterns.get(0)));
+        assertFalse(hashJoinMatchAlgorithm.isJoinable(patterns.get(1)));
+        assertFalse(hashJoinMatchAlgorithm.isJoinable(patterns.get(2)));
+        assertFalse(hashJoinMatchAlgorithm.isJoinable(patterns.get(3)));
+        assertTrue(hashJoinMatchAlgorithm.isJoinable(patterns.get(4)));
+        assertFalse(hashJoinMatchAlgorithm.isJoinable(patterns.get(5)));
+    }
+
+    @Test
+    public void shouldHashJoinToTheSameResultsAsCountMatchAlgorithm() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final GraphTraversalSource h = g.withStrategies(MatchAlgorithmStrategy.build().algorithm(MatchStep.HashJoinMatchAlgorithm.class).create());
+        final List<Function<GraphTraversalSource, Traversal<?, ?>>> traversals = Arrays.asList(
+                s -> s.inject(1, 2, 2, 3, 3, 3).as("a").match(
+                        as("a").map(t -> (int) t.get() + 1).as("b"),
+                        as("b").map(t -> (int) t.get() * 2).as("c")).select("a", "b", "c"),
+                s -> s.inject(1, 2, 2, 3, 3, 3).as("a").match(
+                        as("a").flatMap(t -> IntStream.range(0, (int) t.get()).boxed().iterator()).as("b"),
+                        as("b").map(t -> (int) t.get() % 2).as("c"),
+                        where("a", P.gt("b"))).select("a", "b", "c"),
+                s -> s.inject(1, 2, 2, 3, 3, 3).as("a").match(
+                        as("a").flatMap(t -> IntStream.range(0, (int) t.get()).boxed().iterator()).as("b"),
+                        as("b").map(t -> (int) t.get() % 2).as("c")).dedup("a", "c").select("a", "c"));
+        for (final Function<GraphTraversalSource, Traversal<?, ?>> traversal : traversals) {
+            final List<Object> expected = (List) traversal.apply(g).toList();
+            final List<Object> actual = (List) traversal.apply(h).toList();
+            assertEquals(expected.size(), actual.size());
+            assertTrue(expected.containsAll(actual));
+            assertTrue(actual.containsAll(expected));
+        }
+    }
+
     @Test
     public void shouldCalculateStartLabelCorrectly() {
         Traversal.Admin<?, ?> traversal = match(
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.LazyBarrierStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class NoOpBarrierStepTest extends StepTest {
+
+    @Override
+    protected List<Traversal> getTraversals() {
+        return Arrays.asList(
+                __.barrier(),
+                __.barrier(100),
+                __.barrier(1000)
+        );
+    }
+
+    @Test
+    public void shouldShrinkToPassThroughWhenTraversersDoNotBulkAndGrowBackWhenTheyDo() {
+        final AtomicBoolean bulking = new AtomicBoolean(false);
+        final AtomicBoolean memoryLow = new AtomicBoolean(false);
+        final Traversal.Admin<Integer, Integer> traversal = adaptiveBarrier(bulking, memoryLow);
+        final NoOpBarrierStep<?> barrier = getBarrier(traversal);
+        assertTrue(barrier.isAdaptive());
+        assertEquals(1000, barrier.getBarrierSize());
+
+        // each full barrier of distinct traversers quarters the barrier until traversers are passed straight through
+        assertEquals(Arrays.asList(1000, 250, 62, 15, 3, 1), barrierSizesUntil(traversal, barrier, 1));
+
+        // the barrier probes whether bulking pays off again and grows back while traversers bulk
+        bulking.set(true);
+        assertEquals(Arrays.asList(1, 256, 512, 1000), barrierSizesUntil(traversal, barrier, 1000));
+
+        // the barrier halves while memory is low even though traversers bulk
+        memoryLow.set(true);
+        assertEquals(Arrays.asList(1000, 500, 250), barrierSizesUntil(traversal, barrier, 250));
+        memoryLow.set(false);
+        assertEquals(Arrays.asList(250, 500, 1000), barrierSizesUntil(traversal, barrier, 1000));
+    }
+
+    @Test
+    public void shouldAdaptWithConfiguredRatiosAndProbe() {
+        final AtomicBoolean bulking = new AtomicBoolean(false);
+        final AtomicBoolean memoryLow = new AtomicBoolean(false);
+        final Traversal.Admin<Integer, Integer> traversal = adaptiveBarrier(bulking, memoryLow,
+                t -> new NoOpBarrierStep<>(t, 1000, 0.05d, 0.8d, 0.1d, 100, 64));
+        final NoOpBarrierStep<?> barrier = getBarrier(traversal);
+        assertEquals(Arrays.asList(1000, 250, 62, 15, 3, 1), barrierSizesUntil(traversal, barrier, 1));
+
+        // traversers that are repeated four times merge 75% of a barrier which does not reach the grow ratio of 0.8
+        bulking.set(true);
+        assertEquals(Arrays.asList(1, 64), barrierSizesUntil(traversal, barrier, 64));
+        for (int i = 0; i < 1000; i++) {
+            traversal.next();
+        }
+        assertEquals(64, barrier.getBarrierSize());
+    }
+
+    @Test
+    public void shouldConfigureLazyBarrierStrategy() {
+        final LazyBarrierStrategy strategy = LazyBarrierStrategy.build().shrinkMergeRatio(0.1d).growMergeRatio(0.5d).
+                lowMemoryRatio(0.2d).probeInterval(100).probeSize(64).create();
+        final LazyBarrierStrategy copy = LazyBarrierStrategy.create(strategy.getConfiguration());
+        assertEquals(0.1d, copy.getShrinkMergeRatio(), 0.0d);
+        assertEquals(0.5d, copy.getGrowMergeRatio(), 0.0d);
+        assertEquals(0.2d, copy.getLowMemoryRatio(), 0.0d);
+        assertEquals(100, copy.getProbeInterval());
+        assertEquals(64, copy.getProbeSize());
+        assertEquals(NoOpBarrierStep.DEFAULT_PROBE_SIZE, LazyBarrierStrategy.instance().getProbeSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowShrinkRatioAboveGrowRatio() {
+        LazyBarrierStrategy.build().shrinkMergeRatio(0.5d).growMergeRatio(0.25d).create();
+    }
+
+    @Test
+    public void shouldNotAdaptUserBarrier() {
+        final List<Integer> values = IntStream.range(0, 20000).boxed().collect(Collectors.toList());
+        final Traversal.Admin<List<Integer>, Integer> traversal = g().inject(values).<Integer>unfold().barrier(1000).asAdmin();
+        assertEquals(values, traversal.toList());
+        assertFalse(getBarrier(traversal).isAdaptive());
+        assertEquals(1000, getBarrier(traversal).getBarrierSize());
+        assertEquals(1000, getBarrier(traversal).getMaxBarrierSize());
+    }
+
+    @Test
+    public void shouldNotAdaptUnboundedBarrier() {
+        final List<Integer> values = IntStream.range(0, 5000).boxed().collect(Collectors.toList());
+        final Traversal.Admin<List<Integer>, Integer> traversal = g().inject(values).<Integer>unfold().barrier().asAdmin();
+        assertEquals(values, traversal.toList());
+        assertFalse(getBarrier(traversal).isAdaptive());
+        assertEquals(Integer.MAX_VALUE, getBarrier(traversal).getBarrierSize());
+    }
+
+    @Test
+    public void shouldAdaptBarrierInsertedByLazyBarrierStrategy() {
+        final Traversal.Admin<?, ?> traversal = g().withStrategies(LazyBarrierStrategy.instance()).V().out().out().asAdmin();
+        traversal.applyStrategies();
+        assertTrue(getBarrier(traversal).isAdaptive());
+    }
+
+    /**
+     * An adaptive barrier after an endless stream of integers that are distinct or, while {@code bulking}, repeated
+     * four times each.
+     */
+    private static Traversal.Admin<Integer, Integer> adaptiveBarrier(final AtomicBoolean bulking, final AtomicBoolean memoryLow) {
+        return adaptiveBarrier(bulking, memoryLow, t -> new NoOpBarrierStep<>(t, 1000, true));
+    }
+
+    private static Traversal.Admin<Integer, Integer> adaptiveBarrier(final AtomicBoolean bulking, final AtomicBoolean memoryLow,
+                                                                     final Function<Traversal.Admin<Integer, Integer>, NoOpBarrierStep<Integer>> barrierFactory) {
+        final AtomicInteger counter = new AtomicInteger(0);
+        final Iterator<Integer> integers = new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return bulking.get() ? counter.getAndIncrement() / 4 : counter.getAndAdd(4) / 4;
+            }
+        };
+        final Traversal.Admin<Integer, Integer> traversal = g().inject(0).<Integer>flatMap(t -> integers).asAdmin();
+        final NoOpBarrierStep<Integer> barrier = barrierFactory.apply(traversal);
+        barrier.setMemoryProbe(memoryLow::get);
+        traversal.addStep(barrier);
+        return traversal;
+    }
+
+    /**
+     * Iterate the traversal until the barrier has the expected size and collect the distinct sizes it had on the way.
+     */
+    private static List<Integer> barrierSizesUntil(final Traversal.Admin<Integer, Integer> traversal, final NoOpBarrierStep<?> barrier, final int expectedSize) {
+        final List<Integer> sizes = new ArrayList<>();
+        sizes.add(barrier.getBarrierSize());
+        for (int i = 0; i < 100000 && barrier.getBarrierSize() != expectedSize; i++) {
+            traversal.next();
+            if (sizes.get(sizes.size() - 1) != barrier.getBarrierSize())
+                sizes.add(barrier.getBarrierSize());
+        }
+        return sizes;
+    }
+
+    private static GraphTraversalSource g() {
+        return EmptyGraph.instance().traversal();
+    }
+
+    private static NoOpBarrierStep<?> getBarrier(final Traversal.Admin<?, ?> traversal) {
+        return TraversalHelper.getFirstStepOfAssignableClass(NoOpBarrierStep.class, traversal).get();
+    }
+}
@@ -20,8 +20,12 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -29,6 +33,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
@@ -64,4 +69,20 @@ public class OrderGlobalStepTest extends StepTest {
             __.inject(list).unfold().order().by(__.identity(), Order.shuffle).by().iterate();
         }
     }
+
+    @Test
+    public void shouldSortTheSameWhenSpillingToDisk() {
+        final List<Integer> list = getSpillTestIntegers();
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final GraphTraversalSource spilling = getSpillingTraversalSource(g);
+        assertEquals(g.inject(list).unfold().order().toList(), spilling.inject(list).unfold().order().toList());
+        assertEquals(g.inject(list).unfold().order().by(Order.decr).toList(), spilling.inject(list).unfold().order().by(Order.decr).toList());
+        assertEquals(
+                g.inject(list).unfold().order().by(__.constant(0)).by(__.identity(), Order.decr).toList(),
+                spilling.inject(list).unfold().order().by(__.constant(0)).by(__.identity(), Order.decr).toList());
+        //
+        final GraphTraversal<List<Integer>, Object> traversal = spilling.inject(list).unfold().order();
+        assertEquals(10000, traversal.toList().size());
+        assertEquals(100, TraversalHelper.getFirstStepOfAssignableClass(OrderGlobalStep.class, traversal.asAdmin()).get().getSpillThreshold());
+    }
 }
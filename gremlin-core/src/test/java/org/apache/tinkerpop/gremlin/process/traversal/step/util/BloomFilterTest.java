@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedEdge;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+import org.javatuples.Pair;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class BloomFilterTest {
+
+    @Test
+    public void shouldNeverHaveFalseNegatives() {
+        final BloomFilter filter = new BloomFilter(100000, 0.01d);
+        for (int i = 0; i < 100000; i++) {
+            filter.add("a" + i);
+        }
+        for (int i = 0; i < 100000; i++) {
+            assertTrue(filter.contains("a" + i));
+        }
+    }
+
+    @Test
+    public void shouldHaveFalsePositiveProbabilityNearConfiguredValue() {
+        final BloomFilter filter = new BloomFilter(100000, 0.01d);
+        for (long i = 0; i < 100000; i++) {
+            filter.add(i);
+        }
+        int falsePositives = 0;
+        for (long i = 100000; i < 200000; i++) {
+            if (filter.contains(i))
+                falsePositives++;
+        }
+        assertTrue(falsePositives < 1500);
+    }
+
+    @Test
+    public void shouldDistinguishElementKindsAndNumberClasses() {
+        final BloomFilter filter = new BloomFilter(1000, 0.001d);
+        assertFalse(filter.contains(1l));
+        assertTrue(filter.add(new DetachedVertex(1l, "person", Collections.emptyMap())));
+        assertTrue(filter.add(new DetachedEdge(1l, "knows", Collections.emptyMap(), new Pair<>(1l, "person"), new Pair<>(2l, "person"))));
+        assertTrue(filter.add(1l));
+        assertTrue(filter.add(1));
+        assertTrue(filter.add(1.0f));
+        assertTrue(filter.add(1.0d));
+        assertFalse(filter.add(new DetachedVertex(1l, "software", Collections.emptyMap())));
+        assertEquals(6, filter.size());
+        filter.clear();
+        assertEquals(0, filter.size());
+        assertFalse(filter.contains(1l));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedEdge;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceVertex;
+import org.javatuples.Pair;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class ElementIdSetTest {
+
+    @Test
+    public void shouldHaveSameMembershipAsElementEquality() {
+        final ElementIdSet set = new ElementIdSet();
+        assertTrue(set.add(new DetachedVertex(1l, "person", Collections.emptyMap())));
+        assertFalse(set.add(new ReferenceVertex(new DetachedVertex(1l, "person", Collections.emptyMap()))));
+        assertTrue(set.contains(new DetachedVertex(1l, "software", Collections.emptyMap())));
+        // different kinds of elements and different id types are not equal
+        assertTrue(set.add(new DetachedEdge(1l, "knows", Collections.emptyMap(), new Pair<>(1l, "person"), new Pair<>(2l, "person"))));
+        assertTrue(set.add(new DetachedVertex(1, "person", Collections.emptyMap())));
+        assertTrue(set.add(1l));
+        assertTrue(set.add(new DetachedVertex(0l, "person", Collections.emptyMap())));
+        assertTrue(set.add(new DetachedVertex("a", "person", Collections.emptyMap())));
+        assertFalse(set.add(new DetachedVertex("a", "person", Collections.emptyMap())));
+        assertTrue(set.add(Arrays.asList(1, 2)));
+        assertFalse(set.add(Arrays.asList(1, 2)));
+        assertTrue(set.add(null));
+        assertFalse(set.add(null));
+        assertEquals(8, set.size());
+        set.clear();
+        assertEquals(0, set.size());
+        assertFalse(set.contains(new DetachedVertex(1l, "person", Collections.emptyMap())));
+    }
+
+    @Test
+    public void shouldGrowPrimitiveTables() {
+        final ElementIdSet set = new ElementIdSet();
+        for (long id = -50000; id < 50000; id++) {
+            assertTrue(set.add(new DetachedVertex(id, "person", Collections.emptyMap())));
+        }
+        for (long id = -50000; id < 50000; id++) {
+            assertFalse(set.add(new DetachedVertex(id, "person", Collections.emptyMap())));
+        }
+        assertEquals(100000, set.size());
+    }
+}
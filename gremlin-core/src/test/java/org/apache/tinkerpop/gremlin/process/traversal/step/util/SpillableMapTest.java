@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class SpillableMapTest {
+
+    private static final BinaryOperator<Map<Integer, Long>> SUM = (a, b) -> {
+        b.forEach((k, v) -> a.merge(k, v, Long::sum));
+        return a;
+    };
+
+    @Test
+    public void shouldNotSpillBelowThreshold() {
+        try (final SpillableMap<Integer, Long> map = new SpillableMap<>(SUM, 100, null, UnaryOperator.identity(), UnaryOperator.identity(), UnaryOperator.identity())) {
+            for (int i = 0; i < 3; i++) {
+                for (int key = 0; key < 100; key++) {
+                    map.add(Collections.singletonMap(key, 1l));
+                }
+            }
+            assertFalse(map.hasSpilled());
+            final Map<Integer, Long> result = map.reduce(UnaryOperator.identity());
+            map.close();
+            assertEquals(100, result.size());
+            result.values().forEach(count -> assertEquals(3l, count.longValue()));
+        }
+    }
+
+    @Test
+    public void shouldStreamMergedPartitionsBoundedByThreshold() {
+        try (final SpillableMap<Integer, Long> map = new SpillableMap<>(SUM, 10, null, UnaryOperator.identity(), UnaryOperator.identity(), UnaryOperator.identity())) {
+            for (int i = 0; i < 3; i++) {
+                for (int key = 0; key < 1000; key++) {
+                    map.add(Collections.singletonMap(key, 1l));
+                }
+            }
+            assertTrue(map.hasSpilled());
+            final Map<Integer, Long> result = new HashMap<>();
+            map.reduce(UnaryOperator.identity(), partition -> {
+                assertTrue(partition.size() <= 10);
+                // the partitions have disjoint keys
+                partition.forEach((k, v) -> assertNull(result.put(k, v)));
+            });
+            assertEquals(1000, result.size());
+            result.values().forEach(count -> assertEquals(3l, count.longValue()));
+            assertFalse(map.hasSpilled());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Memoizing;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.LocalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.AndStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TraversalFilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CoalesceStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupCountStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.MemoCache;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class MemoizationStrategyTest {
+
+    private static final List<Integer> NUMBERS = IntStream.range(0, 1000).map(i -> i % 10).boxed().collect(Collectors.toList());
+
+    private final GraphTraversalSource g = EmptyGraph.instance().traversal();
+    private final GraphTraversalSource memo = g.withStrategies(ConnectiveStrategy.instance(), MemoizationStrategy.build().size(5).create());
+
+    @Test
+    public void shouldMemoizeChildrenDeterminedByTheirStart() {
+        assertMemoized(true, TraversalFilterStep.class, s -> s.inject(NUMBERS).unfold().where(__.is(P.gt(4))));
+        assertMemoized(true, TraversalFilterStep.class, s -> s.inject(NUMBERS).unfold().where(__.map(__.is(P.gt(2)).count()).is(0l)));
+        assertMemoized(true, AndStep.class, s -> s.inject(NUMBERS).unfold().and(__.is(P.gt(2)), __.is(P.lt(7))));
+    }
+
+    @Test
+    public void shouldMemoizeByLocalAndCoalesceChildren() {
+        assertMemoized(true, OrderGlobalStep.class, s -> s.inject(NUMBERS).unfold().order().by(__.is(P.gt(4)).count(), Order.decr));
+        assertMemoized(true, OrderGlobalStep.class, s -> s.inject(NUMBERS).unfold().map(t -> Collections.singletonList(t.get())).order().by((a, b) -> Integer.compare((int) b.get(0), (int) a.get(0))));
+        assertMemoized(true, GroupCountStep.class, s -> s.inject(NUMBERS).unfold().groupCount().by(__.is(P.gt(4)).count()));
+        assertMemoized(true, GroupStep.class, s -> s.inject(NUMBERS).unfold().group().by(__.is(P.gt(4)).count()).by(__.count()));
+        assertMemoized(true, LocalStep.class, s -> s.inject(NUMBERS).unfold().local(__.union(__.identity(), __.identity()).fold()));
+        assertMemoized(true, LocalStep.class, s -> s.inject(NUMBERS).unfold().barrier().local(__.union(__.identity(), __.identity()).count()));
+        assertMemoized(true, LocalStep.class, s -> s.inject(NUMBERS).unfold().local(__.union(__.identity(), __.identity())).path());
+        assertMemoized(true, CoalesceStep.class, s -> s.inject(NUMBERS).unfold().coalesce(__.is(P.gt(4)), __.constant(-1)));
+    }
+
+    @Test
+    public void shouldNotMemoizeChildrenDependingOnMoreThanTheirStart() {
+        assertMemoized(false, TraversalFilterStep.class, s -> s.inject(NUMBERS).unfold().where(__.filter(t -> (int) t.get() > 4)));
+        assertMemoized(false, TraversalFilterStep.class, s -> s.inject(NUMBERS).unfold().where(__.path().count(Scope.local).is(1l)));
+        assertMemoized(false, TraversalFilterStep.class, s -> s.inject(NUMBERS).unfold().as("a").where(__.select("a").is(P.gt(4))));
+        assertMemoized(false, TraversalFilterStep.class, s -> s.inject(NUMBERS).unfold().where(__.is(P.gt(4)).aggregate("x")));
+    }
+
+    @Test
+    public void shouldNotMemoizeRandomChildren() {
+        final Traversal.Admin<?, ?> traversal = memo.inject(NUMBERS).unfold().where(__.coin(0.5d)).asAdmin();
+        traversal.applyStrategies();
+        assertEquals(0, TraversalHelper.getFirstStepOfAssignableClass(TraversalFilterStep.class, traversal).get().getMemoSize());
+    }
+
+    @Test
+    public void shouldNotMemoizeChildrenDependingOnLoops() {
+        final Traversal.Admin<?, ?> traversal = memo.inject(NUMBERS).unfold().repeat(__.identity()).until(__.and(__.is(P.gt(4)), __.loops().is(2))).asAdmin();
+        traversal.applyStrategies();
+        assertEquals(0, TraversalHelper.getStepsOfAssignableClassRecursively(AndStep.class, traversal).get(0).getMemoSize());
+    }
+
+    @Test
+    public void shouldNotMemoizeMutatingTraversals() {
+        final Traversal.Admin<?, ?> traversal = memo.V().where(__.out()).property("name", "marko").asAdmin();
+        traversal.applyStrategies();
+        assertEquals(0, TraversalHelper.getFirstStepOfAssignableClass(TraversalFilterStep.class, traversal).get().getMemoSize());
+    }
+
+    @Test
+    public void shouldConfigureFromConfiguration() {
+        assertEquals(5, MemoizationStrategy.create(MemoizationStrategy.build().size(5).create().getConfiguration()).getSize());
+        assertEquals(10000, MemoizationStrategy.build().create().getSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowEmptyMemo() {
+        MemoizationStrategy.build().size(0).create();
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedResults() {
+        final MemoCache<Boolean> cache = new MemoCache<>(2);
+        cache.put(1, true);
+        cache.put(2, false);
+        cache.get(1);
+        cache.put(3, true);
+        assertEquals(2, cache.size());
+        assertTrue(cache.containsKey(1));
+        assertFalse(cache.containsKey(2));
+    }
+
+    private <S extends Memoizing> void assertMemoized(final boolean memoized, final Class<S> stepClass, final Function<GraphTraversalSource, GraphTraversal<?, ?>> traversal) {
+        final List<?> expected = traversal.apply(g).toList();
+        final Traversal.Admin<?, ?> memoTraversal = traversal.apply(memo).asAdmin();
+        assertEquals(expected, memoTraversal.toList());
+        assertEquals(memoized ? 5 : 0, TraversalHelper.getFirstStepOfAssignableClass(stepClass, memoTraversal).get().getMemoSize());
+    }
+}
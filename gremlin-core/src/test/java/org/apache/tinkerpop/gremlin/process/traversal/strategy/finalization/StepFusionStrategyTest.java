@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.FusedStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+@RunWith(Enclosed.class)
+public class StepFusionStrategyTest {
+
+    @RunWith(Parameterized.class)
+    public static class ParameterizedTests {
+
+        @Parameterized.Parameter(value = 0)
+        public Traversal.Admin original;
+
+        @Parameterized.Parameter(value = 1)
+        public String optimized;
+
+        @Test
+        public void doTest() {
+            final TraversalStrategies strategies = new DefaultTraversalStrategies();
+            strategies.addStrategies(StepFusionStrategy.instance());
+            this.original.setStrategies(strategies);
+            this.original.applyStrategies();
+            assertEquals(this.optimized, this.original.getSteps().toString());
+        }
+
+        @Parameterized.Parameters(name = "{0}")
+        public static Iterable<Object[]> generateTestParameters() {
+            return Arrays.asList(new Object[][]{
+                    {__.out().has("age", P.gt(30)).asAdmin(), "[VertexStep(OUT,vertex), HasStep([age.gt(30)])]"},
+                    {__.has("age", P.gt(30)).values("name").is("josh").asAdmin(), "[FusedStep([HasStep([age.gt(30)]), PropertiesStep([name],value), IsStep(eq(josh))])]"},
+                    {__.out().id().is(1).out().label().is("person").asAdmin(), "[VertexStep(OUT,vertex), FusedStep([IdStep, IsStep(eq(1))]), VertexStep(OUT,vertex), FusedStep([LabelStep, IsStep(eq(person))])]"},
+                    {__.has("age", P.gt(30)).as("a").values("name").is("josh").asAdmin(), "[HasStep([age.gt(30)])@[a], FusedStep([PropertiesStep([name],value), IsStep(eq(josh))])]"},
+                    {__.has("age", P.gt(30)).values("name").as("a").is("josh").asAdmin(), "[FusedStep([HasStep([age.gt(30)]), PropertiesStep([name],value)])@[a], IsStep(eq(josh))]"},
+                    {__.has("age", P.gt(30)).values("name").barrier(10).is("josh").out().asAdmin(), "[FusedStep([HasStep([age.gt(30)]), PropertiesStep([name],value), IsStep(eq(josh))]), NoOpBarrierStep(10), VertexStep(OUT,vertex)]"},
+                    {__.has("age", P.gt(30)).values("name").barrier().is("josh").asAdmin(), "[FusedStep([HasStep([age.gt(30)]), PropertiesStep([name],value)]), NoOpBarrierStep, IsStep(eq(josh))]"},
+                    {__.not(__.out()).has(T.label, "person").id().asAdmin(), "[NotStep([VertexStep(OUT,vertex)]), FusedStep([HasStep([~label.eq(person)]), IdStep])]"},
+            });
+        }
+    }
+
+    public static class BehaviorTests {
+
+        @Test
+        public void shouldReturnTheSameResultsWhenFused() {
+            final GraphTraversalSource g = EmptyGraph.instance().traversal(); // no default strategies
+            final List<Integer> values = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+            final Traversal.Admin<?, ?> fused = g.withStrategies(StepFusionStrategy.instance()).inject(values).<Integer>unfold().is(P.gt(100)).is(P.lt(900)).is(P.neq(500)).map(t -> t.get() % 10).is(P.neq(3)).asAdmin();
+            final List<?> expected = g.inject(values).<Integer>unfold().is(P.gt(100)).is(P.lt(900)).is(P.neq(500)).map(t -> t.get() % 10).is(P.neq(3)).toList();
+            fused.applyStrategies();
+            assertTrue(TraversalHelper.hasStepOfClass(FusedStep.class, fused));
+            final Traversal.Admin<?, ?> clone = fused.clone();
+            assertEquals(expected, fused.toList());
+            assertEquals(expected, clone.toList());
+        }
+    }
+}
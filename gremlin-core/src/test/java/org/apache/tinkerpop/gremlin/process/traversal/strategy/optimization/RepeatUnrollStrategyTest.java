@@ -25,8 +25,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.TraversalStrategyPerformanceTest;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.BreadthFirstRepeatStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
@@ -75,6 +78,11 @@ public class RepeatUnrollStrategyTest {
             assertEquals(this.optimized, this.original);
         }
 
+        private static Traversal breadthFirst(final Traversal traversal) {
+            TraversalHelper.getStepsOfClass(RepeatStep.class, traversal.asAdmin()).forEach(step -> step.setBreadthFirst(true));
+            return traversal;
+        }
+
         @Parameterized.Parameters(name = "{0}")
         public static Iterable<Object[]> generateTestParameters() {
             final int maxBarrierSize = RepeatUnrollStrategy.MAX_BARRIER_SIZE;
@@ -101,6 +109,9 @@ public class RepeatUnrollStrategyTest {
                     {__.repeat(__.outE().inV()).times(2), __.outE().inV().barrier(maxBarrierSize).outE().inV().barrier(maxBarrierSize), Collections.emptyList()},
                     {__.repeat(__.outE().filter(path()).inV()).times(2), __.outE().filter(path()).inV().barrier(maxBarrierSize).outE().filter(path()).inV().barrier(maxBarrierSize), Collections.singletonList(IncidentToAdjacentStrategy.instance())},
                     {__.repeat(__.outE().inV()).times(2), __.out().barrier(maxBarrierSize).out().barrier(maxBarrierSize), Collections.singletonList(IncidentToAdjacentStrategy.instance())},
+                    //
+                    {__.repeat(out()).times(5), breadthFirst(__.repeat(out()).times(5)), Collections.singletonList(BreadthFirstRepeatStrategy.instance())},
+                    {__.out().repeat(out()).times(2).in(), breadthFirst(__.out().repeat(out()).times(2).in()), Collections.singletonList(BreadthFirstRepeatStrategy.instance())},
             });
         }
     }
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+@RunWith(Enclosed.class)
+public class CompiledPredicateTest {
+
+    @RunWith(Parameterized.class)
+    public static class ParameterizedTest {
+
+        private static final List<Object> VALUES = Arrays.asList(null, 0, 1, 2, 10, 1l, 10l, (short) 1, (byte) 1,
+                1.0d, 1.5d, 1.0f, new BigDecimal("1.0"), Long.MAX_VALUE, Long.MIN_VALUE, "a", "marko", "matthias", "z", "");
+
+        @Parameterized.Parameters(name = "{0}")
+        public static Iterable<Object[]> data() {
+            return new ArrayList<>(Arrays.asList(new Object[][]{
+                    {P.eq(1)},
+                    {P.neq(1)},
+                    {P.gt(1)},
+                    {P.gte(1l)},
+                    {P.lt((short) 1)},
+                    {P.lte(Long.MAX_VALUE)},
+                    {P.gt(1.0d)},
+                    {P.eq("marko")},
+                    {P.neq("marko")},
+                    {P.gt("m")},
+                    {P.lte("matthias")},
+                    {P.eq(null)},
+                    {P.neq(null)},
+                    {P.within(1, 2, "marko", null)},
+                    {P.without(1, 2, "marko")},
+                    {P.within(Collections.emptyList())},
+                    {P.between(1, 10)},
+                    {P.inside(0l, 10)},
+                    {P.outside(1, 10)},
+                    {P.between("m", "n").and(P.neq("marko"))},
+                    {P.between("m", "n").or(P.eq("a")).or(P.within(1, 2))}
+            }));
+        }
+
+        @Parameterized.Parameter(value = 0)
+        public P predicate;
+
+        @Test
+        public void shouldTestLikePredicate() {
+            final CompiledPredicate compiled = CompiledPredicate.compile(this.predicate);
+            for (final Object value : VALUES) {
+                final String message = this.predicate + ".test(" + value + ")";
+                boolean expected;
+                try {
+                    expected = this.predicate.test(value);
+                } catch (final RuntimeException e) {
+                    // incomparable values must fail the same way
+                    try {
+                        compiled.test(value);
+                    } catch (final RuntimeException ce) {
+                        assertEquals(message, e.getClass(), ce.getClass());
+                        continue;
+                    }
+                    throw new AssertionError(message + " should have thrown " + e.getClass().getSimpleName());
+                }
+                assertEquals(message, expected, compiled.test(value));
+            }
+            assertTrue(compiled.isCurrent());
+        }
+    }
+
+    public static class CompilationTest {
+
+        @Test
+        public void shouldNoLongerBeCurrentWhenValueChanges() {
+            final P<Integer> predicate = P.gt(1);
+            final CompiledPredicate compiled = CompiledPredicate.compile(predicate);
+            assertTrue(compiled.test(2));
+            predicate.setValue(5);
+            assertFalse(compiled.isCurrent());
+            assertFalse(CompiledPredicate.compile(predicate).test(2));
+        }
+
+        @Test
+        public void shouldNoLongerBeCurrentWhenConnectiveValueChanges() {
+            final P<Integer> predicate = P.between(1, 10);
+            final CompiledPredicate compiled = CompiledPredicate.compile(predicate);
+            assertTrue(compiled.isCurrent());
+            ((ConnectiveP<Integer>) predicate).getPredicates().get(1).setValue(5);
+            assertFalse(compiled.isCurrent());
+        }
+    }
+}
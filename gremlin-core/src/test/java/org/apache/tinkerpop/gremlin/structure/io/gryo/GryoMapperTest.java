@@ -20,6 +20,11 @@ package org.apache.tinkerpop.gremlin.structure.io.gryo;
 
 import org.apache.tinkerpop.gremlin.process.remote.traversal.DefaultRemoteTraverser;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_LP_O_S_SE_SL_Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.O_OB_S_SE_SL_Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalExplanation;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.io.IoX;
@@ -27,6 +32,8 @@ import org.apache.tinkerpop.gremlin.structure.io.IoXIoRegistry;
 import org.apache.tinkerpop.gremlin.structure.io.IoY;
 import org.apache.tinkerpop.gremlin.structure.io.IoYIoRegistry;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONTokens;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.kryoshim.InputShim;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.kryoshim.OutputShim;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
 import org.apache.tinkerpop.shaded.kryo.ClassResolver;
 import org.apache.tinkerpop.shaded.kryo.Kryo;
@@ -54,7 +61,9 @@ import java.time.YearMonth;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -62,6 +71,7 @@ import java.util.function.Supplier;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.__;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotSame;
@@ -338,6 +348,70 @@ public class GryoMapperTest {
         assertEquals(bytecode.toString(), serializeDeserialize(bytecode, Bytecode.class).toString());
     }
 
+    @Test
+    public void shouldEncodeVarIntsAndVarLongsLikeKryoWithDefaultShimMethods() throws Exception {
+        final int[] ints = {0, 1, -1, 63, -64, 127, 128, 16383, 16384, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        final long[] longs = {0L, 1L, -1L, 127L, 128L, Integer.MAX_VALUE, Integer.MIN_VALUE, 1L << 49, 1L << 56, -(1L << 56), Long.MAX_VALUE, Long.MIN_VALUE};
+        for (final boolean optimizePositive : new boolean[]{true, false}) {
+            final Output kryoOutput = new Output(1024);
+            final Output shimOutput = new Output(1024);
+            final OutputShim outputShim = new ByteOutputShim(shimOutput);
+            for (final int i : ints) {
+                kryoOutput.writeVarInt(i, optimizePositive);
+                outputShim.writeVarInt(i, optimizePositive);
+            }
+            for (final long l : longs) {
+                kryoOutput.writeVarLong(l, optimizePositive);
+                outputShim.writeVarLong(l, optimizePositive);
+            }
+            assertArrayEquals(kryoOutput.toBytes(), shimOutput.toBytes());
+
+            final InputShim inputShim = new ByteInputShim(new Input(kryoOutput.toBytes()));
+            for (final int i : ints) {
+                assertEquals(i, inputShim.readVarInt(optimizePositive));
+            }
+            for (final long l : longs) {
+                assertEquals(l, inputShim.readVarLong(optimizePositive));
+            }
+        }
+    }
+
+    @Test
+    public void shouldHandleTraverserSet() throws Exception {
+        final Step step = __().identity().as("a").asAdmin().getEndStep();
+        final Traverser.Admin<String> pathTraverser = new B_LP_O_S_SE_SL_Traverser<>("marko", step, 3L).split("josh", step);
+        pathTraverser.setBulk(3L);
+        pathTraverser.incrLoops("x");
+        pathTraverser.incrLoops("x");
+        pathTraverser.sack(0.5d);
+        pathTraverser.getTags().add("b");
+        pathTraverser.setStepId("7.0.0()");
+        final Traverser.Admin<String> defaultTraverser = new O_OB_S_SE_SL_Traverser<>("peter", step);
+        final TraverserSet<String> traverserSet = new TraverserSet<>();
+        traverserSet.add(pathTraverser.detach());
+        traverserSet.add(defaultTraverser.detach());
+
+        final TraverserSet<String> deserialized = serializeDeserialize(traverserSet, TraverserSet.class);
+        assertEquals(2, deserialized.size());
+        final Iterator<Traverser.Admin<String>> traversers = deserialized.iterator();
+        final Traverser.Admin<String> pathResult = traversers.next();
+        assertThat(pathResult, instanceOf(B_LP_O_S_SE_SL_Traverser.class));
+        assertEquals("josh", pathResult.get());
+        assertEquals(3L, pathResult.bulk());
+        assertEquals(2, pathResult.loops());
+        assertEquals(0.5d, pathResult.<Double>sack(), 0.0d);
+        assertEquals(Collections.singleton("b"), pathResult.getTags());
+        assertEquals("7.0.0()", pathResult.getStepId());
+        assertEquals(pathTraverser.path(), pathResult.path());
+        final Traverser.Admin<String> defaultResult = traversers.next();
+        assertThat(defaultResult, instanceOf(O_OB_S_SE_SL_Traverser.class));
+        assertEquals("peter", defaultResult.get());
+        assertEquals(1L, defaultResult.bulk());
+        assertEquals(0, defaultResult.loops());
+        assertEquals(Traverser.Admin.HALT, defaultResult.getStepId());
+        assertEquals(defaultTraverser.path(), defaultResult.path());
+    }
+
     public <T> T serializeDeserialize(final Object o, final Class<T> clazz) throws Exception {
         try (final ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
             final Output out = new Output(stream);
@@ -400,4 +474,90 @@ public class GryoMapperTest {
         }
     }
 
+    /**
+     * An {@link OutputShim} that relies on the default var-int and var-long methods.
+     */
+    final static class ByteOutputShim implements OutputShim {
+        private final Output output;
+
+        ByteOutputShim(final Output output) {
+            this.output = output;
+        }
+
+        @Override
+        public void writeByte(final byte b) {
+            this.output.writeByte(b);
+        }
+
+        @Override
+        public void writeBytes(final byte[] array, final int offset, final int count) {
+            this.output.writeBytes(array, offset, count);
+        }
+
+        @Override
+        public void writeString(final String s) {
+            this.output.writeString(s);
+        }
+
+        @Override
+        public void writeLong(final long l) {
+            this.output.writeLong(l);
+        }
+
+        @Override
+        public void writeInt(final int i) {
+            this.output.writeInt(i);
+        }
+
+        @Override
+        public void writeDouble(final double d) {
+            this.output.writeDouble(d);
+        }
+
+        @Override
+        public void flush() {
+            this.output.flush();
+        }
+    }
+
+    /**
+     * An {@link InputShim} that relies on the default var-int and var-long methods.
+     */
+    final static class ByteInputShim implements InputShim {
+        private final Input input;
+
+        ByteInputShim(final Input input) {
+            this.input = input;
+        }
+
+        @Override
+        public byte readByte() {
+            return this.input.readByte();
+        }
+
+        @Override
+        public byte[] readBytes(final int size) {
+            return this.input.readBytes(size);
+        }
+
+        @Override
+        public String readString() {
+            return this.input.readString();
+        }
+
+        @Override
+        public long readLong() {
+            return this.input.readLong();
+        }
+
+        @Override
+        public int readInt() {
+            return this.input.readInt();
+        }
+
+        @Override
+        public double readDouble() {
+            return this.input.readDouble();
+        }
+    }
 }
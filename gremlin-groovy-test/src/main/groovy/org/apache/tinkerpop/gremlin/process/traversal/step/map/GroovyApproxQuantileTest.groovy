@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal
+import org.apache.tinkerpop.gremlin.process.traversal.util.ScriptTraversal
+import org.apache.tinkerpop.gremlin.structure.Edge
+import org.apache.tinkerpop.gremlin.structure.Vertex
+
+/**
+ * @author agent (agent@local)
+ */
+public abstract class GroovyApproxQuantileTest {
+
+    public static class Traversals extends ApproxQuantileTest {
+
+        @Override
+        public Traversal<Vertex, Map<Double, Double>> get_g_V_age_approxQuantileX0_1X() {
+            new ScriptTraversal<>(g, "gremlin-groovy", "g.V.age.approxQuantile(0.0d, 1.0d)")
+        }
+
+        @Override
+        public Traversal<Edge, Map<Double, Double>> get_g_E_weight_approxQuantileX0_5X() {
+            new ScriptTraversal<>(g, "gremlin-groovy", "g.E.weight.approxQuantile(0.5d)")
+        }
+    }
+}
@@ -45,6 +45,22 @@ public abstract class GroovyMatchTest {
         }
     }
 
+    public static class CostMatchTraversals extends Traversals {
+        @Before
+        public void setupTest() {
+            super.setupTest();
+            g = graphProvider.traversal(graph, MatchAlgorithmStrategy.build().algorithm(MatchStep.CostMatchAlgorithm.class).create());
+        }
+    }
+
+    public static class HashJoinMatchTraversals extends Traversals {
+        @Before
+        public void setupTest() {
+            super.setupTest();
+            g = graphProvider.traversal(graph, MatchAlgorithmStrategy.build().algorithm(MatchStep.HashJoinMatchAlgorithm.class).create());
+        }
+    }
+
     public abstract static class Traversals extends MatchTest {
 
         @Override
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal
+import org.apache.tinkerpop.gremlin.process.traversal.util.ScriptTraversal
+import org.apache.tinkerpop.gremlin.structure.Vertex
+
+/**
+ * @author agent (agent@local)
+ */
+public abstract class GroovyShortestPathTest {
+
+    public static class Traversals extends ShortestPathTest {
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_shortestPathXv5X(final Object v1Id, final Object v5Id) {
+            new ScriptTraversal<>(g, "gremlin-groovy", "g.V(v1Id).shortestPath(v5Id)", "v1Id", v1Id, "v5Id", v5Id)
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX6X_shortestPathXv2X(final Object v6Id, final Object v2Id) {
+            new ScriptTraversal<>(g, "gremlin-groovy", "g.V(v6Id).shortestPath(v2Id)", "v6Id", v6Id, "v2Id", v2Id)
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_shortestPathXv6X_byXoutEX(final Object v1Id, final Object v6Id) {
+            new ScriptTraversal<>(g, "gremlin-groovy", "g.V(v1Id).shortestPath(v6Id).by(__.outE())", "v1Id", v1Id, "v6Id", v6Id)
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_shortestPathXv5X_byXweightX(final Object v1Id, final Object v5Id) {
+            new ScriptTraversal<>(g, "gremlin-groovy", "g.V(v1Id).shortestPath(v5Id).by('weight')", "v1Id", v1Id, "v5Id", v5Id)
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_shortestPath_byXoutEX(final Object v1Id) {
+            new ScriptTraversal<>(g, "gremlin-groovy", "g.V(v1Id).shortestPath().by(__.outE())", "v1Id", v1Id)
+        }
+
+        @Override
+        public Traversal<Vertex, List<Object>> get_g_V_programXshortestPathXv1XX_hasIdXv5X_valuesXpathX(final Object v1Id, final Object v5Id) {
+            new ScriptTraversal<>(g, "gremlin-groovy", "g.V.program(ShortestPathVertexProgram.build().source(v1Id).create(graph)).hasId(v5Id).values(ShortestPathVertexProgram.PATH)", "v1Id", v1Id, "v5Id", v5Id)
+        }
+
+        @Override
+        public Traversal<Vertex, List<Object>> get_g_V_programXshortestPathXv6XX_hasIdXv2X_valuesXpathX(final Object v6Id, final Object v2Id) {
+            new ScriptTraversal<>(g, "gremlin-groovy", "g.V.program(ShortestPathVertexProgram.build().source(v6Id).create(graph)).hasId(v2Id).values(ShortestPathVertexProgram.PATH)", "v6Id", v6Id, "v2Id", v2Id)
+        }
+
+        @Override
+        public Traversal<Vertex, List<Object>> get_g_V_programXshortestPathXv1X_edgesXoutEXX_hasIdXv6X_valuesXpathX(final Object v1Id, final Object v6Id) {
+            new ScriptTraversal<>(g, "gremlin-groovy", "g.V.program(ShortestPathVertexProgram.build().source(v1Id).edges(__.outE().asAdmin()).create(graph)).hasId(v6Id).values(ShortestPathVertexProgram.PATH)", "v1Id", v1Id, "v6Id", v6Id)
+        }
+
+        @Override
+        public Traversal<Vertex, List<Object>> get_g_V_programXshortestPathXv1X_weightXweightXX_hasIdXv5X_valuesXpathX(final Object v1Id, final Object v5Id) {
+            new ScriptTraversal<>(g, "gremlin-groovy", "g.V.program(ShortestPathVertexProgram.build().source(v1Id).weight('weight').create(graph)).hasId(v5Id).values(ShortestPathVertexProgram.PATH)", "v1Id", v1Id, "v5Id", v5Id)
+        }
+    }
+}
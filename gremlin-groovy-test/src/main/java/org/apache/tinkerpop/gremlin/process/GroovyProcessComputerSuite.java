@@ -43,7 +43,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.filter.GroovySimplePa
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.GroovyTailTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.GroovyWhereTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyAddEdgeTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyApproxDistinctCountTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyApproxQuantileTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyApproxTopKTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyCoalesceTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyConnectedComponentTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyConstantTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyCountTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyFlatMapTest;
@@ -66,6 +70,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyProgramTest
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyProjectTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyPropertiesTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovySelectTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyShortestPathTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovySumTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyUnfoldTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyValueMapTest;
@@ -130,7 +135,11 @@ public class GroovyProcessComputerSuite extends ProcessComputerSuite {
             GroovyWhereTest.Traversals.class,
 
             // map
+            GroovyApproxDistinctCountTest.Traversals.class,
+            GroovyApproxQuantileTest.Traversals.class,
+            GroovyApproxTopKTest.Traversals.class,
             GroovyCoalesceTest.Traversals.class,
+            GroovyConnectedComponentTest.Traversals.class,
             GroovyConstantTest.Traversals.class,
             GroovyCountTest.Traversals.class,
             GroovyFlatMapTest.Traversals.class,
@@ -154,6 +163,7 @@ public class GroovyProcessComputerSuite extends ProcessComputerSuite {
             GroovyProgramTest.Traversals.class,
             GroovyPropertiesTest.Traversals.class,
             GroovySelectTest.Traversals.class,
+            GroovyShortestPathTest.Traversals.class,
             GroovySumTest.Traversals.class,
             GroovyUnfoldTest.Traversals.class,
             GroovyValueMapTest.Traversals.class,
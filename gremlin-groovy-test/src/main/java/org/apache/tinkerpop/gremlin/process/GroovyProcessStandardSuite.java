@@ -45,6 +45,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.filter.GroovyTailTest
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.GroovyWhereTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyAddEdgeTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyAddVertexTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyApproxDistinctCountTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyApproxQuantileTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyApproxTopKTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyCoalesceTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyConstantTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyCountTest;
@@ -65,6 +68,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyProfileTest
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyProjectTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyPropertiesTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovySelectTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyShortestPathTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovySumTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyUnfoldTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroovyValueMapTest;
@@ -127,6 +131,9 @@ public class GroovyProcessStandardSuite extends ProcessStandardSuite {
             // map
             GroovyAddEdgeTest.Traversals.class,
             GroovyAddVertexTest.Traversals.class,
+            GroovyApproxDistinctCountTest.Traversals.class,
+            GroovyApproxQuantileTest.Traversals.class,
+            GroovyApproxTopKTest.Traversals.class,
             GroovyCoalesceTest.Traversals.class,
             GroovyConstantTest.Traversals.class,
             GroovyCountTest.Traversals.class,
@@ -139,6 +146,8 @@ public class GroovyProcessStandardSuite extends ProcessStandardSuite {
             GroovyMapValuesTest.Traversals.class,
             GroovyMatchTest.CountMatchTraversals.class,
             GroovyMatchTest.GreedyMatchTraversals.class,
+            GroovyMatchTest.CostMatchTraversals.class,
+            GroovyMatchTest.HashJoinMatchTraversals.class,
             GroovyMaxTest.Traversals.class,
             GroovyMeanTest.Traversals.class,
             GroovyMinTest.Traversals.class,
@@ -148,6 +157,7 @@ public class GroovyProcessStandardSuite extends ProcessStandardSuite {
             GroovyPathTest.Traversals.class,
             GroovyPropertiesTest.Traversals.class,
             GroovySelectTest.Traversals.class,
+            GroovyShortestPathTest.Traversals.class,
             GroovySumTest.Traversals.class,
             GroovyUnfoldTest.Traversals.class,
             GroovyValueMapTest.Traversals.class,
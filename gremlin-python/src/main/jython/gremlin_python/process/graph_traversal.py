@@ -124,6 +124,15 @@ class GraphTraversal(Traversal):
   def and_(self, *args):
     self.bytecode.add_step("and", *args)
     return self
+  def approxDistinctCount(self, *args):
+    self.bytecode.add_step("approxDistinctCount", *args)
+    return self
+  def approxQuantile(self, *args):
+    self.bytecode.add_step("approxQuantile", *args)
+    return self
+  def approxTopK(self, *args):
+    self.bytecode.add_step("approxTopK", *args)
+    return self
   def as_(self, *args):
     self.bytecode.add_step("as", *args)
     return self
@@ -157,6 +166,9 @@ class GraphTraversal(Traversal):
   def coin(self, *args):
     self.bytecode.add_step("coin", *args)
     return self
+  def connectedComponent(self, *args):
+    self.bytecode.add_step("connectedComponent", *args)
+    return self
   def constant(self, *args):
     self.bytecode.add_step("constant", *args)
     return self
@@ -343,6 +355,9 @@ class GraphTraversal(Traversal):
   def selectV3d2(self, *args):
     self.bytecode.add_step("selectV3d2", *args)
     return self
+  def shortestPath(self, *args):
+    self.bytecode.add_step("shortestPath", *args)
+    return self
   def sideEffect(self, *args):
     self.bytecode.add_step("sideEffect", *args)
     return self
@@ -431,6 +446,15 @@ class __(object):
   def and_(*args):
     return GraphTraversal(None, None, Bytecode()).and_(*args)
   @staticmethod
+  def approxDistinctCount(*args):
+    return GraphTraversal(None, None, Bytecode()).approxDistinctCount(*args)
+  @staticmethod
+  def approxQuantile(*args):
+    return GraphTraversal(None, None, Bytecode()).approxQuantile(*args)
+  @staticmethod
+  def approxTopK(*args):
+    return GraphTraversal(None, None, Bytecode()).approxTopK(*args)
+  @staticmethod
   def as_(*args):
     return GraphTraversal(None, None, Bytecode()).as_(*args)
   @staticmethod
@@ -629,6 +653,9 @@ class __(object):
   def selectV3d2(*args):
     return GraphTraversal(None, None, Bytecode()).selectV3d2(*args)
   @staticmethod
+  def shortestPath(*args):
+    return GraphTraversal(None, None, Bytecode()).shortestPath(*args)
+  @staticmethod
   def sideEffect(*args):
     return GraphTraversal(None, None, Bytecode()).sideEffect(*args)
   @staticmethod
@@ -722,6 +749,21 @@ def and_(*args):
 
 statics.add_static('and_', and_)
 
+def approxDistinctCount(*args):
+      return __.approxDistinctCount(*args)
+
+statics.add_static('approxDistinctCount', approxDistinctCount)
+
+def approxQuantile(*args):
+      return __.approxQuantile(*args)
+
+statics.add_static('approxQuantile', approxQuantile)
+
+def approxTopK(*args):
+      return __.approxTopK(*args)
+
+statics.add_static('approxTopK', approxTopK)
+
 def as_(*args):
       return __.as_(*args)
 
@@ -1052,6 +1094,11 @@ def selectV3d2(*args):
 
 statics.add_static('selectV3d2', selectV3d2)
 
+def shortestPath(*args):
+      return __.shortestPath(*args)
+
+statics.add_static('shortestPath', shortestPath)
+
 def sideEffect(*args):
       return __.sideEffect(*args)
 
@@ -26,6 +26,20 @@ from gremlin_python.process.traversal import TraversalStrategy
 # DECORATION STRATEGIES #
 #########################
 
+class ApproximateDedupStrategy(TraversalStrategy):
+    def __init__(self, expected_insertions=None, false_positive_probability=None):
+        TraversalStrategy.__init__(self)
+        if expected_insertions is not None:
+            self.configuration["expectedInsertions"] = expected_insertions
+        if false_positive_probability is not None:
+            self.configuration["falsePositiveProbability"] = false_positive_probability
+
+
+class BreadthFirstRepeatStrategy(TraversalStrategy):
+    def __init__(self):
+        TraversalStrategy.__init__(self)
+
+
 class ConnectiveStrategy(TraversalStrategy):
     def __init__(self):
         TraversalStrategy.__init__(self)
@@ -45,6 +59,20 @@ class HaltedTraverserStrategy(TraversalStrategy):
             self.configuration["haltedTraverserFactory"] = halted_traverser_factory
 
 
+class HybridExecutionStrategy(TraversalStrategy):
+    def __init__(self, frontier_threshold=None):
+        TraversalStrategy.__init__(self)
+        if frontier_threshold is not None:
+            self.configuration["frontierThreshold"] = frontier_threshold
+
+
+class MemoizationStrategy(TraversalStrategy):
+    def __init__(self, size=None):
+        TraversalStrategy.__init__(self)
+        if size is not None:
+            self.configuration["size"] = size
+
+
 class PartitionStrategy(TraversalStrategy):
     def __init__(self, partition_key=None, write_partition=None, read_partitions=None, include_meta_properties=None):
         TraversalStrategy.__init__(self)
@@ -58,6 +86,15 @@ class PartitionStrategy(TraversalStrategy):
             self.configuration["includeMetaProperties"] = include_meta_properties
 
 
+class SpillStrategy(TraversalStrategy):
+    def __init__(self, spill_threshold=None, spill_directory=None):
+        TraversalStrategy.__init__(self)
+        if spill_threshold is not None:
+            self.configuration["spillThreshold"] = spill_threshold
+        if spill_directory is not None:
+            self.configuration["spillDirectory"] = spill_directory
+
+
 class SubgraphStrategy(TraversalStrategy):
     def __init__(self, vertices=None, edges=None, vertex_properties=None):
         TraversalStrategy.__init__(self)
@@ -69,6 +106,15 @@ class SubgraphStrategy(TraversalStrategy):
             self.configuration["vertexProperties"] = vertex_properties
 
 
+class WindowStrategy(TraversalStrategy):
+    def __init__(self, window_size=None, window_time=None):
+        TraversalStrategy.__init__(self)
+        if window_size is not None:
+            self.configuration["windowSize"] = window_size
+        if window_time is not None:
+            self.configuration["windowTime"] = window_time
+
+
 class VertexProgramStrategy(TraversalStrategy):
     def __init__(self, graph_computer=None, workers=None, persist=None, result=None, vertices=None, edges=None,
                  configuration=None):
@@ -100,6 +146,11 @@ class MatchAlgorithmStrategy(TraversalStrategy):
             self.configuration["matchAlgorithm"] = match_algorithm
 
 
+class StepFusionStrategy(TraversalStrategy):
+    def __init__(self):
+        TraversalStrategy.__init__(self)
+
+
 ###########################
 # OPTIMIZATION STRATEGIES #
 ###########################
@@ -130,8 +181,19 @@ class InlineFilterStrategy(TraversalStrategy):
 
 
 class LazyBarrierStrategy(TraversalStrategy):
-    def __init__(self):
-        TraversalStrategy.__init__(self)
+    def __init__(self, shrink_merge_ratio=None, grow_merge_ratio=None, low_memory_ratio=None, probe_interval=None,
+                 probe_size=None):
+        TraversalStrategy.__init__(self)
+        if shrink_merge_ratio is not None:
+            self.configuration["shrinkMergeRatio"] = shrink_merge_ratio
+        if grow_merge_ratio is not None:
+            self.configuration["growMergeRatio"] = grow_merge_ratio
+        if low_memory_ratio is not None:
+            self.configuration["lowMemoryRatio"] = low_memory_ratio
+        if probe_interval is not None:
+            self.configuration["probeInterval"] = probe_interval
+        if probe_size is not None:
+            self.configuration["probeSize"] = probe_size
 
 
 class MatchPredicateStrategy(TraversalStrategy):
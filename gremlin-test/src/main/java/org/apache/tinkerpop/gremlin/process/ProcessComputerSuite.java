@@ -23,8 +23,13 @@ import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputerTest;
 import org.apache.tinkerpop.gremlin.process.computer.bulkdumping.BulkDumperVertexProgramTest;
 import org.apache.tinkerpop.gremlin.process.computer.bulkloading.BulkLoaderVertexProgramTest;
+import org.apache.tinkerpop.gremlin.process.computer.clustering.connected.ConnectedComponentVertexProgramTest;
+import org.apache.tinkerpop.gremlin.process.computer.clustering.labelpropagation.LabelPropagationVertexProgramTest;
 import org.apache.tinkerpop.gremlin.process.computer.clustering.peerpressure.PeerPressureVertexProgramTest;
 import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgramTest;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PersonalizedPageRankVertexProgramTest;
+import org.apache.tinkerpop.gremlin.process.computer.search.path.ShortestPathVertexProgramTest;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration.HybridExecutionStrategyProcessTest;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalInterruptionComputerTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.branch.BranchTest;
@@ -47,7 +52,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.filter.SimplePathTest
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TailTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddEdgeTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxDistinctCountTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxQuantileTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxTopKTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.CoalesceTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ConnectedComponentTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.ConstantTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.FlatMapTest;
@@ -70,6 +79,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.map.ProgramTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.ProjectTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ShortestPathTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SumTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.UnfoldTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.ValueMapTest;
@@ -139,7 +149,11 @@ public class ProcessComputerSuite extends AbstractGremlinSuite {
             WhereTest.Traversals.class,
 
             // map
+            ApproxDistinctCountTest.Traversals.class,
+            ApproxQuantileTest.Traversals.class,
+            ApproxTopKTest.Traversals.class,
             CoalesceTest.Traversals.class,
+            ConnectedComponentTest.Traversals.class,
             ConstantTest.Traversals.class,
             CountTest.Traversals.class,
             FlatMapTest.Traversals.class,
@@ -164,6 +178,7 @@ public class ProcessComputerSuite extends AbstractGremlinSuite {
             ProgramTest.Traversals.class,
             PropertiesTest.Traversals.class,
             SelectTest.Traversals.class,
+            ShortestPathTest.Traversals.class,
             UnfoldTest.Traversals.class,
             ValueMapTest.Traversals.class,
             VertexTest.Traversals.class,
@@ -189,7 +204,11 @@ public class ProcessComputerSuite extends AbstractGremlinSuite {
 
             // algorithms
             PageRankVertexProgramTest.class,
+            PersonalizedPageRankVertexProgramTest.class,
             PeerPressureVertexProgramTest.class,
+            ConnectedComponentVertexProgramTest.class,
+            LabelPropagationVertexProgramTest.class,
+            ShortestPathVertexProgramTest.class,
             BulkLoaderVertexProgramTest.class,
             BulkDumperVertexProgramTest.class,
 
@@ -197,6 +216,7 @@ public class ProcessComputerSuite extends AbstractGremlinSuite {
             TranslationStrategyProcessTest.class,
 
             // decorations
+            HybridExecutionStrategyProcessTest.class,
             ReadOnlyStrategyProcessTest.class,
             SubgraphStrategyProcessTest.class
     };
@@ -229,7 +249,11 @@ public class ProcessComputerSuite extends AbstractGremlinSuite {
             WhereTest.class,
 
             // map
+            ApproxDistinctCountTest.class,
+            ApproxQuantileTest.class,
+            ApproxTopKTest.class,
             CoalesceTest.class,
+            ConnectedComponentTest.class,
             ConstantTest.class,
             CountTest.class,
             FlatMapTest.class,
@@ -249,6 +273,7 @@ public class ProcessComputerSuite extends AbstractGremlinSuite {
             ProgramTest.class,
             PropertiesTest.class,
             SelectTest.class,
+            ShortestPathTest.class,
             UnfoldTest.class,
             ValueMapTest.class,
             VertexTest.class,
@@ -44,6 +44,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TailTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddEdgeTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddVertexTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxDistinctCountTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxQuantileTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxTopKTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.CoalesceTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.ConstantTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountTest;
@@ -64,6 +67,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.map.ProfileTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.ProjectTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ShortestPathTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SumTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.UnfoldTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.ValueMapTest;
@@ -84,6 +88,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.Transl
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ElementIdStrategyProcessTest;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.EventStrategyProcessTest;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.PartitionStrategyProcessTest;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SpillStrategyProcessTest;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategyProcessTest;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ReadOnlyStrategyProcessTest;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -133,6 +138,9 @@ public class ProcessStandardSuite extends AbstractGremlinSuite {
             // map
             AddEdgeTest.Traversals.class,
             AddVertexTest.Traversals.class,
+            ApproxDistinctCountTest.Traversals.class,
+            ApproxQuantileTest.Traversals.class,
+            ApproxTopKTest.Traversals.class,
             CoalesceTest.Traversals.class,
             ConstantTest.Traversals.class,
             CountTest.Traversals.class,
@@ -145,6 +153,8 @@ public class ProcessStandardSuite extends AbstractGremlinSuite {
             MapValuesTest.Traversals.class,
             MatchTest.CountMatchTraversals.class,
             MatchTest.GreedyMatchTraversals.class,
+            MatchTest.CostMatchTraversals.class,
+            MatchTest.HashJoinMatchTraversals.class,
             MaxTest.Traversals.class,
             MeanTest.Traversals.class,
             MinTest.Traversals.class,
@@ -155,6 +165,7 @@ public class ProcessStandardSuite extends AbstractGremlinSuite {
             ProjectTest.Traversals.class,
             PropertiesTest.Traversals.class,
             SelectTest.Traversals.class,
+            ShortestPathTest.Traversals.class,
             VertexTest.Traversals.class,
             UnfoldTest.Traversals.class,
             ValueMapTest.Traversals.class,
@@ -185,6 +196,7 @@ public class ProcessStandardSuite extends AbstractGremlinSuite {
             EventStrategyProcessTest.class,
             ReadOnlyStrategyProcessTest.class,
             PartitionStrategyProcessTest.class,
+            SpillStrategyProcessTest.class,
             SubgraphStrategyProcessTest.class
     };
 
@@ -219,6 +231,9 @@ public class ProcessStandardSuite extends AbstractGremlinSuite {
             // map
             AddEdgeTest.class,
             AddVertexTest.class,
+            ApproxDistinctCountTest.class,
+            ApproxQuantileTest.class,
+            ApproxTopKTest.class,
             CoalesceTest.class,
             ConstantTest.class,
             CountTest.class,
@@ -239,6 +254,7 @@ public class ProcessStandardSuite extends AbstractGremlinSuite {
             ProfileTest.class,
             ProjectTest.class,
             SelectTest.class,
+            ShortestPathTest.class,
             VertexTest.class,
             UnfoldTest.class,
             ValueMapTest.class,
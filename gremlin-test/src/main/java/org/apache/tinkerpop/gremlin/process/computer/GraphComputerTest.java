@@ -60,6 +60,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.Future;
@@ -1620,6 +1621,10 @@ public class GraphComputerTest extends AbstractGremlinProcessTest {
         graphProvider.getGraphComputer(graph).edges(__.<Vertex>bothE().limit(0)).program(new VertexProgramM(VertexProgramM.VERTICES_ONLY)).submit().get();
         graphProvider.getGraphComputer(graph).edges(__.<Vertex>outE().limit(1)).program(new VertexProgramM(VertexProgramM.ONE_OUT_EDGE_ONLY)).submit().get();
         graphProvider.getGraphComputer(graph).edges(outE()).program(new VertexProgramM(VertexProgramM.OUT_EDGES_ONLY)).submit().get();
+        if (graphProvider.getGraphComputer(graph).features().supportsVertexPropertyProjection()) {
+            graphProvider.getGraphComputer(graph).vertexProperties("name").program(new VertexProgramM(VertexProgramM.NAME_ONLY)).submit().get();
+            graphProvider.getGraphComputer(graph).vertices(__.has("age")).vertexProperties("name").program(new VertexProgramM(VertexProgramM.PEOPLE_NAME_ONLY)).submit().get();
+        }
 
         /// VERTEX PROGRAM + MAP REDUCE
         graphProvider.getGraphComputer(graph).vertices(__.hasLabel("software")).program(new VertexProgramM(VertexProgramM.SOFTWARE_ONLY)).mapReduce(new MapReduceJ(VertexProgramM.SOFTWARE_ONLY)).submit().get();
@@ -1666,6 +1671,8 @@ public class GraphComputerTest extends AbstractGremlinProcessTest {
         public static final String VERTICES_ONLY = "verticesOnly";
         public static final String ONE_OUT_EDGE_ONLY = "oneOutEdgeOnly";
         public static final String OUT_EDGES_ONLY = "outEdgesOnly";
+        public static final String NAME_ONLY = "nameOnly";
+        public static final String PEOPLE_NAME_ONLY = "peopleNameOnly";
 
         private String state;
 
@@ -1769,6 +1776,19 @@ public class GraphComputerTest extends AbstractGremlinProcessTest {
                     }
                     break;
                 }
+                case NAME_ONLY: {
+                    assertEquals(Collections.singleton("name"), vertex.keys());
+                    assertEquals(1, IteratorUtils.count(vertex.properties()));
+                    assertFalse(vertex.property("age").isPresent());
+                    assertFalse(vertex.property("lang").isPresent());
+                    break;
+                }
+                case PEOPLE_NAME_ONLY: {
+                    assertEquals("person", vertex.label());
+                    assertEquals(Collections.singleton("name"), vertex.keys());
+                    assertFalse(vertex.property("age").isPresent());
+                    break;
+                }
                 default:
                     throw new IllegalStateException("This is an illegal state for this test case: " + this.state);
             }
@@ -1997,6 +2017,25 @@ public class GraphComputerTest extends AbstractGremlinProcessTest {
         // TODO: add a test the shows DAG behavior -- splitting another TraversalVertexProgram off of the PeerPressureVertexProgram job.
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldHaltTraversalVertexProgramOnceTheTerminalRangeIsSatisfied() throws Exception {
+        // without early halting the traversers would be repeated for 10 iterations
+        ComputerResult result = graphProvider.getGraphComputer(graph).program(TraversalVertexProgram.build().traversal(g.V().emit().repeat(__.both()).times(10).limit(5).asAdmin()).create(graph)).submit().get();
+        List<Traverser<Vertex>> traversers = IteratorUtils.list(result.memory().<TraverserSet>get(TraversalVertexProgram.HALTED_TRAVERSERS).iterator());
+        assertEquals(5l, traversers.stream().map(Traverser::bulk).reduce((a, b) -> a + b).get().longValue());
+        assertEquals(0, result.memory().getIteration()); // the 6 emitted vertices saturate the range
+        //
+        result = graphProvider.getGraphComputer(graph).program(TraversalVertexProgram.build().traversal(g.V().emit().repeat(__.both()).times(10).range(4, 12).asAdmin()).create(graph)).submit().get();
+        traversers = IteratorUtils.list(result.memory().<TraverserSet>get(TraversalVertexProgram.HALTED_TRAVERSERS).iterator());
+        assertEquals(8l, traversers.stream().map(Traverser::bulk).reduce((a, b) -> a + b).get().longValue());
+        assertEquals(1, result.memory().getIteration()); // the 6 emitted vertices and their 12 neighbors saturate the range
+        //
+        result = graphProvider.getGraphComputer(graph).program(TraversalVertexProgram.build().traversal(g.V().both().both().limit(100).asAdmin()).create(graph)).submit().get();
+        traversers = IteratorUtils.list(result.memory().<TraverserSet>get(TraversalVertexProgram.HALTED_TRAVERSERS).iterator());
+        assertEquals(30l, traversers.stream().map(Traverser::bulk).reduce((a, b) -> a + b).get().longValue());
+    }
+
     ///////////////////////////////////
 
     @Test
@@ -2346,7 +2385,93 @@ public class GraphComputerTest extends AbstractGremlinProcessTest {
 
     ///////////////////////////////////
 
-    
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldSupportPrimitiveMessages() throws Exception {
+        final ComputerResult result = graphProvider.getGraphComputer(graph).program(new VertexProgramR()).submit().get();
+        final Map<String, Long> sums = new HashMap<>();
+        result.graph().traversal().V().forEachRemaining(v -> sums.put(v.value("name"), v.value("nameLengths")));
+        assertEquals(6, sums.size());
+        assertEquals(0l, sums.get("marko").longValue());
+        assertEquals(5l, sums.get("vadas").longValue());
+        assertEquals(14l, sums.get("lop").longValue());
+        assertEquals(5l, sums.get("josh").longValue());
+        assertEquals(4l, sums.get("ripple").longValue());
+        assertEquals(0l, sums.get("peter").longValue());
+    }
+
+    private static class VertexProgramR extends StaticVertexProgram<Long> {
+
+        private static final MessageScope.Local<Long> MESSAGE_SCOPE = MessageScope.Local.of(__::outE);
+
+        @Override
+        public void setup(final Memory memory) {
+
+        }
+
+        @Override
+        public void execute(final Vertex vertex, final Messenger<Long> messenger, final Memory memory) {
+            final LongMessenger longMessenger = LongMessenger.of(messenger);
+            if (memory.isInitialIteration())
+                longMessenger.sendLongMessage(MESSAGE_SCOPE, vertex.<String>value("name").length());
+            else {
+                long sum = 0l;
+                final PrimitiveIterator.OfLong messages = longMessenger.receiveLongMessages();
+                while (messages.hasNext()) {
+                    sum = sum + messages.nextLong();
+                }
+                vertex.property(VertexProperty.Cardinality.single, "nameLengths", sum);
+            }
+        }
+
+        @Override
+        public boolean terminate(final Memory memory) {
+            return !memory.isInitialIteration();
+        }
+
+        @Override
+        public Optional<MessageCombiner<Long>> getMessageCombiner() {
+            return Optional.of(LongMessageCombiner.Operator.sum);
+        }
+
+        @Override
+        public Set<VertexComputeKey> getVertexComputeKeys() {
+            return Collections.singleton(VertexComputeKey.of("nameLengths", false));
+        }
+
+        @Override
+        public Set<MessageScope> getMessageScopes(final Memory memory) {
+            return Collections.singleton(MESSAGE_SCOPE);
+        }
+
+        @Override
+        public GraphComputer.ResultGraph getPreferredResultGraph() {
+            return GraphComputer.ResultGraph.NEW;
+        }
+
+        @Override
+        public GraphComputer.Persist getPreferredPersist() {
+            return GraphComputer.Persist.VERTEX_PROPERTIES;
+        }
+
+        @Override
+        public Features getFeatures() {
+            return new Features() {
+                @Override
+                public boolean requiresLocalMessageScopes() {
+                    return true;
+                }
+
+                @Override
+                public boolean requiresVertexPropertyAddition() {
+                    return true;
+                }
+            };
+        }
+    }
+
+    ///////////////////////////////////
+
     @Test
     @LoadGraphWith(MODERN)
     public void shouldSucceedWithProperTraverserRequirements() throws Exception {
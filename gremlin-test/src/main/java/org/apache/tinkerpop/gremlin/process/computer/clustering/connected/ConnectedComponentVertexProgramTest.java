@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.clustering.connected;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class ConnectedComponentVertexProgramTest extends AbstractGremlinProcessTest {
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteConnectedComponent() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(ConnectedComponentVertexProgram.build().create(graph)).submit().get();
+            final Map<String, Object> components = getComponents(result);
+            assertEquals(6, components.size());
+            assertEquals(1, new HashSet<>(components.values()).size());
+            assertTrue(graph.traversal().V().id().toList().contains(components.get("marko")));
+            assertTrue(result.memory().getIteration() < 100);
+            assertEquals(0, result.memory().asMap().size());
+        }
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteConnectedComponentOverSomeEdges() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            Map<String, Object> components = getComponents(graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(ConnectedComponentVertexProgram.build().edges(__.<Vertex>bothE("knows").asAdmin()).create(graph)).submit().get());
+            assertEquals(4, new HashSet<>(components.values()).size());
+            assertEquals(components.get("marko"), components.get("vadas"));
+            assertEquals(components.get("marko"), components.get("josh"));
+            assertEquals(convertToVertexId(graph, "lop"), components.get("lop"));
+            assertEquals(convertToVertexId(graph, "ripple"), components.get("ripple"));
+            assertEquals(convertToVertexId(graph, "peter"), components.get("peter"));
+            //
+            components = getComponents(graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(ConnectedComponentVertexProgram.build().edges(__.<Vertex>bothE("created").asAdmin()).create(graph)).submit().get());
+            assertEquals(2, new HashSet<>(components.values()).size());
+            for (final String name : new String[]{"lop", "josh", "ripple", "peter"}) {
+                assertEquals(components.get("marko"), components.get(name));
+            }
+            assertNotEquals(components.get("marko"), components.get("vadas"));
+            assertEquals(convertToVertexId(graph, "vadas"), components.get("vadas"));
+        }
+    }
+
+    private static Map<String, Object> getComponents(final ComputerResult result) {
+        final Map<String, Object> components = new HashMap<>();
+        result.graph().traversal().V().forEachRemaining(v -> {
+            assertEquals(3, v.keys().size()); // name, age/lang, component
+            components.put(v.value("name"), v.value(ConnectedComponentVertexProgram.COMPONENT));
+        });
+        return components;
+    }
+}
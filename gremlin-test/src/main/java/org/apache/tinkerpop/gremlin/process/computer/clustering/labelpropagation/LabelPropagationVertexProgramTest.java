@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.clustering.labelpropagation;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class LabelPropagationVertexProgramTest extends AbstractGremlinProcessTest {
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteLabelPropagation() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(LabelPropagationVertexProgram.build().create(graph)).submit().get();
+            final List<Object> ids = graph.traversal().V().id().toList();
+            final Map<String, Object> labels = getLabels(result);
+            assertEquals(6, labels.size());
+            labels.values().forEach(label -> assertTrue(ids.contains(label)));
+            assertTrue(result.memory().getIteration() <= 30);
+            assertEquals(0, result.memory().asMap().size());
+        }
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteLabelPropagationOverSomeEdges() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(LabelPropagationVertexProgram.build().edges(__.<Vertex>bothE("knows").asAdmin()).create(graph)).submit().get();
+            final Map<String, Object> labels = getLabels(result);
+            assertEquals(4, new HashSet<>(labels.values()).size());
+            assertEquals(labels.get("marko"), labels.get("vadas"));
+            assertEquals(labels.get("marko"), labels.get("josh"));
+            assertEquals(convertToVertexId(graph, "lop"), labels.get("lop"));
+            assertEquals(convertToVertexId(graph, "ripple"), labels.get("ripple"));
+            assertEquals(convertToVertexId(graph, "peter"), labels.get("peter"));
+            assertTrue(result.memory().getIteration() < 30);
+        }
+    }
+
+    private static Map<String, Object> getLabels(final ComputerResult result) {
+        final Map<String, Object> labels = new HashMap<>();
+        result.graph().traversal().V().forEachRemaining(v -> {
+            assertEquals(3, v.keys().size()); // name, age/lang, label
+            labels.put(v.value("name"), v.value(LabelPropagationVertexProgram.LABEL));
+        });
+        return labels;
+    }
+}
@@ -25,6 +25,9 @@ import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -68,6 +71,47 @@ public class PageRankVertexProgramTest extends AbstractGremlinProcessTest {
         }
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecutePageRankUntilConvergence() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final Map<String, Double> expected = getPageRanks(graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(PageRankVertexProgram.build().create(graph)).submit().get());
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(PageRankVertexProgram.build().epsilon(0.0001d).create(graph)).submit().get();
+            assertTrue(result.memory().getIteration() < 30);
+            assertEquals(result.memory().asMap().size(), 0);
+            final Map<String, Double> actual = getPageRanks(result);
+            assertEquals(expected.keySet(), actual.keySet());
+            expected.forEach((name, pageRank) -> assertEquals(pageRank, actual.get(name), 0.001d));
+        }
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteDeltaPageRank() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final Map<String, Double> expected = getPageRanks(graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(PageRankVertexProgram.build().create(graph)).submit().get());
+            final ComputerResult exactResult = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(PageRankVertexProgram.build().deltaThreshold(0.0d).create(graph)).submit().get();
+            assertEquals(exactResult.memory().getIteration(), 30);
+            final Map<String, Double> exact = getPageRanks(exactResult);
+            assertEquals(expected.keySet(), exact.keySet());
+            expected.forEach((name, pageRank) -> assertEquals(pageRank, exact.get(name), 0.000001d));
+            final ComputerResult approximateResult = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(PageRankVertexProgram.build().deltaThreshold(0.001d).epsilon(0.0001d).create(graph)).submit().get();
+            assertTrue(approximateResult.memory().getIteration() < 30);
+            final Map<String, Double> approximate = getPageRanks(approximateResult);
+            assertEquals(expected.keySet(), approximate.keySet());
+            expected.forEach((name, pageRank) -> assertEquals(pageRank, approximate.get(name), 0.01d));
+        }
+    }
+
+    private static Map<String, Double> getPageRanks(final ComputerResult result) {
+        final Map<String, Double> pageRanks = new HashMap<>();
+        result.graph().traversal().V().forEachRemaining(v -> {
+            assertEquals(3, v.keys().size()); // name, age/lang, pageRank
+            pageRanks.put(v.value("name"), v.value(PageRankVertexProgram.PAGE_RANK));
+        });
+        return pageRanks;
+    }
+
     /*@Test
     @LoadGraphWith(MODERN)
     public void shouldExecutePageRankWithNormalizedValues() throws Exception {
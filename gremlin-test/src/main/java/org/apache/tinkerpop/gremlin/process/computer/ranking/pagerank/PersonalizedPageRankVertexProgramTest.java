@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class PersonalizedPageRankVertexProgramTest extends AbstractGremlinProcessTest {
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecutePersonalizedPageRankForManySeedSets() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(PersonalizedPageRankVertexProgram.build()
+                    .seeds(convertToVertexId(graph, "marko"))
+                    .seeds(convertToVertexId(graph, "josh"), convertToVertexId(graph, "peter")).create(graph)).submit().get();
+            final Map<String, double[]> ranks = getPersonalizedPageRanks(result);
+            assertEquals(6, ranks.size());
+            assertArrayEquals(new double[]{0.15d, 0.0d}, ranks.get("marko"), 0.000001d);
+            assertArrayEquals(new double[]{0.0425d, 0.0d}, ranks.get("vadas"), 0.000001d);
+            assertArrayEquals(new double[]{0.0605625d, 0.095625d}, ranks.get("lop"), 0.000001d);
+            assertArrayEquals(new double[]{0.0425d, 0.075d}, ranks.get("josh"), 0.000001d);
+            assertArrayEquals(new double[]{0.0180625d, 0.031875d}, ranks.get("ripple"), 0.000001d);
+            assertArrayEquals(new double[]{0.0d, 0.075d}, ranks.get("peter"), 0.000001d);
+            assertEquals(result.memory().getIteration(), 30);
+            assertEquals(result.memory().asMap().size(), 0);
+        }
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteBatchLikeSingleSeedSets() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final Object[] seeds = new Object[]{convertToVertexId(graph, "josh"), convertToVertexId(graph, "lop"), convertToVertexId(graph, "peter")};
+            final PersonalizedPageRankVertexProgram.Builder builder = PersonalizedPageRankVertexProgram.build().alpha(0.7d).edges(__.<Vertex>bothE().asAdmin());
+            for (final Object seed : seeds) {
+                builder.seeds(seed);
+            }
+            final Map<String, double[]> batch = getPersonalizedPageRanks(graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(builder.create(graph)).submit().get());
+            for (int i = 0; i < seeds.length; i++) {
+                final Map<String, double[]> single = getPersonalizedPageRanks(graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(PersonalizedPageRankVertexProgram.build()
+                        .alpha(0.7d).edges(__.<Vertex>bothE().asAdmin()).seeds(seeds[i]).create(graph)).submit().get());
+                assertEquals(batch.keySet(), single.keySet());
+                for (final String name : single.keySet()) {
+                    assertEquals(1, single.get(name).length);
+                    assertEquals(3, batch.get(name).length);
+                    assertEquals(single.get(name)[0], batch.get(name)[i], 0.000001d);
+                }
+            }
+        }
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecutePersonalizedPageRankUntilConvergence() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final PersonalizedPageRankVertexProgram.Builder builder = PersonalizedPageRankVertexProgram.build().edges(__.<Vertex>bothE().asAdmin())
+                    .seeds(convertToVertexId(graph, "marko")).seeds(convertToVertexId(graph, "ripple"));
+            final Map<String, double[]> expected = getPersonalizedPageRanks(graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(builder.create(graph)).submit().get());
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(builder.epsilon(0.0001d).create(graph)).submit().get();
+            assertTrue(result.memory().getIteration() < 30);
+            assertEquals(result.memory().asMap().size(), 0);
+            final Map<String, double[]> actual = getPersonalizedPageRanks(result);
+            assertEquals(expected.keySet(), actual.keySet());
+            expected.forEach((name, ranks) -> assertArrayEquals(ranks, actual.get(name), 0.001d));
+        }
+    }
+
+    private static Map<String, double[]> getPersonalizedPageRanks(final ComputerResult result) {
+        final Map<String, double[]> ranks = new HashMap<>();
+        result.graph().traversal().V().forEachRemaining(v -> {
+            assertEquals(3, v.keys().size()); // name, age/lang, personalizedPageRank
+            ranks.put(v.value("name"), v.value(PersonalizedPageRankVertexProgram.PERSONALIZED_PAGE_RANK));
+        });
+        return ranks;
+    }
+}
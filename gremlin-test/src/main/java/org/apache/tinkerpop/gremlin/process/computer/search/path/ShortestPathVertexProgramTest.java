@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.search.path;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @author agent (agent@local)
+ */
+public class ShortestPathVertexProgramTest extends AbstractGremlinProcessTest {
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteShortestPath() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(ShortestPathVertexProgram.build().source(convertToVertexId("marko")).create(graph)).submit().get();
+            result.graph().traversal().V().forEachRemaining(v -> {
+                final String name = v.value("name");
+                final double distance = v.value(ShortestPathVertexProgram.DISTANCE);
+                final List<Object> path = v.value(ShortestPathVertexProgram.PATH);
+                if (name.equals("marko"))
+                    assertPath(0.0d, distance, path, "marko");
+                else if (name.equals("vadas"))
+                    assertPath(1.0d, distance, path, "marko", "vadas");
+                else if (name.equals("lop"))
+                    assertPath(1.0d, distance, path, "marko", "lop");
+                else if (name.equals("josh"))
+                    assertPath(1.0d, distance, path, "marko", "josh");
+                else if (name.equals("ripple"))
+                    assertPath(2.0d, distance, path, "marko", "josh", "ripple");
+                else if (name.equals("peter"))
+                    assertPath(2.0d, distance, path, "marko", "lop", "peter");
+                else
+                    throw new IllegalStateException("The following vertex should not exist in the graph: " + name);
+            });
+        }
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteWeightedShortestPath() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(ShortestPathVertexProgram.build().source(convertToVertexId("marko")).weight("weight").create(graph)).submit().get();
+            result.graph().traversal().V().forEachRemaining(v -> {
+                final String name = v.value("name");
+                final double distance = v.value(ShortestPathVertexProgram.DISTANCE);
+                final List<Object> path = v.value(ShortestPathVertexProgram.PATH);
+                if (name.equals("marko"))
+                    assertPath(0.0d, distance, path, "marko");
+                else if (name.equals("vadas"))
+                    assertPath(0.5d, distance, path, "marko", "vadas");
+                else if (name.equals("lop"))
+                    assertPath(0.4d, distance, path, "marko", "lop");
+                else if (name.equals("josh"))
+                    assertPath(0.8d, distance, path, "marko", "lop", "josh");
+                else if (name.equals("ripple"))
+                    assertPath(1.8d, distance, path, "marko", "lop", "josh", "ripple");
+                else if (name.equals("peter"))
+                    assertPath(0.6d, distance, path, "marko", "lop", "peter");
+                else
+                    throw new IllegalStateException("The following vertex should not exist in the graph: " + name);
+            });
+        }
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteDirectedShortestPath() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(ShortestPathVertexProgram.build().source(convertToVertexId("josh")).edges(__.<Vertex>outE().asAdmin()).create(graph)).submit().get();
+            result.graph().traversal().V().forEachRemaining(v -> {
+                final String name = v.value("name");
+                if (name.equals("josh"))
+                    assertPath(0.0d, v.value(ShortestPathVertexProgram.DISTANCE), v.value(ShortestPathVertexProgram.PATH), "josh");
+                else if (name.equals("lop"))
+                    assertPath(1.0d, v.value(ShortestPathVertexProgram.DISTANCE), v.value(ShortestPathVertexProgram.PATH), "josh", "lop");
+                else if (name.equals("ripple"))
+                    assertPath(1.0d, v.value(ShortestPathVertexProgram.DISTANCE), v.value(ShortestPathVertexProgram.PATH), "josh", "ripple");
+                else
+                    assertFalse(v.property(ShortestPathVertexProgram.DISTANCE).isPresent());
+            });
+        }
+    }
+
+    private void assertPath(final double expectedDistance, final double distance, final List<Object> path, final String... names) {
+        final List<Object> ids = new ArrayList<>();
+        for (final String name : names) {
+            ids.add(convertToVertexId(name));
+        }
+        assertEquals(expectedDistance, distance, 0.0001d);
+        assertEquals(ids, path);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.TraversalVertexProgramStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategy;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.apache.tinkerpop.gremlin.process.traversal.P.gt;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.has;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author agent (agent@local)
+ */
+@RunWith(GremlinProcessRunner.class)
+public class HybridExecutionStrategyProcessTest extends AbstractGremlinProcessTest {
+
+    private static final List<Long> THRESHOLDS = Arrays.asList(0L, 1L, 2L, 1000L);
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldSetTheFrontierThresholdOfTheFirstTraversalVertexProgramStep() {
+        final Traversal.Admin<?, ?> traversal = g.withStrategies(HybridExecutionStrategy.build().frontierThreshold(10).create()).V(convertToVertexId("marko")).out().asAdmin();
+        traversal.applyStrategies();
+        assertEquals(10L, ((TraversalVertexProgramStep) traversal.getStartStep()).getFrontierThreshold());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldReturnTheSameResultsForAnyFrontierThreshold() {
+        for (final long threshold : THRESHOLDS) {
+            final GraphTraversalSource h = g.withStrategies(HybridExecutionStrategy.build().frontierThreshold(threshold).create());
+            checkResults(Arrays.asList("josh", "lop", "vadas"), h.V(convertToVertexId("marko")).out().values("name"));
+            checkResults(Arrays.asList("lop", "ripple"), h.V(convertToVertexId("marko")).out().out().values("name"));
+            checkResults(Arrays.asList("lop", "ripple"), h.V().hasId(convertToVertexId("marko")).out().out().values("name"));
+            checkResults(Arrays.asList("lop", "ripple"), h.V(convertToVertexId("marko")).both().both().has(T.label, "software").values("name"));
+            checkResults(Collections.singletonList(2L), h.V(convertToVertexId("marko")).outE("knows").inV().count());
+            final Map<String, Long> created = new HashMap<>();
+            created.put("lop", 5L);
+            created.put("ripple", 1L);
+            checkResults(Collections.singletonList(created), h.V(convertToVertexId("marko")).both().both().out("created").<String>values("name").groupCount());
+            checkResults(Arrays.asList(3L, 3L), h.V(convertToVertexId("marko")).out("knows").out("created").path().count(Scope.local));
+            checkResults(Collections.singletonList("josh"), h.V(convertToVertexId("lop")).in().where(__.out().count().is(2)).values("name"));
+        }
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldEvaluateThePrefixWithTheDecorationsOfTheTraversal() {
+        for (final long threshold : THRESHOLDS) {
+            final GraphTraversalSource h = g.withStrategies(HybridExecutionStrategy.build().frontierThreshold(threshold).create(),
+                    SubgraphStrategy.build().edges(has("weight", gt(0.45))).create());
+            checkResults(Arrays.asList("josh", "vadas"), h.V(convertToVertexId("marko")).out().values("name"));
+            checkResults(Collections.singletonList("ripple"), h.V(convertToVertexId("marko")).out().out().values("name"));
+        }
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldEvaluateThePrefixAgainForAClonedTraversal() {
+        for (final long threshold : THRESHOLDS) {
+            final Traversal.Admin<?, String> traversal = g.withStrategies(HybridExecutionStrategy.build().frontierThreshold(threshold).create())
+                    .V(convertToVertexId("marko")).out().out().<String>values("name").asAdmin();
+            checkResults(Arrays.asList("lop", "ripple"), traversal);
+            checkResults(Arrays.asList("lop", "ripple"), traversal.clone());
+        }
+    }
+}
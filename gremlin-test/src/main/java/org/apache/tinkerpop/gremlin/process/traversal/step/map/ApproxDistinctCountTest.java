@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.both;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @author agent (agent@local)
+ */
+@RunWith(GremlinProcessRunner.class)
+public abstract class ApproxDistinctCountTest extends AbstractGremlinProcessTest {
+
+    public abstract Traversal<Vertex, Long> get_g_V_both_approxDistinctCount();
+
+    public abstract Traversal<Vertex, Map<String, Long>> get_g_V_group_byXlabelX_byXboth_approxDistinctCountX();
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_both_approxDistinctCount() {
+        final Traversal<Vertex, Long> traversal = get_g_V_both_approxDistinctCount();
+        printTraversalForm(traversal);
+        assertEquals(6l, traversal.next().longValue());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_group_byXlabelX_byXboth_approxDistinctCountX() {
+        final Traversal<Vertex, Map<String, Long>> traversal = get_g_V_group_byXlabelX_byXboth_approxDistinctCountX();
+        printTraversalForm(traversal);
+        final Map<String, Long> map = traversal.next();
+        assertFalse(traversal.hasNext());
+        assertEquals(2, map.size());
+        assertEquals(5l, map.get("person").longValue());
+        assertEquals(3l, map.get("software").longValue());
+    }
+
+    public static class Traversals extends ApproxDistinctCountTest {
+
+        @Override
+        public Traversal<Vertex, Long> get_g_V_both_approxDistinctCount() {
+            return g.V().both().approxDistinctCount();
+        }
+
+        @Override
+        public Traversal<Vertex, Map<String, Long>> get_g_V_group_byXlabelX_byXboth_approxDistinctCountX() {
+            return g.V().<String, Long>group().by(T.label).by(both().approxDistinctCount());
+        }
+    }
+}
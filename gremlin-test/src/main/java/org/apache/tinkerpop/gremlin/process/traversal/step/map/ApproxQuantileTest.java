@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @author agent (agent@local)
+ */
+@RunWith(GremlinProcessRunner.class)
+public abstract class ApproxQuantileTest extends AbstractGremlinProcessTest {
+
+    public abstract Traversal<Vertex, Map<Double, Double>> get_g_V_age_approxQuantileX0_1X();
+
+    public abstract Traversal<Edge, Map<Double, Double>> get_g_E_weight_approxQuantileX0_5X();
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_age_approxQuantileX0_1X() {
+        final Traversal<Vertex, Map<Double, Double>> traversal = get_g_V_age_approxQuantileX0_1X();
+        printTraversalForm(traversal);
+        final Map<Double, Double> map = traversal.next();
+        assertFalse(traversal.hasNext());
+        assertEquals(2, map.size());
+        assertEquals(27.0d, map.get(0.0d), 0.0d);
+        assertEquals(35.0d, map.get(1.0d), 0.0d);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_E_weight_approxQuantileX0_5X() {
+        final Traversal<Edge, Map<Double, Double>> traversal = get_g_E_weight_approxQuantileX0_5X();
+        printTraversalForm(traversal);
+        final Map<Double, Double> map = traversal.next();
+        assertFalse(traversal.hasNext());
+        assertEquals(1, map.size());
+        assertEquals(0.4d, map.get(0.5d), 0.0001d);
+    }
+
+    public static class Traversals extends ApproxQuantileTest {
+
+        @Override
+        public Traversal<Vertex, Map<Double, Double>> get_g_V_age_approxQuantileX0_1X() {
+            return g.V().values("age").approxQuantile(0.0d, 1.0d);
+        }
+
+        @Override
+        public Traversal<Edge, Map<Double, Double>> get_g_E_weight_approxQuantileX0_5X() {
+            return g.E().values("weight").approxQuantile(0.5d);
+        }
+    }
+}
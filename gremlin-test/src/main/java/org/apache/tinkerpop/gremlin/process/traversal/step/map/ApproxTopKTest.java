@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @author agent (agent@local)
+ */
+@RunWith(GremlinProcessRunner.class)
+public abstract class ApproxTopKTest extends AbstractGremlinProcessTest {
+
+    public abstract Traversal<Vertex, Map<String, Long>> get_g_V_out_name_approxTopKX1X();
+
+    public abstract Traversal<Vertex, Map<String, Long>> get_g_V_outE_label_approxTopKX2X();
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_out_name_approxTopKX1X() {
+        final Traversal<Vertex, Map<String, Long>> traversal = get_g_V_out_name_approxTopKX1X();
+        printTraversalForm(traversal);
+        final Map<String, Long> expected = new HashMap<>();
+        expected.put("lop", 3l);
+        assertEquals(expected, traversal.next());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_outE_label_approxTopKX2X() {
+        final Traversal<Vertex, Map<String, Long>> traversal = get_g_V_outE_label_approxTopKX2X();
+        printTraversalForm(traversal);
+        final Map<String, Long> expected = new HashMap<>();
+        expected.put("created", 4l);
+        expected.put("knows", 2l);
+        assertEquals(expected, traversal.next());
+        assertFalse(traversal.hasNext());
+    }
+
+    public static class Traversals extends ApproxTopKTest {
+
+        @Override
+        public Traversal<Vertex, Map<String, Long>> get_g_V_out_name_approxTopKX1X() {
+            return g.V().out().<String>values("name").approxTopK(1);
+        }
+
+        @Override
+        public Traversal<Vertex, Map<String, Long>> get_g_V_outE_label_approxTopKX2X() {
+            return g.V().outE().label().approxTopK(2);
+        }
+    }
+}
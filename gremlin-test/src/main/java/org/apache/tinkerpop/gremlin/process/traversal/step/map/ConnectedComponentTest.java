@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.computer.clustering.connected.ConnectedComponentVertexProgram;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public abstract class ConnectedComponentTest extends AbstractGremlinProcessTest {
+
+    public abstract Traversal<Vertex, Vertex> get_g_V_connectedComponent();
+
+    public abstract Traversal<Vertex, Map<Object, Long>> get_g_V_connectedComponent_byXbothEXknowsXX_byXcomponentX_groupCount_byXcomponentX();
+
+    public abstract Traversal<Vertex, String> get_g_V_hasLabelXsoftwareX_connectedComponent_byXbothEXcreatedXX_byXcomponentX_name();
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_connectedComponent() {
+        final Traversal<Vertex, Vertex> traversal = get_g_V_connectedComponent();
+        printTraversalForm(traversal);
+        int counter = 0;
+        while (traversal.hasNext()) {
+            final Vertex vertex = traversal.next();
+            counter++;
+            assertTrue(vertex.property(ConnectedComponentVertexProgram.COMPONENT).isPresent());
+        }
+        assertEquals(6, counter);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_connectedComponent_byXbothEXknowsXX_byXcomponentX_groupCount_byXcomponentX() {
+        final Traversal<Vertex, Map<Object, Long>> traversal = get_g_V_connectedComponent_byXbothEXknowsXX_byXcomponentX_groupCount_byXcomponentX();
+        printTraversalForm(traversal);
+        final Map<Object, Long> map = traversal.next();
+        assertFalse(traversal.hasNext());
+        final List<Long> sizes = new ArrayList<>(map.values());
+        Collections.sort(sizes);
+        assertEquals(Arrays.asList(1l, 1l, 1l, 3l), sizes);
+        assertEquals(1l, map.get(convertToVertexId("lop")).longValue());
+        assertEquals(1l, map.get(convertToVertexId("ripple")).longValue());
+        assertEquals(1l, map.get(convertToVertexId("peter")).longValue());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_hasLabelXsoftwareX_connectedComponent_byXbothEXcreatedXX_byXcomponentX_name() {
+        final Traversal<Vertex, String> traversal = get_g_V_hasLabelXsoftwareX_connectedComponent_byXbothEXcreatedXX_byXcomponentX_name();
+        printTraversalForm(traversal);
+        checkResults(Arrays.asList("lop", "ripple"), traversal);
+    }
+
+    public static class Traversals extends ConnectedComponentTest {
+
+        @Override
+        public Traversal<Vertex, Vertex> get_g_V_connectedComponent() {
+            return g.V().connectedComponent();
+        }
+
+        @Override
+        public Traversal<Vertex, Map<Object, Long>> get_g_V_connectedComponent_byXbothEXknowsXX_byXcomponentX_groupCount_byXcomponentX() {
+            return g.V().connectedComponent().by(__.bothE("knows")).by("component").<Object>groupCount().by("component");
+        }
+
+        @Override
+        public Traversal<Vertex, String> get_g_V_hasLabelXsoftwareX_connectedComponent_byXbothEXcreatedXX_byXcomponentX_name() {
+            return g.V().hasLabel("software").connectedComponent().by(__.bothE("created")).by("component").values("name");
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.IgnoreEngine;
+import org.apache.tinkerpop.gremlin.process.computer.search.path.ShortestPathVertexProgram;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The {@code shortestPath()} step walks past the star graph of a vertex and is therefore rejected on a
+ * {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer}, where the same paths are computed with
+ * {@code program()} and the {@link ShortestPathVertexProgram}.
+ *
+ * @author agent (agent@local)
+ */
+@RunWith(GremlinProcessRunner.class)
+public abstract class ShortestPathTest extends AbstractGremlinProcessTest {
+
+    public abstract Traversal<Vertex, Path> get_g_VX1X_shortestPathXv5X(final Object v1Id, final Object v5Id);
+
+    public abstract Traversal<Vertex, Path> get_g_VX6X_shortestPathXv2X(final Object v6Id, final Object v2Id);
+
+    public abstract Traversal<Vertex, Path> get_g_VX1X_shortestPathXv6X_byXoutEX(final Object v1Id, final Object v6Id);
+
+    public abstract Traversal<Vertex, Path> get_g_VX1X_shortestPathXv5X_byXweightX(final Object v1Id, final Object v5Id);
+
+    public abstract Traversal<Vertex, Path> get_g_VX1X_shortestPath_byXoutEX(final Object v1Id);
+
+    public abstract Traversal<Vertex, List<Object>> get_g_V_programXshortestPathXv1XX_hasIdXv5X_valuesXpathX(final Object v1Id, final Object v5Id);
+
+    public abstract Traversal<Vertex, List<Object>> get_g_V_programXshortestPathXv6XX_hasIdXv2X_valuesXpathX(final Object v6Id, final Object v2Id);
+
+    public abstract Traversal<Vertex, List<Object>> get_g_V_programXshortestPathXv1X_edgesXoutEXX_hasIdXv6X_valuesXpathX(final Object v1Id, final Object v6Id);
+
+    public abstract Traversal<Vertex, List<Object>> get_g_V_programXshortestPathXv1X_weightXweightXX_hasIdXv5X_valuesXpathX(final Object v1Id, final Object v5Id);
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void g_VX1X_shortestPathXv5X() {
+        final Traversal<Vertex, Path> traversal = get_g_VX1X_shortestPathXv5X(convertToVertexId("marko"), convertToVertexId("ripple"));
+        printTraversalForm(traversal);
+        assertEquals(Arrays.asList("marko", "josh", "ripple"), names(traversal.next()));
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void g_VX6X_shortestPathXv2X() {
+        final Traversal<Vertex, Path> traversal = get_g_VX6X_shortestPathXv2X(convertToVertexId("peter"), convertToVertexId("vadas"));
+        printTraversalForm(traversal);
+        assertEquals(Arrays.asList("peter", "lop", "marko", "vadas"), names(traversal.next()));
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void g_VX1X_shortestPathXv6X_byXoutEX() {
+        final Traversal<Vertex, Path> traversal = get_g_VX1X_shortestPathXv6X_byXoutEX(convertToVertexId("marko"), convertToVertexId("peter"));
+        printTraversalForm(traversal);
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void g_VX1X_shortestPathXv5X_byXweightX() {
+        final Traversal<Vertex, Path> traversal = get_g_VX1X_shortestPathXv5X_byXweightX(convertToVertexId("marko"), convertToVertexId("ripple"));
+        printTraversalForm(traversal);
+        assertEquals(Arrays.asList("marko", "lop", "josh", "ripple"), names(traversal.next()));
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void g_VX1X_shortestPath_byXoutEX() {
+        final Traversal<Vertex, Path> traversal = get_g_VX1X_shortestPath_byXoutEX(convertToVertexId("marko"));
+        printTraversalForm(traversal);
+        final List<List<String>> paths = new ArrayList<>();
+        traversal.forEachRemaining(path -> paths.add(names(path)));
+        assertEquals(4, paths.size());
+        assertTrue(paths.containsAll(Arrays.asList(
+                Arrays.asList("marko", "vadas"),
+                Arrays.asList("marko", "josh"),
+                Arrays.asList("marko", "lop"),
+                Arrays.asList("marko", "josh", "ripple"))));
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.STANDARD)
+    public void g_V_programXshortestPathXv1XX_hasIdXv5X_valuesXpathX() {
+        final Traversal<Vertex, List<Object>> traversal = get_g_V_programXshortestPathXv1XX_hasIdXv5X_valuesXpathX(convertToVertexId("marko"), convertToVertexId("ripple"));
+        printTraversalForm(traversal);
+        assertEquals(ids("marko", "josh", "ripple"), traversal.next());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.STANDARD)
+    public void g_V_programXshortestPathXv6XX_hasIdXv2X_valuesXpathX() {
+        final Traversal<Vertex, List<Object>> traversal = get_g_V_programXshortestPathXv6XX_hasIdXv2X_valuesXpathX(convertToVertexId("peter"), convertToVertexId("vadas"));
+        printTraversalForm(traversal);
+        assertEquals(ids("peter", "lop", "marko", "vadas"), traversal.next());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.STANDARD)
+    public void g_V_programXshortestPathXv1X_edgesXoutEXX_hasIdXv6X_valuesXpathX() {
+        final Traversal<Vertex, List<Object>> traversal = get_g_V_programXshortestPathXv1X_edgesXoutEXX_hasIdXv6X_valuesXpathX(convertToVertexId("marko"), convertToVertexId("peter"));
+        printTraversalForm(traversal);
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.STANDARD)
+    public void g_V_programXshortestPathXv1X_weightXweightXX_hasIdXv5X_valuesXpathX() {
+        final Traversal<Vertex, List<Object>> traversal = get_g_V_programXshortestPathXv1X_weightXweightXX_hasIdXv5X_valuesXpathX(convertToVertexId("marko"), convertToVertexId("ripple"));
+        printTraversalForm(traversal);
+        assertEquals(ids("marko", "lop", "josh", "ripple"), traversal.next());
+        assertFalse(traversal.hasNext());
+    }
+
+    private List<Object> ids(final String... names) {
+        final List<Object> ids = new ArrayList<>();
+        for (final String name : names) {
+            ids.add(convertToVertexId(name));
+        }
+        return ids;
+    }
+
+    private static List<String> names(final Path path) {
+        final List<String> names = new ArrayList<>();
+        path.forEach(vertex -> names.add(((Vertex) vertex).value("name")));
+        return names;
+    }
+
+    public static class Traversals extends ShortestPathTest {
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_shortestPathXv5X(final Object v1Id, final Object v5Id) {
+            return g.V(v1Id).shortestPath(v5Id);
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX6X_shortestPathXv2X(final Object v6Id, final Object v2Id) {
+            return g.V(v6Id).shortestPath(v2Id);
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_shortestPathXv6X_byXoutEX(final Object v1Id, final Object v6Id) {
+            return g.V(v1Id).shortestPath(v6Id).by(outE());
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_shortestPathXv5X_byXweightX(final Object v1Id, final Object v5Id) {
+            return g.V(v1Id).shortestPath(v5Id).by("weight");
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_shortestPath_byXoutEX(final Object v1Id) {
+            return g.V(v1Id).shortestPath().by(outE());
+        }
+
+        @Override
+        public Traversal<Vertex, List<Object>> get_g_V_programXshortestPathXv1XX_hasIdXv5X_valuesXpathX(final Object v1Id, final Object v5Id) {
+            return g.V().program(ShortestPathVertexProgram.build().source(v1Id).create(graph)).hasId(v5Id).values(ShortestPathVertexProgram.PATH);
+        }
+
+        @Override
+        public Traversal<Vertex, List<Object>> get_g_V_programXshortestPathXv6XX_hasIdXv2X_valuesXpathX(final Object v6Id, final Object v2Id) {
+            return g.V().program(ShortestPathVertexProgram.build().source(v6Id).create(graph)).hasId(v2Id).values(ShortestPathVertexProgram.PATH);
+        }
+
+        @Override
+        public Traversal<Vertex, List<Object>> get_g_V_programXshortestPathXv1X_edgesXoutEXX_hasIdXv6X_valuesXpathX(final Object v1Id, final Object v6Id) {
+            return g.V().program(ShortestPathVertexProgram.build().source(v1Id).edges(__.<Vertex>outE().asAdmin()).create(graph)).hasId(v6Id).values(ShortestPathVertexProgram.PATH);
+        }
+
+        @Override
+        public Traversal<Vertex, List<Object>> get_g_V_programXshortestPathXv1X_weightXweightXX_hasIdXv5X_valuesXpathX(final Object v1Id, final Object v5Id) {
+            return g.V().program(ShortestPathVertexProgram.build().source(v1Id).weight("weight").create(graph)).hasId(v5Id).values(ShortestPathVertexProgram.PATH);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Column;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.GRATEFUL;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Spilled traversers are detached when they are written to disk and re-attached when they are read. These tests
+ * spill graph elements and check that the results are the same as without spilling and that the spilled elements
+ * can still be traversed from.
+ *
+ * @author agent (agent@local)
+ */
+@RunWith(GremlinProcessRunner.class)
+public class SpillStrategyProcessTest extends AbstractGremlinProcessTest {
+
+    private GraphTraversalSource spilling;
+
+    @Before
+    public void setupSpilling() {
+        this.spilling = g.withStrategies(SpillStrategy.build().spillThreshold(10).create());
+    }
+
+    @Test
+    @LoadGraphWith(GRATEFUL)
+    public void shouldOrderSpilledVertices() {
+        final List<Vertex> expected = g.V().order().by(T.id, Order.incr).toList();
+        final List<Vertex> actual = this.spilling.V().order().by(T.id, Order.incr).toList();
+        assertEquals(expected, actual);
+        assertEquals(g.V().order().by(T.id, Order.incr).values("name").toList(), this.spilling.V().order().by(T.id, Order.incr).values("name").toList());
+        assertEquals(g.V().order().by(T.id, Order.incr).out().count().next(), this.spilling.V().order().by(T.id, Order.incr).out().count().next());
+    }
+
+    @Test
+    @LoadGraphWith(GRATEFUL)
+    public void shouldDedupSpilledVertices() {
+        final List<Vertex> vertices = this.spilling.V().out().dedup().toList();
+        assertEquals(g.V().out().dedup().count().next().longValue(), vertices.size());
+        assertEquals(new HashSet<>(g.V().out().toList()), new HashSet<>(vertices));
+        assertEquals(g.V().out().dedup().out().count().next(), this.spilling.V().out().dedup().out().count().next());
+    }
+
+    @Test
+    @LoadGraphWith(GRATEFUL)
+    public void shouldGroupCountSpilledVertices() {
+        final Map<Vertex, Long> expected = g.V().out().<Vertex>groupCount().next();
+        final Map<Vertex, Long> actual = this.spilling.V().out().<Vertex>groupCount().next();
+        assertEquals(expected, actual);
+        assertEquals(expected, this.spilling.V().out().groupCount("a").<Map<Vertex, Long>>cap("a").next());
+        assertEquals(g.V().out().groupCount().select(Column.keys).unfold().out().count().next(),
+                this.spilling.V().out().groupCount().select(Column.keys).unfold().out().count().next());
+    }
+
+    @Test
+    @LoadGraphWith(GRATEFUL)
+    public void shouldGroupSpilledVertices() {
+        final Map<String, List<Vertex>> expected = g.V().<String, List<Vertex>>group().by("name").next();
+        final Map<String, List<Vertex>> actual = this.spilling.V().<String, List<Vertex>>group().by("name").next();
+        assertTrue(expected.size() > 10);
+        assertEquals(expected.keySet(), actual.keySet());
+        expected.forEach((key, value) -> assertEquals(new HashSet<>(value), new HashSet<>(actual.get(key))));
+        assertEquals(g.V().group().by("name").by(out().count()).next(), this.spilling.V().group().by("name").by(out().count()).next());
+        assertEquals(g.V().group().by("name").select(Column.values).unfold().unfold().out().count().next(),
+                this.spilling.V().group().by("name").select(Column.values).unfold().unfold().out().count().next());
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.RemoteIterator;
+import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
 import org.apache.hadoop.util.ReflectionUtils;
 import org.apache.tinkerpop.gremlin.hadoop.Constants;
 import org.apache.tinkerpop.gremlin.hadoop.structure.HadoopGraph;
@@ -44,6 +45,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -87,6 +89,12 @@ public abstract class AbstractHadoopGraphComputer implements GraphComputer {
         return this;
     }
 
+    @Override
+    public GraphComputer vertexProperties(final String... propertyKeys) {
+        this.graphFilter.setVertexPropertyKeys(new HashSet<>(Arrays.asList(propertyKeys)));
+        return this;
+    }
+
     @Override
     public GraphComputer result(final ResultGraph resultGraph) {
         this.resultGraph = resultGraph;
@@ -184,6 +192,15 @@ public abstract class AbstractHadoopGraphComputer implements GraphComputer {
     protected abstract void loadJar(final Configuration hadoopConfiguration, final File file, final Object... params)
             throws IOException;
 
+    /**
+     * Get the graph reader that this graph computer reads the graph with or {@code null} if there is none.
+     */
+    protected Class<?> getGraphReader() {
+        return this.hadoopGraph.configuration().containsKey(Constants.GREMLIN_HADOOP_GRAPH_READER) ?
+                this.hadoopGraph.configuration().getGraphReader() :
+                null;
+    }
+
     @Override
     public Features features() {
         return new Features();
@@ -246,6 +263,19 @@ public abstract class AbstractHadoopGraphComputer implements GraphComputer {
         public boolean supportsDirectObjects() {
             return false;
         }
+
+        @Override
+        public boolean supportsVertexPropertyProjection() {
+            return true;
+        }
+
+        @Override
+        public boolean supportsHybridExecution() {
+            // the OLTP API of HadoopGraph reads the graph from files with the graph reader, but a graph reader that is not
+            // a file input format (e.g. an InputRDD) may provide a graph that only the graph computer can read
+            final Class<?> graphReader = AbstractHadoopGraphComputer.this.getGraphReader();
+            return null != graphReader && FileInputFormat.class.isAssignableFrom(graphReader);
+        }
     }
 
     //////////
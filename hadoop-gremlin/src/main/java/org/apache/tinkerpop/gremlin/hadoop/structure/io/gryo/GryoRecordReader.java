@@ -138,6 +138,9 @@ public final class GryoRecordReader extends RecordReader<NullWritable, VertexWri
                     if (vertex.isPresent()) {
                         this.vertexWritable.set(vertex.get());
                         return true;
+                    } else if (this.currentLength >= this.splitLength) {
+                        // the vertex that was filtered was the last vertex of the split
+                        return false;
                     } else {
                         currentVertexLength = 0;
                         terminatorLocation = 0;
@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.hadoop.structure.io;
 
+import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.LocalFileSystem;
 import org.apache.hadoop.fs.Path;
@@ -34,8 +35,12 @@ import org.apache.hadoop.mapreduce.task.TaskAttemptContextImpl;
 import org.apache.hadoop.util.ReflectionUtils;
 import org.apache.tinkerpop.gremlin.TestHelper;
 import org.apache.tinkerpop.gremlin.hadoop.HadoopGraphProvider;
+import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -44,10 +49,12 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -78,6 +85,66 @@ public abstract class RecordReaderWriterTest {
         }
     }
 
+    @Test
+    public void shouldFilterVerticesAndEdgesWhileReading() throws Exception {
+        final File testFile = new File(HadoopGraphProvider.PATHS.get(getInputFilename()));
+        final List<FileSplit> splits = generateFileSplits(testFile, 3);
+        final File outputDirectory = TestHelper.makeTestDataPath(getInputFormat(), "hadoop-record-reader-filter-test");
+        final List<GraphFilter> graphFilters = new ArrayList<>();
+        GraphFilter graphFilter = new GraphFilter();
+        graphFilter.setVertexFilter(__.hasLabel("song"));
+        graphFilters.add(graphFilter);
+        graphFilter = new GraphFilter();
+        graphFilter.setEdgeFilter(__.outE("followedBy"));
+        graphFilters.add(graphFilter);
+        graphFilter = new GraphFilter();
+        graphFilter.setVertexFilter(__.hasLabel("artist"));
+        graphFilter.setEdgeFilter(__.inE("sungBy"));
+        graphFilters.add(graphFilter);
+        graphFilter = new GraphFilter();
+        graphFilter.setVertexFilter(__.has("performances", P.gt(100)));
+        graphFilter.setEdgeFilter(__.bothE("sungBy", "writtenBy"));
+        graphFilters.add(graphFilter);
+        graphFilter = new GraphFilter();
+        graphFilter.setVertexPropertyKeys(Collections.singleton("name"));
+        graphFilters.add(graphFilter);
+        graphFilter = new GraphFilter();
+        graphFilter.setVertexFilter(__.hasLabel("song"));
+        graphFilter.setVertexPropertyKeys(Collections.singleton("songType"));
+        graphFilters.add(graphFilter);
+        for (final GraphFilter filter : graphFilters) {
+            // the vertices read with the filter must be the vertices that are filtered after being fully read
+            final Configuration configuration = configure(outputDirectory);
+            final int[] expected = countVertices(splits, configuration, getInputFormat(), filter.clone());
+            GraphFilterAware.storeGraphFilter(new BaseConfiguration(), configuration, filter);
+            final int[] actual = countVertices(splits, configuration, getInputFormat(), new GraphFilter());
+            assertTrue(expected[0] > 0);
+            assertTrue(expected[0] < 808 || expected[1] < 8049 || expected[3] < 1976);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    private static int[] countVertices(final List<FileSplit> fileSplits, final Configuration configuration,
+                                       final Class<? extends InputFormat<NullWritable, VertexWritable>> inputFormatClass,
+                                       final GraphFilter graphFilter) throws Exception {
+        final InputFormat inputFormat = ReflectionUtils.newInstance(inputFormatClass, configuration);
+        final TaskAttemptContext job = new TaskAttemptContextImpl(configuration, new TaskAttemptID(UUID.randomUUID().toString(), 0, TaskType.MAP, 0, 0));
+        final int[] counts = new int[4]; // vertices, out edges, in edges, vertex properties
+        for (final FileSplit split : fileSplits) {
+            final RecordReader reader = inputFormat.createRecordReader(split, job);
+            while (reader.nextKeyValue()) {
+                final Optional<StarGraph.StarVertex> vertex = ((StarGraph.StarVertex) ((VertexWritable) reader.getCurrentValue()).get()).applyGraphFilter(graphFilter);
+                if (vertex.isPresent()) {
+                    counts[0]++;
+                    counts[1] = counts[1] + (int) IteratorUtils.count(vertex.get().edges(Direction.OUT));
+                    counts[2] = counts[2] + (int) IteratorUtils.count(vertex.get().edges(Direction.IN));
+                    counts[3] = counts[3] + (int) IteratorUtils.count(vertex.get().properties());
+                }
+            }
+        }
+        return counts;
+    }
+
     protected Configuration configure(final File outputDirectory) {
         final Configuration configuration = new Configuration(false);
         configuration.set("fs.file.impl", LocalFileSystem.class.getName());
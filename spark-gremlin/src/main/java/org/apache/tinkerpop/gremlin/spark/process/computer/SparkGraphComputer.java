@@ -134,6 +134,15 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
         return this;
     }
 
+    @Override
+    protected Class<?> getGraphReader() {
+        // the configuration of the graph is copied over the configuration of the computer when the job is submitted
+        final Class<?> graphReader = super.getGraphReader();
+        return null == graphReader && this.sparkConfiguration.containsKey(Constants.GREMLIN_HADOOP_GRAPH_READER) ?
+                new HadoopConfiguration(this.sparkConfiguration).getGraphReader() :
+                graphReader;
+    }
+
     @Override
     public Future<ComputerResult> submit() {
         this.validateStatePriorToExecution();
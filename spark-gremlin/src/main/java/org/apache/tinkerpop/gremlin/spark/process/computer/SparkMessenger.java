@@ -63,7 +63,10 @@ public final class SparkMessenger<M> implements Messenger<M> {
             final MessageScope.Local<M> localMessageScope = (MessageScope.Local) messageScope;
             final Traversal.Admin<Vertex, Edge> incidentTraversal = SparkMessenger.setVertexStart(localMessageScope.getIncidentTraversal().get().asAdmin(), this.vertex);
             final Direction direction = SparkMessenger.getOppositeDirection(incidentTraversal);
-            incidentTraversal.forEachRemaining(edge -> this.outgoingMessages.add(new Tuple2<>(edge.vertices(direction).next().id(), message)));
+            if (localMessageScope.hasIdentityEdgeFunction())
+                incidentTraversal.forEachRemaining(edge -> this.outgoingMessages.add(new Tuple2<>(SparkMessenger.getReceivingVertexId(edge, direction, this.vertex), message)));
+            else
+                incidentTraversal.forEachRemaining(edge -> this.outgoingMessages.add(new Tuple2<>(SparkMessenger.getReceivingVertexId(edge, direction, this.vertex), localMessageScope.getEdgeFunction().apply(message, edge))));
         } else {
             ((MessageScope.Global) messageScope).vertices().forEach(v -> this.outgoingMessages.add(new Tuple2<>(v.id(), message)));
         }
@@ -76,6 +79,14 @@ public final class SparkMessenger<M> implements Messenger<M> {
         return (T) incidentTraversal;
     }
 
+    private static Object getReceivingVertexId(final Edge edge, final Direction direction, final Vertex sendingVertex) {
+        if (Direction.BOTH != direction)
+            return edge.vertices(direction).next().id();
+        // the message could go to either end of the edge so it must be the end that is not sending it
+        final Vertex outVertex = edge.outVertex();
+        return outVertex.equals(sendingVertex) ? edge.inVertex().id() : outVertex.id();
+    }
+
     private static Direction getOppositeDirection(final Traversal.Admin<Vertex, Edge> incidentTraversal) {
         final VertexStep step = TraversalHelper.getLastStepOfAssignableClass(VertexStep.class, incidentTraversal).get();
         return step.getDirection().opposite();
@@ -70,6 +70,16 @@ public class UnshadedInputAdapter implements InputShim
         return unshadedInput.readInt();
     }
 
+    @Override
+    public int readVarInt(final boolean optimizePositive) {
+        return unshadedInput.readVarInt(optimizePositive);
+    }
+
+    @Override
+    public long readVarLong(final boolean optimizePositive) {
+        return unshadedInput.readVarLong(optimizePositive);
+    }
+
     @Override
     public double readDouble()
     {
@@ -69,6 +69,16 @@ public class UnshadedOutputAdapter implements OutputShim
         unshadedOutput.writeInt(i);
     }
 
+    @Override
+    public void writeVarInt(final int i, final boolean optimizePositive) {
+        unshadedOutput.writeVarInt(i, optimizePositive);
+    }
+
+    @Override
+    public void writeVarLong(final long l, final boolean optimizePositive) {
+        unshadedOutput.writeVarLong(l, optimizePositive);
+    }
+
     @Override
     public void writeDouble(final double d)
     {
@@ -38,6 +38,7 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -128,6 +129,12 @@ public final class TinkerGraphComputer implements GraphComputer {
         return this;
     }
 
+    @Override
+    public GraphComputer vertexProperties(final String... propertyKeys) {
+        this.graphFilter.setVertexPropertyKeys(new HashSet<>(Arrays.asList(propertyKeys)));
+        return this;
+    }
+
     @Override
     public Future<ComputerResult> submit() {
         // a graph computer can only be executed once
@@ -315,6 +322,16 @@ public final class TinkerGraphComputer implements GraphComputer {
             public boolean supportsEdgePropertyRemoval() {
                 return false;
             }
+
+            @Override
+            public boolean supportsVertexPropertyProjection() {
+                return true;
+            }
+
+            @Override
+            public boolean supportsHybridExecution() {
+                return true;
+            }
         };
     }
 }
\ No newline at end of file
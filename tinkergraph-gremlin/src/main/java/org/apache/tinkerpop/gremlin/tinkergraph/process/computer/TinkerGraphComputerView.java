@@ -99,12 +99,16 @@ public final class TinkerGraphComputerView {
     public List<VertexProperty<?>> getProperty(final TinkerVertex vertex, final String key) {
         // if the vertex property is already on the vertex, use that.
         final List<VertexProperty<?>> vertexProperty = this.getValue(vertex, key);
-        return vertexProperty.isEmpty() ? (List) TinkerHelper.getProperties(vertex).getOrDefault(key, Collections.emptyList()) : vertexProperty;
+        return vertexProperty.isEmpty() && this.graphFilter.legalVertexProperty(key) ?
+                (List) TinkerHelper.getProperties(vertex).getOrDefault(key, Collections.emptyList()) :
+                vertexProperty;
         //return isComputeKey(key) ? this.getValue(vertex, key) : (List) TinkerHelper.getProperties(vertex).getOrDefault(key, Collections.emptyList());
     }
 
     public List<Property> getProperties(final TinkerVertex vertex) {
-        final Stream<Property> a = TinkerHelper.getProperties(vertex).values().stream().flatMap(list -> list.stream());
+        final Stream<Property> a = TinkerHelper.getProperties(vertex).entrySet().stream()
+                .filter(entry -> this.graphFilter.legalVertexProperty(entry.getKey()))
+                .flatMap(entry -> entry.getValue().stream());
         final Stream<Property> b = this.computeProperties.containsKey(vertex) ?
                 this.computeProperties.get(vertex).values().stream().flatMap(list -> list.stream()) :
                 Stream.empty();
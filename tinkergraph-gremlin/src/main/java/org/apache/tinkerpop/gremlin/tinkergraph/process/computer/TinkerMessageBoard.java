@@ -34,12 +34,21 @@ final class TinkerMessageBoard<M> {
 
     public Map<Vertex, Queue<M>> sendMessages = new ConcurrentHashMap<>();
     public Map<Vertex, Queue<M>> receiveMessages = new ConcurrentHashMap<>();
+    // combined primitive messages (see DoubleMessageCombiner and LongMessageCombiner)
+    public Map<Vertex, double[]> sendDoubleMessages = new ConcurrentHashMap<>();
+    public Map<Vertex, double[]> receiveDoubleMessages = new ConcurrentHashMap<>();
+    public Map<Vertex, long[]> sendLongMessages = new ConcurrentHashMap<>();
+    public Map<Vertex, long[]> receiveLongMessages = new ConcurrentHashMap<>();
     public Set<MessageScope> previousMessageScopes = new HashSet<>();
     public Set<MessageScope> currentMessageScopes = new HashSet<>();
 
     public void completeIteration() {
         this.receiveMessages = this.sendMessages;
         this.sendMessages = new ConcurrentHashMap<>();
+        this.receiveDoubleMessages = this.sendDoubleMessages;
+        this.sendDoubleMessages = new ConcurrentHashMap<>();
+        this.receiveLongMessages = this.sendLongMessages;
+        this.sendLongMessages = new ConcurrentHashMap<>();
         this.previousMessageScopes = this.currentMessageScopes;
         this.currentMessageScopes = new HashSet<>();
     }
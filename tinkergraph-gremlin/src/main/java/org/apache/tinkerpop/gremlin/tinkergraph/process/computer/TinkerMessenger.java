@@ -18,6 +18,10 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
+import org.apache.tinkerpop.gremlin.process.computer.DoubleMessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.DoubleMessenger;
+import org.apache.tinkerpop.gremlin.process.computer.LongMessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.LongMessenger;
 import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
@@ -34,30 +38,42 @@ import org.apache.tinkerpop.gremlin.util.iterator.MultiIterator;
 
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
 import java.util.Queue;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class TinkerMessenger<M> implements Messenger<M> {
+public final class TinkerMessenger<M> implements Messenger<M>, DoubleMessenger, LongMessenger {
 
     private final Vertex vertex;
     private final TinkerMessageBoard<M> messageBoard;
     private final MessageCombiner<M> combiner;
+    // primitive combiners have their messages combined into a single primitive per vertex
+    private final DoubleMessageCombiner doubleCombiner;
+    private final LongMessageCombiner longCombiner;
 
     public TinkerMessenger(final Vertex vertex, final TinkerMessageBoard<M> messageBoard, final Optional<MessageCombiner<M>> combiner) {
         this.vertex = vertex;
         this.messageBoard = messageBoard;
         this.combiner = combiner.isPresent() ? combiner.get() : null;
+        this.doubleCombiner = this.combiner instanceof DoubleMessageCombiner ? (DoubleMessageCombiner) this.combiner : null;
+        this.longCombiner = this.combiner instanceof LongMessageCombiner ? (LongMessageCombiner) this.combiner : null;
     }
 
     @Override
     public Iterator<M> receiveMessages() {
+        if (null != this.doubleCombiner)
+            return (Iterator<M>) this.receiveDoubleMessages();
+        if (null != this.longCombiner)
+            return (Iterator<M>) this.receiveLongMessages();
         final MultiIterator<M> multiIterator = new MultiIterator<>();
         for (final MessageScope messageScope : this.messageBoard.previousMessageScopes) {
             if (messageScope instanceof MessageScope.Local) {
@@ -66,7 +82,7 @@ public final class TinkerMessenger<M> implements Messenger<M> {
                 final Direction direction = TinkerMessenger.getDirection(incidentTraversal);
                 final Edge[] edge = new Edge[1]; // simulates storage side-effects available in Gremlin, but not Java8 streams
                 multiIterator.addIterator(StreamSupport.stream(Spliterators.spliteratorUnknownSize(VertexProgramHelper.reverse(incidentTraversal.asAdmin()), Spliterator.IMMUTABLE | Spliterator.SIZED), false)
-                        .map(e -> this.messageBoard.receiveMessages.get((edge[0] = e).vertices(direction).next()))
+                        .map(e -> this.messageBoard.receiveMessages.get(TinkerMessenger.getSendingVertex(edge[0] = e, direction, this.vertex)))
                         .filter(q -> null != q)
                         .flatMap(Queue::stream)
                         .map(message -> localMessageScope.getEdgeFunction().apply(message, edge[0]))
@@ -85,6 +101,14 @@ public final class TinkerMessenger<M> implements Messenger<M> {
 
     @Override
     public void sendMessage(final MessageScope messageScope, final M message) {
+        if (null != this.doubleCombiner) {
+            this.sendDoubleMessage(messageScope, (Double) message);
+            return;
+        }
+        if (null != this.longCombiner) {
+            this.sendLongMessage(messageScope, (Long) message);
+            return;
+        }
         this.messageBoard.currentMessageScopes.add(messageScope);
         if (messageScope instanceof MessageScope.Local) {
             addMessage(this.vertex, message);
@@ -101,6 +125,102 @@ public final class TinkerMessenger<M> implements Messenger<M> {
         });
     }
 
+    @Override
+    public PrimitiveIterator.OfDouble receiveDoubleMessages() {
+        if (null == this.doubleCombiner)
+            return DoubleMessenger.unbox((Iterator<Double>) this.receiveMessages());
+        final DoubleStream.Builder messages = DoubleStream.builder();
+        for (final MessageScope messageScope : this.messageBoard.previousMessageScopes) {
+            if (messageScope instanceof MessageScope.Local) {
+                final MessageScope.Local<Double> localMessageScope = (MessageScope.Local<Double>) messageScope;
+                final Traversal.Admin<Vertex, Edge> incidentTraversal = TinkerMessenger.setVertexStart(localMessageScope.getIncidentTraversal().get().asAdmin(), this.vertex);
+                final Direction direction = TinkerMessenger.getDirection(incidentTraversal);
+                final Traversal.Admin<Vertex, Edge> reverseTraversal = VertexProgramHelper.reverse(incidentTraversal.asAdmin());
+                while (reverseTraversal.hasNext()) {
+                    final Edge edge = reverseTraversal.next();
+                    final double[] message = this.messageBoard.receiveDoubleMessages.get(TinkerMessenger.getSendingVertex(edge, direction, this.vertex));
+                    if (null != message)
+                        messages.add(localMessageScope.hasIdentityEdgeFunction() ? message[0] : localMessageScope.getEdgeFunction().apply(message[0], edge));
+                }
+            } else {
+                final double[] message = this.messageBoard.receiveDoubleMessages.get(this.vertex);
+                if (null != message)
+                    messages.add(message[0]);
+            }
+        }
+        return messages.build().iterator();
+    }
+
+    @Override
+    public void sendDoubleMessage(final MessageScope messageScope, final double message) {
+        if (null == this.doubleCombiner) {
+            this.sendMessage(messageScope, (M) Double.valueOf(message));
+            return;
+        }
+        this.messageBoard.currentMessageScopes.add(messageScope);
+        if (messageScope instanceof MessageScope.Local) {
+            addDoubleMessage(this.vertex, message);
+        } else {
+            ((MessageScope.Global) messageScope).vertices().forEach(v -> addDoubleMessage(v, message));
+        }
+    }
+
+    private void addDoubleMessage(final Vertex vertex, final double message) {
+        this.messageBoard.sendDoubleMessages.compute(vertex, (v, combined) -> {
+            if (null == combined) return new double[]{message};
+            combined[0] = this.doubleCombiner.combine(combined[0], message);
+            return combined;
+        });
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong receiveLongMessages() {
+        if (null == this.longCombiner)
+            return LongMessenger.unbox((Iterator<Long>) this.receiveMessages());
+        final LongStream.Builder messages = LongStream.builder();
+        for (final MessageScope messageScope : this.messageBoard.previousMessageScopes) {
+            if (messageScope instanceof MessageScope.Local) {
+                final MessageScope.Local<Long> localMessageScope = (MessageScope.Local<Long>) messageScope;
+                final Traversal.Admin<Vertex, Edge> incidentTraversal = TinkerMessenger.setVertexStart(localMessageScope.getIncidentTraversal().get().asAdmin(), this.vertex);
+                final Direction direction = TinkerMessenger.getDirection(incidentTraversal);
+                final Traversal.Admin<Vertex, Edge> reverseTraversal = VertexProgramHelper.reverse(incidentTraversal.asAdmin());
+                while (reverseTraversal.hasNext()) {
+                    final Edge edge = reverseTraversal.next();
+                    final long[] message = this.messageBoard.receiveLongMessages.get(TinkerMessenger.getSendingVertex(edge, direction, this.vertex));
+                    if (null != message)
+                        messages.add(localMessageScope.hasIdentityEdgeFunction() ? message[0] : localMessageScope.getEdgeFunction().apply(message[0], edge));
+                }
+            } else {
+                final long[] message = this.messageBoard.receiveLongMessages.get(this.vertex);
+                if (null != message)
+                    messages.add(message[0]);
+            }
+        }
+        return messages.build().iterator();
+    }
+
+    @Override
+    public void sendLongMessage(final MessageScope messageScope, final long message) {
+        if (null == this.longCombiner) {
+            this.sendMessage(messageScope, (M) Long.valueOf(message));
+            return;
+        }
+        this.messageBoard.currentMessageScopes.add(messageScope);
+        if (messageScope instanceof MessageScope.Local) {
+            addLongMessage(this.vertex, message);
+        } else {
+            ((MessageScope.Global) messageScope).vertices().forEach(v -> addLongMessage(v, message));
+        }
+    }
+
+    private void addLongMessage(final Vertex vertex, final long message) {
+        this.messageBoard.sendLongMessages.compute(vertex, (v, combined) -> {
+            if (null == combined) return new long[]{message};
+            combined[0] = this.longCombiner.combine(combined[0], message);
+            return combined;
+        });
+    }
+
     ///////////
 
     private static <T extends Traversal.Admin<Vertex, Edge>> T setVertexStart(final Traversal.Admin<Vertex, Edge> incidentTraversal, final Vertex vertex) {
@@ -108,6 +228,14 @@ public final class TinkerMessenger<M> implements Messenger<M> {
         return (T) incidentTraversal;
     }
 
+    private static Vertex getSendingVertex(final Edge edge, final Direction direction, final Vertex receivingVertex) {
+        if (Direction.BOTH != direction)
+            return edge.vertices(direction).next();
+        // the message could have come from either end of the edge so it must be the end that is not receiving it
+        final Vertex outVertex = edge.outVertex();
+        return outVertex.equals(receivingVertex) ? edge.inVertex() : outVertex;
+    }
+
     private static Direction getDirection(final Traversal.Admin<Vertex, Edge> incidentTraversal) {
         final VertexStep step = TraversalHelper.getLastStepOfAssignableClass(VertexStep.class, incidentTraversal).get();
         return step.getDirection();
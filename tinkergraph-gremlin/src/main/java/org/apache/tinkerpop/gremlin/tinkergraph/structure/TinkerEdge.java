@@ -92,6 +92,8 @@ public final class TinkerEdge extends TinkerElement implements Edge {
 
         TinkerHelper.removeElementIndex(this);
         ((TinkerGraph) this.graph()).edges.remove(this.id());
+        if (!this.removed)
+            TinkerHelper.incrementLabelCount(((TinkerGraph) this.graph()).edgeLabelCounts, this.label, -1l);
         this.properties = null;
         this.removed = true;
     }
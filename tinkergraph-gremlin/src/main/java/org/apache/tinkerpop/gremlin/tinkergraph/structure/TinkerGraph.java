@@ -32,6 +32,7 @@ import org.apache.tinkerpop.gremlin.structure.io.Io;
 import org.apache.tinkerpop.gremlin.structure.io.IoCore;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.GraphFactory;
+import org.apache.tinkerpop.gremlin.structure.util.GraphStatistics;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputer;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
@@ -67,7 +68,7 @@ import java.util.stream.Stream;
 @Graph.OptIn(Graph.OptIn.SUITE_GROOVY_PROCESS_COMPUTER)
 @Graph.OptIn(Graph.OptIn.SUITE_GROOVY_ENVIRONMENT)
 @Graph.OptIn(Graph.OptIn.SUITE_GROOVY_ENVIRONMENT_INTEGRATE)
-public final class TinkerGraph implements Graph {
+public final class TinkerGraph implements Graph, GraphStatistics {
 
     static {
         TraversalStrategies.GlobalCache.registerStrategies(TinkerGraph.class, TraversalStrategies.GlobalCache.getStrategies(Graph.class).clone().addStrategies(
@@ -122,6 +123,8 @@ public final class TinkerGraph implements Graph {
     protected AtomicLong currentId = new AtomicLong(-1L);
     protected Map<Object, Vertex> vertices = new ConcurrentHashMap<>();
     protected Map<Object, Edge> edges = new ConcurrentHashMap<>();
+    protected Map<String, AtomicLong> vertexLabelCounts = new ConcurrentHashMap<>();
+    protected Map<String, AtomicLong> edgeLabelCounts = new ConcurrentHashMap<>();
 
     protected TinkerGraphVariables variables = null;
     protected TinkerGraphComputerView graphComputerView = null;
@@ -204,6 +207,7 @@ public final class TinkerGraph implements Graph {
 
         final Vertex vertex = new TinkerVertex(idValue, label, this);
         this.vertices.put(vertex.id(), vertex);
+        TinkerHelper.incrementLabelCount(this.vertexLabelCounts, label, 1l);
 
         ElementHelper.attachProperties(vertex, VertexProperty.Cardinality.list, keyValues);
         return vertex;
@@ -241,6 +245,8 @@ public final class TinkerGraph implements Graph {
     public void clear() {
         this.vertices.clear();
         this.edges.clear();
+        this.vertexLabelCounts.clear();
+        this.edgeLabelCounts.clear();
         this.variables = null;
         this.currentId.set(-1L);
         this.vertexIndex = null;
@@ -483,6 +489,24 @@ public final class TinkerGraph implements Graph {
         }
     }
 
+    ///////////// GRAPH STATISTICS METHODS ///////////////
+
+    @Override
+    public long getVertexCount(final String label) {
+        if (null == label)
+            return this.vertices.size();
+        final AtomicLong count = this.vertexLabelCounts.get(label);
+        return null == count ? 0l : count.get();
+    }
+
+    @Override
+    public long getEdgeCount(final String label) {
+        if (null == label)
+            return this.edges.size();
+        final AtomicLong count = this.edgeLabelCounts.get(label);
+        return null == count ? 0l : count.get();
+    }
+
     ///////////// GRAPH SPECIFIC INDEXING METHODS ///////////////
 
     /**
@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 /**
@@ -64,12 +65,17 @@ public final class TinkerHelper {
         edge = new TinkerEdge(idValue, outVertex, label, inVertex);
         ElementHelper.attachProperties(edge, keyValues);
         graph.edges.put(edge.id(), edge);
+        TinkerHelper.incrementLabelCount(graph.edgeLabelCounts, label, 1l);
         TinkerHelper.addOutEdge(outVertex, label, edge);
         TinkerHelper.addInEdge(inVertex, label, edge);
         return edge;
 
     }
 
+    protected static void incrementLabelCount(final Map<String, AtomicLong> labelCounts, final String label, final long delta) {
+        labelCounts.computeIfAbsent(label, k -> new AtomicLong(0l)).addAndGet(delta);
+    }
+
     protected static void addOutEdge(final TinkerVertex vertex, final String label, final Edge edge) {
         if (null == vertex.outEdges) vertex.outEdges = new HashMap<>();
         Set<Edge> edges = vertex.outEdges.get(label);
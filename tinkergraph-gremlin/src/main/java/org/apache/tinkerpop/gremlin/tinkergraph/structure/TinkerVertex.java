@@ -133,6 +133,8 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
         this.properties = null;
         TinkerHelper.removeElementIndex(this);
         this.graph.vertices.remove(this.id);
+        if (!this.removed)
+            TinkerHelper.incrementLabelCount(this.graph.vertexLabelCounts, this.label, -1l);
         this.removed = true;
     }
 
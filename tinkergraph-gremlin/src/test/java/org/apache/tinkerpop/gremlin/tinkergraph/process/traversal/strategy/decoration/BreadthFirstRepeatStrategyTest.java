@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.decoration;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.BreadthFirstRepeatStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.Metrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class BreadthFirstRepeatStrategyTest {
+
+    @Test
+    public void shouldEvaluateRepeatTimesBreadthFirst() {
+        // every vertex i links to i+1 and i+2 so that the same vertices are reached by many different paths
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex[] vertices = new Vertex[20];
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = graph.addVertex(T.id, i);
+        }
+        for (int i = 0; i < vertices.length; i++) {
+            if (i + 1 < vertices.length) vertices[i].addEdge("next", vertices[i + 1]);
+            if (i + 2 < vertices.length) vertices[i].addEdge("next", vertices[i + 2]);
+        }
+        final GraphTraversalSource g = graph.traversal();
+        final GraphTraversalSource bfs = g.withStrategies(BreadthFirstRepeatStrategy.instance());
+
+        final Traversal.Admin<Vertex, Long> breadthFirst = bfs.V().repeat(out()).times(6).count().asAdmin();
+        breadthFirst.applyStrategies();
+        assertEquals(1, TraversalHelper.getStepsOfClass(RepeatStep.class, breadthFirst).size());
+        assertTrue(TraversalHelper.getStepsOfClass(RepeatStep.class, breadthFirst).get(0).isBreadthFirst());
+        assertEquals(g.V().repeat(out()).times(6).count().next(), breadthFirst.next());
+
+        // the out() of each loop is evaluated once per distinct vertex of the frontier rather than once per path
+        final long paths = g.V().repeat(out()).times(6).path().count().next();
+        final Metrics repeatMetrics = bfs.V().repeat(out()).times(6).profile().next().getMetrics(1);
+        final long traversers = repeatMetrics.getNested().stream().
+                filter(metrics -> metrics.getName().startsWith("VertexStep")).
+                mapToLong(metrics -> metrics.getCount(TraversalMetrics.TRAVERSER_COUNT_ID)).sum();
+        assertTrue(repeatMetrics.getName().startsWith("RepeatStep"));
+        assertTrue(traversers < paths);
+        assertEquals(g.V().repeat(out()).times(6).toSet(), bfs.V().repeat(out()).times(6).toSet());
+    }
+}
@@ -128,6 +128,44 @@ public class TinkerGraphTest {
         g.dropIndex("better-not-error-index-key-does-not-exist", Edge.class);
     }
 
+    @Test
+    public void shouldMaintainLabelStatistics() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        assertEquals(6l, graph.getVertexCount(null));
+        assertEquals(4l, graph.getVertexCount("person"));
+        assertEquals(2l, graph.getVertexCount("software"));
+        assertEquals(0l, graph.getVertexCount("xxx"));
+        assertEquals(6l, graph.getEdgeCount(null));
+        assertEquals(2l, graph.getEdgeCount("knows"));
+        assertEquals(4l, graph.getEdgeCount("created"));
+
+        graph.vertices(1).next().remove();
+        assertEquals(3l, graph.getVertexCount("person"));
+        assertEquals(0l, graph.getEdgeCount("knows"));
+        assertEquals(3l, graph.getEdgeCount("created"));
+        graph.vertices(4).next().addEdge("knows", graph.vertices(2).next());
+        assertEquals(1l, graph.getEdgeCount("knows"));
+
+        graph.clear();
+        assertEquals(0l, graph.getVertexCount("person"));
+        assertEquals(0l, graph.getEdgeCount("created"));
+    }
+
+    @Test
+    public void shouldNotDecrementLabelStatisticsOnRepeatedRemoval() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final Vertex marko = graph.vertices(1).next();
+        final Edge created = graph.edges(12).next();
+        created.remove();
+        created.remove();
+        assertEquals(3l, graph.getEdgeCount("created"));
+        marko.remove();
+        marko.remove();
+        assertEquals(3l, graph.getVertexCount("person"));
+        assertEquals(0l, graph.getEdgeCount("knows"));
+        assertEquals(2l, graph.getEdgeCount("created"));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldNotCreateVertexIndexWithNullKey() {
         final TinkerGraph g = TinkerGraph.open();